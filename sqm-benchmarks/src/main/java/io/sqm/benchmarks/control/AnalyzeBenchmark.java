@@ -0,0 +1,66 @@
+package io.sqm.benchmarks.control;
+
+import io.sqm.catalog.model.CatalogColumn;
+import io.sqm.catalog.model.CatalogSchema;
+import io.sqm.catalog.model.CatalogTable;
+import io.sqm.catalog.model.CatalogType;
+import io.sqm.control.config.SqlDecisionServiceConfig;
+import io.sqm.control.decision.DecisionResult;
+import io.sqm.control.execution.ExecutionContext;
+import io.sqm.control.execution.ExecutionMode;
+import io.sqm.control.pipeline.SqlStatementParser;
+import io.sqm.control.service.SqlDecisionService;
+import io.sqm.parser.postgresql.spi.PostgresSpecs;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the middleware analyze path with a parser that builds dialect specs and a parse context
+ * per request ({@code perRequestSpecs}) against the standard parser that shares immutable specs and
+ * pools parse contexts ({@code sharedSpecs}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnalyzeBenchmark {
+
+    private static final CatalogSchema SCHEMA = CatalogSchema.of(
+        CatalogTable.of("public", "users",
+            CatalogColumn.of("id", CatalogType.LONG),
+            CatalogColumn.of("name", CatalogType.STRING))
+    );
+    private static final ExecutionContext CONTEXT = ExecutionContext.of("postgresql", ExecutionMode.ANALYZE);
+
+    @Param({"select id from users", "select u.id, u.name from users u where u.id > 10 and u.name like 'a%' order by u.name limit 5"})
+    public String sql;
+
+    private SqlDecisionService perRequestSpecs;
+    private SqlDecisionService sharedSpecs;
+
+    private static SqlDecisionService service(SqlStatementParser parser) {
+        return SqlDecisionService.create(SqlDecisionServiceConfig.builder(SCHEMA)
+            .statementParser(parser)
+            .buildValidationConfig());
+    }
+
+    @Setup
+    public void setup() {
+        perRequestSpecs = service(SqlStatementParser.dialectAware(Map.of("postgresql", PostgresSpecs::new)));
+        sharedSpecs = service(SqlStatementParser.standard());
+    }
+
+    @Benchmark
+    public DecisionResult perRequestSpecs() {
+        return perRequestSpecs.analyze(sql, CONTEXT);
+    }
+
+    @Benchmark
+    public DecisionResult sharedSpecs() {
+        return sharedSpecs.analyze(sql, CONTEXT);
+    }
+}
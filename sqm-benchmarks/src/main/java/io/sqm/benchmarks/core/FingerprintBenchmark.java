@@ -0,0 +1,66 @@
+package io.sqm.benchmarks.core;
+
+import io.sqm.core.Query;
+import io.sqm.core.transform.LiteralTransforms;
+import io.sqm.core.transform.StructuralHasher;
+import io.sqm.core.utils.HashUtils;
+import io.sqm.core.utils.SerializationUtils;
+import io.sqm.parser.ansi.AnsiSpecs;
+import io.sqm.parser.spi.ParseContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the former fingerprint path, which normalizes literals into a copy of the tree, serializes it
+ * with Java serialization and hashes the bytes with SHA-256 ({@code serializedSha256}), against the
+ * structural hasher in its Murmur3 and SHA-256 modes.
+ * <p>
+ * Run with {@code -prof gc} to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FingerprintBenchmark {
+
+    private static final String SQL = """
+        SELECT c.id, c.name, SUM(o.total) AS revenue, COUNT(*) AS orders
+        FROM customers c
+        JOIN orders o ON o.customer_id = c.id AND o.status IN ('paid', 'shipped')
+        LEFT JOIN regions r ON r.id = c.region_id
+        WHERE c.created_at >= '2024-01-01' AND c.active = TRUE AND r.code IS NOT NULL
+        GROUP BY c.id, c.name
+        HAVING SUM(o.total) > 1000
+        ORDER BY revenue DESC
+        FETCH FIRST 50 ROWS ONLY
+        """;
+
+    private Query query;
+
+    @Setup
+    public void setup() {
+        var result = ParseContext.of(new AnsiSpecs()).parse(Query.class, SQL);
+        if (result.isError()) {
+            throw new IllegalStateException(result.errorMessage());
+        }
+        query = result.value();
+    }
+
+    @Benchmark
+    public String serializedSha256() {
+        return HashUtils.sha256Hex(SerializationUtils.serialize(LiteralTransforms.normalizeLiterals(query)));
+    }
+
+    @Benchmark
+    public String structuralMurmur3() {
+        return StructuralHasher.hash(query, true, StructuralHasher.Algorithm.MURMUR3_128);
+    }
+
+    @Benchmark
+    public String structuralSha256() {
+        return StructuralHasher.hash(query, true, StructuralHasher.Algorithm.SHA_256);
+    }
+}
@@ -0,0 +1,60 @@
+package io.sqm.benchmarks.core;
+
+import io.sqm.core.*;
+import io.sqm.core.match.CompiledMatch;
+import io.sqm.core.match.Match;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.sqm.dsl.Dsl.*;
+
+/**
+ * Compares the fluent {@code matchExpression()} API, which builds a matcher per subject, with a
+ * {@link CompiledMatch} built once, over a fixed mix of expression kinds.
+ * <p>
+ * Run with {@code -prof gc} to compare allocation per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatchBenchmark {
+
+    private static final CompiledMatch<Expression, Integer> COMPILED = Match.<Expression, Integer>compile(Expression.class)
+        .when(ColumnExpr.class, c -> 1)
+        .when(LiteralExpr.class, l -> 2)
+        .when(ParamExpr.class, p -> 3)
+        .when(FunctionExpr.class, f -> 4)
+        .orElse(0);
+
+    private final List<Expression> expressions = List.of(
+        col("t", "a"), lit(1), param("p"), func("lower", col("b")), col("a").add(lit(1)), lit("x"), col("c"), param(2)
+    );
+
+    @Benchmark
+    public int fluent() {
+        int sum = 0;
+        for (var e : expressions) {
+            sum += e.<Integer>matchExpression()
+                .column(c -> 1)
+                .literal(l -> 2)
+                .param(p -> 3)
+                .func(f -> 4)
+                .orElse(0);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int compiled() {
+        int sum = 0;
+        for (var e : expressions) {
+            sum += COMPILED.apply(e);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,111 @@
+package io.sqm.benchmarks.core;
+
+import io.sqm.core.Query;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.sqm.dsl.Dsl.*;
+
+/**
+ * Measures {@code hashCode()} and {@code equals(Object)} of queries, both on queries that were hashed and
+ * compared before, the way a statement cache keyed by queries uses them from many threads at once, and on
+ * freshly built queries, the way parsed and built statements meet them first.
+ * <p>
+ * Every operation hashes 64 distinct queries; {@code equalsUnequal} compares each query with a different
+ * query of the same shape. The {@code Fresh} benchmarks get 64 newly built queries per operation:
+ * {@code hashCodeFresh} hashes them, {@code equalsFresh} compares each with a structurally equal copy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class NodeHashBenchmark {
+
+    private static final int QUERIES = 64;
+
+    private final List<Query> queries = new ArrayList<>(QUERIES);
+    private final List<Query> copies = new ArrayList<>(QUERIES);
+
+    private static Query query(int min) {
+        return select(col("u", "id"), col("u", "name"))
+            .from(tbl("users").as("u"))
+            .where(col("u", "age").gte(lit(min)).and(col("u", "active").eq(lit(true))).or(col("u", "role").eq(lit("admin"))))
+            .orderBy(col("u", "name"))
+            .build();
+    }
+
+    /**
+     * Newly built queries and equal copies, rebuilt before every operation.
+     */
+    @State(Scope.Thread)
+    public static class FreshQueries {
+        final List<Query> queries = new ArrayList<>(QUERIES);
+        final List<Query> copies = new ArrayList<>(QUERIES);
+
+        @Setup(Level.Invocation)
+        public void build() {
+            queries.clear();
+            copies.clear();
+            for (int i = 0; i < QUERIES; i++) {
+                queries.add(query(i));
+                copies.add(query(i));
+            }
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < QUERIES; i++) {
+            queries.add(query(i));
+            copies.add(query(i + 1));
+        }
+        queries.forEach(Object::hashCode);
+        copies.forEach(Object::hashCode);
+    }
+
+    @Benchmark
+    public int hashCodeRepeated() {
+        int sum = 0;
+        for (var q : queries) {
+            sum += q.hashCode();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int equalsUnequal() {
+        int equal = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            if (queries.get(i).equals(copies.get(i))) {
+                equal++;
+            }
+        }
+        return equal;
+    }
+
+    @Benchmark
+    public int hashCodeFresh(FreshQueries fresh) {
+        int sum = 0;
+        for (var q : fresh.queries) {
+            sum += q.hashCode();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int equalsFresh(FreshQueries fresh) {
+        int equal = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            if (fresh.queries.get(i).equals(fresh.copies.get(i))) {
+                equal++;
+            }
+        }
+        return equal;
+    }
+}
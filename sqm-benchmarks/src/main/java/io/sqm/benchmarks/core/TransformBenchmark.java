@@ -0,0 +1,78 @@
+package io.sqm.benchmarks.core;
+
+import io.sqm.core.ColumnExpr;
+import io.sqm.core.Node;
+import io.sqm.core.Query;
+import io.sqm.core.transform.RecursiveNodeTransformer;
+import io.sqm.parser.ansi.AnsiSpecs;
+import io.sqm.parser.spi.ParseContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.sqm.dsl.Dsl.col;
+
+/**
+ * Measures {@link RecursiveNodeTransformer} over a wide query: a transformer that changes nothing
+ * ({@code noop}) and one that renames a single column deep in the WHERE clause ({@code renameOne}).
+ * <p>
+ * Run with {@code -prof gc}; with copy-on-change child lists the no-op pass should allocate next to nothing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransformBenchmark {
+
+    @Param({"10", "200"})
+    public int width;
+
+    private Query query;
+    private RecursiveNodeTransformer noop;
+    private RecursiveNodeTransformer renameOne;
+
+    private static String sql(int width) {
+        var sb = new StringBuilder("SELECT ");
+        for (int i = 0; i < width; i++) {
+            sb.append(i == 0 ? "" : ", ").append("COALESCE(t.c").append(i).append(", 0) AS a").append(i);
+        }
+        sb.append(" FROM t JOIN u ON u.id = t.id WHERE t.k IN (");
+        for (int i = 0; i < width; i++) {
+            sb.append(i == 0 ? "" : ", ").append(i);
+        }
+        sb.append(")");
+        for (int i = 0; i < width; i++) {
+            sb.append(" AND t.c").append(i).append(" > ").append(i);
+        }
+        return sb.append(" GROUP BY t.k ORDER BY t.k").toString();
+    }
+
+    @Setup
+    public void setup() {
+        var result = ParseContext.of(new AnsiSpecs()).parse(Query.class, sql(width));
+        if (result.isError()) {
+            throw new IllegalStateException(result.errorMessage());
+        }
+        query = result.value();
+        noop = new RecursiveNodeTransformer() {
+        };
+        renameOne = new RecursiveNodeTransformer() {
+            @Override
+            public Node visitColumnExpr(ColumnExpr c) {
+                return c.name().value().equals("k") ? col("t", "key") : c;
+            }
+        };
+    }
+
+    @Benchmark
+    public Node noop() {
+        return query.accept(noop);
+    }
+
+    @Benchmark
+    public Node renameOne() {
+        return query.accept(renameOne);
+    }
+}
@@ -0,0 +1,48 @@
+package io.sqm.benchmarks.parser;
+
+import io.sqm.parser.core.Lexer;
+import io.sqm.parser.core.Token;
+import io.sqm.parser.core.TokenBuffer;
+import io.sqm.parser.spi.IdentifierQuoting;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares eager {@link Lexer#lexAll} tokenization with the lazy {@link Lexer#lex} token buffer
+ * on a mixed-case reporting query of roughly 20 KB.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LexerBenchmark {
+
+    private final IdentifierQuoting quoting = IdentifierQuoting.of('"');
+    private String sql;
+
+    @Setup
+    public void setup() {
+        var sb = new StringBuilder("select o.id, o.customer_id, sum(l.amount * 1.25e0) as total from orders o ");
+        for (int i = 0; sb.length() < 20_000; i++) {
+            sb.append("Join order_lines l").append(i).append(" ON l").append(i).append(".order_id = o.id ")
+                .append("AND l").append(i).append(".status <> 'CANCELLED' AND l").append(i)
+                .append(".qty BETWEEN ").append(i).append(" AND ").append(i * 10 + 0.5).append(' ');
+        }
+        sb.append("WHERE o.created_at >= '2024-01-01' GROUP BY o.id, o.customer_id ORDER BY total DESC");
+        sql = sb.toString();
+    }
+
+    @Benchmark
+    public List<Token> lexAll() {
+        return Lexer.lexAll(sql, quoting);
+    }
+
+    @Benchmark
+    public TokenBuffer lexBuffer() {
+        return Lexer.lex(sql, quoting);
+    }
+}
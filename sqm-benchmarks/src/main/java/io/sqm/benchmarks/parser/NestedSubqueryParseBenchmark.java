@@ -0,0 +1,61 @@
+package io.sqm.benchmarks.parser;
+
+import io.sqm.core.Statement;
+import io.sqm.parser.ansi.AnsiSpecs;
+import io.sqm.parser.spi.ParseContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parse time of derived-table chains as the nesting depth grows.
+ * <p>
+ * Each level wraps the previous query as {@code (SELECT ... FROM (...) qN WHERE ...)}, so the token
+ * count grows linearly with {@code depth}. Dividing the score by {@code depth} should give a roughly
+ * constant per-level cost; a growing ratio indicates quadratic behaviour in the cursor or lookups.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NestedSubqueryParseBenchmark {
+
+    @Param({"8", "16", "32", "64", "128"})
+    private int depth;
+
+    private String sql;
+    private AnsiSpecs specs;
+
+    /**
+     * Builds the nested SQL text for the current depth.
+     *
+     * @param depth nesting depth
+     * @return SQL text
+     */
+    static String nestedSql(int depth) {
+        var sb = new StringBuilder("SELECT a, b FROM t WHERE a > 0");
+        for (int i = 1; i <= depth; i++) {
+            sb.insert(0, "SELECT q" + i + ".a, q" + i + ".b FROM (");
+            sb.append(") q").append(i).append(" WHERE q").append(i).append(".a > ").append(i)
+                .append(" AND q").append(i).append(".b IS NOT NULL");
+        }
+        return sb.toString();
+    }
+
+    @Setup
+    public void setup() {
+        sql = nestedSql(depth);
+        specs = new AnsiSpecs();
+        var result = ParseContext.of(specs).parse(Statement.class, sql);
+        if (result.isError()) {
+            throw new IllegalStateException(result.errorMessage());
+        }
+    }
+
+    @Benchmark
+    public Statement parse() {
+        return ParseContext.of(specs).parse(Statement.class, sql).value();
+    }
+}
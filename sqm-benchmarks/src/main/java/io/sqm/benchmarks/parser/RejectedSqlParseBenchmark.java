@@ -0,0 +1,48 @@
+package io.sqm.benchmarks.parser;
+
+import io.sqm.core.Statement;
+import io.sqm.parser.ansi.AnsiSpecs;
+import io.sqm.parser.spi.ParseContext;
+import io.sqm.parser.spi.ParseResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of parsing accepted SQL with the cost of rejecting malformed SQL.
+ * Rejected input should cost about the same as accepted input of similar size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RejectedSqlParseBenchmark {
+
+    private static final String ACCEPTED =
+        "SELECT o.id, (o.total + o.tax) AS gross FROM orders o WHERE (o.status = 'open' OR o.status = 'new') AND o.total > 10";
+    private static final String REJECTED =
+        "SELECT o.id, (o.total + o.tax) AS gross FROM orders o WHERE (o.status = 'open' OR o.status = ) AND o.total > 10";
+
+    private AnsiSpecs specs;
+
+    @Setup
+    public void setup() {
+        specs = new AnsiSpecs();
+        if (ParseContext.of(specs).parse(Statement.class, ACCEPTED).isError()
+            || ParseContext.of(specs).parse(Statement.class, REJECTED).ok()) {
+            throw new IllegalStateException("unexpected benchmark input");
+        }
+    }
+
+    @Benchmark
+    public ParseResult<? extends Statement> accepted() {
+        return ParseContext.of(specs).parse(Statement.class, ACCEPTED);
+    }
+
+    @Benchmark
+    public ParseResult<? extends Statement> rejected() {
+        return ParseContext.of(specs).parse(Statement.class, REJECTED);
+    }
+}
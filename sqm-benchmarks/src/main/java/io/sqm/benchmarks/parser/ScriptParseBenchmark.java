@@ -0,0 +1,49 @@
+package io.sqm.benchmarks.parser;
+
+import io.sqm.core.StatementSequence;
+import io.sqm.parser.ParallelStatementParser;
+import io.sqm.parser.ansi.AnsiSpecs;
+import io.sqm.parser.spi.ParseContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sequential and parallel parsing of multi-statement scripts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScriptParseBenchmark {
+
+    @Param({"100", "2000"})
+    private int statements;
+
+    private String sql;
+    private ParallelStatementParser parallel;
+
+    @Setup
+    public void setup() {
+        var sb = new StringBuilder();
+        for (int i = 0; i < statements; i++) {
+            sb.append("SELECT o.id, c.name, SUM(o.total) FROM orders o JOIN customers c ON c.id = o.customer_id ")
+                .append("WHERE o.status = 'open' AND o.total > ").append(i)
+                .append(" GROUP BY o.id, c.name ORDER BY c.name;\n");
+        }
+        sql = sb.toString();
+        parallel = ParallelStatementParser.of(new AnsiSpecs());
+    }
+
+    @Benchmark
+    public StatementSequence sequential() {
+        return ParseContext.of(new AnsiSpecs()).parse(StatementSequence.class, sql).value();
+    }
+
+    @Benchmark
+    public StatementSequence parallel() {
+        return parallel.parse(sql).value();
+    }
+}
@@ -0,0 +1,83 @@
+package io.sqm.benchmarks.render;
+
+import io.sqm.core.InsertStatement;
+import io.sqm.core.RowExpr;
+import io.sqm.core.Statement;
+import io.sqm.core.StatementSequence;
+import io.sqm.render.ParallelRenderer;
+import io.sqm.render.ansi.spi.AnsiDialect;
+import io.sqm.render.spi.ParameterizationMode;
+import io.sqm.render.spi.RenderContext;
+import io.sqm.render.spi.RenderOptions;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static io.sqm.dsl.Dsl.*;
+
+/**
+ * Compares sequential rendering with {@link ParallelRenderer} for a bulk {@code INSERT ... VALUES} statement
+ * and for a long statement sequence.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelRenderBenchmark {
+
+    @Param({"100000"})
+    public int rows;
+
+    @Param({"5000"})
+    public int statements;
+
+    private final RenderContext ctx = RenderContext.of(new AnsiDialect());
+    private final RenderOptions inline = RenderOptions.of(ParameterizationMode.Inline);
+    private final ParallelRenderer parallel = ParallelRenderer.of();
+    private InsertStatement insert;
+    private StatementSequence script;
+
+    @Setup
+    public void setup() {
+        var values = new ArrayList<RowExpr>(rows);
+        for (int i = 0; i < rows; i++) {
+            values.add(row(lit(i), lit("customer " + i), lit(i * 0.25), lit(i % 2 == 0)));
+        }
+        insert = insert("customers")
+            .columns(id("id"), id("name"), id("balance"), id("active"))
+            .values(rows(values.toArray(RowExpr[]::new)))
+            .build();
+
+        var list = new ArrayList<Statement>(statements);
+        for (int i = 0; i < statements; i++) {
+            list.add(select(col("c", "id"), col("c", "name"))
+                .from(tbl("customers").as("c"))
+                .where(col("c", "id").eq(lit(i)).and(col("c", "active").eq(lit(true))))
+                .build());
+        }
+        script = StatementSequence.of(list);
+    }
+
+    @Benchmark
+    public String insertSequential() {
+        return ctx.render(insert, inline).sql();
+    }
+
+    @Benchmark
+    public String insertParallel() {
+        return parallel.render(ctx, insert, inline).sql();
+    }
+
+    @Benchmark
+    public String scriptSequential() {
+        return ctx.render(script, inline).sql();
+    }
+
+    @Benchmark
+    public String scriptParallel() {
+        return parallel.render(ctx, script, inline).sql();
+    }
+}
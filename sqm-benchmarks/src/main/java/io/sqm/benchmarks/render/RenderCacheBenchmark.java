@@ -0,0 +1,91 @@
+package io.sqm.benchmarks.render;
+
+import io.sqm.core.Statement;
+import io.sqm.core.transform.StructuralHasher;
+import io.sqm.parser.ansi.AnsiSpecs;
+import io.sqm.parser.spi.ParseContext;
+import io.sqm.render.RenderCache;
+import io.sqm.render.ansi.spi.AnsiDialect;
+import io.sqm.render.spi.ParameterizationMode;
+import io.sqm.render.spi.RenderContext;
+import io.sqm.render.spi.RenderOptions;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares rendering statements of one shape with different literal values directly and through a warm
+ * {@link RenderCache}, with inline literals and with bind parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderCacheBenchmark {
+
+    private static final String SQL = """
+        SELECT c.id, c.name, SUM(o.total) AS total
+        FROM customers c
+        JOIN orders o ON o.customer_id = c.id
+        LEFT JOIN addresses a ON a.customer_id = c.id AND a.kind = '%s'
+        WHERE c.active = TRUE AND c.country = '%s' AND o.total > %d AND EXISTS (
+          SELECT 1 FROM payments p WHERE p.customer_id = c.id AND p.amount > %d
+        )
+        GROUP BY c.id, c.name
+        ORDER BY total DESC
+        """;
+
+    private final RenderContext ctx = RenderContext.of(new AnsiDialect());
+    private final RenderOptions inline = RenderOptions.of(ParameterizationMode.Inline);
+    private final RenderOptions bind = RenderOptions.of(ParameterizationMode.Bind);
+    private final RenderCache cache = RenderCache.builder().build();
+    private List<Statement> statements;
+    private int next;
+
+    @Setup
+    public void setup() {
+        var parser = ParseContext.of(new AnsiSpecs());
+        statements = List.of(
+            parser.parse(Statement.class, SQL.formatted("billing", "DE", 100, 10)).value(),
+            parser.parse(Statement.class, SQL.formatted("shipping", "FR", 250, 5)).value(),
+            parser.parse(Statement.class, SQL.formatted("home", "IT", 75, 20)).value());
+        for (var statement : statements) {
+            cache.render(ctx, statement, inline);
+            cache.render(ctx, statement, bind);
+        }
+    }
+
+    private Statement statement() {
+        next = (next + 1) % statements.size();
+        return statements.get(next);
+    }
+
+    @Benchmark
+    public String inlineDirect() {
+        return ctx.render(statement(), inline).sql();
+    }
+
+    @Benchmark
+    public String inlineCached() {
+        return cache.render(ctx, statement(), inline).sql();
+    }
+
+    @Benchmark
+    public String fingerprint() {
+        return StructuralHasher.hash(statement(), literal -> {
+        });
+    }
+
+    @Benchmark
+    public List<Object> bindDirect() {
+        return ctx.render(statement(), bind).params();
+    }
+
+    @Benchmark
+    public List<Object> bindCached() {
+        return cache.render(ctx, statement(), bind).params();
+    }
+}
@@ -0,0 +1,76 @@
+package io.sqm.benchmarks.render;
+
+import io.sqm.core.Statement;
+import io.sqm.parser.ansi.AnsiSpecs;
+import io.sqm.parser.spi.ParseContext;
+import io.sqm.render.defaults.CompactSqlWriter;
+import io.sqm.render.defaults.DefaultSqlWriter;
+import io.sqm.render.ansi.spi.AnsiDialect;
+import io.sqm.render.spi.ParameterizationMode;
+import io.sqm.render.spi.RenderContext;
+import io.sqm.render.spi.RenderLayout;
+import io.sqm.render.spi.RenderOptions;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares rendering with the indenting {@link RenderLayout#Pretty} writer and the single-line
+ * {@link RenderLayout#Compact} writer, both through {@link RenderContext#render} and with the writers alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderLayoutBenchmark {
+
+    private static final String SQL = """
+        WITH recent AS (
+          SELECT o.customer_id, SUM(o.total) AS total
+          FROM orders o
+          WHERE o.created_at > DATE '2024-01-01' AND o.status IN ('open', 'paid')
+          GROUP BY o.customer_id
+        )
+        SELECT c.id, c.name, r.total, CASE WHEN r.total > 1000 THEN 'gold' ELSE 'regular' END AS tier
+        FROM customers c
+        JOIN recent r ON r.customer_id = c.id
+        LEFT JOIN addresses a ON a.customer_id = c.id AND a.kind = 'billing'
+        WHERE c.active = TRUE AND (c.country = 'DE' OR c.country = 'FR') AND EXISTS (
+          SELECT 1 FROM payments p WHERE p.customer_id = c.id AND p.amount > 10
+        )
+        ORDER BY r.total DESC, c.name
+        """;
+
+    private final RenderContext ctx = RenderContext.of(new AnsiDialect());
+    private final RenderOptions pretty = RenderOptions.of(ParameterizationMode.Inline, RenderLayout.Pretty);
+    private final RenderOptions compact = RenderOptions.of(ParameterizationMode.Inline, RenderLayout.Compact);
+    private Statement statement;
+
+    @Setup
+    public void setup() {
+        statement = ParseContext.of(new AnsiSpecs()).parse(Statement.class, SQL).value();
+    }
+
+    @Benchmark
+    public String pretty() {
+        return ctx.render(statement, pretty).sql();
+    }
+
+    @Benchmark
+    public String compact() {
+        return ctx.render(statement, compact).sql();
+    }
+
+    @Benchmark
+    public String defaultWriter() {
+        return new DefaultSqlWriter(ctx).append(statement).toText(List.of()).sql();
+    }
+
+    @Benchmark
+    public String compactWriter() {
+        return new CompactSqlWriter(ctx).append(statement).toText(List.of()).sql();
+    }
+}
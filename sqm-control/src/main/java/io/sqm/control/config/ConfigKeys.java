@@ -157,6 +157,31 @@ public final class ConfigKeys {
         "SQM_MIDDLEWARE_GUARDRAILS_EXPLAIN_DRY_RUN"
     );
 
+    /**
+     * Maximum number of cached parse results; parse caching is disabled when unset or not positive.
+     */
+    public static final Key PARSE_CACHE_MAX_ENTRIES = Key.of(
+        "sqm.middleware.parseCache.maxEntries",
+        "SQM_MIDDLEWARE_PARSE_CACHE_MAX_ENTRIES"
+    );
+
+    /**
+     * Maximum total weight of cached parse results, measured in normalized SQL characters; the weight is
+     * unbounded when unset or not positive.
+     */
+    public static final Key PARSE_CACHE_MAX_WEIGHT = Key.of(
+        "sqm.middleware.parseCache.maxWeight",
+        "SQM_MIDDLEWARE_PARSE_CACHE_MAX_WEIGHT"
+    );
+
+    /**
+     * When enabled, statements that differ only in literal values share one parse cache entry.
+     */
+    public static final Key PARSE_CACHE_LITERAL_INSENSITIVE = Key.of(
+        "sqm.middleware.parseCache.literalInsensitive",
+        "SQM_MIDDLEWARE_PARSE_CACHE_LITERAL_INSENSITIVE"
+    );
+
     /**
      * Runtime rewrite rules list.
      */
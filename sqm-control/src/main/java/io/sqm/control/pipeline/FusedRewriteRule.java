@@ -0,0 +1,67 @@
+package io.sqm.control.pipeline;
+
+import io.sqm.control.decision.ReasonCode;
+import io.sqm.control.execution.ExecutionContext;
+import io.sqm.core.Statement;
+import io.sqm.core.transform.FusedNodeTransformer;
+import io.sqm.core.transform.RecursiveNodeTransformer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Runs a run of consecutive {@link FusibleRewriteRule}s as one traversal.
+ *
+ * <p>The result matches applying the rules one after another: applied rule identifiers are listed in rule
+ * order and the primary reason code is the one of the first rule that changed the statement.</p>
+ */
+final class FusedRewriteRule implements StatementRewriteRule {
+    private final List<FusibleRewriteRule> rules;
+
+    FusedRewriteRule(List<FusibleRewriteRule> rules) {
+        this.rules = List.copyOf(rules);
+    }
+
+    @Override
+    public String id() {
+        return rules.stream().map(StatementRewriteRule::id).collect(Collectors.joining("+"));
+    }
+
+    @Override
+    public StatementRewriteResult apply(Statement statement, ExecutionContext context) {
+        Objects.requireNonNull(statement, "statement must not be null");
+        Objects.requireNonNull(context, "context must not be null");
+
+        var transformers = new ArrayList<RecursiveNodeTransformer>();
+        var ends = new int[rules.size()];
+        for (int i = 0; i < rules.size(); i++) {
+            transformers.addAll(rules.get(i).transformers());
+            ends[i] = transformers.size();
+        }
+
+        var fused = FusedNodeTransformer.of(transformers);
+        Statement transformed = (Statement) fused.transform(statement);
+        if (transformed == statement) {
+            return StatementRewriteResult.unchanged(transformed);
+        }
+
+        var appliedRuleIds = new ArrayList<String>();
+        var primaryReasonCode = ReasonCode.NONE;
+        for (int i = 0, t = 0; i < rules.size(); i++) {
+            var changed = false;
+            for (; t < ends[i]; t++) {
+                changed |= fused.changed(t);
+            }
+            if (changed) {
+                var rule = rules.get(i);
+                appliedRuleIds.add(rule.id());
+                if (primaryReasonCode == ReasonCode.NONE) {
+                    primaryReasonCode = rule.reasonCode();
+                }
+            }
+        }
+        return new StatementRewriteResult(transformed, true, appliedRuleIds, primaryReasonCode);
+    }
+}
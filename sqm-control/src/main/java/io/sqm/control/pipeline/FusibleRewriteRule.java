@@ -0,0 +1,56 @@
+package io.sqm.control.pipeline;
+
+import io.sqm.control.decision.ReasonCode;
+import io.sqm.control.execution.ExecutionContext;
+import io.sqm.core.Statement;
+import io.sqm.core.transform.FusedNodeTransformer;
+import io.sqm.core.transform.RecursiveNodeTransformer;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Statement rewrite rule implemented by node-local transformers.
+ *
+ * <p>{@link SqlStatementRewriter#chain(StatementRewriteRule...)} runs consecutive fusible rules in a single
+ * {@link FusedNodeTransformer} traversal instead of one traversal per rule, and still reports every rule that
+ * changed the statement. The transformers must satisfy the locality contract of {@link FusedNodeTransformer}.</p>
+ */
+public interface FusibleRewriteRule extends StatementRewriteRule {
+
+    /**
+     * Creates the transformers implementing this rule, in application order.
+     *
+     * <p>A new list of new instances is requested for every rewrite, so rules stay thread-safe even though
+     * transformers are not.</p>
+     *
+     * @return node-local transformers
+     */
+    List<RecursiveNodeTransformer> transformers();
+
+    /**
+     * Returns the reason code reported when this rule changes a statement.
+     *
+     * @return rewrite reason code
+     */
+    ReasonCode reasonCode();
+
+    /**
+     * Applies the rule transformers in one traversal and reports a rewrite only when the AST actually changes.
+     *
+     * @param statement parsed statement model
+     * @param context   execution context
+     * @return rewrite result
+     */
+    @Override
+    default StatementRewriteResult apply(Statement statement, ExecutionContext context) {
+        Objects.requireNonNull(statement, "statement must not be null");
+        Objects.requireNonNull(context, "context must not be null");
+
+        Statement transformed = (Statement) FusedNodeTransformer.of(transformers()).transform(statement);
+        if (transformed == statement) {
+            return StatementRewriteResult.unchanged(transformed);
+        }
+        return StatementRewriteResult.rewritten(transformed, id(), reasonCode());
+    }
+}
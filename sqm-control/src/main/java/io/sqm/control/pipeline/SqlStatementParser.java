@@ -5,10 +5,13 @@ import io.sqm.core.Node;
 import io.sqm.core.Statement;
 import io.sqm.core.StatementSequence;
 import io.sqm.core.dialect.SqlDialectId;
+import io.sqm.parser.ParseCache;
+import io.sqm.parser.ParseContextPool;
 import io.sqm.parser.ansi.AnsiSpecs;
 import io.sqm.parser.mysql.spi.MySqlSpecs;
 import io.sqm.parser.postgresql.spi.PostgresSpecs;
 import io.sqm.parser.spi.ParseContext;
+import io.sqm.parser.spi.ParseResult;
 import io.sqm.parser.spi.Specs;
 import io.sqm.parser.sqlserver.spi.SqlServerSpecs;
 
@@ -29,15 +32,45 @@ public interface SqlStatementParser {
      * ANSI, MySQL, PostgreSQL aliases ({@code postgresql}, {@code postgres}),
      * and SQL Server aliases ({@code sqlserver}, {@code mssql}, {@code tsql}).</p>
      *
+     * <p>Each dialect uses one shared immutable specs instance and a pool of reusable parse contexts,
+     * so a parse does not rebuild dialect state per request.</p>
+     *
      * @return dialect-aware parser
      */
     static SqlStatementParser standard() {
-        return dialectAwareIds(Map.of(
-            SqlDialectId.ANSI, AnsiSpecs::new,
-            SqlDialectId.MYSQL, MySqlSpecs::new,
-            SqlDialectId.POSTGRESQL, PostgresSpecs::new,
-            SqlDialectId.SQLSERVER, SqlServerSpecs::new
-        ));
+        return standard(null);
+    }
+
+    /**
+     * Creates the default dialect-aware parser backed by a parse-result cache.
+     *
+     * <p>Statements whose text differs only in whitespace or comments are parsed once per dialect and the
+     * shared immutable model is returned for subsequent requests. Passing {@code null} disables caching.</p>
+     *
+     * @param cache parse cache shared by all dialects, or {@code null}
+     * @return dialect-aware parser
+     * @see #standard()
+     */
+    static SqlStatementParser standard(ParseCache cache) {
+        var pools = Map.of(
+            SqlDialectId.ANSI, ParseContextPool.of(new AnsiSpecs()),
+            SqlDialectId.MYSQL, ParseContextPool.of(new MySqlSpecs()),
+            SqlDialectId.POSTGRESQL, ParseContextPool.of(new PostgresSpecs()),
+            SqlDialectId.SQLSERVER, ParseContextPool.of(new SqlServerSpecs())
+        );
+        return (sql, context) -> {
+            Objects.requireNonNull(sql, "sql must not be null");
+            Objects.requireNonNull(context, "context must not be null");
+
+            var dialect = context.dialectId();
+            var pool = pools.get(dialect);
+            if (pool == null) {
+                throw new IllegalArgumentException("Unsupported dialect: " + context.dialect());
+            }
+            return unwrap(cache == null
+                ? pool.parse(StatementSequence.class, sql)
+                : cache.parse(dialect, pool, StatementSequence.class, sql));
+        };
     }
 
     private static SqlStatementParser dialectAwareIds(Map<SqlDialectId, Supplier<Specs>> specsByDialect) {
@@ -53,15 +86,18 @@ public interface SqlStatementParser {
             }
 
             var ctx = ParseContext.of(specsFactory.get());
-            var result = ctx.parse(StatementSequence.class, sql);
-            if (result.isError() || result.value() == null) {
-                throw new IllegalArgumentException(result.errorMessage());
-            }
-            var sequence = result.value();
-            return sequence.statements().size() == 1 ? sequence.statements().getFirst() : sequence;
+            return unwrap(ctx.parse(StatementSequence.class, sql));
         };
     }
 
+    private static Node unwrap(ParseResult<? extends StatementSequence> result) {
+        if (result.isError() || result.value() == null) {
+            throw new IllegalArgumentException(result.errorMessage());
+        }
+        var sequence = result.value();
+        return sequence.statements().size() == 1 ? sequence.statements().getFirst() : sequence;
+    }
+
     /**
      * Creates a dialect-aware parser with custom dialect mappings.
      *
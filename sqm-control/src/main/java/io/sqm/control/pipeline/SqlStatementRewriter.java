@@ -41,19 +41,22 @@ public interface SqlStatementRewriter {
     /**
      * Returns a sequential rewriter that applies the provided rules in order.
      *
+     * <p>Consecutive {@link FusibleRewriteRule}s are applied together in a single tree traversal; the
+     * reported result is the same as applying them one by one.</p>
+     *
      * @param rules rewrite rules
      * @return composed rewriter
      */
     static SqlStatementRewriter chain(StatementRewriteRule... rules) {
         Objects.requireNonNull(rules, "rules must not be null");
-        var copy = List.of(rules);
-        if (copy.isEmpty()) {
+        if (rules.length == 0) {
             return noop();
         }
 
-        for (StatementRewriteRule rule : copy) {
+        for (StatementRewriteRule rule : rules) {
             Objects.requireNonNull(rule, "rules must not contain null values");
         }
+        var copy = fuse(List.of(rules));
 
         return (statement, context) -> {
             Objects.requireNonNull(statement, "statement must not be null");
@@ -86,6 +89,31 @@ public interface SqlStatementRewriter {
         };
     }
 
+    private static List<StatementRewriteRule> fuse(List<StatementRewriteRule> rules) {
+        var fused = new ArrayList<StatementRewriteRule>(rules.size());
+        var run = new ArrayList<FusibleRewriteRule>();
+        for (StatementRewriteRule rule : rules) {
+            if (rule instanceof FusibleRewriteRule fusible) {
+                run.add(fusible);
+                continue;
+            }
+            flush(run, fused);
+            fused.add(rule);
+        }
+        flush(run, fused);
+        return List.copyOf(fused);
+    }
+
+    private static void flush(List<FusibleRewriteRule> run, List<StatementRewriteRule> target) {
+        if (run.size() == 1) {
+            target.add(run.getFirst());
+        }
+        else if (run.size() > 1) {
+            target.add(new FusedRewriteRule(run));
+        }
+        run.clear();
+    }
+
     /**
      * Rewrites the provided statement or statement sequence model for the given execution context.
      *
@@ -11,6 +11,9 @@ import java.util.*;
  * <p>This class does not construct {@code SqlStatementRewriter} instances directly. Callers select
  * baseline or subset rule packs through this type, then compose them into a rewriter via
  * {@code SqlStatementRewriter.chain(...)} or equivalent orchestration code.</p>
+ *
+ * <p>Identifier normalization and canonicalization are node-local
+ * {@link io.sqm.control.pipeline.FusibleRewriteRule}s; when adjacent in a chain they share one tree traversal.</p>
  */
 public final class BuiltInRewriteRules {
 
@@ -1,33 +1,23 @@
 package io.sqm.control.rewrite;
 
 import io.sqm.control.decision.ReasonCode;
-import io.sqm.control.execution.ExecutionContext;
-import io.sqm.control.pipeline.StatementRewriteResult;
-import io.sqm.control.pipeline.StatementRewriteRule;
-import io.sqm.core.Statement;
+import io.sqm.control.pipeline.FusibleRewriteRule;
 import io.sqm.core.transform.ArithmeticSimplifier;
 import io.sqm.core.transform.BooleanPredicateSimplifier;
+import io.sqm.core.transform.RecursiveNodeTransformer;
 
-import java.util.Objects;
+import java.util.List;
 
 /**
  * Middleware rewrite rule that applies deterministic AST canonicalization transforms.
  *
  * <p>Current implementation composes safe local canonicalizers including
- * arithmetic and boolean-predicate simplification.</p>
+ * arithmetic and boolean-predicate simplification, applied in a single traversal.</p>
  */
-public final class CanonicalizationRewriteRule implements StatementRewriteRule {
+public final class CanonicalizationRewriteRule implements FusibleRewriteRule {
     private static final String RULE_ID = "canonicalization";
 
-    private final ArithmeticSimplifier arithmeticSimplifier;
-    private final BooleanPredicateSimplifier booleanTransformer;
-
-    private CanonicalizationRewriteRule(
-        ArithmeticSimplifier arithmeticSimplifier,
-        BooleanPredicateSimplifier booleanTransformer
-    ) {
-        this.arithmeticSimplifier = arithmeticSimplifier;
-        this.booleanTransformer = booleanTransformer;
+    private CanonicalizationRewriteRule() {
     }
 
     /**
@@ -36,10 +26,7 @@ public final class CanonicalizationRewriteRule implements StatementRewriteRule {
      * @return rule instance
      */
     public static CanonicalizationRewriteRule of() {
-        return new CanonicalizationRewriteRule(
-            new ArithmeticSimplifier(),
-            new BooleanPredicateSimplifier()
-        );
+        return new CanonicalizationRewriteRule();
     }
 
     /**
@@ -53,23 +40,23 @@ public final class CanonicalizationRewriteRule implements StatementRewriteRule {
     }
 
     /**
-     * Applies canonicalization and reports a rewrite only when the AST actually changes.
+     * Creates the canonicalization transformers: arithmetic simplification, then boolean simplification.
      *
-     * @param statement parsed statement model
-     * @param context execution context
-     * @return rewrite result
+     * @return new transformer instances
      */
     @Override
-    public StatementRewriteResult apply(Statement statement, ExecutionContext context) {
-        Objects.requireNonNull(statement, "statement must not be null");
-        Objects.requireNonNull(context, "context must not be null");
+    public List<RecursiveNodeTransformer> transformers() {
+        return List.of(new ArithmeticSimplifier(), new BooleanPredicateSimplifier());
+    }
 
-        Statement transformed = (Statement) arithmeticSimplifier.transform(statement);
-        transformed = (Statement) booleanTransformer.transform(transformed);
-        if (transformed == statement) {
-            return StatementRewriteResult.unchanged(transformed);
-        }
-        return StatementRewriteResult.rewritten(transformed, id(), ReasonCode.REWRITE_CANONICALIZATION);
+    /**
+     * Returns the canonicalization reason code.
+     *
+     * @return rewrite reason code
+     */
+    @Override
+    public ReasonCode reasonCode() {
+        return ReasonCode.REWRITE_CANONICALIZATION;
     }
 }
 
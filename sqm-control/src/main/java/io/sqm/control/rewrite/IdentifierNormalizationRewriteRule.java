@@ -1,12 +1,12 @@
 package io.sqm.control.rewrite;
 
 import io.sqm.control.decision.ReasonCode;
-import io.sqm.control.execution.ExecutionContext;
-import io.sqm.control.pipeline.StatementRewriteResult;
-import io.sqm.control.pipeline.StatementRewriteRule;
-import io.sqm.core.Statement;
+import io.sqm.control.pipeline.FusibleRewriteRule;
+import io.sqm.core.transform.IdentifierNormalizationCaseMode;
 import io.sqm.core.transform.IdentifierNormalizationTransformer;
+import io.sqm.core.transform.RecursiveNodeTransformer;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -14,13 +14,13 @@ import java.util.Objects;
  *
  * <p>Quoted identifiers are preserved exactly.</p>
  */
-public final class IdentifierNormalizationRewriteRule implements StatementRewriteRule {
+public final class IdentifierNormalizationRewriteRule implements FusibleRewriteRule {
     private static final String RULE_ID = "identifier-normalization";
 
-    private final IdentifierNormalizationTransformer transformer;
+    private final IdentifierNormalizationCaseMode caseMode;
 
-    private IdentifierNormalizationRewriteRule(IdentifierNormalizationTransformer transformer) {
-        this.transformer = transformer;
+    private IdentifierNormalizationRewriteRule(IdentifierNormalizationCaseMode caseMode) {
+        this.caseMode = caseMode;
     }
 
     /**
@@ -29,7 +29,7 @@ public final class IdentifierNormalizationRewriteRule implements StatementRewrit
      * @return rule instance
      */
     public static IdentifierNormalizationRewriteRule of() {
-        return new IdentifierNormalizationRewriteRule(new IdentifierNormalizationTransformer());
+        return new IdentifierNormalizationRewriteRule(IdentifierNormalizationCaseMode.LOWER);
     }
 
     /**
@@ -40,9 +40,7 @@ public final class IdentifierNormalizationRewriteRule implements StatementRewrit
      */
     public static IdentifierNormalizationRewriteRule of(BuiltInRewriteSettings settings) {
         Objects.requireNonNull(settings, "settings must not be null");
-        return new IdentifierNormalizationRewriteRule(
-            new IdentifierNormalizationTransformer(settings.identifierNormalizationCaseMode())
-        );
+        return new IdentifierNormalizationRewriteRule(settings.identifierNormalizationCaseMode());
     }
 
     @Override
@@ -51,15 +49,13 @@ public final class IdentifierNormalizationRewriteRule implements StatementRewrit
     }
 
     @Override
-    public StatementRewriteResult apply(Statement statement, ExecutionContext context) {
-        Objects.requireNonNull(statement, "statement must not be null");
-        Objects.requireNonNull(context, "context must not be null");
+    public List<RecursiveNodeTransformer> transformers() {
+        return List.of(new IdentifierNormalizationTransformer(caseMode));
+    }
 
-        Statement transformed = (Statement) transformer.transform(statement);
-        if (transformed == statement) {
-            return StatementRewriteResult.unchanged(transformed);
-        }
-        return StatementRewriteResult.rewritten(transformed, id(), ReasonCode.REWRITE_IDENTIFIER_NORMALIZATION);
+    @Override
+    public ReasonCode reasonCode() {
+        return ReasonCode.REWRITE_IDENTIFIER_NORMALIZATION;
     }
 }
 
@@ -7,9 +7,8 @@ import io.sqm.core.Node;
 import io.sqm.core.Query;
 import io.sqm.core.StatementSequence;
 import io.sqm.core.transform.QueryFingerprint;
-import io.sqm.core.utils.HashUtils;
+import io.sqm.core.transform.StructuralHasher;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 /**
@@ -116,17 +115,12 @@ public interface SqlDecisionEngine {
                 return QueryFingerprint.of(query);
             }
             if (node instanceof StatementSequence sequence) {
-                var fingerprints = new StringBuilder();
                 for (var statement : sequence.statements()) {
-                    if (!(statement instanceof Query query)) {
+                    if (!(statement instanceof Query)) {
                         return null;
                     }
-                    if (!fingerprints.isEmpty()) {
-                        fingerprints.append(';');
-                    }
-                    fingerprints.append(QueryFingerprint.of(query));
                 }
-                return HashUtils.sha256Hex(fingerprints.toString().getBytes(StandardCharsets.UTF_8));
+                return StructuralHasher.hash(sequence, true);
             }
             return null;
         }
@@ -9,12 +9,16 @@ import io.sqm.core.MergeStatement;
 import io.sqm.core.Query;
 import io.sqm.core.StatementSequence;
 import io.sqm.core.UpdateStatement;
+import io.sqm.parser.ParseCache;
 import io.sqm.parser.ansi.AnsiSpecs;
 import org.junit.jupiter.api.Test;
 
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class SqlStatementParserTest {
@@ -37,6 +41,22 @@ class SqlStatementParserTest {
         assertInstanceOf(Query.class, query);
     }
 
+    @Test
+    void cached_parser_reuses_models_for_equivalent_text() {
+        var cache = ParseCache.builder().maximumSize(10).build();
+        var parser = SqlStatementParser.standard(cache);
+        var postgres = ExecutionContext.of("postgresql", ExecutionMode.ANALYZE);
+
+        var first = parser.parse("select id from users", postgres);
+        var second = parser.parse("select  id\n  from users -- comment", postgres);
+        var mysql = parser.parse("select id from users", ExecutionContext.of("mysql", ExecutionMode.ANALYZE));
+
+        assertSame(first, second);
+        assertNotSame(first, mysql);
+        assertEquals(1, cache.stats().hits());
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("select from where", postgres));
+    }
+
     @Test
     void parses_mysql_query() {
         var parser = SqlStatementParser.standard();
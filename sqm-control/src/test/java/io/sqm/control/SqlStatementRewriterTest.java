@@ -14,6 +14,8 @@ import io.sqm.control.pipeline.StatementRewriteResult;
 import io.sqm.control.pipeline.StatementRewriteRule;
 import io.sqm.control.rewrite.BuiltInRewriteRule;
 import io.sqm.control.rewrite.BuiltInRewriteSettings;
+import io.sqm.control.rewrite.CanonicalizationRewriteRule;
+import io.sqm.control.rewrite.IdentifierNormalizationRewriteRule;
 import io.sqm.core.Expression;
 import io.sqm.core.Query;
 import io.sqm.core.Statement;
@@ -278,4 +280,33 @@ class SqlStatementRewriterTest {
 
         assertThrows(IllegalStateException.class, () -> SqlStatementRewriter.chain(rule).rewrite(input, ANALYZE));
     }
+
+    @Test
+    void fused_rules_report_each_rule_that_changed_the_statement() {
+        var query = parseQuery("select U.ID from Users as U where true and U.AGE > 1 + 2");
+        var normalization = IdentifierNormalizationRewriteRule.of();
+        var canonicalization = CanonicalizationRewriteRule.of();
+
+        var fused = SqlStatementRewriter.chain(normalization, canonicalization).rewrite(query, ANALYZE);
+        var sequential = canonicalization.apply((Statement) normalization.apply(query, ANALYZE).statement(), ANALYZE);
+
+        assertTrue(fused.rewritten());
+        assertEquals(List.of("identifier-normalization", "canonicalization"), fused.appliedRuleIds());
+        assertEquals(ReasonCode.REWRITE_IDENTIFIER_NORMALIZATION, fused.primaryReasonCode());
+        assertEquals(sequential.statement(), fused.statement());
+    }
+
+    @Test
+    void fused_rules_skip_rules_that_did_not_change_the_statement() {
+        var query = parseQuery("select id from users where true and age > 1 + 2");
+
+        var result = SqlStatementRewriter.chain(IdentifierNormalizationRewriteRule.of(), CanonicalizationRewriteRule.of())
+            .rewrite(query, ANALYZE);
+
+        assertTrue(result.rewritten());
+        assertEquals(List.of("canonicalization"), result.appliedRuleIds());
+        assertEquals(ReasonCode.REWRITE_CANONICALIZATION, result.primaryReasonCode());
+        assertEquals("select id from users where age > 3",
+            SqlStatementRenderer.standard().render(result.statement(), ANALYZE).sql().toLowerCase().replaceAll("\\s+", " "));
+    }
 }
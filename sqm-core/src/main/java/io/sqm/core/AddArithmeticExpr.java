@@ -2,6 +2,7 @@ package io.sqm.core;
 
 import io.sqm.core.match.ArithmeticMatch;
 import io.sqm.core.match.Match;
+import io.sqm.core.internal.OperatorChains;
 import io.sqm.core.walk.NodeVisitor;
 
 /**
@@ -50,6 +51,16 @@ public non-sealed interface AddArithmeticExpr extends AdditiveArithmeticExpr {
      * @param rhs the right operand, must not be {@code null}
      */
     record Impl(Expression lhs, Expression rhs) implements AddArithmeticExpr {
+
+        @Override
+        public int hashCode() {
+            return OperatorChains.hashCode(this);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return OperatorChains.equals(this, o);
+        }
     }
 }
 
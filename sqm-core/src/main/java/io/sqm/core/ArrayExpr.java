@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
 import java.util.List;
@@ -85,7 +86,7 @@ public non-sealed interface ArrayExpr extends Expression {
             for (var e : elements) {
                 Objects.requireNonNull(e, "elements must not contain nulls");
             }
-            elements = List.copyOf(elements);
+            elements = ChildList.copyOf(elements);
         }
     }
 }
@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
 import java.util.List;
@@ -178,8 +179,8 @@ public non-sealed interface CompositeQuery extends Query {
             if (ops.size() != terms.size() - 1) {
                 throw new IllegalArgumentException("The number of operators should be 1 less then the number of terms: ops.size == terms.size()-1.");
             }
-            terms = List.copyOf(terms);
-            ops = List.copyOf(ops);
+            terms = ChildList.copyOf(terms);
+            ops = ChildList.copyOf(ops);
         }
     }
 }
@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
 import java.util.List;
@@ -81,7 +82,7 @@ public non-sealed interface ConcatExpr extends Expression {
             for (Expression arg : args) {
                 Objects.requireNonNull(arg, "args must not contain nulls");
             }
-            args = List.copyOf(args);
+            args = ChildList.copyOf(args);
         }
     }
 }
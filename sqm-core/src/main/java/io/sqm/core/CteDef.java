@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
 import java.util.List;
@@ -305,7 +306,7 @@ public non-sealed interface CteDef extends Node {
          * @param materialization        materialization hint
          */
         public Impl {
-            columnAliases = columnAliases == null ? null : List.copyOf(columnAliases);
+            columnAliases = columnAliases == null ? null : ChildList.copyOf(columnAliases);
         }
     }
 }
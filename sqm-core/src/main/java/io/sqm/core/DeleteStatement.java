@@ -1,8 +1,8 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -102,9 +102,9 @@ public non-sealed interface DeleteStatement extends Statement {
      * Mutable builder for constructing immutable {@link DeleteStatement} instances.
      */
     final class Builder {
-        private final List<TableRef> using = new ArrayList<>();
-        private final List<Join> joins = new ArrayList<>();
-        private final List<StatementHint> hints = new ArrayList<>();
+        private List<TableRef> using = List.of();
+        private List<Join> joins = List.of();
+        private List<StatementHint> hints = List.of();
         private Table table;
         private Predicate where;
         private ResultClause result;
@@ -125,11 +125,11 @@ public non-sealed interface DeleteStatement extends Statement {
          */
         private Builder(DeleteStatement statement) {
             this(Objects.requireNonNull(statement, "statement").table());
-            this.using.addAll(statement.using());
-            this.joins.addAll(statement.joins());
+            this.using = statement.using();
+            this.joins = statement.joins();
             this.where = statement.where();
             this.result = statement.result();
-            this.hints.addAll(statement.hints());
+            this.hints = statement.hints();
         }
 
         /**
@@ -151,8 +151,7 @@ public non-sealed interface DeleteStatement extends Statement {
          */
         public Builder using(List<TableRef> using) {
             Objects.requireNonNull(using, "using");
-            this.using.clear();
-            this.using.addAll(using);
+            this.using = ChildList.copyOf(using);
             return this;
         }
 
@@ -175,8 +174,7 @@ public non-sealed interface DeleteStatement extends Statement {
          */
         public Builder joins(List<Join> joins) {
             Objects.requireNonNull(joins, "joins");
-            this.joins.clear();
-            this.joins.addAll(joins);
+            this.joins = ChildList.copyOf(joins);
             return this;
         }
 
@@ -198,7 +196,7 @@ public non-sealed interface DeleteStatement extends Statement {
          * @return this builder
          */
         public Builder join(Join join) {
-            this.joins.add(Objects.requireNonNull(join, "join"));
+            this.joins = ChildList.append(this.joins, Objects.requireNonNull(join, "join"));
             return this;
         }
 
@@ -266,8 +264,7 @@ public non-sealed interface DeleteStatement extends Statement {
          */
         public Builder hints(List<StatementHint> hints) {
             Objects.requireNonNull(hints, "hints");
-            this.hints.clear();
-            this.hints.addAll(hints);
+            this.hints = ChildList.copyOf(hints);
             return this;
         }
 
@@ -278,7 +275,7 @@ public non-sealed interface DeleteStatement extends Statement {
          * @return this builder
          */
         public Builder hint(StatementHint hint) {
-            this.hints.add(Objects.requireNonNull(hint, "hint"));
+            this.hints = ChildList.append(this.hints, Objects.requireNonNull(hint, "hint"));
             return this;
         }
 
@@ -299,7 +296,7 @@ public non-sealed interface DeleteStatement extends Statement {
          * @return this builder
          */
         public Builder clearHints() {
-            this.hints.clear();
+            this.hints = List.of();
             return this;
         }
 
@@ -337,9 +334,9 @@ public non-sealed interface DeleteStatement extends Statement {
          */
         public Impl {
             Objects.requireNonNull(table, "table");
-            using = using == null ? List.of() : List.copyOf(using);
-            joins = joins == null ? List.of() : List.copyOf(joins);
-            hints = hints == null ? List.of() : List.copyOf(hints);
+            using = using == null ? List.of() : ChildList.copyOf(using);
+            joins = joins == null ? List.of() : ChildList.copyOf(joins);
+            hints = hints == null ? List.of() : ChildList.copyOf(hints);
         }
     }
 }
@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.match.FunctionExprArgMatch;
 import io.sqm.core.walk.NodeVisitor;
 
@@ -604,7 +605,7 @@ public non-sealed interface FunctionExpr extends Expression {
          */
         public Impl {
             Objects.requireNonNull(name, "qualifiedName");
-            args = List.copyOf(args);
+            args = ChildList.copyOf(args);
         }
 
     }
@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
 import java.util.List;
@@ -153,7 +154,7 @@ public non-sealed interface FunctionTable extends AliasedTableRef {
          */
         public Impl {
             Objects.requireNonNull(function, "function");
-            columnAliases = columnAliases == null ? List.of() : List.copyOf(columnAliases);
+            columnAliases = columnAliases == null ? List.of() : ChildList.copyOf(columnAliases);
         }
     }
 }
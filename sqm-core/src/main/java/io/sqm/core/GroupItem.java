@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.match.GroupItemMatch;
 import io.sqm.core.walk.NodeVisitor;
 
@@ -314,7 +315,7 @@ public non-sealed interface GroupItem extends Node {
          * @param items grouping items inside the set
          */
         public GroupingSetImpl {
-            items = List.copyOf(items);
+            items = ChildList.copyOf(items);
         }
     }
 
@@ -330,7 +331,7 @@ public non-sealed interface GroupItem extends Node {
          * @param sets grouping set elements
          */
         public GroupingSetsImpl {
-            sets = List.copyOf(sets);
+            sets = ChildList.copyOf(sets);
         }
     }
 
@@ -346,7 +347,7 @@ public non-sealed interface GroupItem extends Node {
          * @param items grouping items inside the rollup
          */
         public RollupImpl {
-            items = List.copyOf(items);
+            items = ChildList.copyOf(items);
         }
     }
 
@@ -362,7 +363,7 @@ public non-sealed interface GroupItem extends Node {
          * @param items grouping items inside the cube
          */
         public CubeImpl {
-            items = List.copyOf(items);
+            items = ChildList.copyOf(items);
         }
     }
 }
@@ -1,8 +1,8 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -183,16 +183,16 @@ public non-sealed interface InsertStatement extends Statement {
      * Mutable builder for constructing immutable {@link InsertStatement} instances.
      */
     final class Builder {
-        private final List<Identifier> columns = new ArrayList<>();
-        private final List<Identifier> conflictTarget = new ArrayList<>();
-        private final List<Assignment> conflictUpdateAssignments = new ArrayList<>();
+        private List<Identifier> columns = List.of();
+        private List<Identifier> conflictTarget = List.of();
+        private List<Assignment> conflictUpdateAssignments = List.of();
         private InsertMode insertMode = InsertMode.STANDARD;
         private Table table;
         private InsertSource source;
         private OnConflictAction onConflictAction = OnConflictAction.NONE;
         private Predicate conflictUpdateWhere;
         private ResultClause resultClause;
-        private final List<StatementHint> hints = new ArrayList<>();
+        private List<StatementHint> hints = List.of();
 
         /**
          * Creates a builder initialized with a target table.
@@ -212,14 +212,14 @@ public non-sealed interface InsertStatement extends Statement {
             Objects.requireNonNull(statement, "statement");
             this.insertMode = statement.insertMode();
             this.table = statement.table();
-            this.columns.addAll(statement.columns());
+            this.columns = statement.columns();
             this.source = statement.source();
-            this.conflictTarget.addAll(statement.conflictTarget());
+            this.conflictTarget = statement.conflictTarget();
             this.onConflictAction = statement.onConflictAction();
-            this.conflictUpdateAssignments.addAll(statement.conflictUpdateAssignments());
+            this.conflictUpdateAssignments = statement.conflictUpdateAssignments();
             this.conflictUpdateWhere = statement.conflictUpdateWhere();
             this.resultClause = statement.result();
-            this.hints.addAll(statement.hints());
+            this.hints = statement.hints();
         }
 
         /**
@@ -279,8 +279,7 @@ public non-sealed interface InsertStatement extends Statement {
          */
         public Builder columns(List<Identifier> columns) {
             Objects.requireNonNull(columns, "columns");
-            this.columns.clear();
-            this.columns.addAll(columns);
+            this.columns = ChildList.copyOf(columns);
             return this;
         }
 
@@ -334,8 +333,7 @@ public non-sealed interface InsertStatement extends Statement {
          */
         public Builder hints(List<StatementHint> hints) {
             Objects.requireNonNull(hints, "hints");
-            this.hints.clear();
-            this.hints.addAll(hints);
+            this.hints = ChildList.copyOf(hints);
             return this;
         }
 
@@ -346,7 +344,7 @@ public non-sealed interface InsertStatement extends Statement {
          * @return this builder
          */
         public Builder hint(StatementHint hint) {
-            this.hints.add(Objects.requireNonNull(hint, "hint"));
+            this.hints = ChildList.append(this.hints, Objects.requireNonNull(hint, "hint"));
             return this;
         }
 
@@ -367,7 +365,7 @@ public non-sealed interface InsertStatement extends Statement {
          * @return this builder
          */
         public Builder clearHints() {
-            this.hints.clear();
+            this.hints = List.of();
             return this;
         }
 
@@ -377,9 +375,9 @@ public non-sealed interface InsertStatement extends Statement {
          * @return this builder
          */
         public Builder onConflictDoNothing() {
-            this.conflictTarget.clear();
+            this.conflictTarget = List.of();
             this.onConflictAction = OnConflictAction.DO_NOTHING;
-            this.conflictUpdateAssignments.clear();
+            this.conflictUpdateAssignments = List.of();
             this.conflictUpdateWhere = null;
             return this;
         }
@@ -393,7 +391,7 @@ public non-sealed interface InsertStatement extends Statement {
         public Builder onConflictDoNothing(List<Identifier> target) {
             Objects.requireNonNull(target, "target");
             onConflictDoNothing();
-            this.conflictTarget.addAll(target);
+            this.conflictTarget = ChildList.appendAll(this.conflictTarget, target);
             return this;
         }
 
@@ -419,11 +417,9 @@ public non-sealed interface InsertStatement extends Statement {
         public Builder onConflictDoUpdate(List<Identifier> target, List<Assignment> assignments, Predicate where) {
             Objects.requireNonNull(target, "target");
             Objects.requireNonNull(assignments, "assignments");
-            this.conflictTarget.clear();
-            this.conflictTarget.addAll(target);
+            this.conflictTarget = ChildList.copyOf(target);
             this.onConflictAction = OnConflictAction.DO_UPDATE;
-            this.conflictUpdateAssignments.clear();
-            this.conflictUpdateAssignments.addAll(assignments);
+            this.conflictUpdateAssignments = ChildList.copyOf(assignments);
             this.conflictUpdateWhere = where;
             return this;
         }
@@ -562,11 +558,11 @@ public non-sealed interface InsertStatement extends Statement {
             insertMode = insertMode == null ? InsertMode.STANDARD : insertMode;
             Objects.requireNonNull(table, "table");
             Objects.requireNonNull(source, "source");
-            columns = columns == null ? List.of() : List.copyOf(columns);
-            conflictTarget = conflictTarget == null ? List.of() : List.copyOf(conflictTarget);
+            columns = columns == null ? List.of() : ChildList.copyOf(columns);
+            conflictTarget = conflictTarget == null ? List.of() : ChildList.copyOf(conflictTarget);
             onConflictAction = onConflictAction == null ? OnConflictAction.NONE : onConflictAction;
-            conflictUpdateAssignments = conflictUpdateAssignments == null ? List.of() : List.copyOf(conflictUpdateAssignments);
-            hints = hints == null ? List.of() : List.copyOf(hints);
+            conflictUpdateAssignments = conflictUpdateAssignments == null ? List.of() : ChildList.copyOf(conflictUpdateAssignments);
+            hints = hints == null ? List.of() : ChildList.copyOf(hints);
 
             if (onConflictAction == OnConflictAction.NONE) {
                 if (!conflictTarget.isEmpty() || !conflictUpdateAssignments.isEmpty() || conflictUpdateWhere != null) {
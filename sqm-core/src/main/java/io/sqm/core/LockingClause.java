@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
 import java.util.List;
@@ -123,7 +124,7 @@ public non-sealed interface LockingClause extends Node {
                     "NOWAIT and SKIP LOCKED are mutually exclusive"
                 );
             }
-            ofTables = ofTables == null ? List.of() : List.copyOf(ofTables);
+            ofTables = ofTables == null ? List.of() : ChildList.copyOf(ofTables);
         }
     }
 }
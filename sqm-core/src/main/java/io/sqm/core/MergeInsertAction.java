@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
 import java.util.List;
@@ -58,7 +59,7 @@ public non-sealed interface MergeInsertAction extends MergeAction {
          * Creates an immutable merge-insert action implementation.
          */
         public Impl {
-            columns = columns == null ? List.of() : List.copyOf(columns);
+            columns = columns == null ? List.of() : ChildList.copyOf(columns);
             Objects.requireNonNull(values, "values");
         }
     }
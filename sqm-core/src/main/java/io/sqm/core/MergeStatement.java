@@ -1,8 +1,8 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -105,13 +105,13 @@ public non-sealed interface MergeStatement extends Statement {
      * Mutable builder for constructing immutable {@link MergeStatement} instances.
      */
     final class Builder {
-        private final List<MergeClause> clauses = new ArrayList<>();
+        private List<MergeClause> clauses = List.of();
         private Table target;
         private TableRef source;
         private Predicate on;
         private TopSpec topSpec;
         private ResultClause result;
-        private final List<StatementHint> hints = new ArrayList<>();
+        private List<StatementHint> hints = List.of();
 
         /**
          * Creates a builder initialized with a target table.
@@ -133,9 +133,9 @@ public non-sealed interface MergeStatement extends Statement {
             this.source = statement.source();
             this.on = statement.on();
             this.topSpec = statement.topSpec();
-            this.clauses.addAll(statement.clauses());
+            this.clauses = statement.clauses();
             this.result = statement.result();
-            this.hints.addAll(statement.hints());
+            this.hints = statement.hints();
         }
 
         /**
@@ -222,8 +222,7 @@ public non-sealed interface MergeStatement extends Statement {
          */
         public Builder hints(List<StatementHint> hints) {
             Objects.requireNonNull(hints, "hints");
-            this.hints.clear();
-            this.hints.addAll(hints);
+            this.hints = ChildList.copyOf(hints);
             return this;
         }
 
@@ -234,7 +233,7 @@ public non-sealed interface MergeStatement extends Statement {
          * @return this builder
          */
         public Builder hint(StatementHint hint) {
-            this.hints.add(Objects.requireNonNull(hint, "hint"));
+            this.hints = ChildList.append(this.hints, Objects.requireNonNull(hint, "hint"));
             return this;
         }
 
@@ -255,7 +254,7 @@ public non-sealed interface MergeStatement extends Statement {
          * @return this builder
          */
         public Builder clearHints() {
-            this.hints.clear();
+            this.hints = List.of();
             return this;
         }
 
@@ -266,7 +265,7 @@ public non-sealed interface MergeStatement extends Statement {
          * @return this builder
          */
         public Builder clause(MergeClause clause) {
-            this.clauses.add(Objects.requireNonNull(clause, "clause"));
+            this.clauses = ChildList.append(this.clauses, Objects.requireNonNull(clause, "clause"));
             return this;
         }
 
@@ -614,8 +613,8 @@ public non-sealed interface MergeStatement extends Statement {
             Objects.requireNonNull(target, "target");
             Objects.requireNonNull(source, "source");
             Objects.requireNonNull(on, "on");
-            clauses = List.copyOf(Objects.requireNonNull(clauses, "clauses"));
-            hints = hints == null ? List.of() : List.copyOf(hints);
+            clauses = ChildList.copyOf(Objects.requireNonNull(clauses, "clauses"));
+            hints = hints == null ? List.of() : ChildList.copyOf(hints);
             if (clauses.isEmpty()) {
                 throw new IllegalArgumentException("clauses must not be empty");
             }
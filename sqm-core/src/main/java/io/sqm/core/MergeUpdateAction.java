@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
 import java.util.List;
@@ -49,7 +50,7 @@ public non-sealed interface MergeUpdateAction extends MergeAction {
          * Creates an immutable merge-update action implementation.
          */
         public Impl {
-            assignments = List.copyOf(Objects.requireNonNull(assignments, "assignments"));
+            assignments = ChildList.copyOf(Objects.requireNonNull(assignments, "assignments"));
             if (assignments.isEmpty()) {
                 throw new IllegalArgumentException("assignments must not be empty");
             }
@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.OperatorChains;
 import io.sqm.core.walk.NodeVisitor;
 
 /**
@@ -44,5 +45,15 @@ public non-sealed interface ModArithmeticExpr extends MultiplicativeArithmeticEx
      * @param rhs the right operand, must not be {@code null}
      */
     record Impl(Expression lhs, Expression rhs) implements ModArithmeticExpr {
+
+        @Override
+        public int hashCode() {
+            return OperatorChains.hashCode(this);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return OperatorChains.equals(this, o);
+        }
     }
 }
\ No newline at end of file
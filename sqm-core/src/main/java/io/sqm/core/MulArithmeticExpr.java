@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.OperatorChains;
 import io.sqm.core.walk.NodeVisitor;
 
 /**
@@ -38,6 +39,16 @@ public non-sealed interface MulArithmeticExpr extends MultiplicativeArithmeticEx
      * @param rhs the right operand, must not be {@code null}
      */
     record Impl(Expression lhs, Expression rhs) implements MulArithmeticExpr {
+
+        @Override
+        public int hashCode() {
+            return OperatorChains.hashCode(this);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return OperatorChains.equals(this, o);
+        }
     }
 }
 
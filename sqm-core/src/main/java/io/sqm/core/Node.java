@@ -3,7 +3,6 @@ package io.sqm.core;
 import io.sqm.core.walk.NodeVisitor;
 
 import java.io.Serializable;
-import java.util.Arrays;
 
 /**
  * Represents a generic element of the SQM (Structured Query Model) tree.
@@ -39,19 +38,13 @@ public sealed interface Node extends Serializable permits Assignment, BoundSpec,
 
     /**
      * Gets the first interface of the implementation class derived from the {@link Node}.
+     * The result is computed once per implementation class and cached.
      *
      * @param <T>  the actual type derived from the {@link Node}.
      * @return an interface if found or self otherwise.
      */
     @SuppressWarnings("unchecked")
     default <T extends Node> Class<T> getTopLevelInterface() {
-        Class<? extends T> impl = (Class<? extends T>) this.getClass();
-
-        var opt = Arrays.stream(impl.getInterfaces())
-            .filter(Node.class::isAssignableFrom)
-            .findFirst();
-
-        var key = (Class<? extends Node>) opt.orElse(impl.asSubclass(Node.class));
-        return (Class<T>) key;
+        return (Class<T>) NodeTypes.topLevelInterface(getClass());
     }
 }
@@ -0,0 +1,28 @@
+package io.sqm.core;
+
+import java.util.Arrays;
+
+/**
+ * Per-class cache of the model interface implemented by a node class.
+ * <p>
+ * The lookup is resolved once per class through a {@link ClassValue}, so hot paths such as
+ * renderer and parser dispatch do not scan interfaces reflectively for every node.
+ */
+final class NodeTypes {
+    private static final ClassValue<Class<?>> TOP_LEVEL_INTERFACES = new ClassValue<>() {
+        @Override
+        protected Class<?> computeValue(Class<?> type) {
+            return Arrays.stream(type.getInterfaces())
+                .filter(Node.class::isAssignableFrom)
+                .findFirst()
+                .orElse(type.asSubclass(Node.class));
+        }
+    };
+
+    private NodeTypes() {
+    }
+
+    static Class<?> topLevelInterface(Class<?> type) {
+        return TOP_LEVEL_INTERFACES.get(type);
+    }
+}
@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.OperatorChains;
 import io.sqm.core.walk.NodeVisitor;
 
 /**
@@ -64,5 +65,15 @@ public non-sealed interface OrPredicate extends CompositePredicate {
      * @param rhs a right-hand-sided predicate.
      */
     record Impl(Predicate lhs, Predicate rhs) implements OrPredicate {
+
+        @Override
+        public int hashCode() {
+            return OperatorChains.hashCode(this);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return OperatorChains.equals(this, o);
+        }
     }
 }
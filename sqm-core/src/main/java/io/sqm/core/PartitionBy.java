@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
 import java.util.List;
@@ -81,7 +82,7 @@ public non-sealed interface PartitionBy extends Node {
          * @param items partition expressions
          */
         public Impl {
-            items = List.copyOf(items);
+            items = ChildList.copyOf(items);
         }
     }
 }
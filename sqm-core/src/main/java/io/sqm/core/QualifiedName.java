@@ -1,5 +1,7 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
+
 import java.io.Serializable;
 import java.util.List;
 import java.util.Objects;
@@ -19,7 +21,7 @@ public record QualifiedName(List<Identifier> parts) implements Serializable {
      */
     public QualifiedName {
         Objects.requireNonNull(parts, "parts");
-        parts = List.copyOf(parts);
+        parts = ChildList.copyOf(parts);
         if (parts.isEmpty()) {
             throw new IllegalArgumentException("parts must not be empty");
         }
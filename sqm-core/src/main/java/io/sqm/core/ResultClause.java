@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
 import java.util.List;
@@ -104,7 +105,7 @@ public non-sealed interface ResultClause extends Node {
          * @param into optional result-into target
          */
         public Impl {
-            items = List.copyOf(Objects.requireNonNull(items, "items"));
+            items = ChildList.copyOf(Objects.requireNonNull(items, "items"));
             if (items.isEmpty()) {
                 throw new IllegalArgumentException("items must not be empty");
             }
@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
 import java.util.List;
@@ -107,7 +108,7 @@ public non-sealed interface ResultInto extends Node {
          */
         public Impl {
             Objects.requireNonNull(target, "target");
-            columns = columns == null ? List.of() : List.copyOf(columns);
+            columns = columns == null ? List.of() : ChildList.copyOf(columns);
         }
     }
 }
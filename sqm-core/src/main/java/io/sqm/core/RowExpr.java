@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
 import java.util.List;
@@ -63,7 +64,7 @@ public non-sealed interface RowExpr extends RowValues {
          * @param items row values
          */
         public Impl {
-            items = List.copyOf(items);
+            items = ChildList.copyOf(items);
         }
     }
 }
@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
 import java.util.List;
@@ -64,7 +65,7 @@ public non-sealed interface RowListExpr extends RowValues {
          * @param rows row list
          */
         public Impl {
-            rows = List.copyOf(rows);
+            rows = ChildList.copyOf(rows);
         }
     }
 }
@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
 import java.util.List;
@@ -212,11 +213,11 @@ public non-sealed interface SelectQuery extends Query {
          * Creates an immutable {@link SelectQuery} implementation and defensively copies list inputs.
          */
         public Impl {
-            items = List.copyOf(items);
-            joins = List.copyOf(joins);
-            windows = List.copyOf(windows);
-            modifiers = modifiers == null ? List.of() : List.copyOf(modifiers);
-            hints = hints == null ? List.of() : List.copyOf(hints);
+            items = ChildList.copyOf(items);
+            joins = ChildList.copyOf(joins);
+            windows = ChildList.copyOf(windows);
+            modifiers = modifiers == null ? List.of() : ChildList.copyOf(modifiers);
+            hints = hints == null ? List.of() : ChildList.copyOf(hints);
         }
 
         /**
@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
 import java.util.List;
@@ -88,7 +89,7 @@ public non-sealed interface StatementHint extends Hint {
          */
         public Impl {
             Objects.requireNonNull(name, "name");
-            args = args == null ? List.of() : List.copyOf(args);
+            args = args == null ? List.of() : ChildList.copyOf(args);
         }
     }
 }
\ No newline at end of file
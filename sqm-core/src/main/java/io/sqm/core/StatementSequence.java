@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
 import java.util.List;
@@ -22,7 +23,7 @@ public non-sealed interface StatementSequence extends Node {
      * @return immutable statement sequence
      */
     static StatementSequence of(List<? extends Statement> statements) {
-        return new Impl(List.copyOf(statements));
+        return new Impl(ChildList.copyOf(statements));
     }
 
     /**
@@ -61,7 +62,7 @@ public non-sealed interface StatementSequence extends Node {
          */
         public Impl {
             Objects.requireNonNull(statements, "statements");
-            statements = List.copyOf(statements);
+            statements = ChildList.copyOf(statements);
         }
     }
 }
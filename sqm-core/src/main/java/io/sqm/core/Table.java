@@ -1,8 +1,8 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -73,7 +73,7 @@ public non-sealed interface Table extends TableRef {
         if (hints == null || hints.isEmpty()) {
             return List.of();
         }
-        return List.copyOf(hints);
+        return ChildList.copyOf(hints);
     }
 
     /**
@@ -131,9 +131,7 @@ public non-sealed interface Table extends TableRef {
      */
     default Table hint(TableHint hint) {
         Objects.requireNonNull(hint, "hint");
-        var updated = new ArrayList<>(hints());
-        updated.add(hint);
-        return withHints(updated);
+        return withHints(ChildList.append(hints(), hint));
     }
 
     /**
@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
 import java.util.List;
@@ -203,7 +204,7 @@ public non-sealed interface TypeName extends Node {
          * @throws IllegalArgumentException if invariants are violated
          */
         public Impl {
-            modifiers = modifiers == null ? List.of() : List.copyOf(modifiers);
+            modifiers = modifiers == null ? List.of() : ChildList.copyOf(modifiers);
 
             if (keyword.isPresent() && qualifiedName != null) {
                 throw new IllegalArgumentException("TypeName cannot have both keyword and qualifiedName");
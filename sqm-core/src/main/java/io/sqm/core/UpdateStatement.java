@@ -1,8 +1,8 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -111,10 +111,10 @@ public non-sealed interface UpdateStatement extends Statement {
      * Mutable builder for constructing immutable {@link UpdateStatement} instances.
      */
     final class Builder {
-        private final List<Assignment> assignments = new ArrayList<>();
-        private final List<Join> joins = new ArrayList<>();
-        private final List<TableRef> from = new ArrayList<>();
-        private final List<StatementHint> hints = new ArrayList<>();
+        private List<Assignment> assignments = List.of();
+        private List<Join> joins = List.of();
+        private List<TableRef> from = List.of();
+        private List<StatementHint> hints = List.of();
         private Table table;
         private Predicate where;
         private ResultClause result;
@@ -135,12 +135,12 @@ public non-sealed interface UpdateStatement extends Statement {
          */
         private Builder(UpdateStatement statement) {
             this(Objects.requireNonNull(statement, "statement").table());
-            this.assignments.addAll(statement.assignments());
-            this.joins.addAll(statement.joins());
-            this.from.addAll(statement.from());
+            this.assignments = statement.assignments();
+            this.joins = statement.joins();
+            this.from = statement.from();
             this.where = statement.where();
             this.result = statement.result();
-            this.hints.addAll(statement.hints());
+            this.hints = statement.hints();
         }
 
         /**
@@ -162,8 +162,7 @@ public non-sealed interface UpdateStatement extends Statement {
          */
         public Builder assignments(List<Assignment> assignments) {
             Objects.requireNonNull(assignments, "assignments");
-            this.assignments.clear();
-            this.assignments.addAll(assignments);
+            this.assignments = ChildList.copyOf(assignments);
             return this;
         }
 
@@ -175,8 +174,7 @@ public non-sealed interface UpdateStatement extends Statement {
          */
         public Builder joins(List<Join> joins) {
             Objects.requireNonNull(joins, "joins");
-            this.joins.clear();
-            this.joins.addAll(joins);
+            this.joins = ChildList.copyOf(joins);
             return this;
         }
 
@@ -198,7 +196,7 @@ public non-sealed interface UpdateStatement extends Statement {
          * @return this builder
          */
         public Builder join(Join join) {
-            this.joins.add(Objects.requireNonNull(join, "join"));
+            this.joins = ChildList.append(this.joins, Objects.requireNonNull(join, "join"));
             return this;
         }
 
@@ -210,8 +208,7 @@ public non-sealed interface UpdateStatement extends Statement {
          */
         public Builder from(List<TableRef> from) {
             Objects.requireNonNull(from, "from");
-            this.from.clear();
-            this.from.addAll(from);
+            this.from = ChildList.copyOf(from);
             return this;
         }
 
@@ -233,7 +230,7 @@ public non-sealed interface UpdateStatement extends Statement {
          * @return this builder
          */
         public Builder set(Assignment assignment) {
-            this.assignments.add(Objects.requireNonNull(assignment, "assignment"));
+            this.assignments = ChildList.append(this.assignments, Objects.requireNonNull(assignment, "assignment"));
             return this;
         }
 
@@ -358,8 +355,7 @@ public non-sealed interface UpdateStatement extends Statement {
          */
         public Builder hints(List<StatementHint> hints) {
             Objects.requireNonNull(hints, "hints");
-            this.hints.clear();
-            this.hints.addAll(hints);
+            this.hints = ChildList.copyOf(hints);
             return this;
         }
 
@@ -370,7 +366,7 @@ public non-sealed interface UpdateStatement extends Statement {
          * @return this builder
          */
         public Builder hint(StatementHint hint) {
-            this.hints.add(Objects.requireNonNull(hint, "hint"));
+            this.hints = ChildList.append(this.hints, Objects.requireNonNull(hint, "hint"));
             return this;
         }
 
@@ -391,7 +387,7 @@ public non-sealed interface UpdateStatement extends Statement {
          * @return this builder
          */
         public Builder clearHints() {
-            this.hints.clear();
+            this.hints = List.of();
             return this;
         }
 
@@ -434,10 +430,10 @@ public non-sealed interface UpdateStatement extends Statement {
          */
         public Impl {
             Objects.requireNonNull(table, "table");
-            assignments = List.copyOf(Objects.requireNonNull(assignments, "assignments"));
-            joins = joins == null ? List.of() : List.copyOf(joins);
-            from = from == null ? List.of() : List.copyOf(from);
-            hints = hints == null ? List.of() : List.copyOf(hints);
+            assignments = ChildList.copyOf(Objects.requireNonNull(assignments, "assignments"));
+            joins = joins == null ? List.of() : ChildList.copyOf(joins);
+            from = from == null ? List.of() : ChildList.copyOf(from);
+            hints = hints == null ? List.of() : ChildList.copyOf(hints);
             if (assignments.isEmpty()) {
                 throw new IllegalArgumentException("assignments must not be empty");
             }
@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
 import java.util.List;
@@ -103,7 +104,7 @@ public non-sealed interface UsingJoin extends Join {
             Objects.requireNonNull(right, "right");
             Objects.requireNonNull(kind, "kind");
             Objects.requireNonNull(usingColumns, "usingColumns");
-            usingColumns = List.copyOf(usingColumns);
+            usingColumns = ChildList.copyOf(usingColumns);
         }
     }
 }
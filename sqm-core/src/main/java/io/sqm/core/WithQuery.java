@@ -1,5 +1,6 @@
 package io.sqm.core;
 
+import io.sqm.core.internal.ChildList;
 import io.sqm.core.walk.NodeVisitor;
 
 import java.util.List;
@@ -143,7 +144,7 @@ public non-sealed interface WithQuery extends Query {
          * @param recursive recursive flag
          */
         public Impl {
-            ctes = List.copyOf(ctes);
+            ctes = ChildList.copyOf(ctes);
         }
     }
 }
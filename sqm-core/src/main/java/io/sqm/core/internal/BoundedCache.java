@@ -0,0 +1,167 @@
+package io.sqm.core.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Thread-safe cache bounded by an entry limit and a weight limit, evicting approximately least recently used
+ * entries.
+ * <p>
+ * Entries live in a {@link ConcurrentHashMap}, so lookups take no locks and do not contend with each other:
+ * a hit only stamps its entry with {@link System#nanoTime()}. Once an insertion exceeds either limit, the
+ * inserting thread sorts the entries by their stamps and removes the oldest until the cache is back below a
+ * low-water mark a sixteenth under each limit, so the cost of a sort is shared by the insertions that refill
+ * the gap. Evictions are serialized among inserting threads; lookups never wait for them. Limits below
+ * sixteen are enforced exactly.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public final class BoundedCache<K, V> {
+
+    private final long maximumSize;
+    private final long maximumWeight;
+    private final ToLongFunction<? super V> weigher;
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong weight = new AtomicLong();
+    private final LongAdder evictions = new LongAdder();
+    private final Object evictionLock = new Object();
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maximumSize   maximum number of entries, positive
+     * @param maximumWeight maximum total weight of entries, positive
+     * @param weigher       computes the weight of a value, must not be negative
+     */
+    public BoundedCache(long maximumSize, long maximumWeight, ToLongFunction<? super V> weigher) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        if (maximumWeight < 1) {
+            throw new IllegalArgumentException("maximumWeight must be positive");
+        }
+        this.maximumSize = maximumSize;
+        this.maximumWeight = maximumWeight;
+        this.weigher = Objects.requireNonNull(weigher, "weigher");
+    }
+
+    /**
+     * Gets the value cached for the key and marks it as recently used.
+     *
+     * @param key key
+     * @return cached value, or {@code null} if there is none
+     */
+    public V get(K key) {
+        var entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        entry.stamp = System.nanoTime();
+        return entry.value;
+    }
+
+    /**
+     * Caches the value for the key, replacing any previous value, and evicts entries if a limit is exceeded.
+     *
+     * @param key   key
+     * @param value value
+     */
+    public void put(K key, V value) {
+        var entry = new Entry<>(Objects.requireNonNull(value, "value"), weigher.applyAsLong(value));
+        var previous = entries.put(key, entry);
+        weight.addAndGet(entry.weight - (previous == null ? 0 : previous.weight));
+        if (overLimit(maximumSize, maximumWeight)) {
+            evict();
+        }
+    }
+
+    /**
+     * Removes all entries. The eviction counter is kept.
+     */
+    public void clear() {
+        synchronized (evictionLock) {
+            for (var e : entries.entrySet()) {
+                remove(e.getKey(), e.getValue());
+            }
+        }
+    }
+
+    /**
+     * Gets the number of entries.
+     *
+     * @return number of entries
+     */
+    public long size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets the total weight of the entries.
+     *
+     * @return total weight
+     */
+    public long weight() {
+        return weight.get();
+    }
+
+    /**
+     * Gets the number of entries evicted by the limits.
+     *
+     * @return number of evictions
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    private boolean overLimit(long size, long weight) {
+        return entries.size() > size || this.weight.get() > weight;
+    }
+
+    private void evict() {
+        synchronized (evictionLock) {
+            if (!overLimit(maximumSize, maximumWeight)) {
+                return;
+            }
+            var lowSize = maximumSize - maximumSize / 16;
+            var lowWeight = maximumWeight - maximumWeight / 16;
+            // stamps change under concurrent hits, so sort a snapshot of them
+            var oldest = new ArrayList<Candidate<K, V>>(entries.size());
+            entries.forEach((key, entry) -> oldest.add(new Candidate<>(key, entry, entry.stamp)));
+            oldest.sort(Comparator.comparingLong(Candidate::stamp));
+            for (var it = oldest.iterator(); it.hasNext() && overLimit(lowSize, lowWeight); ) {
+                var candidate = it.next();
+                if (remove(candidate.key(), candidate.entry())) {
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    private boolean remove(K key, Entry<V> entry) {
+        if (entries.remove(key, entry)) {
+            weight.addAndGet(-entry.weight);
+            return true;
+        }
+        return false;
+    }
+
+    private record Candidate<K, V>(K key, Entry<V> entry, long stamp) {
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long weight;
+        private volatile long stamp = System.nanoTime();
+
+        private Entry(V value, long weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
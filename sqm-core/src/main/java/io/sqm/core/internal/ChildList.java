@@ -0,0 +1,147 @@
+package io.sqm.core.internal;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * Internal immutable list used for child lists of model nodes.
+ * <p>
+ * Model constructors copy their list components with {@link #copyOf(Collection)}, which trusts lists that are
+ * already immutable and copies anything else. Builders extend child lists with {@link #append(List, Object)}
+ * and {@link #appendAll(List, Collection)}: the result shares its backing array with the source list and writes
+ * the new elements into spare capacity when no other list has claimed it yet, so appending one element at a
+ * time is amortized constant cost instead of a full copy per step. The source list never observes the appended
+ * elements because its size is fixed.
+ * <p>
+ * Instances are immutable and safe to share between threads. Like {@link List#copyOf(Collection)}, null
+ * elements are rejected.
+ *
+ * @param <E> element type
+ */
+public final class ChildList<E> extends AbstractList<E> implements RandomAccess, Serializable {
+    private static final int MIN_CAPACITY = 8;
+
+    private final transient Buffer buffer;
+    private final int size;
+
+    private ChildList(Buffer buffer, int size) {
+        this.buffer = buffer;
+        this.size = size;
+    }
+
+    /**
+     * Returns an immutable copy of the given collection.
+     * <p>
+     * Child lists and lists created by {@link List#of()} or {@link List#copyOf(Collection)} are returned as-is.
+     *
+     * @param source source collection
+     * @param <E>    element type
+     * @return immutable list with the same elements
+     * @throws NullPointerException if the collection or any of its elements is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> List<E> copyOf(Collection<? extends E> source) {
+        if (source instanceof ChildList<?> list) {
+            return (List<E>) list;
+        }
+        return List.copyOf(source);
+    }
+
+    /**
+     * Returns an immutable list containing the elements of {@code list} followed by {@code element}.
+     *
+     * @param list    source list, left unchanged
+     * @param element element to append
+     * @param <E>     element type
+     * @return extended list
+     * @throws NullPointerException if the element is {@code null}
+     */
+    public static <E> List<E> append(List<? extends E> list, E element) {
+        Objects.requireNonNull(element);
+        return appendArray(list, new Object[]{element});
+    }
+
+    /**
+     * Returns an immutable list containing the elements of {@code list} followed by the given elements.
+     *
+     * @param list     source list, left unchanged
+     * @param elements elements to append
+     * @param <E>      element type
+     * @return extended list, or an immutable copy of {@code list} when there is nothing to append
+     * @throws NullPointerException if any of the elements is {@code null}
+     */
+    public static <E> List<E> appendAll(List<? extends E> list, Collection<? extends E> elements) {
+        var added = elements.toArray();
+        for (var element : added) {
+            Objects.requireNonNull(element);
+        }
+        if (added.length == 0) {
+            return copyOf(list);
+        }
+        return appendArray(list, added);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> List<E> appendArray(List<? extends E> list, Object[] added) {
+        if (list instanceof ChildList<?> child) {
+            if (child.buffer.tryAppend(child.size, added)) {
+                return new ChildList<>(child.buffer, child.size + added.length);
+            }
+            return new ChildList<>(Buffer.of(child.buffer.elements, child.size, added), child.size + added.length);
+        }
+        var existing = list.toArray();
+        for (var element : existing) {
+            Objects.requireNonNull(element);
+        }
+        return new ChildList<>(Buffer.of(existing, existing.length, added), existing.length + added.length);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) buffer.elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(buffer.elements, size);
+    }
+
+    @Serial
+    private Object writeReplace() {
+        return List.copyOf(this);
+    }
+
+    private static final class Buffer {
+        private final Object[] elements;
+        private int used;
+
+        private Buffer(Object[] elements, int used) {
+            this.elements = elements;
+            this.used = used;
+        }
+
+        private static Buffer of(Object[] prefix, int prefixLength, Object[] added) {
+            int length = prefixLength + added.length;
+            var elements = Arrays.copyOf(prefix, Math.max(MIN_CAPACITY, Math.max(length, prefixLength << 1)));
+            System.arraycopy(added, 0, elements, prefixLength, added.length);
+            return new Buffer(elements, length);
+        }
+
+        private synchronized boolean tryAppend(int size, Object[] added) {
+            if (used != size || elements.length - size < added.length) {
+                return false;
+            }
+            System.arraycopy(added, 0, elements, size, added.length);
+            used = size + added.length;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package io.sqm.core.internal;
+
+import io.sqm.core.*;
+
+import java.util.ArrayList;
+import java.util.Objects;
+
+/**
+ * Internal helpers for left-deep chains of binary operator nodes.
+ * <p>
+ * Parsers and builders produce expressions such as {@code a OR b OR c} and {@code a + b - c} as left-nested
+ * binary nodes, so a long chain is as deep as it is long. Walkers, renderers and the chain nodes' own
+ * {@code hashCode()} and {@code equals(Object)} use these helpers to process the left spine of such a chain in
+ * a loop instead of recursing once per operator. The chain kinds are {@link AndPredicate}, {@link OrPredicate}
+ * and the {@link BinaryArithmeticExpr} operators.
+ */
+public final class OperatorChains {
+
+    private OperatorChains() {
+    }
+
+    /**
+     * Indicates whether a node is a chain operator.
+     *
+     * @param n node, may be {@code null}
+     * @return {@code true} for {@code AND}, {@code OR} and binary arithmetic nodes
+     */
+    public static boolean isChain(Node n) {
+        return kind(n) != 0;
+    }
+
+    /**
+     * Returns the left operand of a chain operator.
+     *
+     * @param n chain operator node
+     * @return left operand
+     * @throws IllegalArgumentException if the node is not a chain operator
+     */
+    public static Node lhs(Node n) {
+        return switch (n) {
+            case AndPredicate p -> p.lhs();
+            case OrPredicate p -> p.lhs();
+            case BinaryArithmeticExpr e -> e.lhs();
+            default -> throw new IllegalArgumentException("Not a chain operator: " + n);
+        };
+    }
+
+    /**
+     * Returns the right operand of a chain operator.
+     *
+     * @param n chain operator node
+     * @return right operand
+     * @throws IllegalArgumentException if the node is not a chain operator
+     */
+    public static Node rhs(Node n) {
+        return switch (n) {
+            case AndPredicate p -> p.rhs();
+            case OrPredicate p -> p.rhs();
+            case BinaryArithmeticExpr e -> e.rhs();
+            default -> throw new IllegalArgumentException("Not a chain operator: " + n);
+        };
+    }
+
+    /**
+     * Computes the structural hash code of a chain operator, walking its left spine in a loop.
+     * <p>
+     * The hash of a chain node combines its operator kind with the hashes of its operands; the hash of any
+     * other operand is its own {@code hashCode()}.
+     *
+     * @param n chain operator node
+     * @return hash code
+     */
+    public static int hashCode(Node n) {
+        var spine = new ArrayList<Node>();
+        Node left = n;
+        while (isChain(left)) {
+            spine.add(left);
+            left = lhs(left);
+        }
+        var hash = Objects.hashCode(left);
+        for (int i = spine.size() - 1; i >= 0; i--) {
+            var inner = spine.get(i);
+            hash = 31 * (31 * kind(inner) + hash) + Objects.hashCode(rhs(inner));
+        }
+        return hash;
+    }
+
+    /**
+     * Compares a chain operator with another object structurally, walking both left spines in a loop.
+     * <p>
+     * Chain nodes are equal when they are of the same class and their operands are equal.
+     *
+     * @param n chain operator node
+     * @param o object to compare with, may be {@code null}
+     * @return {@code true} if the object is an equal chain
+     */
+    public static boolean equals(Node n, Object o) {
+        Object a = n;
+        Object b = o;
+        while (a != b) {
+            if (!(a instanceof Node x) || !isChain(x)) {
+                return a != null && a.equals(b);
+            }
+            if (b == null || b.getClass() != a.getClass()) {
+                return false;
+            }
+            var y = (Node) b;
+            if (!Objects.equals(rhs(x), rhs(y))) {
+                return false;
+            }
+            a = lhs(x);
+            b = lhs(y);
+        }
+        return true;
+    }
+
+    private static int kind(Node n) {
+        return switch (n) {
+            case AndPredicate ignored -> 1;
+            case OrPredicate ignored -> 2;
+            case AddArithmeticExpr ignored -> 3;
+            case SubArithmeticExpr ignored -> 4;
+            case MulArithmeticExpr ignored -> 5;
+            case DivArithmeticExpr ignored -> 6;
+            case ModArithmeticExpr ignored -> 7;
+            case null, default -> 0;
+        };
+    }
+}
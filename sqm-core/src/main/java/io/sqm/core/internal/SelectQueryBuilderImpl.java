@@ -2,7 +2,6 @@ package io.sqm.core.internal;
 
 import io.sqm.core.*;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -10,11 +9,11 @@ import java.util.Objects;
  * Internal mutable builder implementation for {@link SelectQuery}.
  */
 public final class SelectQueryBuilderImpl implements SelectQueryBuilder {
-    private final List<SelectItem> items = new ArrayList<>();
-    private final List<Join> joins = new ArrayList<>();
-    private final List<WindowDef> windows = new ArrayList<>();
-    private final List<SelectModifier> modifiers = new ArrayList<>();
-    private final List<StatementHint> statementHints = new ArrayList<>();
+    private List<SelectItem> items = List.of();
+    private List<Join> joins = List.of();
+    private List<WindowDef> windows = List.of();
+    private List<SelectModifier> modifiers = List.of();
+    private List<StatementHint> statementHints = List.of();
     private GroupBy groupBy;
     private OrderBy orderBy;
     private TableRef tableRef;
@@ -38,9 +37,9 @@ public final class SelectQueryBuilderImpl implements SelectQueryBuilder {
      */
     public SelectQueryBuilderImpl(SelectQuery query) {
         Objects.requireNonNull(query, "query must not be null");
-        this.items.addAll(query.items());
+        this.items = query.items();
         this.tableRef = query.from();
-        this.joins.addAll(query.joins());
+        this.joins = query.joins();
         this.where = query.where();
         this.groupBy = query.groupBy();
         this.having = query.having();
@@ -49,15 +48,15 @@ public final class SelectQueryBuilderImpl implements SelectQueryBuilder {
         this.topSpec = query.topSpec();
         this.limitOffset = query.limitOffset();
         this.lockingClause = query.lockFor();
-        this.windows.addAll(query.windows());
-        this.modifiers.addAll(query.modifiers());
-        this.statementHints.addAll(query.hints());
+        this.windows = query.windows();
+        this.modifiers = query.modifiers();
+        this.statementHints = query.hints();
     }
 
     @Override
     public SelectQueryBuilder select(List<SelectItem> items) {
         Objects.requireNonNull(items, "items must not be null");
-        this.items.addAll(items);
+        this.items = ChildList.appendAll(this.items, items);
         return this;
     }
 
@@ -70,14 +69,14 @@ public final class SelectQueryBuilderImpl implements SelectQueryBuilder {
     @Override
     public SelectQueryBuilder join(List<Join> joins) {
         Objects.requireNonNull(joins, "joins must not be null");
-        this.joins.addAll(joins);
+        this.joins = ChildList.appendAll(this.joins, joins);
         return this;
     }
 
     @Override
     public SelectQueryBuilder join(Join join) {
         Objects.requireNonNull(join, "join must not be null");
-        this.joins.add(join);
+        this.joins = ChildList.append(this.joins, join);
         return this;
     }
 
@@ -103,14 +102,14 @@ public final class SelectQueryBuilderImpl implements SelectQueryBuilder {
     @Override
     public SelectQueryBuilder window(List<WindowDef> windows) {
         Objects.requireNonNull(windows, "windows must not be null");
-        this.windows.addAll(windows);
+        this.windows = ChildList.appendAll(this.windows, windows);
         return this;
     }
 
     @Override
     public SelectQueryBuilder window(WindowDef window) {
         Objects.requireNonNull(window, "window must not be null");
-        this.windows.add(window);
+        this.windows = ChildList.append(this.windows, window);
         return this;
     }
 
@@ -136,20 +135,20 @@ public final class SelectQueryBuilderImpl implements SelectQueryBuilder {
     @Override
     public SelectQueryBuilder selectModifiers(List<SelectModifier> modifiers) {
         Objects.requireNonNull(modifiers, "modifiers must not be null");
-        this.modifiers.addAll(modifiers);
+        this.modifiers = ChildList.appendAll(this.modifiers, modifiers);
         return this;
     }
 
     @Override
     public SelectQueryBuilder hints(List<StatementHint> hints) {
         Objects.requireNonNull(hints, "hints must not be null");
-        this.statementHints.addAll(hints);
+        this.statementHints = ChildList.appendAll(this.statementHints, hints);
         return this;
     }
 
     @Override
     public SelectQueryBuilder clearHints() {
-        this.statementHints.clear();
+        this.statementHints = List.of();
         return this;
     }
 
@@ -0,0 +1,153 @@
+package io.sqm.core.internal;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Thread-safe cache keyed by object identity that holds its keys weakly.
+ * <p>
+ * Lookups use {@link System#identityHashCode(Object)} and {@code ==}, so they never call the key's own
+ * {@code hashCode} or {@code equals} and cost the same for any key. Entries whose keys were collected are
+ * removed when entries are added, a few per added entry, so the number of stale entries stays bounded by the
+ * rate of insertions and no lookup pays for the cleanup; {@link #size} removes all of them. Reading a cached
+ * value takes no locks. Values must not refer to their keys, or the keys are never collected.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public final class WeakIdentityCache<K, V> {
+
+    private static final int EXPUNGE_PER_WRITE = 4;
+
+    private final ConcurrentHashMap<Object, V> entries = new ConcurrentHashMap<>();
+    private final ReferenceQueue<K> queue = new ReferenceQueue<>();
+
+    /**
+     * Creates an empty cache.
+     */
+    public WeakIdentityCache() {
+    }
+
+    /**
+     * Gets the value cached for the key, computing and caching it first if there is none.
+     * <p>
+     * The value is computed outside any lock; when two threads compute a value for the same key at the
+     * same time, both get the value that was cached first.
+     *
+     * @param key     key, compared by identity
+     * @param compute computes the value for the key
+     * @return cached value
+     */
+    public V get(K key, Function<? super K, ? extends V> compute) {
+        var value = peek(key);
+        if (value != null) {
+            return value;
+        }
+        return putIfAbsent(key, compute.apply(key));
+    }
+
+    /**
+     * Caches the value for the key unless a value is already cached for it.
+     * <p>
+     * Unlike {@link #get}, the key is not looked up first, which saves a lookup when the caller already knows
+     * that the key is most likely not cached.
+     *
+     * @param key   key, compared by identity
+     * @param value value to cache
+     * @return the value cached before, or {@code value} if there was none
+     */
+    public V putIfAbsent(K key, V value) {
+        Objects.requireNonNull(key, "key");
+        Objects.requireNonNull(value, "value");
+        expunge(EXPUNGE_PER_WRITE);
+        var previous = entries.putIfAbsent(new Ref<>(key, queue), value);
+        return previous != null ? previous : value;
+    }
+
+    /**
+     * Gets the value cached for the key without computing it.
+     * <p>
+     * The lookup takes no locks and does not remove entries of collected keys.
+     *
+     * @param key key, compared by identity
+     * @return cached value, or {@code null} if there is none
+     */
+    public V peek(K key) {
+        return entries.get(new Probe(Objects.requireNonNull(key, "key")));
+    }
+
+    /**
+     * Gets the number of entries, including entries whose keys were collected but not yet removed.
+     *
+     * @return number of entries
+     */
+    public int size() {
+        expunge(Integer.MAX_VALUE);
+        return entries.size();
+    }
+
+    private void expunge(int limit) {
+        for (int i = 0; i < limit; i++) {
+            var ref = queue.poll();
+            if (ref == null) {
+                return;
+            }
+            entries.remove(ref);
+        }
+    }
+
+    /**
+     * Lookup key matching the entry of the same referent without creating a reference object.
+     */
+    private static final class Probe {
+        private final Object key;
+        private final int hash;
+
+        private Probe(Object key) {
+            this.key = key;
+            this.hash = System.identityHashCode(key);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Ref<?> ref && ref.hash == hash && ref.get() == key;
+        }
+    }
+
+    private static final class Ref<K> extends WeakReference<K> {
+        private final int hash;
+
+        private Ref(K key, ReferenceQueue<K> queue) {
+            super(key, queue);
+            this.hash = System.identityHashCode(key);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+            if (o instanceof Probe probe) {
+                return probe.equals(this);
+            }
+            if (!(o instanceof Ref<?> other) || other.hash != hash) {
+                return false;
+            }
+            var key = get();
+            return key != null && key == other.get();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package io.sqm.core.match;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Reusable, thread-safe matcher compiled once from a list of type cases.
+ * <p>
+ * The fluent matchers such as {@link ExpressionMatch} create a matcher object and its handler lambdas every
+ * time a node is matched. A compiled matcher is built once, typically into a {@code static final} field, and
+ * then applied to any number of nodes. Cases are checked in registration order, exactly like the fluent API:
+ * the first case whose type (and optional guard) matches produces the result, and the fallback handles
+ * everything else, including {@code null}.
+ * <p>
+ * Dispatch is resolved per concrete node class: the first time a class is seen, the matcher computes which
+ * cases can apply to it and caches their positions, so applying the matcher is a lookup plus the handler
+ * call and allocates nothing of its own.
+ *
+ * <pre>{@code
+ * static final CompiledMatch<Expression, String> KIND = Match.<Expression, String>compile(Expression.class)
+ *     .when(ColumnExpr.class, c -> "column " + c.name().value())
+ *     .when(LiteralExpr.class, l -> l.value() == null, l -> "null")
+ *     .when(LiteralExpr.class, l -> "literal")
+ *     .orElse("other");
+ *
+ * String kind = KIND.apply(expr);
+ * }</pre>
+ *
+ * @param <T> subject type
+ * @param <R> result type
+ */
+public final class CompiledMatch<T, R> implements Function<T, R> {
+
+    private static final int[] NO_CASES = new int[0];
+
+    private final Class<T> subjectType;
+    private final Class<?>[] types;
+    private final Predicate<Object>[] guards;
+    private final Function<Object, ? extends R>[] handlers;
+    private final Function<? super T, ? extends R> fallback;
+    private final ClassValue<int[]> dispatch = new ClassValue<>() {
+        @Override
+        protected int[] computeValue(Class<?> type) {
+            return candidates(type);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    private CompiledMatch(Builder<T, R> builder, Function<? super T, ? extends R> fallback) {
+        this.subjectType = builder.subjectType;
+        this.types = builder.types.toArray(Class<?>[]::new);
+        this.guards = builder.guards.toArray(Predicate[]::new);
+        this.handlers = builder.handlers.toArray(Function[]::new);
+        this.fallback = fallback;
+    }
+
+    /**
+     * Starts building a compiled matcher for subjects of the given type.
+     *
+     * @param subjectType type of the values the matcher is applied to.
+     * @param <T>         subject type.
+     * @param <R>         result type.
+     * @return a builder collecting the match cases.
+     */
+    public static <T, R> Builder<T, R> builder(Class<T> subjectType) {
+        return new Builder<>(Objects.requireNonNull(subjectType, "subjectType"));
+    }
+
+    /**
+     * Applies the first matching case to the subject, or the fallback when no case matches.
+     *
+     * @param subject value to match, may be {@code null}.
+     * @return the result of the selected handler.
+     */
+    @Override
+    public R apply(T subject) {
+        if (subject != null) {
+            for (int i : dispatch.get(subject.getClass())) {
+                var guard = guards[i];
+                if (guard == null || guard.test(subject)) {
+                    return handlers[i].apply(subject);
+                }
+            }
+        }
+        return fallback.apply(subject);
+    }
+
+    /**
+     * Indicates whether any case, as opposed to the fallback, matches the subject.
+     *
+     * @param subject value to test, may be {@code null}.
+     * @return {@code true} if a registered case applies.
+     */
+    public boolean matches(T subject) {
+        if (subject != null) {
+            for (int i : dispatch.get(subject.getClass())) {
+                var guard = guards[i];
+                if (guard == null || guard.test(subject)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the subject type this matcher was compiled for.
+     *
+     * @return subject type.
+     */
+    public Class<T> subjectType() {
+        return subjectType;
+    }
+
+    private int[] candidates(Class<?> type) {
+        var matching = new int[types.length];
+        int count = 0;
+        for (int i = 0; i < types.length; i++) {
+            if (types[i].isAssignableFrom(type)) {
+                matching[count++] = i;
+                if (guards[i] == null) {
+                    break;
+                }
+            }
+        }
+        return count == 0 ? NO_CASES : Arrays.copyOf(matching, count);
+    }
+
+    /**
+     * Collects the cases of a {@link CompiledMatch}.
+     * <p>
+     * Builders are not thread-safe; the matchers they produce are.
+     *
+     * @param <T> subject type
+     * @param <R> result type
+     */
+    public static final class Builder<T, R> {
+        private final Class<T> subjectType;
+        private final List<Class<?>> types = new ArrayList<>();
+        private final List<Predicate<Object>> guards = new ArrayList<>();
+        private final List<Function<Object, ? extends R>> handlers = new ArrayList<>();
+
+        private Builder(Class<T> subjectType) {
+            this.subjectType = subjectType;
+        }
+
+        /**
+         * Adds a case applied when the subject is an instance of {@code type}.
+         *
+         * @param type    subtype to match.
+         * @param handler handler producing the result.
+         * @param <S>     matched subtype.
+         * @return this builder.
+         */
+        public <S extends T> Builder<T, R> when(Class<S> type, Function<? super S, ? extends R> handler) {
+            return add(type, null, handler);
+        }
+
+        /**
+         * Adds a case applied when the subject is an instance of {@code type} and satisfies {@code guard}.
+         *
+         * @param type    subtype to match.
+         * @param guard   additional condition on the matched subject.
+         * @param handler handler producing the result.
+         * @param <S>     matched subtype.
+         * @return this builder.
+         */
+        public <S extends T> Builder<T, R> when(
+            Class<S> type,
+            Predicate<? super S> guard,
+            Function<? super S, ? extends R> handler
+        ) {
+            return add(type, Objects.requireNonNull(guard, "guard"), handler);
+        }
+
+        /**
+         * Compiles the matcher with a fallback handler for subjects no case matches.
+         *
+         * @param fallback fallback handler; receives {@code null} subjects as well.
+         * @return compiled matcher.
+         */
+        public CompiledMatch<T, R> otherwise(Function<? super T, ? extends R> fallback) {
+            return new CompiledMatch<>(this, Objects.requireNonNull(fallback, "fallback"));
+        }
+
+        /**
+         * Compiles the matcher with a constant result for subjects no case matches.
+         *
+         * @param defaultValue fallback result, may be {@code null}.
+         * @return compiled matcher.
+         */
+        public CompiledMatch<T, R> orElse(R defaultValue) {
+            return otherwise(subject -> defaultValue);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <S extends T> Builder<T, R> add(
+            Class<S> type,
+            Predicate<? super S> guard,
+            Function<? super S, ? extends R> handler
+        ) {
+            types.add(Objects.requireNonNull(type, "type"));
+            guards.add((Predicate<Object>) guard);
+            handlers.add((Function<Object, ? extends R>) Objects.requireNonNull(handler, "handler"));
+            return this;
+        }
+    }
+}
@@ -227,6 +227,21 @@ public interface Match<T, R> {
         return GroupItemMatch.match(gi);
     }
 
+    /**
+     * Starts building a reusable {@link CompiledMatch} for subjects of the given type.
+     * <p>
+     * Unlike the fluent matchers, which are created per subject, a compiled matcher is built once and can be
+     * applied to any number of subjects from any thread.
+     *
+     * @param subjectType type of the values the matcher is applied to
+     * @param <T>         the subject type
+     * @param <R>         the result type
+     * @return a builder collecting the match cases
+     */
+    static <T, R> CompiledMatch.Builder<T, R> compile(Class<T> subjectType) {
+        return CompiledMatch.builder(subjectType);
+    }
+
     @SuppressWarnings("unchecked")
     private static <E extends Throwable, R> R sneakyThrow(Throwable t) throws E {
         throw (E) t;
@@ -0,0 +1,58 @@
+package io.sqm.core.repos;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread-safe table of handlers indexed by model type.
+ * <p>
+ * Every type is assigned a dense, process-wide index the first time it is seen (through a
+ * {@link ClassValue}), and handlers are stored in an array at that index. Lookups are a class-value
+ * read plus an array access; registrations copy the array and are expected to happen only while a
+ * repository is being populated.
+ *
+ * @param <K> handler type.
+ */
+public final class HandlerTable<K> {
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+    private static final ClassValue<Integer> INDEXES = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return NEXT_INDEX.getAndIncrement();
+        }
+    };
+
+    private volatile Object[] handlers = new Object[0];
+
+    /**
+     * Creates an empty handler table.
+     */
+    public HandlerTable() {
+    }
+
+    /**
+     * Gets the handler registered for the type.
+     *
+     * @param type model type.
+     * @return the handler or {@code null} if none is registered.
+     */
+    @SuppressWarnings("unchecked")
+    public K get(Class<?> type) {
+        var index = INDEXES.get(type);
+        var snapshot = handlers;
+        return index < snapshot.length ? (K) snapshot[index] : null;
+    }
+
+    /**
+     * Registers a handler for the type, replacing any previous registration.
+     *
+     * @param type    model type.
+     * @param handler handler to register.
+     */
+    public synchronized void put(Class<?> type, K handler) {
+        var index = INDEXES.get(type);
+        var copy = Arrays.copyOf(handlers, Math.max(handlers.length, index + 1));
+        copy[index] = handler;
+        handlers = copy;
+    }
+}
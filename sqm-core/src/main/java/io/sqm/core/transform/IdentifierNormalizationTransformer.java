@@ -39,8 +39,8 @@ public final class IdentifierNormalizationTransformer extends RecursiveNodeTrans
         var schema = normalizeIdentifier(t.schema());
         var name = normalizeIdentifier(t.name());
         var alias = normalizeIdentifier(t.alias());
-        List<TableHint> hints = new ArrayList<>(t.hints().size());
-        boolean changed = apply(t.hints(), hints);
+        var hints = apply(t.hints());
+        boolean changed = hints != t.hints();
         changed |= schema != t.schema() || name != t.name() || alias != t.alias();
         if (!changed) {
             return t;
@@ -141,8 +141,8 @@ public final class IdentifierNormalizationTransformer extends RecursiveNodeTrans
     @Override
     public Node visitFunctionExpr(FunctionExpr f) {
         var name = normalizeQualifiedName(f.name());
-        List<FunctionExpr.Arg> args = new ArrayList<>();
-        boolean changed = apply(f.args(), args);
+        var args = apply(f.args());
+        boolean changed = args != f.args();
         var orderBy = apply(f.orderBy());
         changed |= orderBy != f.orderBy();
         var withinGroup = apply(f.withinGroup());
@@ -267,8 +267,8 @@ public final class IdentifierNormalizationTransformer extends RecursiveNodeTrans
     @Override
     public Node visitTypeName(TypeName typeName) {
         var qualifiedName = normalizeQualifiedName(typeName.qualifiedName());
-        List<Expression> modifiers = new ArrayList<>();
-        boolean changed = apply(typeName.modifiers(), modifiers);
+        var modifiers = apply(typeName.modifiers());
+        boolean changed = modifiers != typeName.modifiers();
         changed |= qualifiedName != typeName.qualifiedName();
         if (!changed) {
             return typeName;
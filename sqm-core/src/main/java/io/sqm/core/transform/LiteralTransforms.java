@@ -67,6 +67,22 @@ public final class LiteralTransforms {
         return new Parameterized<>(rewritten, transformer.valuesByParam(), transformer.values());
     }
 
+    /**
+     * Re-binds plain inline literals by their encounter order, reusing every unchanged subtree.
+     * <p>
+     * This is the inverse direction of {@link #parameterize(Node)}: a node that shares its shape with
+     * another statement receives that statement's literal values. See {@link RebindLiteralsTransformer}.
+     *
+     * @param node   root node to re-bind
+     * @param values literal values in encounter order
+     * @param <T>    node type
+     * @return re-bound node, or the original instance when no value changed
+     */
+    public static <T extends Node> T rebind(T node, List<?> values) {
+        Objects.requireNonNull(node, "node");
+        return new RebindLiteralsTransformer(values).apply(node);
+    }
+
     /**
      * Normalizes a node by replacing all inline literals with ordinal parameters.
      * <p>
@@ -1,8 +1,6 @@
 package io.sqm.core.transform;
 
 import io.sqm.core.Query;
-import io.sqm.core.utils.HashUtils;
-import io.sqm.core.utils.SerializationUtils;
 
 import java.util.Objects;
 
@@ -11,6 +9,10 @@ import java.util.Objects;
  *
  * <p>The default fingerprint normalizes literals into ordinal parameters, so queries that
  * differ only by literal values map to the same fingerprint.</p>
+ *
+ * <p>Fingerprints are computed by {@link StructuralHasher}, which streams the query structure into the hash
+ * without serializing or copying the tree. The default algorithm is 128-bit Murmur3; SHA-256 is available
+ * through {@link #of(Query, boolean, StructuralHasher.Algorithm)}.</p>
  */
 public final class QueryFingerprint {
 
@@ -21,7 +23,7 @@ public final class QueryFingerprint {
      * Computes fingerprint for query using default normalization rules.
      *
      * @param query query to fingerprint.
-     * @return SHA-256 fingerprint in lowercase hex.
+     * @return 128-bit fingerprint in lowercase hex.
      */
     public static String of(Query query) {
         return of(query, true);
@@ -32,12 +34,23 @@ public final class QueryFingerprint {
      *
      * @param query query to fingerprint.
      * @param parameterizeLiterals whether to normalize literals into positional parameters.
-     * @return SHA-256 fingerprint in lowercase hex.
+     * @return 128-bit fingerprint in lowercase hex.
      */
     public static String of(Query query, boolean parameterizeLiterals) {
+        return of(query, parameterizeLiterals, StructuralHasher.Algorithm.MURMUR3_128);
+    }
+
+    /**
+     * Computes fingerprint for query with configurable literal normalization and hash algorithm.
+     *
+     * @param query                query to fingerprint.
+     * @param parameterizeLiterals whether to normalize literals into positional parameters.
+     * @param algorithm            hash algorithm.
+     * @return fingerprint in lowercase hex.
+     */
+    public static String of(Query query, boolean parameterizeLiterals, StructuralHasher.Algorithm algorithm) {
         Objects.requireNonNull(query, "query");
-        var normalized = parameterizeLiterals ? normalizeLiterals(query) : query;
-        return HashUtils.sha256Hex(SerializationUtils.serialize(normalized));
+        return StructuralHasher.hash(query, parameterizeLiterals, algorithm);
     }
 
     /**
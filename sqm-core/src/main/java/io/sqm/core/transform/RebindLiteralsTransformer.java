@@ -0,0 +1,66 @@
+package io.sqm.core.transform;
+
+import io.sqm.core.LiteralExpr;
+import io.sqm.core.Node;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link RecursiveNodeTransformer} that re-binds the values of plain {@link LiteralExpr} nodes
+ * by their encounter order.
+ * <p>
+ * The n-th plain literal found by the traversal receives the n-th value of the supplied list.
+ * Typed literals such as {@code DATE '...'} or {@code INTERVAL '...'} are left untouched and
+ * are not counted. A literal whose value is unchanged, or whose position is beyond the end of
+ * the supplied list, keeps its original instance, so only the paths leading to re-bound literals
+ * are rebuilt.
+ * <p>
+ * The values found in the original tree are recorded and available through {@link #originals()},
+ * which allows the transformer to be used with an empty list to collect literal values in the
+ * same order that a later re-bind will use.
+ */
+public final class RebindLiteralsTransformer extends RecursiveNodeTransformer {
+
+    private final List<?> values;
+    private final List<Object> originals = new ArrayList<>();
+
+    /**
+     * Creates an instance of {@link RebindLiteralsTransformer}.
+     *
+     * @param values literal values in encounter order.
+     */
+    public RebindLiteralsTransformer(List<?> values) {
+        this.values = Objects.requireNonNull(values, "values");
+    }
+
+    /**
+     * Returns an unmodifiable list of the literal values found in the original tree, in encounter order.
+     *
+     * @return unmodifiable list of original literal values
+     */
+    public List<Object> originals() {
+        return Collections.unmodifiableList(originals);
+    }
+
+    /**
+     * Visits a {@link LiteralExpr} and replaces its value when a different one is supplied.
+     *
+     * @param l the literal expression being visited
+     * @return the original literal or a new literal carrying the supplied value.
+     */
+    @Override
+    public Node visitLiteralExpr(LiteralExpr l) {
+        if (!(l instanceof LiteralExpr.Impl)) {
+            return l;
+        }
+        var index = originals.size();
+        originals.add(l.value());
+        if (index >= values.size() || Objects.equals(values.get(index), l.value())) {
+            return l;
+        }
+        return LiteralExpr.of(values.get(index));
+    }
+}
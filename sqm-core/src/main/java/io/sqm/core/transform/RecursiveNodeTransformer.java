@@ -1,6 +1,7 @@
 package io.sqm.core.transform;
 
 import io.sqm.core.*;
+import io.sqm.core.internal.OperatorChains;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -8,9 +9,27 @@ import java.util.List;
 /**
  * An abstract class providing default implementation for recursive transformation.
  * Derived class can override only relevant methods and don't need to implement transformation of all nodes.
+ * <p>
+ * Left-deep chains of {@code AND}, {@code OR} and binary arithmetic operators are transformed with a loop
+ * over the left spine instead of one nested call per operator, so generated predicates with many thousands
+ * of terms do not exhaust the thread stack. {@link #apply(Node)} transforms the spine nodes bottom-up with
+ * {@link #transform(Node)}: when the visit method of a spine node, default or overridden, applies the
+ * transformer to its left operand, that operand has already been transformed and its result is returned.
+ * Overrides of the chain visit methods thus see the same operands as in a nested transformation. An override
+ * that does not apply the transformer to its left operand does not prevent the lower spine nodes from being
+ * transformed first; their results are then discarded, but visit methods with side effects have run for them.
+ * <p>
+ * An instance keeps state while it transforms a tree: the chain spine being transformed and, while it runs as a
+ * rule of a {@link FusedNodeTransformer}, its local mode. Instances are therefore not thread-safe. They may be
+ * reused for one transformation after another, but threads that transform concurrently, and fused transformers
+ * used concurrently, need instances of their own.
  */
 public abstract class RecursiveNodeTransformer implements NodeTransformer {
 
+    private boolean local;
+    private Node spineNode;
+    private Node spineResult;
+
     /**
      * Creates a recursive node transformer.
      */
@@ -26,11 +45,111 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
      */
     @SuppressWarnings("unchecked")
     protected <T extends Node> T apply(T n) {
-        return (T) transform(n);
+        if (local) {
+            return n;
+        }
+        var cached = spineNode;
+        if (cached == null) {
+            return (T) applyFresh(n);
+        }
+        // Only the spine node being transformed reaches here with the cache set, so n is one of its operands.
+        // The first application of its left operand consumes the cached result; every other operand, even
+        // the same instance, is transformed with the cache cleared.
+        spineNode = null;
+        if (n == cached) {
+            return (T) spineResult;
+        }
+        try {
+            return (T) applyFresh(n);
+        } finally {
+            spineNode = cached;
+        }
+    }
+
+    private Node applyFresh(Node n) {
+        if (OperatorChains.isChain(n) && OperatorChains.isChain(OperatorChains.lhs(n))) {
+            return transformChain(n);
+        }
+        return transform(n);
+    }
+
+    /**
+     * Applies this transformer to a single node without descending into its children.
+     * <p>
+     * While the node is visited, {@link #apply(Node)} returns children unchanged, so the visit methods only
+     * perform their node-local rewrite. Used by {@link FusedNodeTransformer}, which has already transformed
+     * the children.
+     *
+     * @param node node whose children are already transformed.
+     * @return rewritten node, or the same instance if this transformer does not change it.
+     */
+    final Node transformLocal(Node node) {
+        local = true;
+        try {
+            return node.accept(this);
+        } finally {
+            local = false;
+        }
+    }
+
+    /**
+     * Transforms the left spine of a chain bottom-up. While a spine node is transformed, the first
+     * application of the transformer to its left operand returns the result of the node below it.
+     */
+    private Node transformChain(Node root) {
+        var spine = new ArrayList<Node>();
+        for (var n = root; OperatorChains.isChain(n); n = OperatorChains.lhs(n)) {
+            spine.add(n);
+        }
+        var outer = spineNode;
+        var outerResult = spineResult;
+        Node result = null;
+        try {
+            spineNode = null;
+            for (int i = spine.size() - 1; i >= 0; i--) {
+                var n = spine.get(i);
+                result = transform(n);
+                spineNode = n;
+                spineResult = result;
+            }
+        } finally {
+            spineNode = outer;
+            spineResult = outerResult;
+        }
+        return result;
+    }
+
+    /**
+     * Applies the transformation logic on a list of items with copy-on-change semantics.
+     * <p>
+     * No list is allocated while the items transform to themselves. On the first changed item the
+     * preceding items are copied into a new list, which then collects the remaining results.
+     *
+     * @param items an original list of items to transform.
+     * @param <T>   the type of the item.
+     * @return the original list instance if no item has changed, or a new list with the transformed items.
+     */
+    protected <T extends Node> List<T> apply(List<T> items) {
+        List<T> transformedItems = null;
+        for (int i = 0, size = items.size(); i < size; i++) {
+            var item = items.get(i);
+            var transformed = apply(item);
+            if (transformedItems != null) {
+                transformedItems.add(transformed);
+            }
+            else if (transformed != item) {
+                transformedItems = new ArrayList<>(size);
+                transformedItems.addAll(items.subList(0, i));
+                transformedItems.add(transformed);
+            }
+        }
+        return transformedItems == null ? items : transformedItems;
     }
 
     /**
      * Applies the transformation logic on a list of items.
+     * <p>
+     * Always fills {@code transformedItems}; prefer {@link #apply(List)}, which allocates only when an item changes.
      *
      * @param items            an original list of items to transform.
      * @param transformedItems a transformed list of items.
@@ -60,8 +179,8 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
      */
     @Override
     public Node visitStatementSequence(StatementSequence sequence) {
-        List<Statement> statements = new ArrayList<>(sequence.statements().size());
-        if (apply(sequence.statements(), statements)) {
+        var statements = apply(sequence.statements());
+        if (statements != sequence.statements()) {
             return StatementSequence.of(statements);
         }
         return sequence;
@@ -77,11 +196,11 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
     public Node visitInsertStatement(InsertStatement statement) {
         var table = apply(statement.table());
         var source = apply(statement.source());
-        List<StatementHint> hints = new ArrayList<>(statement.hints().size());
-        List<Assignment> conflictAssignments = new ArrayList<>(statement.conflictUpdateAssignments().size());
         boolean changed = table != statement.table() || source != statement.source();
-        changed |= apply(statement.hints(), hints);
-        changed |= apply(statement.conflictUpdateAssignments(), conflictAssignments);
+        var hints = apply(statement.hints());
+        changed |= hints != statement.hints();
+        var conflictAssignments = apply(statement.conflictUpdateAssignments());
+        changed |= conflictAssignments != statement.conflictUpdateAssignments();
         var conflictWhere = apply(statement.conflictUpdateWhere());
         changed |= conflictWhere != statement.conflictUpdateWhere();
         var output = apply(statement.result());
@@ -111,15 +230,15 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
     @Override
     public Node visitUpdateStatement(UpdateStatement statement) {
         var table = apply(statement.table());
-        List<StatementHint> hints = new ArrayList<>(statement.hints().size());
-        List<Assignment> assignments = new ArrayList<>(statement.assignments().size());
-        List<Join> joins = new ArrayList<>(statement.joins().size());
-        List<TableRef> from = new ArrayList<>(statement.from().size());
         boolean changed = table != statement.table();
-        changed |= apply(statement.hints(), hints);
-        changed |= apply(statement.assignments(), assignments);
-        changed |= apply(statement.joins(), joins);
-        changed |= apply(statement.from(), from);
+        var hints = apply(statement.hints());
+        changed |= hints != statement.hints();
+        var assignments = apply(statement.assignments());
+        changed |= assignments != statement.assignments();
+        var joins = apply(statement.joins());
+        changed |= joins != statement.joins();
+        var from = apply(statement.from());
+        changed |= from != statement.from();
         var where = apply(statement.where());
         changed |= where != statement.where();
         var output = apply(statement.result());
@@ -139,13 +258,13 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
     @Override
     public Node visitDeleteStatement(DeleteStatement statement) {
         var table = apply(statement.table());
-        List<StatementHint> hints = new ArrayList<>(statement.hints().size());
-        List<TableRef> using = new ArrayList<>(statement.using().size());
-        List<Join> joins = new ArrayList<>(statement.joins().size());
         boolean changed = table != statement.table();
-        changed |= apply(statement.hints(), hints);
-        changed |= apply(statement.using(), using);
-        changed |= apply(statement.joins(), joins);
+        var hints = apply(statement.hints());
+        changed |= hints != statement.hints();
+        var using = apply(statement.using());
+        changed |= using != statement.using();
+        var joins = apply(statement.joins());
+        changed |= joins != statement.joins();
         var where = apply(statement.where());
         changed |= where != statement.where();
         var output = apply(statement.result());
@@ -165,19 +284,19 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
     @Override
     public Node visitMergeStatement(MergeStatement statement) {
         var target = apply(statement.target());
-        List<StatementHint> hints = new ArrayList<>(statement.hints().size());
         var source = apply(statement.source());
         var on = apply(statement.on());
         var topSpec = apply(statement.topSpec());
         var result = apply(statement.result());
-        List<MergeClause> clauses = new ArrayList<>(statement.clauses().size());
         boolean changed = target != statement.target()
             || source != statement.source()
             || on != statement.on()
             || topSpec != statement.topSpec()
             || result != statement.result();
-        changed |= apply(statement.hints(), hints);
-        changed |= apply(statement.clauses(), clauses);
+        var hints = apply(statement.hints());
+        changed |= hints != statement.hints();
+        var clauses = apply(statement.clauses());
+        changed |= clauses != statement.clauses();
         if (changed) {
             return MergeStatement.of(target, source, on, topSpec, clauses, result, hints);
         }
@@ -186,8 +305,8 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
 
     @Override
     public Node visitStatementHint(StatementHint hint) {
-        List<HintArg> args = new ArrayList<>(hint.args().size());
-        boolean changed = apply(hint.args(), args);
+        var args = apply(hint.args());
+        boolean changed = args != hint.args();
         if (changed) {
             return StatementHint.of(hint.name(), args);
         }
@@ -196,8 +315,8 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
 
     @Override
     public Node visitTableHint(TableHint hint) {
-        List<HintArg> args = new ArrayList<>(hint.args().size());
-        boolean changed = apply(hint.args(), args);
+        var args = apply(hint.args());
+        boolean changed = args != hint.args();
         if (changed) {
             return TableHint.of(hint.name(), args);
         }
@@ -247,8 +366,8 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
      */
     @Override
     public Node visitMergeUpdateAction(MergeUpdateAction action) {
-        List<Assignment> assignments = new ArrayList<>(action.assignments().size());
-        if (apply(action.assignments(), assignments)) {
+        var assignments = apply(action.assignments());
+        if (assignments != action.assignments()) {
             return MergeUpdateAction.of(assignments);
         }
         return action;
@@ -299,8 +418,8 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
      */
     @Override
     public Node visitResultClause(ResultClause clause) {
-        List<ResultItem> items = new ArrayList<>(clause.items().size());
-        boolean changed = apply(clause.items(), items);
+        var items = apply(clause.items());
+        boolean changed = items != clause.items();
         var into = apply(clause.into());
         changed |= into != clause.into();
         if (changed) {
@@ -395,8 +514,8 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
      */
     @Override
     public Node visitCaseExpr(CaseExpr c) {
-        List<WhenThen> whens = new ArrayList<>(c.whens().size());
-        boolean changed = apply(c.whens(), whens);
+        var whens = apply(c.whens());
+        boolean changed = whens != c.whens();
         var elseExpr = apply(c.elseExpr());
         if (changed || elseExpr != c.elseExpr()) {
             return CaseExpr.of(whens, elseExpr);
@@ -434,8 +553,8 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
      */
     @Override
     public Node visitFunctionExpr(FunctionExpr f) {
-        List<FunctionExpr.Arg> args = new ArrayList<>();
-        boolean changed = apply(f.args(), args);
+        var args = apply(f.args());
+        boolean changed = args != f.args();
         var orderBy = apply(f.orderBy());
         changed |= orderBy != f.orderBy();
         var withinGroup = apply(f.withinGroup());
@@ -625,8 +744,8 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
      */
     @Override
     public Node visitRowExpr(RowExpr v) {
-        List<Expression> items = new ArrayList<>();
-        if (apply(v.items(), items)) {
+        var items = apply(v.items());
+        if (items != v.items()) {
             return RowExpr.of(items);
         }
         return v;
@@ -657,8 +776,8 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
      */
     @Override
     public Node visitRowListExpr(RowListExpr v) {
-        List<RowExpr> rows = new ArrayList<>();
-        if (apply(v.rows(), rows)) {
+        var rows = apply(v.rows());
+        if (rows != v.rows()) {
             return RowListExpr.of(rows);
         }
         return v;
@@ -707,8 +826,8 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
      */
     @Override
     public Node visitTable(Table t) {
-        List<TableHint> hints = new ArrayList<>(t.hints().size());
-        boolean changed = apply(t.hints(), hints);
+        var hints = apply(t.hints());
+        boolean changed = hints != t.hints();
         if (changed) {
             return t.withHints(hints);
         }
@@ -847,8 +966,8 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
      */
     @Override
     public Node visitGroupBy(GroupBy g) {
-        List<GroupItem> items = new ArrayList<>();
-        if (apply(g.items(), items)) {
+        var items = apply(g.items());
+        if (items != g.items()) {
             return GroupBy.of(items);
         }
         return g;
@@ -878,8 +997,8 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
      */
     @Override
     public Node visitGroupingSets(GroupItem.GroupingSets i) {
-        List<GroupItem> elements = new ArrayList<>();
-        if (apply(i.sets(), elements)) {
+        var elements = apply(i.sets());
+        if (elements != i.sets()) {
             return GroupItem.groupingSets(elements);
         }
         return i;
@@ -893,8 +1012,8 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
      */
     @Override
     public Node visitGroupingSet(GroupItem.GroupingSet i) {
-        List<GroupItem> items = new ArrayList<>();
-        if (apply(i.items(), items)) {
+        var items = apply(i.items());
+        if (items != i.items()) {
             return GroupItem.groupingSet(items);
         }
         return i;
@@ -908,8 +1027,8 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
      */
     @Override
     public Node visitRollup(GroupItem.Rollup i) {
-        List<GroupItem> items = new ArrayList<>();
-        if (apply(i.items(), items)) {
+        var items = apply(i.items());
+        if (items != i.items()) {
             return GroupItem.rollup(items);
         }
         return i;
@@ -923,8 +1042,8 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
      */
     @Override
     public Node visitCube(GroupItem.Cube i) {
-        List<GroupItem> items = new ArrayList<>();
-        if (apply(i.items(), items)) {
+        var items = apply(i.items());
+        if (items != i.items()) {
             return GroupItem.cube(items);
         }
         return i;
@@ -942,8 +1061,8 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
      */
     @Override
     public Node visitOrderBy(OrderBy o) {
-        List<OrderItem> items = new ArrayList<>();
-        if (apply(o.items(), items)) {
+        var items = apply(o.items());
+        if (items != o.items()) {
             return OrderBy.of(items);
         }
         return o;
@@ -1183,26 +1302,26 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
      */
     @Override
     public Node visitSelectQuery(SelectQuery q) {
-        List<SelectItem> items = new ArrayList<>();
-        boolean changed = apply(q.items(), items);
-        List<StatementHint> statementHints = new ArrayList<>(q.hints().size());
-        changed |= apply(q.hints(), statementHints);
+        var items = apply(q.items());
+        boolean changed = items != q.items();
+        var statementHints = apply(q.hints());
+        changed |= statementHints != q.hints();
         var distinct = apply(q.distinct());
         changed |= distinct != q.distinct();
         var topSpec = apply(q.topSpec());
         changed |= topSpec != q.topSpec();
         var from = apply(q.from());
         changed |= from != q.from();
-        List<Join> joins = new ArrayList<>();
-        changed |= apply(q.joins(), joins);
+        var joins = apply(q.joins());
+        changed |= joins != q.joins();
         var where = apply(q.where());
         changed |= where != q.where();
         var groupBy = apply(q.groupBy());
         changed |= groupBy != q.groupBy();
         var having = apply(q.having());
         changed |= having != q.having();
-        List<WindowDef> windows = new ArrayList<>();
-        changed |= apply(q.windows(), windows);
+        var windows = apply(q.windows());
+        changed |= windows != q.windows();
         var orderBy = apply(q.orderBy());
         changed |= orderBy != q.orderBy();
         var limitOffset = apply(q.limitOffset());
@@ -1247,8 +1366,8 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
      */
     @Override
     public Node visitCompositeQuery(CompositeQuery q) {
-        List<Query> terms = new ArrayList<>();
-        boolean changed = apply(q.terms(), terms);
+        var terms = apply(q.terms());
+        boolean changed = terms != q.terms();
         var orderBy = apply(q.orderBy());
         changed |= orderBy != q.orderBy();
         var limitOffset = apply(q.limitOffset());
@@ -1268,8 +1387,8 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
      */
     @Override
     public Node visitWithQuery(WithQuery q) {
-        List<CteDef> ctes = new ArrayList<>();
-        boolean changed = apply(q.ctes(), ctes);
+        var ctes = apply(q.ctes());
+        boolean changed = ctes != q.ctes();
         var body = apply(q.body());
         changed |= body != q.body();
         if (changed) {
@@ -1327,8 +1446,8 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
 
     @Override
     public Node visitPartitionBy(PartitionBy p) {
-        List<Expression> items = new ArrayList<>();
-        if (apply(p.items(), items)) {
+        var items = apply(p.items());
+        if (items != p.items()) {
             return PartitionBy.of(items);
         }
         return p;
@@ -1606,8 +1725,8 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
      */
     @Override
     public Node visitConcatExpr(ConcatExpr expr) {
-        List<Expression> args = new ArrayList<>(expr.args().size());
-        boolean changed = apply(expr.args(), args);
+        var args = apply(expr.args());
+        boolean changed = args != expr.args();
         if (changed) {
             return ConcatExpr.of(args);
         }
@@ -1674,8 +1793,8 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
      */
     @Override
     public Node visitArrayExpr(ArrayExpr expr) {
-        List<Expression> elements = new ArrayList<>();
-        boolean changed = apply(expr.elements(), elements);
+        var elements = apply(expr.elements());
+        boolean changed = elements != expr.elements();
         if (changed) {
             return ArrayExpr.of(elements);
         }
@@ -1757,8 +1876,8 @@ public abstract class RecursiveNodeTransformer implements NodeTransformer {
      */
     @Override
     public Node visitTypeName(TypeName typeName) {
-        List<Expression> modifiers = new ArrayList<>();
-        boolean changed = apply(typeName.modifiers(), modifiers);
+        var modifiers = apply(typeName.modifiers());
+        boolean changed = modifiers != typeName.modifiers();
         if (changed) {
             return TypeName.of(typeName.qualifiedName(), typeName.keyword().orElse(null), modifiers, typeName.arrayDims(), typeName.timeZoneSpec());
         }
@@ -16,7 +16,6 @@ import java.util.function.Function;
  * as tenant filters or customer visibility predicates before execution.
  */
 public final class StatementTransforms {
-    private static final BooleanPredicateSimplifier BOOLEAN_SIMPLIFIER = new BooleanPredicateSimplifier();
 
     private StatementTransforms() {
     }
@@ -363,7 +362,7 @@ public final class StatementTransforms {
     }
 
     private static Predicate simplify(Predicate predicate) {
-        return (Predicate) BOOLEAN_SIMPLIFIER.transform(predicate);
+        return (Predicate) new BooleanPredicateSimplifier().transform(predicate);
     }
 
     private static boolean isLiteralBoolean(Predicate predicate, boolean expected) {
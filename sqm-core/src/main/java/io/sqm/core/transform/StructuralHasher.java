@@ -0,0 +1,532 @@
+package io.sqm.core.transform;
+
+import io.sqm.core.LiteralExpr;
+import io.sqm.core.Node;
+import io.sqm.core.OrdinalParamExpr;
+import io.sqm.core.internal.OperatorChains;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAmount;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Computes structural hashes of SQL model trees without serializing them.
+ * <p>
+ * The hasher walks a tree depth-first and streams a compact description of it into a hash function:
+ * for every node the stable kind code of its model interface, then every record component in
+ * declaration order (child nodes, identifiers, enum constants by name, strings and numbers with a type
+ * tag, list sizes and {@code null} markers). Arrays are hashed by content; big numbers, UUIDs and
+ * {@code java.time} values by their canonical text. Other value types have no stable encoding and are
+ * rejected. Two trees that are {@link Object#equals(Object) equal}
+ * therefore always hash the same, in every JVM run, regardless of object identity or class loading order.
+ * <p>
+ * When literals are parameterized, every {@link LiteralExpr} (including typed literals) is hashed as the
+ * ordinal parameter {@link LiteralTransforms#normalizeLiterals(Node)} would replace it with, without
+ * building the normalized tree, so queries that differ only in literal values share a hash.
+ * <p>
+ * Two algorithms are available: {@link Algorithm#MURMUR3_128}, a fast non-cryptographic 128-bit hash
+ * suited for cache keys and fingerprints, and {@link Algorithm#SHA_256} for callers that need
+ * collision resistance against adversarial input. Record accessors and the way values of each class are
+ * hashed are resolved once per class.
+ */
+public final class StructuralHasher {
+    private static final long TAG_NULL = 0;
+    private static final long TAG_NODE = 1;
+    private static final long TAG_RECORD = 2;
+    private static final long TAG_LIST = 3;
+    private static final long TAG_OPTIONAL = 4;
+    private static final long TAG_STRING = 5;
+    private static final long TAG_ENUM = 6;
+    private static final long TAG_LONG = 7;
+    private static final long TAG_INT = 8;
+    private static final long TAG_SHORT = 9;
+    private static final long TAG_BYTE = 10;
+    private static final long TAG_DOUBLE = 11;
+    private static final long TAG_FLOAT = 12;
+    private static final long TAG_BOOLEAN = 13;
+    private static final long TAG_CHAR = 14;
+    private static final long TAG_OTHER = 15;
+    private static final long TAG_MAP = 16;
+    private static final long TAG_ARRAY = 17;
+
+    private static final ClassValue<Shape> SHAPES = new ClassValue<>() {
+        @Override
+        protected Shape computeValue(Class<?> type) {
+            return Shape.of(type);
+        }
+    };
+
+    private final Sink sink;
+    private final boolean parameterizeLiterals;
+    private final Consumer<? super LiteralExpr> literals;
+    private int ordinal;
+
+    private StructuralHasher(Sink sink, boolean parameterizeLiterals, Consumer<? super LiteralExpr> literals) {
+        this.sink = sink;
+        this.parameterizeLiterals = parameterizeLiterals;
+        this.literals = literals;
+    }
+
+    /**
+     * Computes a 128-bit Murmur3 structural hash.
+     *
+     * @param node                 root node to hash.
+     * @param parameterizeLiterals whether literal values are ignored.
+     * @return hash in lowercase hex (32 characters).
+     * @throws IllegalArgumentException if the tree holds a value of a type that has no stable encoding.
+     */
+    public static String hash(Node node, boolean parameterizeLiterals) {
+        return hash(node, parameterizeLiterals, Algorithm.MURMUR3_128);
+    }
+
+    /**
+     * Computes a structural hash with the requested algorithm.
+     *
+     * @param node                 root node to hash.
+     * @param parameterizeLiterals whether literal values are ignored.
+     * @param algorithm            hash algorithm.
+     * @return hash in lowercase hex.
+     * @throws IllegalArgumentException if the tree holds a value of a type that has no stable encoding.
+     */
+    public static String hash(Node node, boolean parameterizeLiterals, Algorithm algorithm) {
+        Objects.requireNonNull(node, "node");
+        Objects.requireNonNull(algorithm, "algorithm");
+        var sink = switch (algorithm) {
+            case MURMUR3_128 -> new Murmur3Sink();
+            case SHA_256 -> new Sha256Sink();
+        };
+        new StructuralHasher(sink, parameterizeLiterals, null).value(node);
+        return HexFormat.of().formatHex(sink.digest());
+    }
+
+    /**
+     * Computes a 128-bit Murmur3 structural hash with literals parameterized and reports every literal
+     * that was replaced by a parameter slot, in slot order.
+     * <p>
+     * Two trees with the same hash therefore yield the same number of literals, and the literal at a
+     * given position occupies the same place in both trees.
+     *
+     * @param node     root node to hash.
+     * @param literals receives the literals in slot order.
+     * @return hash in lowercase hex (32 characters).
+     * @throws IllegalArgumentException if the tree holds a value of a type that has no stable encoding.
+     */
+    public static String hash(Node node, Consumer<? super LiteralExpr> literals) {
+        Objects.requireNonNull(node, "node");
+        Objects.requireNonNull(literals, "literals");
+        var sink = new Murmur3Sink();
+        new StructuralHasher(sink, true, literals).value(node);
+        return HexFormat.of().formatHex(sink.digest());
+    }
+
+    private void value(Object value) {
+        if (value == null) {
+            sink.put(TAG_NULL);
+            return;
+        }
+        var shape = SHAPES.get(value.getClass());
+        switch (shape.category()) {
+            case Shape.LITERAL -> {
+                if (parameterizeLiterals) {
+                    literalSlot((LiteralExpr) value);
+                }
+                else {
+                    composite(TAG_NODE, shape, value);
+                }
+            }
+            case Shape.NODE -> {
+                if (shape.accessors().length == 2 && OperatorChains.isChain((Node) value)) {
+                    chain((Node) value);
+                }
+                else {
+                    composite(TAG_NODE, shape, value);
+                }
+            }
+            case Shape.RECORD -> composite(TAG_RECORD, shape, value);
+            case Shape.STRING -> string(TAG_STRING, (String) value);
+            case Shape.ENUM -> {
+                sink.put(TAG_ENUM);
+                sink.put(shape.kind());
+                string(TAG_STRING, ((Enum<?>) value).name());
+            }
+            case Shape.COLLECTION -> {
+                var items = (Collection<?>) value;
+                sink.put(TAG_LIST);
+                sink.put(items.size());
+                for (var item : items) {
+                    value(item);
+                }
+            }
+            default -> scalar(value);
+        }
+    }
+
+    private void scalar(Object value) {
+        switch (value) {
+            case Long l -> {
+                sink.put(TAG_LONG);
+                sink.put(l);
+            }
+            case Integer i -> {
+                sink.put(TAG_INT);
+                sink.put(i);
+            }
+            case Short s -> {
+                sink.put(TAG_SHORT);
+                sink.put(s);
+            }
+            case Byte b -> {
+                sink.put(TAG_BYTE);
+                sink.put(b);
+            }
+            case Double d -> {
+                sink.put(TAG_DOUBLE);
+                sink.put(Double.doubleToLongBits(d));
+            }
+            case Float f -> {
+                sink.put(TAG_FLOAT);
+                sink.put(Float.floatToIntBits(f));
+            }
+            case Boolean b -> {
+                sink.put(TAG_BOOLEAN);
+                sink.put(b ? 1 : 0);
+            }
+            case Character c -> {
+                sink.put(TAG_CHAR);
+                sink.put(c);
+            }
+            case Optional<?> o -> {
+                sink.put(TAG_OPTIONAL);
+                value(o.orElse(null));
+            }
+            case Map<?, ?> map -> {
+                sink.put(TAG_MAP);
+                sink.put(map.size());
+                for (var entry : map.entrySet()) {
+                    value(entry.getKey());
+                    value(entry.getValue());
+                }
+            }
+            case BigDecimal d -> other(d, d.toString());
+            case BigInteger i -> other(i, i.toString());
+            case UUID u -> other(u, u.toString());
+            case TemporalAccessor t when isJavaTime(t) -> other(t, t.toString());
+            case TemporalAmount t when isJavaTime(t) -> other(t, t.toString());
+            default -> {
+                if (!value.getClass().isArray()) {
+                    throw new IllegalArgumentException("Cannot hash value of type " + value.getClass().getName());
+                }
+                array(value);
+            }
+        }
+    }
+
+    private void array(Object array) {
+        var length = Array.getLength(array);
+        sink.put(TAG_ARRAY);
+        sink.put(SHAPES.get(array.getClass()).kind());
+        sink.put(length);
+        for (int i = 0; i < length; i++) {
+            value(Array.get(array, i));
+        }
+    }
+
+    private static boolean isJavaTime(Object value) {
+        return value.getClass().getPackageName().equals("java.time");
+    }
+
+    private void composite(long tag, Shape shape, Object value) {
+        sink.put(tag);
+        sink.put(shape.kind());
+        var accessors = shape.accessors();
+        for (var accessor : accessors) {
+            try {
+                value((Object) accessor.invokeExact(value));
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to read component of " + value.getClass().getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Hashes a left-deep operator chain exactly like nested {@link #composite} calls would, with a loop over
+     * the left spine: the headers of the spine nodes top-down, the leftmost operand, then the right operands
+     * bottom-up.
+     */
+    private void chain(Node root) {
+        var spine = new ArrayList<Node>();
+        Node left = root;
+        while (OperatorChains.isChain(left) && SHAPES.get(left.getClass()).accessors().length == 2) {
+            sink.put(TAG_NODE);
+            sink.put(SHAPES.get(left.getClass()).kind());
+            spine.add(left);
+            left = OperatorChains.lhs(left);
+        }
+        value(left);
+        for (int i = spine.size() - 1; i >= 0; i--) {
+            value(OperatorChains.rhs(spine.get(i)));
+        }
+    }
+
+    private void literalSlot(LiteralExpr literal) {
+        if (literals != null) {
+            literals.accept(literal);
+        }
+        // Hashed exactly like the OrdinalParamExpr that LiteralTransforms.normalizeLiterals would produce.
+        sink.put(TAG_NODE);
+        sink.put(SHAPES.get(OrdinalParamExpr.Impl.class).kind());
+        sink.put(TAG_INT);
+        sink.put(++ordinal);
+    }
+
+    private void other(Object value, String text) {
+        sink.put(TAG_OTHER);
+        sink.put(SHAPES.get(value.getClass()).kind());
+        string(TAG_STRING, text);
+    }
+
+    private void string(long tag, String s) {
+        sink.put(tag);
+        var length = s.length();
+        sink.put(length);
+        var i = 0;
+        for (; i + 4 <= length; i += 4) {
+            sink.put((long) s.charAt(i) | (long) s.charAt(i + 1) << 16 | (long) s.charAt(i + 2) << 32 | (long) s.charAt(i + 3) << 48);
+        }
+        if (i < length) {
+            long tail = 0;
+            for (var shift = 0; i < length; i++, shift += 16) {
+                tail |= (long) s.charAt(i) << shift;
+            }
+            sink.put(tail);
+        }
+    }
+
+    /**
+     * Supported hash algorithms.
+     */
+    public enum Algorithm {
+        /**
+         * 128-bit MurmurHash3 (x64 variant); fast and non-cryptographic.
+         */
+        MURMUR3_128,
+        /**
+         * SHA-256; slower but collision resistant.
+         */
+        SHA_256
+    }
+
+    /**
+     * Per-class hashing metadata.
+     *
+     * @param kind      stable kind code derived from the model interface name, or from the declaring enum for
+     *                  enum constants.
+     * @param category  how values of the class are hashed, resolved once so that hashing a value does not repeat
+     *                  interface type checks.
+     * @param accessors record component accessors typed {@code (Object)Object}; empty for non-record classes.
+     */
+    private record Shape(long kind, int category, MethodHandle[] accessors) {
+        static final int LITERAL = 0;
+        static final int NODE = 1;
+        static final int RECORD = 2;
+        static final int STRING = 3;
+        static final int ENUM = 4;
+        static final int COLLECTION = 5;
+        static final int OTHER = 6;
+
+        private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+        private static final MethodHandle[] NONE = new MethodHandle[0];
+
+        static Shape of(Class<?> type) {
+            var category = category(type);
+            var named = category == ENUM && !type.isEnum() ? type.getSuperclass() : type;
+            var name = Node.class.isAssignableFrom(type) ? kindName(type) : named.getName();
+            var kind = fnv1a(name);
+            if (!type.isRecord()) {
+                return new Shape(kind, category, NONE);
+            }
+            var components = type.getRecordComponents();
+            var accessors = new MethodHandle[components.length];
+            var lookup = MethodHandles.lookup();
+            for (int i = 0; i < components.length; i++) {
+                try {
+                    var method = components[i].getAccessor();
+                    method.setAccessible(true);
+                    accessors[i] = lookup.unreflect(method).asType(ACCESSOR_TYPE);
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    throw new IllegalStateException("Cannot access record component " + components[i], e);
+                }
+            }
+            return new Shape(kind, category, accessors);
+        }
+
+        private static int category(Class<?> type) {
+            if (LiteralExpr.class.isAssignableFrom(type)) {
+                return LITERAL;
+            }
+            if (Node.class.isAssignableFrom(type)) {
+                return NODE;
+            }
+            if (type.isRecord()) {
+                return RECORD;
+            }
+            if (type == String.class) {
+                return STRING;
+            }
+            if (Enum.class.isAssignableFrom(type)) {
+                return ENUM;
+            }
+            if (Collection.class.isAssignableFrom(type)) {
+                return COLLECTION;
+            }
+            return OTHER;
+        }
+
+        private static String kindName(Class<?> type) {
+            for (var candidate : type.getInterfaces()) {
+                if (Node.class.isAssignableFrom(candidate)) {
+                    return candidate.getName();
+                }
+            }
+            return type.getName();
+        }
+
+        private static long fnv1a(String s) {
+            long hash = 0xcbf29ce484222325L;
+            for (byte b : s.getBytes(StandardCharsets.UTF_8)) {
+                hash ^= b & 0xff;
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+    }
+
+    private interface Sink {
+        void put(long value);
+
+        byte[] digest();
+    }
+
+    /**
+     * Streaming MurmurHash3 x64 128-bit over a sequence of little-endian 64-bit words.
+     */
+    private static final class Murmur3Sink implements Sink {
+        private static final long C1 = 0x87c37b91114253d5L;
+        private static final long C2 = 0x4cf5ad432745937fL;
+
+        private long h1;
+        private long h2;
+        private long pending;
+        private boolean hasPending;
+        private long length;
+
+        @Override
+        public void put(long value) {
+            if (!hasPending) {
+                pending = value;
+                hasPending = true;
+                return;
+            }
+            hasPending = false;
+            length += 16;
+
+            h1 ^= mixK1(pending);
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2(value);
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        @Override
+        public byte[] digest() {
+            if (hasPending) {
+                length += 8;
+                h1 ^= mixK1(pending);
+            }
+            h1 ^= length;
+            h2 ^= length;
+            h1 += h2;
+            h2 += h1;
+            h1 = fmix64(h1);
+            h2 = fmix64(h2);
+            h1 += h2;
+            h2 += h1;
+
+            var out = new byte[16];
+            for (int i = 0; i < 8; i++) {
+                out[i] = (byte) (h1 >>> (8 * i));
+                out[i + 8] = (byte) (h2 >>> (8 * i));
+            }
+            return out;
+        }
+
+        private static long mixK1(long k1) {
+            k1 *= C1;
+            k1 = Long.rotateLeft(k1, 31);
+            return k1 * C2;
+        }
+
+        private static long mixK2(long k2) {
+            k2 *= C2;
+            k2 = Long.rotateLeft(k2, 33);
+            return k2 * C1;
+        }
+
+        private static long fmix64(long k) {
+            k ^= k >>> 33;
+            k *= 0xff51afd7ed558ccdL;
+            k ^= k >>> 33;
+            k *= 0xc4ceb9fe1a85ec53L;
+            k ^= k >>> 33;
+            return k;
+        }
+    }
+
+    private static final class Sha256Sink implements Sink {
+        private final MessageDigest digest;
+        private final byte[] buffer = new byte[8];
+
+        private Sha256Sink() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException ex) {
+                throw new IllegalStateException("SHA-256 is not available", ex);
+            }
+        }
+
+        @Override
+        public void put(long value) {
+            for (int i = 0; i < 8; i++) {
+                buffer[i] = (byte) (value >>> (8 * i));
+            }
+            digest.update(buffer);
+        }
+
+        @Override
+        public byte[] digest() {
+            return digest.digest();
+        }
+    }
+}
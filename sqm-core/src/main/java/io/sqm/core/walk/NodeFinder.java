@@ -0,0 +1,147 @@
+package io.sqm.core.walk;
+
+import io.sqm.core.Node;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Searches a node tree for nodes of a given type.
+ * <p>
+ * Nodes are examined in pre-order, left to right, in the same order {@link RecursiveNodeVisitor}
+ * visits them. Existence checks and first-match lookups stop the walk as soon as a match is found
+ * instead of visiting the rest of the tree.
+ *
+ * <pre>{@code
+ * boolean hasParams = NodeFinder.anyMatch(query, ParamExpr.class);
+ * Optional<FunctionExpr> now = NodeFinder.findFirst(query, FunctionExpr.class, f -> f.name().values().equals(List.of("now")));
+ * }</pre>
+ */
+public final class NodeFinder {
+
+    private NodeFinder() {
+    }
+
+    /**
+     * Finds the first node of the given type, including the root itself.
+     *
+     * @param root root node, may be {@code null}
+     * @param type node type to look for
+     * @param <T>  node type
+     * @return first matching node, or empty if there is none
+     */
+    public static <T extends Node> Optional<T> findFirst(Node root, Class<T> type) {
+        return findFirst(root, type, n -> true);
+    }
+
+    /**
+     * Finds the first node of the given type that satisfies the condition, including the root itself.
+     *
+     * @param root      root node, may be {@code null}
+     * @param type      node type to look for
+     * @param condition condition the node must satisfy
+     * @param <T>       node type
+     * @return first matching node, or empty if there is none
+     */
+    public static <T extends Node> Optional<T> findFirst(Node root, Class<T> type, Predicate<? super T> condition) {
+        var finder = new First<>(type, condition);
+        finder.walk(root);
+        return Optional.ofNullable(finder.match);
+    }
+
+    /**
+     * Indicates whether the tree contains a node of the given type.
+     *
+     * @param root root node, may be {@code null}
+     * @param type node type to look for
+     * @return {@code true} if at least one node matches
+     */
+    public static boolean anyMatch(Node root, Class<? extends Node> type) {
+        return findFirst(root, type).isPresent();
+    }
+
+    /**
+     * Indicates whether the tree contains a node of the given type that satisfies the condition.
+     *
+     * @param root      root node, may be {@code null}
+     * @param type      node type to look for
+     * @param condition condition the node must satisfy
+     * @param <T>       node type
+     * @return {@code true} if at least one node matches
+     */
+    public static <T extends Node> boolean anyMatch(Node root, Class<T> type, Predicate<? super T> condition) {
+        return findFirst(root, type, condition).isPresent();
+    }
+
+    /**
+     * Indicates whether any node in the tree satisfies the condition.
+     *
+     * @param root      root node, may be {@code null}
+     * @param condition condition to test
+     * @return {@code true} if at least one node matches
+     */
+    public static boolean anyMatch(Node root, Predicate<? super Node> condition) {
+        return findFirst(root, Node.class, condition).isPresent();
+    }
+
+    /**
+     * Collects all nodes of the given type in visitation order, including the root itself.
+     *
+     * @param root root node, may be {@code null}
+     * @param type node type to look for
+     * @param <T>  node type
+     * @return matching nodes, empty if there are none
+     */
+    public static <T extends Node> List<T> findAll(Node root, Class<T> type) {
+        Objects.requireNonNull(type, "type must not be null");
+        var found = new ArrayList<T>();
+        new RecursiveNodeVisitor<Void>() {
+            @Override
+            protected Void defaultResult() {
+                return null;
+            }
+
+            @Override
+            protected boolean enter(Node n) {
+                if (type.isInstance(n)) {
+                    found.add(type.cast(n));
+                }
+                return true;
+            }
+        }.walk(root);
+        return found;
+    }
+
+    private static final class First<T extends Node> extends RecursiveNodeVisitor<Void> {
+
+        private final Class<T> type;
+        private final Predicate<? super T> condition;
+        private T match;
+
+        private First(Class<T> type, Predicate<? super T> condition) {
+            this.type = Objects.requireNonNull(type, "type must not be null");
+            this.condition = Objects.requireNonNull(condition, "condition must not be null");
+        }
+
+        @Override
+        protected Void defaultResult() {
+            return null;
+        }
+
+        @Override
+        protected boolean enter(Node n) {
+            if (type.isInstance(n)) {
+                var candidate = type.cast(n);
+                if (condition.test(candidate)) {
+                    match = candidate;
+                    stop();
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,352 @@
+package io.sqm.core.walk;
+
+import io.sqm.core.*;
+import io.sqm.core.dialect.SqlFeature;
+import io.sqm.core.internal.WeakIdentityCache;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Summary of the node kinds and SQL features present in a tree, computed in a single traversal.
+ * <p>
+ * A node kind is the model interface a node implements ({@link Node#getTopLevelInterface()}), so
+ * {@link #contains(Class)} answers questions such as "does this statement have a join, a parameter or
+ * a window function?" without walking the tree again. Features are the {@link SqlFeature}s that can be
+ * recognised from node structure alone; features whose meaning depends on the dialect (for example
+ * MySQL index hints) are not reported.
+ * <p>
+ * Summaries are immutable. {@link #of(Node)} caches them per root instance, so components that inspect the same
+ * statement share one traversal and can skip their own walk when a kind or feature is absent:
+ *
+ * <pre>{@code
+ * if (!NodeKindSummary.of(statement).contains(ParamExpr.class)) {
+ *     return statement;
+ * }
+ * }</pre>
+ */
+public final class NodeKindSummary {
+
+    private static final AtomicInteger KIND_COUNT = new AtomicInteger();
+    private static final ClassValue<Integer> KIND_INDEX = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return KIND_COUNT.getAndIncrement();
+        }
+    };
+    private static final WeakIdentityCache<Node, NodeKindSummary> CACHE = new WeakIdentityCache<>();
+    private static final NodeKindSummary EMPTY = new NodeKindSummary(new long[0], List.of(), EnumSet.noneOf(SqlFeature.class), 0, 0, 0, 0, 0);
+
+    private final long[] kindBits;
+    private final List<Class<? extends Node>> kinds;
+    private final EnumSet<SqlFeature> features;
+    private final int nodeCount;
+    private final int joinCount;
+    private final int subqueryCount;
+    private final int paramCount;
+    private final int maxDepth;
+
+    private NodeKindSummary(
+        long[] kindBits,
+        List<Class<? extends Node>> kinds,
+        EnumSet<SqlFeature> features,
+        int nodeCount,
+        int joinCount,
+        int subqueryCount,
+        int paramCount,
+        int maxDepth
+    ) {
+        this.kindBits = kindBits;
+        this.kinds = kinds;
+        this.features = features;
+        this.nodeCount = nodeCount;
+        this.joinCount = joinCount;
+        this.subqueryCount = subqueryCount;
+        this.paramCount = paramCount;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Returns the summary of the tree, computing it on first use and caching it for the root.
+     * <p>
+     * The cache holds roots weakly and compares them by identity, so a lookup never hashes or compares
+     * the tree and never takes a global lock. Structurally equal but distinct roots get their own entries.
+     *
+     * @param root root node, may be {@code null}
+     * @return summary of the tree; an empty summary for {@code null}
+     */
+    public static NodeKindSummary of(Node root) {
+        if (root == null) {
+            return EMPTY;
+        }
+        return CACHE.get(root, NodeKindSummary::compute);
+    }
+
+    /**
+     * Computes the summary of the tree without consulting or filling the cache.
+     *
+     * @param root root node, may be {@code null}
+     * @return summary of the tree; an empty summary for {@code null}
+     */
+    public static NodeKindSummary compute(Node root) {
+        if (root == null) {
+            return EMPTY;
+        }
+        var collector = new Collector();
+        collector.accept(root);
+        return collector.summary();
+    }
+
+    /**
+     * Indicates whether the tree contains a node of the given kind.
+     * <p>
+     * The kind may be a concrete node interface such as {@link ColumnExpr} or any supertype of it such as
+     * {@link Expression} or {@link ParamExpr}.
+     *
+     * @param kind node type to look for
+     * @return {@code true} if at least one node is an instance of {@code kind}
+     */
+    public boolean contains(Class<? extends Node> kind) {
+        Objects.requireNonNull(kind, "kind must not be null");
+        int index = KIND_INDEX.get(kind);
+        if ((index >>> 6) < kindBits.length && (kindBits[index >>> 6] & (1L << index)) != 0) {
+            return true;
+        }
+        for (var present : kinds) {
+            if (kind.isAssignableFrom(present)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Indicates whether the tree uses the given SQL feature.
+     *
+     * @param feature feature to check
+     * @return {@code true} if a node in the tree requires the feature
+     */
+    public boolean uses(SqlFeature feature) {
+        return features.contains(Objects.requireNonNull(feature, "feature must not be null"));
+    }
+
+    /**
+     * Returns the node kinds present in the tree in first-visit order.
+     *
+     * @return node interfaces present in the tree
+     */
+    public List<Class<? extends Node>> kinds() {
+        return kinds;
+    }
+
+    /**
+     * Returns the SQL features used by the tree.
+     *
+     * @return used features
+     */
+    public Set<SqlFeature> features() {
+        return Collections.unmodifiableSet(features);
+    }
+
+    /**
+     * Returns the number of nodes in the tree.
+     *
+     * @return node count
+     */
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Returns the number of {@link Join} nodes in the tree.
+     *
+     * @return join count
+     */
+    public int joinCount() {
+        return joinCount;
+    }
+
+    /**
+     * Returns the number of {@link Query} nodes below the root, including derived tables, CTE bodies and
+     * set-operation terms.
+     *
+     * @return nested query count
+     */
+    public int subqueryCount() {
+        return subqueryCount;
+    }
+
+    /**
+     * Returns the number of {@link ParamExpr} nodes in the tree.
+     *
+     * @return parameter count
+     */
+    public int paramCount() {
+        return paramCount;
+    }
+
+    /**
+     * Returns the depth of the deepest node; the root has depth {@code 1}.
+     *
+     * @return maximum depth, {@code 0} for an empty tree
+     */
+    public int maxDepth() {
+        return maxDepth;
+    }
+
+    private static final class Collector extends RecursiveNodeVisitor<Void> {
+        private final List<Class<? extends Node>> kinds = new ArrayList<>();
+        private final EnumSet<SqlFeature> features = EnumSet.noneOf(SqlFeature.class);
+        private long[] kindBits = new long[4];
+        private int depth;
+        private int nodeCount;
+        private int joinCount;
+        private int subqueryCount;
+        private int paramCount;
+        private int maxDepth;
+
+        @Override
+        protected Void defaultResult() {
+            return null;
+        }
+
+        @Override
+        protected boolean enter(Node n) {
+            depth++;
+            nodeCount++;
+            maxDepth = Math.max(maxDepth, depth);
+            addKind(n.getTopLevelInterface());
+            if (n instanceof Join) {
+                joinCount++;
+            }
+            else if (n instanceof Query && depth > 1) {
+                subqueryCount++;
+            }
+            else if (n instanceof ParamExpr) {
+                paramCount++;
+            }
+            addFeatures(n);
+            return true;
+        }
+
+        @Override
+        protected void exit(Node n) {
+            depth--;
+        }
+
+        private void addKind(Class<? extends Node> kind) {
+            int index = KIND_INDEX.get(kind);
+            int word = index >>> 6;
+            if (word >= kindBits.length) {
+                kindBits = Arrays.copyOf(kindBits, Math.max(word + 1, kindBits.length << 1));
+            }
+            if ((kindBits[word] & (1L << index)) == 0) {
+                kindBits[word] |= 1L << index;
+                kinds.add(kind);
+            }
+        }
+
+        private void addFeatures(Node n) {
+            switch (n) {
+                case DateLiteralExpr ignored -> features.add(SqlFeature.DATE_TYPED_LITERAL);
+                case TimeLiteralExpr ignored -> features.add(SqlFeature.TIME_TYPED_LITERAL);
+                case TimestampLiteralExpr ignored -> features.add(SqlFeature.TIMESTAMP_TYPED_LITERAL);
+                case IntervalLiteralExpr ignored -> features.add(SqlFeature.INTERVAL_LITERAL);
+                case BitStringLiteralExpr ignored -> features.add(SqlFeature.BIT_STRING_LITERAL);
+                case HexStringLiteralExpr ignored -> features.add(SqlFeature.HEX_STRING_LITERAL);
+                case EscapeStringLiteralExpr ignored -> features.add(SqlFeature.ESCAPE_STRING_LITERAL);
+                case DollarStringLiteralExpr ignored -> features.add(SqlFeature.DOLLAR_STRING_LITERAL);
+                case DistinctSpec spec when !spec.items().isEmpty() -> features.add(SqlFeature.DISTINCT_ON);
+                case ResultClause clause when !clause.items().isEmpty() -> features.add(SqlFeature.DML_RESULT_CLAUSE);
+                case MergeStatement merge -> {
+                    features.add(SqlFeature.MERGE_STATEMENT);
+                    if (merge.result() != null) {
+                        features.add(SqlFeature.MERGE_RESULT_CLAUSE);
+                    }
+                }
+                case MergeClause clause when clause.matchType() == MergeClause.MatchType.NOT_MATCHED_BY_SOURCE ->
+                    features.add(SqlFeature.MERGE_NOT_MATCHED_BY_SOURCE_CLAUSE);
+                case InsertStatement insert when insert.insertMode() == InsertStatement.InsertMode.IGNORE ->
+                    features.add(SqlFeature.INSERT_IGNORE);
+                case InsertStatement insert when insert.insertMode() == InsertStatement.InsertMode.REPLACE ->
+                    features.add(SqlFeature.REPLACE_INTO);
+                case UpdateStatement update -> {
+                    if (!update.joins().isEmpty()) {
+                        features.add(SqlFeature.UPDATE_JOIN);
+                    }
+                    if (!update.from().isEmpty()) {
+                        features.add(SqlFeature.UPDATE_FROM);
+                    }
+                }
+                case DeleteStatement delete when !delete.using().isEmpty() -> features.add(SqlFeature.DELETE_USING);
+                case OrderItem item when item.usingOperator() != null -> features.add(SqlFeature.ORDER_BY_USING);
+                case CteDef cte when cte.materialization() != CteDef.Materialization.DEFAULT ->
+                    features.add(SqlFeature.CTE_MATERIALIZATION);
+                case LockingClause lock -> addLockingFeatures(lock);
+                case Table table when table.inheritance() == Table.Inheritance.ONLY ->
+                    features.add(SqlFeature.TABLE_INHERITANCE_ONLY);
+                case Table table when table.inheritance() == Table.Inheritance.INCLUDE_DESCENDANTS ->
+                    features.add(SqlFeature.TABLE_INHERITANCE_DESCENDANTS);
+                case Lateral ignored -> features.add(SqlFeature.LATERAL);
+                case FunctionTable table -> {
+                    features.add(SqlFeature.FUNCTION_TABLE);
+                    if (table.ordinality()) {
+                        features.add(SqlFeature.FUNCTION_TABLE_ORDINALITY);
+                    }
+                }
+                case GroupItem.GroupingSets ignored -> features.add(SqlFeature.GROUPING_SETS);
+                case GroupItem.Rollup ignored -> features.add(SqlFeature.ROLLUP);
+                case GroupItem.Cube ignored -> features.add(SqlFeature.CUBE);
+                case FrameSpec frame when frame.unit() == FrameSpec.Unit.GROUPS ->
+                    features.add(SqlFeature.WINDOW_FRAME_GROUPS);
+                case OverSpec.Def def when def.exclude() != null -> features.add(SqlFeature.WINDOW_FRAME_EXCLUDE);
+                case LikePredicate like when like.mode() == LikeMode.ILIKE -> features.add(SqlFeature.ILIKE_PREDICATE);
+                case LikePredicate like when like.mode() == LikeMode.SIMILAR_TO ->
+                    features.add(SqlFeature.SIMILAR_TO_PREDICATE);
+                case IsDistinctFromPredicate ignored -> features.add(SqlFeature.IS_DISTINCT_FROM_PREDICATE);
+                case RegexPredicate ignored -> features.add(SqlFeature.REGEX_PREDICATE);
+                case ArrayExpr ignored -> features.add(SqlFeature.ARRAY_LITERAL);
+                case ArraySubscriptExpr ignored -> features.add(SqlFeature.ARRAY_SUBSCRIPT);
+                case ArraySliceExpr ignored -> features.add(SqlFeature.ARRAY_SLICE);
+                case AtTimeZoneExpr ignored -> features.add(SqlFeature.AT_TIME_ZONE);
+                case CollateExpr ignored -> features.add(SqlFeature.EXPR_COLLATE);
+                case PowerArithmeticExpr ignored -> features.add(SqlFeature.EXPONENTIATION_OPERATOR);
+                default -> {
+                }
+            }
+        }
+
+        private void addLockingFeatures(LockingClause lock) {
+            features.add(SqlFeature.LOCKING_CLAUSE);
+            switch (lock.mode()) {
+                case SHARE -> features.add(SqlFeature.LOCKING_SHARE);
+                case KEY_SHARE -> features.add(SqlFeature.LOCKING_KEY_SHARE);
+                case NO_KEY_UPDATE -> features.add(SqlFeature.LOCKING_NO_KEY_UPDATE);
+                default -> {
+                }
+            }
+            if (!lock.ofTables().isEmpty()) {
+                features.add(SqlFeature.LOCKING_OF);
+            }
+            if (lock.nowait()) {
+                features.add(SqlFeature.LOCKING_NOWAIT);
+            }
+            if (lock.skipLocked()) {
+                features.add(SqlFeature.LOCKING_SKIP_LOCKED);
+            }
+        }
+
+        private NodeKindSummary summary() {
+            return new NodeKindSummary(
+                kindBits,
+                List.copyOf(kinds),
+                features,
+                nodeCount,
+                joinCount,
+                subqueryCount,
+                paramCount,
+                maxDepth
+            );
+        }
+    }
+}
@@ -1,14 +1,40 @@
 package io.sqm.core.walk;
 
 import io.sqm.core.*;
+import io.sqm.core.internal.OperatorChains;
+
+import java.util.ArrayList;
 
 /**
  * Base visitor that walks the node tree recursively.
+ * <p>
+ * Every child is visited through {@link #accept(Node)}, which gives subclasses two ways to control
+ * the walk: {@link #enter(Node)} can skip a subtree before it is visited, and {@link #stop()} ends
+ * the whole walk so that no further node is visited. {@link #exit(Node)} is called after a node's
+ * subtree has been visited. A visitor that stops its walks can be reused by starting every walk with
+ * {@link #walk(Node)}, which clears the stop of the previous one.
+ * <p>
+ * Left-deep chains of {@code AND}, {@code OR} and binary arithmetic operators are walked with a loop
+ * over the left spine rather than one nested call per operator, so a generated predicate with many
+ * thousands of terms does not exhaust the thread stack. {@link #accept(Node)} enters the spine nodes
+ * top-down and then visits them bottom-up: when the visit method of a spine node, default or overridden,
+ * accepts its left operand, that operand has already been visited and its result is returned. Nodes are
+ * therefore entered and exited, and leaves visited, in the same order as a nested walk; only code that an
+ * overridden chain visit method runs before accepting its left operand runs after the left operand's
+ * subtree instead of before it.
+ * <p>
+ * For the same reason an overridden chain visit method cannot prune the walk by not accepting its left
+ * operand: when the left operand is itself a chain operator, it has already been visited by the time the
+ * method runs. Return {@code false} from {@link #enter(Node)} to skip a subtree instead.
  *
  * @param <R> visitor result type
  */
 public abstract class RecursiveNodeVisitor<R> implements NodeVisitor<R> {
 
+    private boolean stopped;
+    private Node spineNode;
+    private R spineResult;
+
     /**
      * Creates a recursive node visitor.
      */
@@ -23,13 +49,140 @@ public abstract class RecursiveNodeVisitor<R> implements NodeVisitor<R> {
     protected abstract R defaultResult();
 
     /**
-     * Accepts a node if non-null.
+     * Decides whether a node and its subtree are visited.
+     * <p>
+     * Called by {@link #accept(Node)} before the node is dispatched. The default visits every node.
+     *
+     * @param n node about to be visited, never {@code null}
+     * @return {@code true} to visit the node, {@code false} to skip it together with its children
+     */
+    protected boolean enter(Node n) {
+        return true;
+    }
+
+    /**
+     * Called after a node entered with {@link #enter(Node)} and its subtree have been visited.
+     * <p>
+     * The default does nothing.
+     *
+     * @param n node that was visited, never {@code null}
+     */
+    protected void exit(Node n) {
+    }
+
+    /**
+     * Walks the tree from the given root, clearing a {@link #stop()} of an earlier walk first.
+     *
+     * @param root root node, may be {@code null}
+     * @return visitor result, or {@code null} for null input and for a skipped root
+     */
+    public final R walk(Node root) {
+        stopped = false;
+        return accept(root);
+    }
+
+    /**
+     * Stops the walk. Nodes not yet visited are skipped and the visit methods on the current
+     * path return without descending further.
+     * <p>
+     * The visitor stays stopped until the next {@link #walk(Node)}; a stopped visitor dispatched with
+     * {@link #accept(Node)} or {@code node.accept(visitor)} visits nothing below that node.
+     */
+    protected final void stop() {
+        stopped = true;
+    }
+
+    /**
+     * Indicates whether {@link #stop()} has been called since the current walk started.
+     *
+     * @return {@code true} if the walk was stopped
+     */
+    protected final boolean stopped() {
+        return stopped;
+    }
+
+    /**
+     * Accepts a node if non-null, the walk was not stopped and {@link #enter(Node)} allows it.
+     * <p>
+     * A chain operator whose left operand is a chain operator is handled by a loop over its left spine,
+     * see the class documentation.
      *
      * @param n node to accept
-     * @return visitor result or {@code null} for null input
+     * @return visitor result, or {@code null} for null input and for skipped nodes
      */
     protected R accept(Node n) {
-        return n == null ? null : n.accept(this);
+        if (n == null) {
+            return null;
+        }
+        var cached = spineNode;
+        if (cached == null) {
+            return acceptFresh(n);
+        }
+        // Only the spine node being visited reaches here with the cache set, so n is one of its operands.
+        // The first accept of its left operand consumes the cached result; every other operand, even the
+        // same instance, is visited with the cache cleared.
+        spineNode = null;
+        if (n == cached) {
+            return spineResult;
+        }
+        try {
+            return acceptFresh(n);
+        } finally {
+            spineNode = cached;
+        }
+    }
+
+    private R acceptFresh(Node n) {
+        if (stopped) {
+            return null;
+        }
+        if (OperatorChains.isChain(n) && OperatorChains.isChain(OperatorChains.lhs(n))) {
+            return acceptChain(n);
+        }
+        if (!enter(n)) {
+            return null;
+        }
+        var result = n.accept(this);
+        exit(n);
+        return result;
+    }
+
+    /**
+     * Enters the left spine of a chain top-down, then visits and exits the spine nodes bottom-up. While a
+     * spine node is visited, the first accept of its left operand returns the result of the node below it, or
+     * {@code null} if that node was not entered.
+     */
+    private R acceptChain(Node root) {
+        var spine = new ArrayList<Node>();
+        Node skipped = null;
+        for (var n = root; ; n = OperatorChains.lhs(n)) {
+            if (stopped || !enter(n)) {
+                skipped = n;
+                break;
+            }
+            spine.add(n);
+            if (!OperatorChains.isChain(OperatorChains.lhs(n))) {
+                break;
+            }
+        }
+        var outer = spineNode;
+        var outerResult = spineResult;
+        R result = null;
+        try {
+            spineNode = skipped;
+            spineResult = null;
+            for (int i = spine.size() - 1; i >= 0; i--) {
+                var n = spine.get(i);
+                result = n.accept(this);
+                exit(n);
+                spineNode = n;
+                spineResult = result;
+            }
+        } finally {
+            spineNode = outer;
+            spineResult = outerResult;
+        }
+        return result;
     }
 
     /**
@@ -579,7 +732,7 @@ public abstract class RecursiveNodeVisitor<R> implements NodeVisitor<R> {
      */
     @Override
     public R visitValuesTable(ValuesTable t) {
-        t.values().accept(this);
+        accept(t.values());
         return defaultResult();
     }
 
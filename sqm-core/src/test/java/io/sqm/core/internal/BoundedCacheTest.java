@@ -0,0 +1,86 @@
+package io.sqm.core.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedCacheTest {
+
+    @Test
+    void evicts_least_recently_used_entry() throws InterruptedException {
+        var cache = new BoundedCache<String, String>(2, Long.MAX_VALUE, String::length);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        Thread.sleep(1);
+        assertEquals("1", cache.get("a"));
+        cache.put("c", "3");
+
+        assertNull(cache.get("b"));
+        assertEquals("1", cache.get("a"));
+        assertEquals("3", cache.get("c"));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictions());
+    }
+
+    @Test
+    void tracks_weight_across_replacements_and_evictions() {
+        var cache = new BoundedCache<String, String>(10, 5, String::length);
+        cache.put("a", "xx");
+        cache.put("a", "xxx");
+        assertEquals(3, cache.weight());
+
+        cache.put("b", "yyyyyy");
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.weight());
+        assertEquals(2, cache.evictions());
+
+        cache.put("c", "z");
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.weight());
+        assertEquals(2, cache.evictions());
+    }
+
+    @Test
+    void evicts_down_to_low_water_mark() {
+        var cache = new BoundedCache<Integer, Integer>(32, Long.MAX_VALUE, v -> 1);
+        for (int i = 0; i <= 32; i++) {
+            cache.put(i, i);
+        }
+
+        assertEquals(30, cache.size());
+        assertEquals(3, cache.evictions());
+    }
+
+    @Test
+    void stays_within_limits_under_concurrent_use() throws InterruptedException {
+        var cache = new BoundedCache<Integer, Integer>(100, 1_000, v -> 7);
+        var pool = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            int offset = t;
+            pool.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    var key = (i * 4 + offset) % 500;
+                    if (cache.get(key) == null) {
+                        cache.put(key, key);
+                    }
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertTrue(cache.size() <= 100);
+        assertEquals(cache.size() * 7, cache.weight());
+        assertTrue(cache.weight() <= 1_000);
+    }
+
+    @Test
+    void rejects_non_positive_limits() {
+        assertThrows(IllegalArgumentException.class, () -> new BoundedCache<String, String>(0, 1, String::length));
+        assertThrows(IllegalArgumentException.class, () -> new BoundedCache<String, String>(1, 0, String::length));
+    }
+}
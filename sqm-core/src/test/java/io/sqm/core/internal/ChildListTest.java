@@ -0,0 +1,85 @@
+package io.sqm.core.internal;
+
+import io.sqm.core.SelectItem;
+import io.sqm.core.SelectQuery;
+import io.sqm.core.utils.SerializationUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.sqm.dsl.Dsl.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChildListTest {
+
+    @Test
+    void append_leaves_source_unchanged() {
+        var base = ChildList.append(List.of("a"), "b");
+        var extended = ChildList.append(base, "c");
+
+        assertEquals(List.of("a", "b"), base);
+        assertEquals(List.of("a", "b", "c"), extended);
+        assertEquals(List.of("a", "b", "c"), ChildList.appendAll(List.of("a"), List.of("b", "c")));
+    }
+
+    @Test
+    void branches_do_not_see_each_other() {
+        var base = ChildList.append(List.of("a"), "b");
+        var left = ChildList.append(base, "left");
+        var right = ChildList.append(base, "right");
+
+        assertEquals(List.of("a", "b", "left"), left);
+        assertEquals(List.of("a", "b", "right"), right);
+        assertEquals(List.of("a", "b"), base);
+    }
+
+    @Test
+    void copy_of_trusts_child_lists_and_copies_mutable_input() {
+        var child = ChildList.append(List.of("a"), "b");
+        assertSame(child, ChildList.copyOf(child));
+
+        var mutable = new ArrayList<>(List.of("a"));
+        var copy = ChildList.copyOf(mutable);
+        mutable.add("b");
+        assertEquals(List.of("a"), copy);
+    }
+
+    @Test
+    void is_immutable_and_rejects_nulls() {
+        var list = ChildList.append(List.of("a"), "b");
+        assertThrows(UnsupportedOperationException.class, () -> list.add("c"));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(NullPointerException.class, () -> ChildList.append(list, null));
+        var withNull = new ArrayList<String>();
+        withNull.add(null);
+        assertThrows(NullPointerException.class, () -> ChildList.appendAll(list, withNull));
+    }
+
+    @Test
+    void builder_edits_share_unchanged_lists() {
+        var query = select(col("a"), col("b")).from(tbl("t")).build();
+        var filtered = SelectQuery.builder(query).where(col("a").eq(lit(1))).build();
+        assertSame(query.items(), filtered.items());
+
+        SelectQuery grown = query;
+        for (int i = 0; i < 100; i++) {
+            grown = SelectQuery.builder(grown).select(List.<SelectItem>of(col("c" + i).toSelectItem())).build();
+        }
+        assertEquals(102, grown.items().size());
+        assertEquals(2, query.items().size());
+        assertEquals(col("c99").toSelectItem(), grown.items().getLast());
+    }
+
+    @Test
+    void serializes_as_plain_immutable_list() throws Exception {
+        var query = SelectQuery.builder(select(col("a")).from(tbl("t")).build()).select(List.of(col("b").toSelectItem())).build();
+        assertInstanceOf(ChildList.class, query.items());
+        try (var in = new ObjectInputStream(new ByteArrayInputStream(SerializationUtils.serialize(query)))) {
+            assertEquals(query, in.readObject());
+        }
+    }
+}
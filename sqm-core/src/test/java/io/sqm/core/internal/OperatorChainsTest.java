@@ -0,0 +1,64 @@
+package io.sqm.core.internal;
+
+import io.sqm.core.Expression;
+import io.sqm.core.Predicate;
+import org.junit.jupiter.api.Test;
+
+import static io.sqm.dsl.Dsl.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OperatorChainsTest {
+
+    private static final int DEPTH = 100_000;
+
+    private static Predicate deepOr(int terms, int last) {
+        Predicate p = col("c").eq(lit(0));
+        for (int i = 1; i < terms - 1; i++) {
+            p = p.or(col("c").eq(lit(i)));
+        }
+        return p.or(col("c").eq(lit(last)));
+    }
+
+    private static Expression deepSum(int terms) {
+        Expression e = col("x");
+        for (int i = 1; i < terms; i++) {
+            e = e.add(lit(i));
+        }
+        return e;
+    }
+
+    @Test
+    void equal_deep_chains_are_equal_and_share_hash_code() {
+        var a = deepOr(DEPTH, -1);
+        var b = deepOr(DEPTH, -1);
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertEquals(deepSum(DEPTH), deepSum(DEPTH));
+        assertEquals(deepSum(DEPTH).hashCode(), deepSum(DEPTH).hashCode());
+    }
+
+    @Test
+    void deep_chains_differing_in_one_operand_are_not_equal() {
+        assertNotEquals(deepOr(DEPTH, -1), deepOr(DEPTH, -2));
+        assertNotEquals(deepSum(DEPTH), deepSum(DEPTH).add(lit(0)));
+    }
+
+    @Test
+    void operator_kind_takes_part_in_equality_and_hash() {
+        var add = col("a").add(col("b"));
+        var sub = col("a").sub(col("b"));
+
+        assertNotEquals(add, sub);
+        assertNotEquals(add.hashCode(), sub.hashCode());
+        assertNotEquals(col("a").eq(1).and(col("b").eq(2)), col("a").eq(1).or(col("b").eq(2)));
+    }
+
+    @Test
+    void is_chain_recognizes_binary_operators_only() {
+        assertTrue(OperatorChains.isChain(col("a").mod(col("b"))));
+        assertTrue(OperatorChains.isChain(col("a").eq(1).and(col("b").eq(2))));
+        assertFalse(OperatorChains.isChain(col("a").neg()));
+        assertFalse(OperatorChains.isChain(null));
+    }
+}
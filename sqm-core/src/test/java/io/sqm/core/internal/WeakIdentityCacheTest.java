@@ -0,0 +1,65 @@
+package io.sqm.core.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeakIdentityCacheTest {
+
+    @Test
+    void keys_are_compared_by_identity() {
+        var cache = new WeakIdentityCache<String, Integer>();
+        var calls = new AtomicInteger();
+        var first = new String("key");
+        var second = new String("key");
+
+        assertEquals(1, cache.get(first, k -> calls.incrementAndGet()));
+        assertEquals(1, cache.get(first, k -> calls.incrementAndGet()));
+        assertEquals(2, cache.get(second, k -> calls.incrementAndGet()));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void does_not_call_key_hash_code_or_equals() {
+        var cache = new WeakIdentityCache<Object, String>();
+        var key = new Object() {
+            @Override
+            public int hashCode() {
+                throw new AssertionError("hashCode");
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                throw new AssertionError("equals");
+            }
+        };
+
+        assertEquals("v", cache.get(key, k -> "v"));
+        assertEquals("v", cache.get(key, k -> "w"));
+    }
+
+    @Test
+    void peek_does_not_compute() {
+        var cache = new WeakIdentityCache<Object, String>();
+        var key = new Object();
+
+        assertNull(cache.peek(key));
+        assertEquals(0, cache.size());
+        cache.get(key, k -> "v");
+        assertEquals("v", cache.peek(key));
+        assertNull(cache.peek(new Object()));
+    }
+
+    @Test
+    void put_if_absent_keeps_first_value() {
+        var cache = new WeakIdentityCache<Object, String>();
+        var key = new Object();
+
+        assertEquals("v", cache.putIfAbsent(key, "v"));
+        assertEquals("v", cache.putIfAbsent(key, "w"));
+        assertEquals("v", cache.get(key, k -> "x"));
+        assertEquals(1, cache.size());
+    }
+}
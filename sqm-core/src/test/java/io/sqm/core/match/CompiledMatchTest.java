@@ -0,0 +1,98 @@
+package io.sqm.core.match;
+
+import io.sqm.core.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.sqm.dsl.Dsl.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledMatchTest {
+
+    private static final CompiledMatch<Expression, String> KIND = Match.<Expression, String>compile(Expression.class)
+        .when(ColumnExpr.class, c -> "column " + c.name().value())
+        .when(LiteralExpr.class, l -> l.value() == null, l -> "null")
+        .when(LiteralExpr.class, l -> "literal")
+        .when(ParamExpr.class, p -> "param")
+        .orElse("other");
+
+    @Test
+    void applies_first_matching_case_in_order() {
+        assertEquals("column a", KIND.apply(col("a")));
+        assertEquals("literal", KIND.apply(lit(1)));
+        assertEquals("null", KIND.apply(lit(null)));
+        assertEquals("param", KIND.apply(param("p")));
+        assertEquals("param", KIND.apply(param(1)));
+        assertEquals("other", KIND.apply(func("lower", col("a"))));
+    }
+
+    @Test
+    void agrees_with_fluent_match() {
+        List<Expression> expressions = List.of(col("a"), lit(1), param(), func("f"), col("a").add(lit(1)));
+        for (var e : expressions) {
+            String fluent = e.<String>matchExpression()
+                .column(c -> "column " + c.name().value())
+                .literal(l -> l.value() == null ? "null" : "literal")
+                .param(p -> "param")
+                .orElse("other");
+            assertEquals(fluent, KIND.apply(e));
+        }
+    }
+
+    @Test
+    void null_subject_goes_to_fallback() {
+        var matcher = Match.<Expression, String>compile(Expression.class)
+            .when(ColumnExpr.class, c -> "column")
+            .otherwise(e -> e == null ? "none" : "other");
+        assertEquals("none", matcher.apply(null));
+        assertFalse(matcher.matches(null));
+        assertTrue(matcher.matches(col("a")));
+        assertFalse(matcher.matches(lit(1)));
+        assertEquals(Expression.class, matcher.subjectType());
+    }
+
+    @Test
+    void guards_are_evaluated_per_subject() {
+        var matcher = Match.<Node, Integer>compile(Node.class)
+            .when(ColumnExpr.class, c -> c.tableAlias() != null, c -> 2)
+            .when(ColumnExpr.class, c -> 1)
+            .orElse(0);
+        assertEquals(2, matcher.apply(col("t", "a")));
+        assertEquals(1, matcher.apply(col("a")));
+        assertEquals(0, matcher.apply(tbl("t")));
+    }
+
+    @Test
+    void is_safe_to_share_between_threads() throws Exception {
+        try (var executor = Executors.newFixedThreadPool(4)) {
+            var futures = new ArrayList<Future<Boolean>>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        if (!KIND.apply(col("c")).equals("column c") || !KIND.apply(lit(i)).equals("literal")) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (var f : futures) {
+                assertTrue(f.get());
+            }
+        }
+    }
+
+    @Test
+    void rejects_null_arguments() {
+        assertThrows(NullPointerException.class, () -> CompiledMatch.builder(null));
+        var builder = Match.<Expression, String>compile(Expression.class);
+        assertThrows(NullPointerException.class, () -> builder.when(null, e -> ""));
+        assertThrows(NullPointerException.class, () -> builder.when(ColumnExpr.class, null));
+        assertThrows(NullPointerException.class, () -> builder.when(ColumnExpr.class, null, c -> ""));
+        assertThrows(NullPointerException.class, () -> builder.otherwise(null));
+    }
+}
@@ -0,0 +1,42 @@
+package io.sqm.core.repos;
+
+import io.sqm.core.ColumnExpr;
+import io.sqm.core.LiteralExpr;
+import io.sqm.core.Node;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandlerTableTest {
+
+    @Test
+    void resolvesHandlersByExactType() {
+        var table = new HandlerTable<String>();
+
+        table.put(ColumnExpr.class, "column");
+        table.put(LiteralExpr.class, "literal");
+
+        assertEquals("column", table.get(ColumnExpr.class));
+        assertEquals("literal", table.get(LiteralExpr.class));
+        assertNull(table.get(Node.class));
+        assertNull(table.get(LiteralExpr.Impl.class));
+    }
+
+    @Test
+    void replacesRegistrationsAndKeepsTablesIndependent() {
+        var first = new HandlerTable<String>();
+        var second = new HandlerTable<String>();
+
+        first.put(ColumnExpr.class, "a");
+        first.put(ColumnExpr.class, "b");
+
+        assertEquals("b", first.get(ColumnExpr.class));
+        assertNull(second.get(ColumnExpr.class));
+    }
+
+    @Test
+    void topLevelInterfaceIsResolvedFromImplementationClass() {
+        assertEquals(LiteralExpr.class, LiteralExpr.of(1).getTopLevelInterface());
+        assertSame(LiteralExpr.of(1).getTopLevelInterface(), LiteralExpr.of("x").getTopLevelInterface());
+    }
+}
@@ -0,0 +1,102 @@
+package io.sqm.core.transform;
+
+import io.sqm.core.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.sqm.dsl.Dsl.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class FusedNodeTransformerTest {
+
+    private static Query query() {
+        return select(col("U", "ID"), col("U", "AGE").add(lit(1).add(lit(2))))
+            .from(tbl("Users").as("U"))
+            .where(unary(lit(true)).and(col("U", "AGE").gt(lit(10).mul(lit(2)))))
+            .build();
+    }
+
+    @Test
+    void matches_sequential_application() {
+        var query = query();
+
+        Node sequential = query;
+        sequential = new IdentifierNormalizationTransformer().transform(sequential);
+        sequential = new ArithmeticSimplifier().transform(sequential);
+        sequential = new BooleanPredicateSimplifier().transform(sequential);
+
+        var fused = FusedNodeTransformer.of(
+            new IdentifierNormalizationTransformer(),
+            new ArithmeticSimplifier(),
+            new BooleanPredicateSimplifier());
+
+        assertEquals(sequential, fused.transform(query));
+        assertTrue(fused.changed(0));
+        assertTrue(fused.changed(1));
+        assertTrue(fused.changed(2));
+        assertEquals(3, fused.size());
+    }
+
+    @Test
+    void returns_same_instance_and_resets_flags_when_nothing_changes() {
+        var fused = FusedNodeTransformer.of(new ArithmeticSimplifier(), new BooleanPredicateSimplifier());
+        fused.transform(query());
+        assertTrue(fused.changed(0));
+
+        var clean = select(col("id")).from(tbl("users")).where(col("id").eq(lit(1))).build();
+        assertSame(clean, fused.transform(clean));
+        assertFalse(fused.changed(0));
+        assertFalse(fused.changed(1));
+    }
+
+    @Test
+    void visits_each_node_once_per_rule_in_order() {
+        var trace = new ArrayList<String>();
+        var first = new RecursiveNodeTransformer() {
+            @Override
+            public Node visitColumnExpr(ColumnExpr c) {
+                trace.add("first:" + c.name().value());
+                return c;
+            }
+        };
+        var second = new RecursiveNodeTransformer() {
+            @Override
+            public Node visitColumnExpr(ColumnExpr c) {
+                trace.add("second:" + c.name().value());
+                return c;
+            }
+        };
+
+        FusedNodeTransformer.of(first, second).transform(col("a").eq(col("b")));
+
+        assertEquals(List.of("first:a", "second:a", "first:b", "second:b"), trace);
+    }
+
+    @Test
+    void later_rules_see_earlier_rewrites_of_the_same_node() {
+        var rename = new RecursiveNodeTransformer() {
+            @Override
+            public Node visitColumnExpr(ColumnExpr c) {
+                return c.name().value().equals("a") ? col("b") : c;
+            }
+        };
+        var qualify = new RecursiveNodeTransformer() {
+            @Override
+            public Node visitColumnExpr(ColumnExpr c) {
+                return c.tableAlias() == null && c.name().value().equals("b") ? col("t", "b") : c;
+            }
+        };
+
+        var result = FusedNodeTransformer.of(rename, qualify).transform(col("a"));
+
+        assertEquals(col("t", "b"), result);
+    }
+
+    @Test
+    void rejects_null_rules() {
+        assertThrows(NullPointerException.class, () -> FusedNodeTransformer.of((RecursiveNodeTransformer[]) null));
+        assertThrows(NullPointerException.class, () -> FusedNodeTransformer.of(new ArithmeticSimplifier(), null));
+    }
+}
@@ -1,9 +1,14 @@
 package io.sqm.core.transform;
 
+import io.sqm.core.DateLiteralExpr;
 import io.sqm.core.ParamExpr;
 import io.sqm.core.Query;
+import io.sqm.core.SelectQuery;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static io.sqm.dsl.Dsl.col;
 import static io.sqm.dsl.Dsl.lit;
 import static io.sqm.dsl.Dsl.select;
@@ -48,6 +53,38 @@ class LiteralTransformsTest {
         );
     }
 
+    @Test
+    void rebindReplacesPlainLiteralsInEncounterOrderAndKeepsUnchangedSubtrees() {
+        Query query = select(lit(7), col("name"))
+            .from(tbl("users"))
+            .where(col("id").eq(lit(1)).and(col("created").gt(DateLiteralExpr.of("2024-01-01"))))
+            .build();
+
+        Query rebound = LiteralTransforms.rebind(query, List.of(7, 2));
+        Query expected = select(lit(7), col("name"))
+            .from(tbl("users"))
+            .where(col("id").eq(lit(2)).and(col("created").gt(DateLiteralExpr.of("2024-01-01"))))
+            .build();
+
+        assertEquals(expected, rebound);
+        var original = assertInstanceOf(SelectQuery.class, query);
+        var result = assertInstanceOf(SelectQuery.class, rebound);
+        assertSame(original.items().getFirst(), result.items().getFirst());
+        assertSame(original.from(), result.from());
+        assertSame(query, LiteralTransforms.rebind(query, List.of(7, 1)));
+        assertSame(query, LiteralTransforms.rebind(query, List.of()));
+    }
+
+    @Test
+    void rebindTransformerCollectsOriginalValues() {
+        Query query = select(lit("a"), lit(null)).from(tbl("users")).where(col("id").eq(lit(3L))).build();
+        var transformer = new RebindLiteralsTransformer(List.of());
+
+        query.accept(transformer);
+
+        assertEquals(Arrays.asList("a", null, 3L), transformer.originals());
+    }
+
     @Test
     void normalizeLiteralsMatchesParameterizedNodeShape() {
         Query query = select(lit(7)).from(tbl("users")).where(col("id").eq(lit(1))).build();
@@ -0,0 +1,201 @@
+package io.sqm.core.transform;
+
+import io.sqm.core.*;
+import io.sqm.core.walk.NodeFinder;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.sqm.dsl.Dsl.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OperatorChainTransformTest {
+
+    private static final int DEPTH = 100_000;
+
+    private static Predicate deepOr(int terms) {
+        Predicate p = col("c").eq(lit(0));
+        for (int i = 1; i < terms; i++) {
+            p = p.or(col("c").eq(lit(i)));
+        }
+        return p;
+    }
+
+    private static RecursiveNodeTransformer rename(String from, String to) {
+        return new RecursiveNodeTransformer() {
+            @Override
+            public Node visitColumnExpr(ColumnExpr c) {
+                return c.name().value().equals(from) ? col(to) : c;
+            }
+        };
+    }
+
+    @Test
+    void transforms_deep_chain_without_stack_overflow() {
+        var result = rename("c", "d").transform(deepOr(DEPTH));
+
+        var columns = NodeFinder.findAll(result, ColumnExpr.class);
+        assertEquals(DEPTH, columns.size());
+        assertTrue(columns.stream().allMatch(c -> c.name().value().equals("d")));
+    }
+
+    @Test
+    void keeps_deep_chain_instance_when_nothing_changes() {
+        var root = deepOr(DEPTH);
+        assertSame(root, rename("x", "y").transform(root));
+    }
+
+    @Test
+    void flattened_transform_matches_nested_transform() {
+        var root = col("a").add(col("b")).sub(col("a")).mul(col("c")).div(col("a")).mod(col("a")).gt(lit(0))
+            .and(col("a").eq(1)).or(col("b").eq(2)).and(col("a").eq(3));
+        var recursive = new RecursiveNodeTransformer() {
+            @Override
+            public Node visitColumnExpr(ColumnExpr c) {
+                return c.name().value().equals("a") ? col("z") : c;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            protected <T extends Node> T apply(T n) {
+                return n == null ? null : (T) n.accept(this);
+            }
+        };
+
+        assertEquals(recursive.transform(root), rename("a", "z").transform(root));
+    }
+
+    @Test
+    void visits_chain_operands_left_to_right() {
+        var trace = new ArrayList<String>();
+        var tracer = new RecursiveNodeTransformer() {
+            @Override
+            public Node visitColumnExpr(ColumnExpr c) {
+                trace.add(c.name().value());
+                return c;
+            }
+        };
+
+        tracer.transform(col("a").add(col("b")).sub(col("c")).add(col("d")));
+
+        assertEquals(List.of("a", "b", "c", "d"), trace);
+    }
+
+    @Test
+    void fused_rules_apply_to_every_node_of_deep_chain() {
+        Expression expr = col("x");
+        for (int i = 0; i < DEPTH; i++) {
+            expr = expr.add(lit(0));
+        }
+
+        var fused = FusedNodeTransformer.of(new ArithmeticSimplifier());
+
+        assertEquals(col("x"), fused.transform(expr));
+        assertTrue(fused.changed(0));
+    }
+
+    @Test
+    void simplifies_deep_chain_without_stack_overflow() {
+        Predicate p = col("c").eq(lit(0));
+        Predicate expected = p;
+        for (int i = 1; i < DEPTH; i++) {
+            if (i % 2 == 0) {
+                p = p.or(col("c").eq(lit(i)));
+                expected = expected.or(col("c").eq(lit(i)));
+            }
+            else {
+                p = p.or(unary(lit(false)));
+            }
+        }
+
+        assertEquals(expected, new BooleanPredicateSimplifier().transform(p));
+        assertEquals(unary(lit(true)), new BooleanPredicateSimplifier().transform(p.or(unary(lit(true)))));
+    }
+
+    @Test
+    void overridden_chain_visit_methods_see_every_spine_node() {
+        var visits = new int[1];
+        var counter = new RecursiveNodeTransformer() {
+            @Override
+            public Node visitOrPredicate(OrPredicate p) {
+                visits[0]++;
+                return super.visitOrPredicate(p);
+            }
+        };
+
+        var root = deepOr(DEPTH);
+
+        assertSame(root, counter.transform(root));
+        assertEquals(DEPTH - 1, visits[0]);
+    }
+
+    @Test
+    void overridden_chain_visit_methods_receive_transformed_left_operand() {
+        var root = col("a").eq(1).or(col("b").eq(2)).or(col("a").eq(3));
+        var lefts = new ArrayList<Node>();
+        var transformer = new RecursiveNodeTransformer() {
+            @Override
+            public Node visitColumnExpr(ColumnExpr c) {
+                return c.name().value().equals("a") ? col("z") : c;
+            }
+
+            @Override
+            public Node visitOrPredicate(OrPredicate p) {
+                var lhs = apply(p.lhs());
+                lefts.add(lhs);
+                return OrPredicate.of(lhs, apply(p.rhs()));
+            }
+        };
+
+        var result = transformer.transform(root);
+
+        assertEquals(col("z").eq(1).or(col("b").eq(2)).or(col("z").eq(3)), result);
+        assertEquals(List.of(col("z").eq(1), col("z").eq(1).or(col("b").eq(2))), lefts);
+    }
+
+    @Test
+    void shared_right_operand_is_transformed_again() {
+        Predicate x = col("a").eq(lit(1)).and(col("b").eq(lit(2)));
+        var query = select(col("a")).from(tbl("t")).where(x.and(x)).build();
+
+        var parameterized = LiteralTransforms.parameterize(query);
+
+        assertEquals(List.of(1, 2, 1, 2), parameterized.values());
+        assertEquals(4, NodeFinder.findAll(parameterized.node(), OrdinalParamExpr.class).size());
+    }
+
+    @Test
+    void shared_deep_right_operand_is_transformed_again() {
+        Predicate x = col("a").eq(lit(1)).and(col("b").eq(lit(2)));
+        var root = x.and(x).and(col("c").eq(lit(3)).and(x));
+
+        var parameterized = LiteralTransforms.parameterize(root);
+
+        assertEquals(List.of(1, 2, 1, 2, 3, 1, 2), parameterized.values());
+    }
+
+    @Test
+    void overridden_chain_visit_method_discards_chained_left_operand() {
+        var root = col("a").eq(1).or(col("b").eq(2)).or(col("c").eq(3));
+        var visited = new ArrayList<String>();
+        var transformer = new RecursiveNodeTransformer() {
+            @Override
+            public Node visitColumnExpr(ColumnExpr c) {
+                visited.add(c.name().value());
+                return col("z");
+            }
+
+            @Override
+            public Node visitOrPredicate(OrPredicate p) {
+                return p == root ? OrPredicate.of(p.lhs(), apply(p.rhs())) : super.visitOrPredicate(p);
+            }
+        };
+
+        var result = transformer.transform(select(lit(1)).where(root).build());
+
+        assertEquals(select(lit(1)).where(col("a").eq(1).or(col("b").eq(2)).or(col("z").eq(3))).build(), result);
+        // the inner OR was transformed before the root's override ran
+        assertEquals(List.of("a", "b", "c"), visited);
+    }
+}
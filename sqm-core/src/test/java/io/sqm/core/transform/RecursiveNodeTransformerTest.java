@@ -1484,4 +1484,30 @@ class RecursiveNodeTransformerTest {
 
         assertSame(variable, transformed);
     }
+
+    @Test
+    void applyList_returnsSameInstanceWhenNothingChanges() {
+        var transformer = new NothingTransformer();
+        List<Expression> items = List.of(col("a"), col("b"), col("c"));
+
+        assertSame(items, transformer.apply(items));
+    }
+
+    @Test
+    void applyList_copiesOnFirstChange() {
+        var transformer = new RecursiveNodeTransformer() {
+            @Override
+            public Node visitColumnExpr(ColumnExpr c) {
+                return c.name().value().equals("b") ? col("x") : c;
+            }
+        };
+        List<Expression> items = List.of(col("a"), col("b"), col("c"));
+
+        var result = transformer.apply(items);
+
+        assertNotSame(items, result);
+        assertEquals(List.of(col("a"), col("x"), col("c")), result);
+        assertSame(items.getFirst(), result.getFirst());
+        assertSame(items.getLast(), result.getLast());
+    }
 }
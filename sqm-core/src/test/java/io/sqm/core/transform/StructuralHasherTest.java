@@ -0,0 +1,155 @@
+package io.sqm.core.transform;
+
+import io.sqm.core.DateLiteralExpr;
+import io.sqm.core.LiteralExpr;
+import io.sqm.core.Predicate;
+import io.sqm.core.Query;
+import io.sqm.core.QuoteStyle;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.UUID;
+
+import static io.sqm.dsl.Dsl.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StructuralHasherTest {
+
+    private static Query sample(Object age) {
+        return select(col("u", "id"), func("lower", col("u", "name")))
+            .from(tbl("users").as("u"))
+            .where(col("u", "age").gte(lit(age)).and(col("u", "created").lt(date("2024-01-01"))))
+            .build();
+    }
+
+    @Test
+    void equal_trees_built_separately_share_hash() {
+        assertEquals(StructuralHasher.hash(sample(18), false), StructuralHasher.hash(sample(18), false));
+        assertEquals(
+            StructuralHasher.hash(sample(18), false, StructuralHasher.Algorithm.SHA_256),
+            StructuralHasher.hash(sample(18), false, StructuralHasher.Algorithm.SHA_256));
+    }
+
+    @Test
+    void hash_is_stable_across_runs() {
+        // Guards the encoding: persisted fingerprints must not change between releases unintentionally.
+        assertEquals("3310fb578bfabf4194ec9c605d0346d9", StructuralHasher.hash(sample(18), false));
+        assertEquals("39ec39208230f58e24c468d650dcbe5674ca29396bb9d90affb38e0ef2a7fea5", StructuralHasher.hash(sample(18), false, StructuralHasher.Algorithm.SHA_256));
+    }
+
+    @Test
+    void hashes_deep_chain_without_stack_overflow() {
+        Predicate first = col("c").eq(lit(0));
+        Predicate second = col("c").eq(lit(1));
+        for (int i = 1; i < 100_000; i++) {
+            first = first.or(col("c").eq(lit(i)));
+            second = second.or(col("c").eq(lit(i + 1)));
+        }
+
+        assertEquals(StructuralHasher.hash(first, true), StructuralHasher.hash(second, true));
+        assertNotEquals(StructuralHasher.hash(first, false), StructuralHasher.hash(second, false));
+    }
+
+    @Test
+    void output_length_depends_on_algorithm() {
+        assertEquals(32, StructuralHasher.hash(sample(18), true).length());
+        assertEquals(64, StructuralHasher.hash(sample(18), true, StructuralHasher.Algorithm.SHA_256).length());
+    }
+
+    @Test
+    void literal_values_are_ignored_when_parameterized() {
+        assertEquals(StructuralHasher.hash(sample(18), true), StructuralHasher.hash(sample(65), true));
+        assertNotEquals(StructuralHasher.hash(sample(18), false), StructuralHasher.hash(sample(65), false));
+    }
+
+    @Test
+    void parameterized_hash_matches_normalized_tree() {
+        var query = sample(18);
+        assertEquals(
+            StructuralHasher.hash(query, true),
+            StructuralHasher.hash(LiteralTransforms.normalizeLiterals(query), false));
+    }
+
+    @Test
+    void reports_parameterized_literals_in_slot_order() {
+        var literals = new ArrayList<LiteralExpr>();
+        var hash = StructuralHasher.hash(sample(18), literals::add);
+
+        assertEquals(StructuralHasher.hash(sample(18), true), hash);
+        assertEquals(2, literals.size());
+        assertEquals(18, literals.get(0).value());
+        assertInstanceOf(DateLiteralExpr.class, literals.get(1));
+    }
+
+    @Test
+    void literal_value_type_is_significant() {
+        assertNotEquals(StructuralHasher.hash(sample(18), false), StructuralHasher.hash(sample(18L), false));
+        assertNotEquals(StructuralHasher.hash(sample(18), false), StructuralHasher.hash(sample("18"), false));
+    }
+
+    @Test
+    void null_literal_differs_from_value() {
+        assertNotEquals(StructuralHasher.hash(sample(null), false), StructuralHasher.hash(sample(0), false));
+    }
+
+    @Test
+    void list_boundaries_are_framed() {
+        var left = select(col("ab"), col("c")).from(tbl("t")).build();
+        var right = select(col("a"), col("bc")).from(tbl("t")).build();
+        assertNotEquals(StructuralHasher.hash(left, false), StructuralHasher.hash(right, false));
+    }
+
+    @Test
+    void identifier_quote_style_is_significant() {
+        var plain = select(col(id("id"))).from(tbl("t")).build();
+        var quoted = select(col(id("id", QuoteStyle.DOUBLE_QUOTE))).from(tbl("t")).build();
+        assertNotEquals(StructuralHasher.hash(plain, false), StructuralHasher.hash(quoted, false));
+    }
+
+    @Test
+    void node_kind_is_significant() {
+        var hashes = new HashSet<String>();
+        hashes.add(StructuralHasher.hash(col("a").eq(col("b")), false));
+        hashes.add(StructuralHasher.hash(col("a").ne(col("b")), false));
+        hashes.add(StructuralHasher.hash(col("a").lt(col("b")), false));
+        hashes.add(StructuralHasher.hash(col("b").eq(col("a")), false));
+        assertEquals(4, hashes.size());
+    }
+
+    @Test
+    void rejects_null_arguments() {
+        assertThrows(NullPointerException.class, () -> StructuralHasher.hash(null, false));
+        assertThrows(NullPointerException.class, () -> StructuralHasher.hash(col("a"), false, null));
+    }
+
+    @Test
+    void arrays_are_hashed_by_content() {
+        var a = LiteralExpr.of(new byte[]{1, 2, 3});
+        var b = LiteralExpr.of(new byte[]{1, 2, 3});
+        var c = LiteralExpr.of(new byte[]{1, 2, 4});
+
+        assertEquals(StructuralHasher.hash(a, false), StructuralHasher.hash(b, false));
+        assertNotEquals(StructuralHasher.hash(a, false), StructuralHasher.hash(c, false));
+        assertNotEquals(StructuralHasher.hash(a, false), StructuralHasher.hash(LiteralExpr.of(new int[]{1, 2, 3}), false));
+    }
+
+    @Test
+    void java_time_and_uuid_values_are_hashed_by_text() {
+        assertEquals(
+            StructuralHasher.hash(LiteralExpr.of(LocalDate.of(2024, 1, 1)), false),
+            StructuralHasher.hash(LiteralExpr.of(LocalDate.parse("2024-01-01")), false));
+        assertEquals(
+            StructuralHasher.hash(LiteralExpr.of(UUID.fromString("123e4567-e89b-12d3-a456-426614174000")), false),
+            StructuralHasher.hash(LiteralExpr.of(UUID.fromString("123e4567-e89b-12d3-a456-426614174000")), false));
+    }
+
+    @Test
+    void values_without_stable_encoding_are_rejected() {
+        var literal = LiteralExpr.of(new Object());
+
+        assertThrows(IllegalArgumentException.class, () -> StructuralHasher.hash(literal, false));
+        assertEquals(StructuralHasher.hash(lit(1), true), StructuralHasher.hash(literal, true));
+    }
+}
@@ -0,0 +1,143 @@
+package io.sqm.core.walk;
+
+import io.sqm.core.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.sqm.dsl.Dsl.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class NodeFinderTest {
+
+    private static Query query() {
+        return select(col("u", "id"), col("u", "name"))
+            .from(tbl("users").as("u"))
+            .where(col("u", "age").gte(lit(18)).and(col("u", "active").eq(lit(true))))
+            .build();
+    }
+
+    @Test
+    void find_first_returns_first_match_in_visitation_order() {
+        var first = NodeFinder.findFirst(query(), ColumnExpr.class);
+        assertEquals(col("u", "id"), first.orElseThrow());
+
+        var filtered = NodeFinder.findFirst(query(), ColumnExpr.class, c -> c.name().value().startsWith("a"));
+        assertEquals(col("u", "age"), filtered.orElseThrow());
+    }
+
+    @Test
+    void find_first_includes_root_and_handles_missing_matches() {
+        var q = query();
+        assertSame(q, NodeFinder.findFirst(q, Query.class).orElseThrow());
+        assertTrue(NodeFinder.findFirst(q, ParamExpr.class).isEmpty());
+        assertTrue(NodeFinder.findFirst(null, Node.class).isEmpty());
+    }
+
+    @Test
+    void any_match_checks_type_and_condition() {
+        assertTrue(NodeFinder.anyMatch(query(), LiteralExpr.class));
+        assertTrue(NodeFinder.anyMatch(query(), LiteralExpr.class, l -> Boolean.TRUE.equals(l.value())));
+        assertFalse(NodeFinder.anyMatch(query(), LiteralExpr.class, l -> "x".equals(l.value())));
+        assertTrue(NodeFinder.anyMatch(query(), n -> n instanceof Table t && t.name().value().equals("users")));
+    }
+
+    @Test
+    void find_all_collects_in_visitation_order() {
+        var names = NodeFinder.findAll(query(), ColumnExpr.class).stream().map(c -> c.name().value()).toList();
+        assertEquals(List.of("id", "name", "age", "active"), names);
+    }
+
+    @Test
+    void search_stops_at_first_match() {
+        var tested = new ArrayList<String>();
+        NodeFinder.anyMatch(query(), ColumnExpr.class, c -> {
+            tested.add(c.name().value());
+            return c.name().value().equals("name");
+        });
+        assertEquals(List.of("id", "name"), tested);
+    }
+
+    @Test
+    void stop_ends_the_walk() {
+        var visited = new ArrayList<String>();
+        new RecursiveNodeVisitor<Void>() {
+            @Override
+            protected Void defaultResult() {
+                return null;
+            }
+
+            @Override
+            public Void visitColumnExpr(ColumnExpr c) {
+                visited.add(c.name().value());
+                if (c.name().value().equals("age")) {
+                    stop();
+                }
+                return null;
+            }
+
+            @Override
+            public Void visitLiteralExpr(LiteralExpr l) {
+                fail("literal visited after stop");
+                return null;
+            }
+        }.accept(select(col("id")).from(tbl("t")).where(col("age").gte(lit(1))).build());
+
+        assertEquals(List.of("id", "age"), visited);
+    }
+
+    @Test
+    void walk_clears_stop_of_previous_walk() {
+        var visited = new ArrayList<String>();
+        var visitor = new RecursiveNodeVisitor<Void>() {
+            @Override
+            protected Void defaultResult() {
+                return null;
+            }
+
+            @Override
+            public Void visitColumnExpr(ColumnExpr c) {
+                visited.add(c.name().value());
+                stop();
+                return null;
+            }
+        };
+
+        visitor.walk(query());
+        visitor.walk(query());
+
+        assertEquals(List.of("id", "id"), visited);
+    }
+
+    @Test
+    void enter_skips_subtrees() {
+        var visited = new ArrayList<String>();
+        new RecursiveNodeVisitor<Void>() {
+            @Override
+            protected Void defaultResult() {
+                return null;
+            }
+
+            @Override
+            protected boolean enter(Node n) {
+                return !(n instanceof Predicate);
+            }
+
+            @Override
+            public Void visitColumnExpr(ColumnExpr c) {
+                visited.add(c.name().value());
+                return null;
+            }
+        }.accept(query());
+
+        assertEquals(List.of("id", "name"), visited);
+    }
+
+    @Test
+    void rejects_null_arguments() {
+        assertThrows(NullPointerException.class, () -> NodeFinder.findFirst(query(), null));
+        assertThrows(NullPointerException.class, () -> NodeFinder.findFirst(query(), Node.class, null));
+        assertThrows(NullPointerException.class, () -> NodeFinder.findAll(query(), null));
+    }
+}
@@ -0,0 +1,92 @@
+package io.sqm.core.walk;
+
+import io.sqm.core.*;
+import io.sqm.core.dialect.SqlFeature;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static io.sqm.dsl.Dsl.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class NodeKindSummaryTest {
+
+    private static Query query() {
+        return select(col("u", "id"))
+            .from(tbl("users").as("u"))
+            .join(inner(tbl("orders").as("o")).on(col("o", "user_id").eq(col("u", "id"))))
+            .where(col("u", "created").gte(date("2024-01-01"))
+                .and(exists(select(lit(1)).from(tbl("bans")).where(col("id").eq(param("id"))).build())))
+            .build();
+    }
+
+    @Test
+    void reports_kinds_and_supertypes() {
+        var summary = NodeKindSummary.compute(query());
+
+        assertTrue(summary.contains(SelectQuery.class));
+        assertTrue(summary.contains(OnJoin.class));
+        assertTrue(summary.contains(Join.class));
+        assertTrue(summary.contains(ExistsPredicate.class));
+        assertTrue(summary.contains(NamedParamExpr.class));
+        assertTrue(summary.contains(ParamExpr.class));
+        assertTrue(summary.contains(Expression.class));
+        assertFalse(summary.contains(OrdinalParamExpr.class));
+        assertFalse(summary.contains(FunctionExpr.class));
+        assertTrue(summary.contains(Predicate.class));
+        assertEquals(SelectQuery.class, summary.kinds().getFirst());
+    }
+
+    @Test
+    void reports_counts() {
+        var summary = NodeKindSummary.compute(query());
+
+        assertEquals(1, summary.joinCount());
+        assertEquals(1, summary.subqueryCount());
+        assertEquals(1, summary.paramCount());
+        assertEquals(NodeFinder.findAll(query(), Node.class).size(), summary.nodeCount());
+        assertTrue(summary.maxDepth() > 3);
+        assertEquals(1, NodeKindSummary.compute(col("a")).maxDepth());
+    }
+
+    @Test
+    void reports_structural_features() {
+        assertEquals(Set.of(SqlFeature.DATE_TYPED_LITERAL), NodeKindSummary.compute(query()).features());
+
+        var plain = select(col("id")).from(tbl("t")).build();
+        assertFalse(NodeKindSummary.compute(plain).uses(SqlFeature.LOCKING_CLAUSE));
+        assertTrue(NodeKindSummary.compute(col("a").pow(lit(2))).uses(SqlFeature.EXPONENTIATION_OPERATOR));
+    }
+
+    @Test
+    void caches_summary_per_root() {
+        var q = query();
+        var first = NodeKindSummary.of(q);
+        assertSame(first, NodeKindSummary.of(q));
+        assertNotSame(first, NodeKindSummary.of(query()));
+        assertEquals(first.kinds(), NodeKindSummary.of(query()).kinds());
+        assertNotSame(first, NodeKindSummary.of(select(col("x")).build()));
+    }
+
+    @Test
+    void caches_deep_chain_without_hashing_it() {
+        Predicate p = col("c").eq(lit(0));
+        for (int i = 1; i < 10_000; i++) {
+            p = p.or(col("c").eq(lit(i)));
+        }
+
+        var summary = NodeKindSummary.of(p);
+
+        assertSame(summary, NodeKindSummary.of(p));
+        assertEquals(10_001, summary.maxDepth());
+    }
+
+    @Test
+    void null_root_yields_empty_summary() {
+        var summary = NodeKindSummary.of(null);
+        assertEquals(0, summary.nodeCount());
+        assertEquals(0, summary.maxDepth());
+        assertFalse(summary.contains(Node.class));
+        assertTrue(summary.features().isEmpty());
+    }
+}
@@ -0,0 +1,247 @@
+package io.sqm.core.walk;
+
+import io.sqm.core.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.sqm.dsl.Dsl.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OperatorChainTraversalTest {
+
+    private static final int DEPTH = 100_000;
+
+    private static Predicate deepOr(int terms) {
+        Predicate p = col("c").eq(lit(0));
+        for (int i = 1; i < terms; i++) {
+            p = p.or(col("c").eq(lit(i)));
+        }
+        return p;
+    }
+
+    private static Expression mixedArithmetic() {
+        return col("a").add(col("b")).sub(col("c")).mul(col("d")).div(col("e")).mod(col("f"));
+    }
+
+    @Test
+    void flattened_walk_keeps_enter_and_exit_order() {
+        var root = col("a").eq(1).and(col("b").eq(2)).or(col("c").eq(3)).and(mixedArithmetic().gt(0));
+
+        var flattened = new TracingVisitor();
+        flattened.accept(root);
+        var recursive = new RecursiveTracingVisitor();
+        recursive.accept(root);
+
+        assertEquals(recursive.trace, flattened.trace);
+        assertFalse(flattened.trace.isEmpty());
+    }
+
+    @Test
+    void walks_deep_chain_without_stack_overflow() {
+        var summary = NodeKindSummary.compute(deepOr(DEPTH));
+
+        assertTrue(summary.contains(OrPredicate.class));
+        assertEquals(DEPTH + 1, summary.maxDepth());
+        assertEquals(3 * DEPTH + DEPTH - 1, summary.nodeCount());
+    }
+
+    @Test
+    void skipped_spine_node_skips_its_operands() {
+        var inner = col("a").eq(1).or(col("b").eq(2));
+        var root = inner.or(col("c").eq(3)).or(col("d").eq(4));
+        var names = new ArrayList<String>();
+
+        new RecursiveNodeVisitor<Void>() {
+            @Override
+            protected Void defaultResult() {
+                return null;
+            }
+
+            @Override
+            protected boolean enter(Node n) {
+                return n != inner;
+            }
+
+            @Override
+            public Void visitColumnExpr(ColumnExpr c) {
+                names.add(c.name().value());
+                return null;
+            }
+        }.accept(root);
+
+        assertEquals(List.of("c", "d"), names);
+    }
+
+    @Test
+    void stop_ends_flattened_walk() {
+        var found = NodeFinder.findFirst(deepOr(DEPTH), LiteralExpr.class, l -> Integer.valueOf(5).equals(l.value()));
+
+        assertTrue(found.isPresent());
+        assertTrue(NodeFinder.anyMatch(deepOr(DEPTH), ColumnExpr.class));
+    }
+
+    @Test
+    void overridden_chain_visit_methods_see_every_spine_node() {
+        var visits = new int[1];
+        var columns = new ArrayList<String>();
+
+        new RecursiveNodeVisitor<Void>() {
+            @Override
+            protected Void defaultResult() {
+                return null;
+            }
+
+            @Override
+            public Void visitOrPredicate(OrPredicate p) {
+                visits[0]++;
+                return super.visitOrPredicate(p);
+            }
+
+            @Override
+            public Void visitColumnExpr(ColumnExpr c) {
+                columns.add(c.name().value());
+                return null;
+            }
+        }.accept(deepOr(DEPTH));
+
+        assertEquals(DEPTH - 1, visits[0]);
+        assertEquals(DEPTH, columns.size());
+    }
+
+    @Test
+    void overridden_chain_visit_methods_keep_enter_exit_and_leaf_order() {
+        var root = col("a").eq(1).and(col("b").eq(2)).or(col("c").eq(3)).and(mixedArithmetic().gt(0));
+
+        var flattened = new TracingVisitor() {
+            @Override
+            public Void visitAndPredicate(AndPredicate p) {
+                return super.visitAndPredicate(p);
+            }
+
+            @Override
+            public Void visitOrPredicate(OrPredicate p) {
+                return super.visitOrPredicate(p);
+            }
+
+            @Override
+            public Void visitAddArithmeticExpr(AddArithmeticExpr expr) {
+                return super.visitAddArithmeticExpr(expr);
+            }
+        };
+        flattened.accept(root);
+        var recursive = new RecursiveTracingVisitor();
+        recursive.accept(root);
+
+        assertEquals(recursive.trace, flattened.trace);
+    }
+
+    @Test
+    void accepting_left_operand_returns_its_result() {
+        var root = col("a").add(col("b")).add(col("c")).add(col("d"));
+
+        var count = new RecursiveNodeVisitor<Integer>() {
+            @Override
+            protected Integer defaultResult() {
+                return 0;
+            }
+
+            @Override
+            public Integer visitAddArithmeticExpr(AddArithmeticExpr expr) {
+                return accept(expr.lhs()) + accept(expr.rhs());
+            }
+
+            @Override
+            public Integer visitColumnExpr(ColumnExpr c) {
+                return 1;
+            }
+        }.accept(root);
+
+        assertEquals(4, count);
+    }
+
+    @Test
+    void shared_right_operand_is_visited_again() {
+        Predicate x = col("a").eq(1).and(col("b").eq(2));
+        var root = x.and(x).and(col("c").eq(3).and(x));
+        var names = new ArrayList<String>();
+
+        new RecursiveNodeVisitor<Void>() {
+            @Override
+            protected Void defaultResult() {
+                return null;
+            }
+
+            @Override
+            public Void visitColumnExpr(ColumnExpr c) {
+                names.add(c.name().value());
+                return null;
+            }
+        }.accept(root);
+
+        assertEquals(List.of("a", "b", "a", "b", "c", "a", "b"), names);
+    }
+
+    @Test
+    void overridden_chain_visit_method_cannot_prune_chained_left_operand() {
+        var root = col("a").eq(1).or(col("b").eq(2)).or(col("c").eq(3));
+        var names = new ArrayList<String>();
+
+        new RecursiveNodeVisitor<Void>() {
+            @Override
+            protected Void defaultResult() {
+                return null;
+            }
+
+            @Override
+            public Void visitOrPredicate(OrPredicate p) {
+                if (p == root) {
+                    return accept(p.rhs());
+                }
+                return super.visitOrPredicate(p);
+            }
+
+            @Override
+            public Void visitColumnExpr(ColumnExpr c) {
+                names.add(c.name().value());
+                return null;
+            }
+        }.accept(root);
+
+        // the inner OR was visited before the root's override ran
+        assertEquals(List.of("a", "b", "c"), names);
+    }
+
+    private static class TracingVisitor extends RecursiveNodeVisitor<Void> {
+        final List<String> trace = new ArrayList<>();
+
+        @Override
+        protected Void defaultResult() {
+            return null;
+        }
+
+        @Override
+        protected boolean enter(Node n) {
+            trace.add("enter " + n.getTopLevelInterface().getSimpleName());
+            return true;
+        }
+
+        @Override
+        protected void exit(Node n) {
+            trace.add("exit " + n.getTopLevelInterface().getSimpleName());
+        }
+    }
+
+    private static final class RecursiveTracingVisitor extends TracingVisitor {
+        @Override
+        protected Void accept(Node n) {
+            if (n == null || !enter(n)) {
+                return null;
+            }
+            n.accept(this);
+            exit(n);
+            return null;
+        }
+    }
+}
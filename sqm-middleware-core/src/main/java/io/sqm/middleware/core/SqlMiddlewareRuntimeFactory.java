@@ -6,8 +6,10 @@ import io.sqm.control.audit.LoggingAuditEventPublisher;
 import io.sqm.control.config.ConfigKeys;
 import io.sqm.control.config.RuntimeGuardrails;
 import io.sqm.control.config.SqlDecisionServiceConfig;
+import io.sqm.control.pipeline.SqlStatementParser;
 import io.sqm.control.rewrite.*;
 import io.sqm.middleware.api.*;
+import io.sqm.parser.ParseCache;
 import io.sqm.validate.schema.SchemaValidationLimits;
 import io.sqm.validate.schema.SchemaValidationSettings;
 import io.sqm.validate.schema.SchemaValidationSettingsLoader;
@@ -67,6 +69,7 @@ public final class SqlMiddlewareRuntimeFactory {
 
         applyValidationSettings(builder);
         applyGuardrails(builder);
+        applyParseCache(builder);
         applyAuditPublisher(builder);
 
         var service = readBoolean(ConfigKeys.REWRITE_ENABLED, true)
@@ -175,6 +178,22 @@ public final class SqlMiddlewareRuntimeFactory {
         ));
     }
 
+    private static void applyParseCache(SqlDecisionServiceConfig.Builder builder) {
+        Long maxEntries = readLongNullable(ConfigKeys.PARSE_CACHE_MAX_ENTRIES);
+        Long maxWeight = readLongNullable(ConfigKeys.PARSE_CACHE_MAX_WEIGHT);
+        if (maxEntries == null || maxEntries <= 0) {
+            return;
+        }
+
+        var cache = ParseCache.builder()
+            .maximumSize(maxEntries)
+            .literalInsensitive(readBoolean(ConfigKeys.PARSE_CACHE_LITERAL_INSENSITIVE, false));
+        if (maxWeight != null && maxWeight > 0) {
+            cache.maximumWeight(maxWeight);
+        }
+        builder.statementParser(SqlStatementParser.standard(cache.build()));
+    }
+
     private static void applyRewriteCustomizations(SqlDecisionServiceConfig.Builder builder) {
         var rules = readRewriteRules();
         if (!rules.isEmpty()) {
@@ -69,6 +69,35 @@ class SqlMiddlewareRuntimeFactoryTest {
         );
     }
 
+    @Test
+    void applies_parse_cache_properties_without_errors() {
+        withProperties(Map.of(
+            ConfigKeys.PARSE_CACHE_MAX_ENTRIES.property(), "100",
+            ConfigKeys.PARSE_CACHE_MAX_WEIGHT.property(), "100000",
+            ConfigKeys.PARSE_CACHE_LITERAL_INSENSITIVE.property(), "true"
+        ), () -> {
+            var runtime = SqlMiddlewareRuntimeFactory.createRuntimeFromEnvironment();
+            assertDoesNotThrow(() -> runtime.service().analyze(
+                new AnalyzeRequest("select 1", new ExecutionContextDto("postgresql", null, null, null, null))
+            ));
+        });
+    }
+
+    @Test
+    void treats_non_positive_parse_cache_max_weight_as_unbounded() {
+        for (var weight : new String[]{"0", "-1"}) {
+            withProperties(Map.of(
+                ConfigKeys.PARSE_CACHE_MAX_ENTRIES.property(), "100",
+                ConfigKeys.PARSE_CACHE_MAX_WEIGHT.property(), weight
+            ), () -> {
+                var runtime = SqlMiddlewareRuntimeFactory.createRuntimeFromEnvironment();
+                assertDoesNotThrow(() -> runtime.service().analyze(
+                    new AnalyzeRequest("select 1", new ExecutionContextDto("postgresql", null, null, null, null))
+                ));
+            });
+        }
+    }
+
     @Test
     void throws_when_json_source_path_is_missing() {
         withProperties(Map.of(
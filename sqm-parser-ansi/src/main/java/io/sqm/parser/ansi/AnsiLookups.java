@@ -815,7 +815,7 @@ public class AnsiLookups implements Lookups {
         }
         // do not use p as it could skip the '('. look for the operator inside the context.
         // (a + b) should not be found if the cursor is outside the parenthesis.
-        return cur.find(t -> isArithmetic(t), pos.current()) < cur.size();
+        return cur.find(TokenType.OPERATOR, t -> isArithmetic(t), pos.current()) < cur.size();
     }
 
     /**
@@ -831,7 +831,7 @@ public class AnsiLookups implements Lookups {
         if (looksLikeArithmeticExpr(cur, p)) {
             // do not use p as it could skip the '('. look for the operator inside the context.
             // (a + b) should not be found if the cursor is outside the parenthesis.
-            return cur.find(t -> isPlus(t), pos.current()) < cur.size();
+            return cur.find(TokenType.OPERATOR, t -> isPlus(t), pos.current()) < cur.size();
         }
         return false;
     }
@@ -853,7 +853,7 @@ public class AnsiLookups implements Lookups {
             if (isMinus(cur.peek(pos.current()))) {
                 skip = 1; // this is negative expression, look for the next -.
             }
-            return cur.find(t -> isMinus(t), pos.current() + skip) < cur.size();
+            return cur.find(TokenType.OPERATOR, t -> isMinus(t), pos.current() + skip) < cur.size();
         }
         return false;
     }
@@ -871,7 +871,7 @@ public class AnsiLookups implements Lookups {
         if (looksLikeArithmeticExpr(cur, p)) {
             // do not use p as it could skip the '('. look for the operator inside the context.
             // (a * b) should not be found if the cursor is outside the parenthesis.
-            return cur.find(t -> isStar(t), pos.current()) < cur.size();
+            return cur.find(TokenType.OPERATOR, t -> isStar(t), pos.current()) < cur.size();
         }
         return false;
     }
@@ -889,7 +889,7 @@ public class AnsiLookups implements Lookups {
         if (looksLikeArithmeticExpr(cur, p)) {
             // do not use p as it could skip the '('. look for the operator inside the context.
             // (a / b) should not be found if the cursor is outside the parenthesis.
-            return cur.find(t -> isSlash(t), pos.current()) < cur.size();
+            return cur.find(TokenType.OPERATOR, t -> isSlash(t), pos.current()) < cur.size();
         }
         return false;
     }
@@ -10,14 +10,17 @@ import java.util.Objects;
 
 /**
  * Provides ANSI SQL parser specifications and dialect capabilities.
+ * <p>
+ * Instances are immutable and safe to share across threads and parse contexts.
  */
 public class AnsiSpecs implements Specs {
 
+    private static final Lookups LOOKUPS = new AnsiLookups();
+    private static final IdentifierQuoting IDENTIFIER_QUOTING = IdentifierQuoting.of('"');
+    private static final OperatorPolicy OPERATOR_POLICY = new AnsiOperatorPolicy();
+
     private final SqlDialectVersion version;
-    private Lookups lookups;
-    private IdentifierQuoting identifierQuoting;
-    private DialectCapabilities capabilities;
-    private OperatorPolicy operatorPolicy;
+    private final DialectCapabilities capabilities;
 
     /**
      * Creates ANSI specs for the SQL:2016 standard.
@@ -33,6 +36,26 @@ public class AnsiSpecs implements Specs {
      */
     public AnsiSpecs(SqlDialectVersion version) {
         this.version = Objects.requireNonNull(version, "version");
+        this.capabilities = capabilities(version);
+    }
+
+    private static DialectCapabilities capabilities(SqlDialectVersion version) {
+        var sql1992 = SqlDialectVersion.of(1992);
+        var sql2008 = SqlDialectVersion.of(2008);
+        return VersionedDialectCapabilities.builder(version)
+            .supports(sql1992,
+                SqlFeature.DATE_TYPED_LITERAL,
+                SqlFeature.TIME_TYPED_LITERAL,
+                SqlFeature.TIMESTAMP_TYPED_LITERAL,
+                SqlFeature.INTERVAL_LITERAL,
+                SqlFeature.BIT_STRING_LITERAL,
+                SqlFeature.HEX_STRING_LITERAL,
+                SqlFeature.LOCKING_CLAUSE
+            )
+            .supports(sql2008, SqlFeature.IS_DISTINCT_FROM_PREDICATE)
+            // CUSTOM_OPERATOR is not part of the SQL standard; keep enabled for ANSI parser extensions.
+            .supports(SqlFeature.CUSTOM_OPERATOR)
+            .build();
     }
 
     /**
@@ -52,10 +75,7 @@ public class AnsiSpecs implements Specs {
      */
     @Override
     public Lookups lookups() {
-        if (lookups == null) {
-            lookups = new AnsiLookups();
-        }
-        return lookups;
+        return LOOKUPS;
     }
 
     /**
@@ -69,10 +89,7 @@ public class AnsiSpecs implements Specs {
      */
     @Override
     public IdentifierQuoting identifierQuoting() {
-        if (identifierQuoting == null) {
-            identifierQuoting = IdentifierQuoting.of('"');
-        }
-        return identifierQuoting;
+        return IDENTIFIER_QUOTING;
     }
 
     /**
@@ -82,24 +99,6 @@ public class AnsiSpecs implements Specs {
      */
     @Override
     public DialectCapabilities capabilities() {
-        if (capabilities == null) {
-            var sql1992 = SqlDialectVersion.of(1992);
-            var sql2008 = SqlDialectVersion.of(2008);
-            capabilities = VersionedDialectCapabilities.builder(version)
-                .supports(sql1992,
-                    SqlFeature.DATE_TYPED_LITERAL,
-                    SqlFeature.TIME_TYPED_LITERAL,
-                    SqlFeature.TIMESTAMP_TYPED_LITERAL,
-                    SqlFeature.INTERVAL_LITERAL,
-                    SqlFeature.BIT_STRING_LITERAL,
-                    SqlFeature.HEX_STRING_LITERAL,
-                    SqlFeature.LOCKING_CLAUSE
-                )
-                .supports(sql2008, SqlFeature.IS_DISTINCT_FROM_PREDICATE)
-                // CUSTOM_OPERATOR is not part of the SQL standard; keep enabled for ANSI parser extensions.
-                .supports(SqlFeature.CUSTOM_OPERATOR)
-                .build();
-        }
         return capabilities;
     }
 
@@ -110,9 +109,6 @@ public class AnsiSpecs implements Specs {
      */
     @Override
     public OperatorPolicy operatorPolicy() {
-        if (operatorPolicy == null) {
-            operatorPolicy = new AnsiOperatorPolicy();
-        }
-        return operatorPolicy;
+        return OPERATOR_POLICY;
     }
 }
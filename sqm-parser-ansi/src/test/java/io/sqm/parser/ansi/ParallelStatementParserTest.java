@@ -0,0 +1,28 @@
+package io.sqm.parser.ansi;
+
+import io.sqm.core.StatementSequence;
+import io.sqm.parser.ParallelStatementParser;
+import io.sqm.parser.spi.ParseContext;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelStatementParserTest {
+
+    @Test
+    void ansiParallelParseMatchesSequentialParse() {
+        var sb = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            sb.append("SELECT a, 'x;").append(i).append("' FROM \"t;").append(i).append("\" WHERE b = ").append(i).append(";\n");
+            sb.append("INSERT INTO users (id) VALUES (").append(i).append(");\n");
+        }
+        var sql = sb.toString();
+
+        var parallel = ParallelStatementParser.of(new AnsiSpecs()).parse(sql);
+        var sequential = ParseContext.of(new AnsiSpecs()).parse(StatementSequence.class, sql);
+
+        assertTrue(parallel.ok(), parallel.errorMessage());
+        assertEquals(400, parallel.value().statements().size());
+        assertEquals(sequential.value(), parallel.value());
+    }
+}
@@ -0,0 +1,88 @@
+package io.sqm.parser.ansi;
+
+import io.sqm.core.Statement;
+import io.sqm.core.dialect.SqlDialectId;
+import io.sqm.parser.ParseCache;
+import io.sqm.parser.spi.ParseContext;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParseCacheTest {
+
+    private final ParseContext ctx = ParseContext.of(new AnsiSpecs());
+    private final ParseCache cache = ParseCache.builder().literalInsensitive(true).build();
+
+    private Statement cached(String sql) {
+        var result = cache.parse(SqlDialectId.ANSI, ctx, Statement.class, sql);
+        assertTrue(result.ok(), result.errorMessage());
+        return result.value();
+    }
+
+    private Statement parsed(String sql) {
+        return ctx.parse(Statement.class, sql).value();
+    }
+
+    @Test
+    void rebindsLiteralsOfStatementsWithSameShape() {
+        var first = cached("SELECT id, 'tag' FROM users WHERE id = 42 AND name = 'alice' AND score > 1.5");
+        var second = cached("SELECT id,'tag' FROM users WHERE id = 7 AND name = 'o''brien' AND score > 2.25");
+
+        assertEquals(parsed("SELECT id, 'tag' FROM users WHERE id = 7 AND name = 'o''brien' AND score > 2.25"), second);
+        assertNotEquals(first, second);
+        assertEquals(1, cache.stats().hits());
+        assertEquals(1, cache.stats().size());
+    }
+
+    @Test
+    void returnsCachedModelWhenLiteralsAreUnchanged() {
+        var first = cached("SELECT * FROM t WHERE a = 1");
+
+        assertSame(first, cached("SELECT *   FROM t WHERE a = 1 -- same"));
+    }
+
+    @Test
+    void keepsNumberShapesApart() {
+        cached("SELECT * FROM t WHERE a = 1");
+        var decimal = cached("SELECT * FROM t WHERE a = 1.0");
+
+        assertEquals(parsed("SELECT * FROM t WHERE a = 1.0"), decimal);
+        assertEquals(0, cache.stats().hits());
+        assertEquals(2, cache.stats().size());
+    }
+
+    @Test
+    void requiresExactTextForLiteralsOutsidePlainLiteralExpressions() {
+        cached("SELECT CAST(a AS VARCHAR(10)) FROM t WHERE d = DATE '2024-01-01' AND b = 5");
+
+        var rebound = cached("SELECT CAST(a AS VARCHAR(10)) FROM t WHERE d = DATE '2024-01-01' AND b = 6");
+        var otherPrecision = cached("SELECT CAST(a AS VARCHAR(20)) FROM t WHERE d = DATE '2024-01-01' AND b = 6");
+        var otherDate = cached("SELECT CAST(a AS VARCHAR(10)) FROM t WHERE d = DATE '2025-01-01' AND b = 6");
+
+        assertEquals(parsed("SELECT CAST(a AS VARCHAR(10)) FROM t WHERE d = DATE '2024-01-01' AND b = 6"), rebound);
+        assertEquals(parsed("SELECT CAST(a AS VARCHAR(20)) FROM t WHERE d = DATE '2024-01-01' AND b = 6"), otherPrecision);
+        assertEquals(parsed("SELECT CAST(a AS VARCHAR(10)) FROM t WHERE d = DATE '2025-01-01' AND b = 6"), otherDate);
+        assertEquals(1, cache.stats().hits());
+        assertEquals(3, cache.stats().misses());
+    }
+
+    @Test
+    void bindsRepeatedLiteralsIndependently() {
+        cached("SELECT * FROM t WHERE a = 1 OR b = 1 LIMIT 10");
+
+        var rebound = cached("SELECT * FROM t WHERE a = 2 OR b = 3 LIMIT 20");
+
+        assertEquals(parsed("SELECT * FROM t WHERE a = 2 OR b = 3 LIMIT 20"), rebound);
+    }
+
+    @Test
+    void rebindsSlotsNextToKeywordLiterals() {
+        cached("SELECT * FROM t WHERE a = NULL AND b = 1 AND c = TRUE AND d = 'x'");
+
+        var rebound = cached("SELECT * FROM t WHERE a = NULL AND b = 2 AND c = TRUE AND d = 'y'");
+
+        assertEquals(parsed("SELECT * FROM t WHERE a = NULL AND b = 2 AND c = TRUE AND d = 'y'"), rebound);
+        assertEquals(1, cache.stats().hits());
+        assertEquals(1, cache.stats().size());
+    }
+}
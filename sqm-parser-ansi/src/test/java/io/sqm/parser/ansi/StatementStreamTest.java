@@ -0,0 +1,42 @@
+package io.sqm.parser.ansi;
+
+import io.sqm.core.InsertStatement;
+import io.sqm.core.Query;
+import io.sqm.core.StatementSequence;
+import io.sqm.parser.StatementStream;
+import io.sqm.parser.spi.ParseContext;
+import io.sqm.parser.spi.ParseResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementStreamTest {
+
+    @Test
+    void ansiStreamMatchesSequenceParser() {
+        var sql = "SELECT 'a;b' AS \"x;y\" FROM t; -- ;\nINSERT INTO users (id) VALUES (1);; /* ; */ SELECT 2";
+        var ctx = ParseContext.of(new AnsiSpecs());
+
+        var streamed = StatementStream.of(ctx, new StringReader(sql)).stream().map(ParseResult::value).toList();
+        var sequence = ctx.parse(StatementSequence.class, sql);
+
+        assertTrue(sequence.ok(), sequence.errorMessage());
+        assertEquals(sequence.value().statements(), streamed);
+        assertInstanceOf(Query.class, streamed.get(0));
+        assertInstanceOf(InsertStatement.class, streamed.get(1));
+    }
+
+    @Test
+    void ansiStreamReportsAbsoluteErrorLocation() {
+        var sql = "SELECT 1;\nSELECT FROM;\nSELECT 3";
+
+        var results = StatementStream.of(ParseContext.of(new AnsiSpecs()), new StringReader(sql)).stream().toList();
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(1).isError());
+        assertEquals(2, results.get(1).problems().getFirst().line());
+        assertTrue(results.get(2).ok());
+    }
+}
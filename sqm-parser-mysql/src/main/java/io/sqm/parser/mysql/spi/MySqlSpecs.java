@@ -14,15 +14,17 @@ import java.util.Set;
 /**
  * MySQL parser specifications, including parser registrations, lookups,
  * identifier quoting rules, and feature gating capabilities.
+ * <p>
+ * Instances are immutable and safe to share across threads and parse contexts.
  */
 public class MySqlSpecs implements Specs {
 
-    private final SqlDialectVersion version;
+    private static final Lookups LOOKUPS = new MySqlLookups();
+    private static final OperatorPolicy OPERATOR_POLICY = new AnsiOperatorPolicy();
+
     private final Set<MySqlSqlMode> sqlModes;
-    private Lookups lookups;
-    private IdentifierQuoting identifierQuoting;
-    private DialectCapabilities capabilities;
-    private OperatorPolicy operatorPolicy;
+    private final IdentifierQuoting identifierQuoting;
+    private final DialectCapabilities capabilities;
 
     /**
      * Creates MySQL specs for the baseline 8.0.14 version using backtick identifier quoting.
@@ -47,11 +49,15 @@ public class MySqlSpecs implements Specs {
      * @param sqlModes explicit SQL modes that affect parser behavior.
      */
     public MySqlSpecs(SqlDialectVersion version, Set<MySqlSqlMode> sqlModes) {
-        this.version = Objects.requireNonNull(version, "version");
+        Objects.requireNonNull(version, "version");
         Objects.requireNonNull(sqlModes, "sqlModes");
         var normalizedModes = EnumSet.noneOf(MySqlSqlMode.class);
         normalizedModes.addAll(sqlModes);
         this.sqlModes = Set.copyOf(normalizedModes);
+        this.identifierQuoting = this.sqlModes.contains(MySqlSqlMode.ANSI_QUOTES)
+            ? IdentifierQuoting.of('`', '"')
+            : IdentifierQuoting.of('`');
+        this.capabilities = MySqlCapabilities.of(version);
     }
 
     /**
@@ -81,10 +87,7 @@ public class MySqlSpecs implements Specs {
      */
     @Override
     public Lookups lookups() {
-        if (lookups == null) {
-            lookups = new MySqlLookups();
-        }
-        return lookups;
+        return LOOKUPS;
     }
 
     /**
@@ -94,11 +97,6 @@ public class MySqlSpecs implements Specs {
      */
     @Override
     public IdentifierQuoting identifierQuoting() {
-        if (identifierQuoting == null) {
-            identifierQuoting = sqlModes.contains(MySqlSqlMode.ANSI_QUOTES)
-                ? IdentifierQuoting.of('`', '"')
-                : IdentifierQuoting.of('`');
-        }
         return identifierQuoting;
     }
 
@@ -118,9 +116,6 @@ public class MySqlSpecs implements Specs {
      */
     @Override
     public DialectCapabilities capabilities() {
-        if (capabilities == null) {
-            capabilities = MySqlCapabilities.of(version);
-        }
         return capabilities;
     }
 
@@ -131,9 +126,6 @@ public class MySqlSpecs implements Specs {
      */
     @Override
     public OperatorPolicy operatorPolicy() {
-        if (operatorPolicy == null) {
-            operatorPolicy = new AnsiOperatorPolicy();
-        }
-        return operatorPolicy;
+        return OPERATOR_POLICY;
     }
 }
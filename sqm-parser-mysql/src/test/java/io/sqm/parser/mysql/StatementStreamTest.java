@@ -0,0 +1,28 @@
+package io.sqm.parser.mysql;
+
+import io.sqm.core.StatementSequence;
+import io.sqm.parser.StatementStream;
+import io.sqm.parser.mysql.spi.MySqlSpecs;
+import io.sqm.parser.spi.ParseContext;
+import io.sqm.parser.spi.ParseResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementStreamTest {
+
+    @Test
+    void mysqlStreamKeepsSemicolonsInBacktickIdentifiers() {
+        var sql = "SELECT `a;b` FROM `t;1`; SELECT /*+ NO_INDEX(t) */ id FROM t";
+        var ctx = ParseContext.of(new MySqlSpecs());
+
+        var streamed = StatementStream.of(ctx, new StringReader(sql)).stream().map(ParseResult::value).toList();
+        var sequence = ctx.parse(StatementSequence.class, sql);
+
+        assertTrue(sequence.ok(), sequence.errorMessage());
+        assertEquals(2, streamed.size());
+        assertEquals(sequence.value().statements(), streamed);
+    }
+}
@@ -13,14 +13,16 @@ import java.util.Objects;
 /**
  * PostgreSQL parser specifications, including parser registrations, lookups,
  * dialect capabilities, and operator policy.
+ * <p>
+ * Instances are immutable and safe to share across threads and parse contexts.
  */
 public class PostgresSpecs implements Specs {
 
-    private Lookups lookups;
-    private IdentifierQuoting identifierQuoting;
-    private DialectCapabilities capabilities;
-    private OperatorPolicy operatorPolicy;
-    private final SqlDialectVersion version;
+    private static final Lookups LOOKUPS = new AnsiLookups();
+    private static final IdentifierQuoting IDENTIFIER_QUOTING = IdentifierQuoting.of('"');
+    private static final OperatorPolicy OPERATOR_POLICY = new PostgresOperatorPolicy(new AnsiOperatorPolicy());
+
+    private final DialectCapabilities capabilities;
 
     /**
      * Creates PostgreSQL specs for the latest supported major version.
@@ -35,7 +37,7 @@ public class PostgresSpecs implements Specs {
      * @param version PostgreSQL version used to evaluate feature availability
      */
     public PostgresSpecs(SqlDialectVersion version) {
-        this.version = Objects.requireNonNull(version, "version");
+        this.capabilities = PostgresCapabilities.of(Objects.requireNonNull(version, "version"));
     }
 
     /**
@@ -55,10 +57,7 @@ public class PostgresSpecs implements Specs {
      */
     @Override
     public Lookups lookups() {
-        if (lookups == null) {
-            lookups = new AnsiLookups();
-        }
-        return lookups;
+        return LOOKUPS;
     }
 
     /**
@@ -72,10 +71,7 @@ public class PostgresSpecs implements Specs {
      */
     @Override
     public IdentifierQuoting identifierQuoting() {
-        if (identifierQuoting == null) {
-            identifierQuoting = IdentifierQuoting.of('"');
-        }
-        return identifierQuoting;
+        return IDENTIFIER_QUOTING;
     }
 
     /**
@@ -85,9 +81,6 @@ public class PostgresSpecs implements Specs {
      */
     @Override
     public DialectCapabilities capabilities() {
-        if (capabilities == null) {
-            capabilities = PostgresCapabilities.of(version);
-        }
         return capabilities;
     }
 
@@ -98,9 +91,6 @@ public class PostgresSpecs implements Specs {
      */
     @Override
     public OperatorPolicy operatorPolicy() {
-        if (operatorPolicy == null) {
-            operatorPolicy = new PostgresOperatorPolicy(new AnsiOperatorPolicy());
-        }
-        return operatorPolicy;
+        return OPERATOR_POLICY;
     }
 }
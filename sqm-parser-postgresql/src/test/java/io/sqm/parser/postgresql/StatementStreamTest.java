@@ -0,0 +1,28 @@
+package io.sqm.parser.postgresql;
+
+import io.sqm.core.StatementSequence;
+import io.sqm.parser.StatementStream;
+import io.sqm.parser.postgresql.spi.PostgresSpecs;
+import io.sqm.parser.spi.ParseContext;
+import io.sqm.parser.spi.ParseResult;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementStreamTest {
+
+    @Test
+    void postgresStreamKeepsSemicolonsInDollarAndEscapeStrings() {
+        var sql = "SELECT $fn$ a; b $fn$; SELECT E'x\\';y'; SELECT $$;$$ || 'z'";
+        var ctx = ParseContext.of(new PostgresSpecs());
+
+        var streamed = StatementStream.of(ctx, new StringReader(sql)).stream().map(ParseResult::value).toList();
+        var sequence = ctx.parse(StatementSequence.class, sql);
+
+        assertTrue(sequence.ok(), sequence.errorMessage());
+        assertEquals(3, streamed.size());
+        assertEquals(sequence.value().statements(), streamed);
+    }
+}
@@ -17,15 +17,16 @@ import java.util.Objects;
 /**
  * SQL Server parser specifications, including parser registrations, identifier
  * quoting rules, and feature gating capabilities.
+ * <p>
+ * Instances are immutable and safe to share across threads and parse contexts.
  */
 public class SqlServerSpecs implements Specs {
 
-    private final SqlDialectVersion version;
-    private final boolean quotedIdentifierMode;
-    private Lookups lookups;
-    private IdentifierQuoting identifierQuoting;
-    private DialectCapabilities capabilities;
-    private OperatorPolicy operatorPolicy;
+    private static final Lookups LOOKUPS = new AnsiLookups();
+    private static final OperatorPolicy OPERATOR_POLICY = new AnsiOperatorPolicy();
+
+    private final IdentifierQuoting identifierQuoting;
+    private final DialectCapabilities capabilities;
 
     /**
      * Creates SQL Server specs for the baseline 2019 version using bracket identifiers.
@@ -50,8 +51,10 @@ public class SqlServerSpecs implements Specs {
      * @param quotedIdentifierMode if {@code true}, double-quoted identifiers are accepted in addition to brackets.
      */
     public SqlServerSpecs(SqlDialectVersion version, boolean quotedIdentifierMode) {
-        this.version = Objects.requireNonNull(version, "version");
-        this.quotedIdentifierMode = quotedIdentifierMode;
+        this.identifierQuoting = quotedIdentifierMode
+            ? IdentifierQuoting.of('[', '"')
+            : IdentifierQuoting.of('[');
+        this.capabilities = SqlServerCapabilities.of(Objects.requireNonNull(version, "version"));
     }
 
     /**
@@ -71,10 +74,7 @@ public class SqlServerSpecs implements Specs {
      */
     @Override
     public Lookups lookups() {
-        if (lookups == null) {
-            lookups = new AnsiLookups();
-        }
-        return lookups;
+        return LOOKUPS;
     }
 
     /**
@@ -84,11 +84,6 @@ public class SqlServerSpecs implements Specs {
      */
     @Override
     public IdentifierQuoting identifierQuoting() {
-        if (identifierQuoting == null) {
-            identifierQuoting = quotedIdentifierMode
-                ? IdentifierQuoting.of('[', '"')
-                : IdentifierQuoting.of('[');
-        }
         return identifierQuoting;
     }
 
@@ -99,9 +94,6 @@ public class SqlServerSpecs implements Specs {
      */
     @Override
     public DialectCapabilities capabilities() {
-        if (capabilities == null) {
-            capabilities = SqlServerCapabilities.of(version);
-        }
         return capabilities;
     }
 
@@ -112,9 +104,6 @@ public class SqlServerSpecs implements Specs {
      */
     @Override
     public OperatorPolicy operatorPolicy() {
-        if (operatorPolicy == null) {
-            operatorPolicy = new AnsiOperatorPolicy();
-        }
-        return operatorPolicy;
+        return OPERATOR_POLICY;
     }
 }
@@ -0,0 +1,28 @@
+package io.sqm.parser.sqlserver;
+
+import io.sqm.core.StatementSequence;
+import io.sqm.parser.StatementStream;
+import io.sqm.parser.spi.ParseContext;
+import io.sqm.parser.sqlserver.spi.SqlServerSpecs;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementStreamTest {
+
+    @Test
+    void sqlServerStreamKeepsSemicolonsInBracketIdentifiers() {
+        var sql = "SELECT [a;b] FROM [users];\r\nSELECT TOP (1) [id] FROM [t]";
+        var ctx = ParseContext.of(new SqlServerSpecs());
+
+        var results = StatementStream.of(ctx, new StringReader(sql)).stream().toList();
+        var sequence = ctx.parse(StatementSequence.class, sql);
+
+        assertTrue(sequence.ok(), sequence.errorMessage());
+        assertEquals(2, results.size());
+        assertEquals(sequence.value().statements().get(0), results.get(0).value());
+        assertEquals(sequence.value().statements().get(1), results.get(1).value());
+    }
+}
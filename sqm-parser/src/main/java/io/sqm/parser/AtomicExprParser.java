@@ -201,14 +201,12 @@ public class AtomicExprParser {
             return null;
         }
         int mark = cur.mark();
-        try {
-            cur.advance(); // consume '('
-            var inner = ctx.parse(Expression.class, cur);
-            cur.expect("Expected )", TokenType.RPAREN);
-            return inner;
-        } catch (ParserException ex) {
+        cur.advance(); // consume '('
+        var inner = ctx.parse(Expression.class, cur);
+        if (!cur.consumeIf(TokenType.RPAREN)) {
             cur.restore(mark);
             return null;
         }
+        return inner;
     }
 }
@@ -2,7 +2,6 @@ package io.sqm.parser;
 
 import io.sqm.core.*;
 import io.sqm.parser.core.Cursor;
-import io.sqm.parser.core.ParserException;
 import io.sqm.parser.core.TokenType;
 import io.sqm.parser.spi.ParseContext;
 import io.sqm.parser.spi.ParseResult;
@@ -149,25 +148,23 @@ public class AtomicPredicateParser {
             return null;
         }
         int mark = cur.mark();
-        try {
-            cur.advance(); // consume '('
+        cur.advance(); // consume '('
 
-            var inner = ctx.parse(Predicate.class, cur);
-            cur.expect("Expected )", TokenType.RPAREN);
-
-            if (cur.matchAny(TokenType.AND, TokenType.OR, TokenType.RPAREN, TokenType.EOF)) {
-                // Yes, this is a proper grouped predicate
-                return inner;
-            }
-
-            // e.g. "(a)" in "(a) IN (...)": this is an expression, not a predicate
-            cur.restore(mark);
-            return null;
-        } catch (ParserException ex) {
+        var inner = ctx.parse(Predicate.class, cur);
+        if (!cur.consumeIf(TokenType.RPAREN)) {
             // Parsing inner predicate failed → treat as expression
             cur.restore(mark);
             return null;
         }
+
+        if (cur.matchAny(TokenType.AND, TokenType.OR, TokenType.RPAREN, TokenType.EOF)) {
+            // Yes, this is a proper grouped predicate
+            return inner;
+        }
+
+        // e.g. "(a)" in "(a) IN (...)": this is an expression, not a predicate
+        cur.restore(mark);
+        return null;
     }
 
     /**
@@ -13,6 +13,7 @@ public class DefaultParseContext implements ParseContext {
 
     private final Specs specs;
     private final Deque<Class<?>> callstack;
+    private ParseLocations locations = ParseLocations.none();
 
     /**
      * Creates an instance of the class with the provided {@link Specs}.
@@ -77,4 +78,36 @@ public class DefaultParseContext implements ParseContext {
     public Deque<Class<?>> callstack() {
         return callstack;
     }
+
+    /**
+     * Returns the context to its initial state so it can be reused for another parse.
+     * Parsing leaves the context clean on return, so this only matters after an aborted parse.
+     */
+    public void reset() {
+        callstack.clear();
+        locations = ParseLocations.none();
+    }
+
+    /**
+     * Gets the source locations of the text currently being parsed.
+     *
+     * @return source locations.
+     */
+    @Override
+    public ParseLocations locations() {
+        return locations;
+    }
+
+    /**
+     * Replaces the source locations of the text being parsed.
+     *
+     * @param locations source locations of the new text.
+     * @return the previous source locations.
+     */
+    @Override
+    public ParseLocations locations(ParseLocations locations) {
+        var previous = this.locations;
+        this.locations = locations;
+        return previous;
+    }
 }
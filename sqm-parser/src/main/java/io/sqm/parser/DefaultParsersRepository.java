@@ -1,19 +1,16 @@
 package io.sqm.parser;
 
 import io.sqm.core.Node;
-import io.sqm.core.repos.Handler;
+import io.sqm.core.repos.HandlerTable;
 import io.sqm.parser.spi.Parser;
 import io.sqm.parser.spi.ParsersRepository;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * A simple, thread-safe registry of SpecParsers by (model type).
  */
 public class DefaultParsersRepository implements ParsersRepository {
 
-    private final Map<Class<?>, Handler<?>> parsers = new ConcurrentHashMap<>();
+    private final HandlerTable<Parser<?>> parsers = new HandlerTable<>();
 
     /**
      * Creates an empty parser repository.
@@ -24,11 +21,7 @@ public class DefaultParsersRepository implements ParsersRepository {
     @Override
     @SuppressWarnings("unchecked")
     public <T extends Node> Parser<T> get(Class<T> type) {
-        var p = parsers.get(type);
-        if (p != null) {
-            return (Parser<T>) p;
-        }
-        return null;
+        return (Parser<T>) parsers.get(type);
     }
 
     @Override
@@ -0,0 +1,120 @@
+package io.sqm.parser;
+
+import io.sqm.core.Statement;
+import io.sqm.core.StatementSequence;
+import io.sqm.parser.core.StatementSplitter;
+import io.sqm.parser.spi.ParseResult;
+import io.sqm.parser.spi.Parser;
+import io.sqm.parser.spi.Specs;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static io.sqm.parser.spi.ParseResult.error;
+
+/**
+ * Parses multi-statement SQL scripts into a {@link StatementSequence} using several threads.
+ * <p>
+ * A cheap lexical pre-pass ({@link StatementSplitter}) cuts the script at {@code ;} separators,
+ * respecting string literals, dollar quotes, comments and the dialect identifier quoting. The
+ * segments are then parsed concurrently on a {@link ForkJoinPool}, each segment with a context borrowed
+ * from a {@link ParseContextPool} over one shared, immutable {@link Specs}, and the statements are
+ * reassembled in source order.
+ * <p>
+ * The result matches {@code ctx.parse(StatementSequence.class, sql)}: empty statements are ignored
+ * and the sequence is all-or-nothing. When several segments fail, the problems of the first failing
+ * segment in source order are reported, with positions, lines and columns relative to the whole script.
+ * <p>
+ * Instances are thread-safe.
+ */
+public final class ParallelStatementParser {
+    private static final Parser<StatementSequence> SEQUENCE_PARSER = new StatementSequenceParser();
+
+    private final ParseContextPool contexts;
+    private final ForkJoinPool pool;
+
+    private ParallelStatementParser(ParseContextPool contexts, ForkJoinPool pool) {
+        this.contexts = Objects.requireNonNull(contexts, "contexts");
+        this.pool = Objects.requireNonNull(pool, "pool");
+    }
+
+    /**
+     * Creates a parallel parser that runs on the common {@link ForkJoinPool}.
+     *
+     * @param specs immutable dialect specs shared by all workers
+     * @return parallel statement parser
+     */
+    public static ParallelStatementParser of(Specs specs) {
+        return of(ParseContextPool.of(specs), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a parallel parser that runs on the provided pool.
+     *
+     * @param specs immutable dialect specs shared by all workers
+     * @param pool  pool used to parse statements
+     * @return parallel statement parser
+     */
+    public static ParallelStatementParser of(Specs specs, ForkJoinPool pool) {
+        return of(ParseContextPool.of(specs), pool);
+    }
+
+    /**
+     * Creates a parallel parser that borrows its parse contexts from an existing context pool.
+     *
+     * @param contexts parse context pool, possibly shared with other callers
+     * @param pool     pool used to parse statements
+     * @return parallel statement parser
+     */
+    public static ParallelStatementParser of(ParseContextPool contexts, ForkJoinPool pool) {
+        return new ParallelStatementParser(contexts, pool);
+    }
+
+    /**
+     * Parses the script into a statement sequence.
+     *
+     * @param sql SQL script text
+     * @return a parse result with the statement sequence or the problems of the first failing statement
+     */
+    public ParseResult<StatementSequence> parse(String sql) {
+        Objects.requireNonNull(sql, "sql cannot be null.");
+        if (sql.isBlank()) {
+            return error("The spec cannot be blank.", -1);
+        }
+
+        var segments = new ArrayList<StatementSplitter.Segment>();
+        StatementSplitter.of(sql, contexts.specs().identifierQuoting()).forEachRemaining(segments::add);
+
+        List<ParseResult<? extends StatementSequence>> results;
+        if (segments.size() < 2) {
+            results = segments.stream().map(this::parseSegment).toList();
+        }
+        else {
+            results = pool.submit(() -> IntStream.range(0, segments.size())
+                    .parallel()
+                    .<ParseResult<? extends StatementSequence>>mapToObj(i -> parseSegment(segments.get(i)))
+                    .toList())
+                .join();
+        }
+
+        var statements = new ArrayList<Statement>();
+        for (var result : results) {
+            if (result.isError()) {
+                return error(result);
+            }
+            statements.addAll(result.value().statements());
+        }
+        return ParseResult.ok(StatementSequence.of(statements));
+    }
+
+    private ParseResult<? extends StatementSequence> parseSegment(StatementSplitter.Segment segment) {
+        var result = contexts.parse(SEQUENCE_PARSER, segment.sql());
+        if (result.isError()) {
+            return new ParseResult<>(null, result.problems().stream().map(segment::relocate).toList());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,447 @@
+package io.sqm.parser;
+
+import io.sqm.core.LiteralExpr;
+import io.sqm.core.Node;
+import io.sqm.core.dialect.SqlDialectId;
+import io.sqm.core.internal.BoundedCache;
+import io.sqm.core.transform.LiteralTransforms;
+import io.sqm.core.transform.RebindLiteralsTransformer;
+import io.sqm.parser.core.Lexer;
+import io.sqm.parser.core.ParserException;
+import io.sqm.parser.core.TokenBuffer;
+import io.sqm.parser.core.TokenType;
+import io.sqm.parser.spi.IdentifierQuoting;
+import io.sqm.parser.spi.ParseContext;
+import io.sqm.parser.spi.ParseResult;
+import io.sqm.parser.spi.Parser;
+import io.sqm.parser.spi.ParsersRepository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, thread-safe cache of successful parse results.
+ * <p>
+ * Entries are keyed by dialect id, the requested node type and a normalized form of the SQL text built
+ * from the dialect lexer tokens, so texts that differ only in whitespace or comments share one entry
+ * (optimizer hints are tokens and stay significant). Because the model is immutable, a hit returns the
+ * same node instance that the first parse produced. Failed parses are never cached, so problem
+ * positions always refer to the text that was actually submitted.
+ * <p>
+ * In {@linkplain Builder#literalInsensitive(boolean) literal-insensitive} mode, number and string
+ * tokens are replaced by slots when the key is built, so statements that differ only in literal values
+ * share one template entry, much like a prepared-statement plan cache. On a hit, the cached model is
+ * re-bound with the literal values of the submitted text ({@link LiteralTransforms#rebind}); only the
+ * paths leading to changed literals are rebuilt. Slots that do not map to a plain {@link LiteralExpr}
+ * (for example the string of {@code DATE '...'} or a type precision) must match the template text
+ * exactly, otherwise the text is parsed normally. Literals that do not come from a slot, such as
+ * {@code NULL}, {@code TRUE} and {@code FALSE}, keep their template value. Number tokens are read with
+ * the dialect's {@link Parser#parseNumber(String)}, so slot values match the literals the parser builds.
+ * <p>
+ * Lookups, hits included, take no locks, so concurrent parses do not wait for each other. The cache evicts
+ * approximately least recently used entries once either the entry limit or the weight limit is exceeded.
+ * The weight of an entry is the length of its normalized text in characters.
+ */
+public final class ParseCache {
+    private static final long PROBE_BASE = 1_000_000_007L;
+
+    private final boolean literalInsensitive;
+    private final BoundedCache<Key, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private ParseCache(Builder builder) {
+        this.entries = new BoundedCache<>(builder.maximumSize, builder.maximumWeight, Entry::weight);
+        this.literalInsensitive = builder.literalInsensitive;
+    }
+
+    /**
+     * Creates a new cache builder.
+     *
+     * @return builder with unbounded weight and a limit of 10,000 entries
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Parses the text with the provided context, reusing a cached result when an equivalent text was
+     * parsed before for the same dialect and node type.
+     *
+     * @param dialect dialect the context parses
+     * @param ctx     parse context used on a cache miss
+     * @param type    the expected result type
+     * @param sql     SQL text to parse
+     * @param <T>     node type
+     * @return a {@link ParseResult} containing either the parsed node or an error
+     */
+    public <T extends Node> ParseResult<? extends T> parse(SqlDialectId dialect, ParseContext ctx, Class<T> type, String sql) {
+        Objects.requireNonNull(ctx, "ctx");
+        return parse(dialect, ctx.identifierQuoting(), ctx.parsers(), type, sql, text -> ctx.parse(type, text));
+    }
+
+    /**
+     * Parses the text with a pooled context, reusing a cached result when an equivalent text was
+     * parsed before for the same dialect and node type.
+     *
+     * @param dialect dialect the pool parses
+     * @param pool    parse context pool used on a cache miss
+     * @param type    the expected result type
+     * @param sql     SQL text to parse
+     * @param <T>     node type
+     * @return a {@link ParseResult} containing either the parsed node or an error
+     */
+    public <T extends Node> ParseResult<? extends T> parse(SqlDialectId dialect, ParseContextPool pool, Class<T> type, String sql) {
+        Objects.requireNonNull(pool, "pool");
+        return parse(dialect, pool.specs().identifierQuoting(), pool.specs().parsers(), type, sql, text -> pool.parse(type, text));
+    }
+
+    /**
+     * Gets a snapshot of the cache counters.
+     *
+     * @return cache statistics
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), entries.evictions(), entries.size(), entries.weight());
+    }
+
+    /**
+     * Removes all entries. Counters are kept.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends Node> ParseResult<? extends T> parse(SqlDialectId dialect,
+                                                            IdentifierQuoting quoting,
+                                                            ParsersRepository parsers,
+                                                            Class<T> type,
+                                                            String sql,
+                                                            Function<String, ParseResult<? extends T>> parser) {
+        Objects.requireNonNull(dialect, "dialect");
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(sql, "sql cannot be null.");
+
+        var text = Normalized.of(sql, quoting, literalInsensitive ? parsers.require(LiteralExpr.class) : null);
+        if (text == null) {
+            return parser.apply(sql);
+        }
+
+        var key = new Key(dialect, type, text.key());
+        var entry = entries.get(key);
+        if (entry != null && entry.matches(text)) {
+            hits.increment();
+            return (ParseResult<? extends T>) entry.bind(text);
+        }
+        misses.increment();
+        if (entry != null) {
+            return parser.apply(sql);
+        }
+
+        var result = parser.apply(sql);
+        if (result.ok()) {
+            entries.put(key, Entry.of(result, text, parser));
+        }
+        return result;
+    }
+
+    /**
+     * Whitespace and comment insensitive form of a SQL text.
+     * <p>
+     * Every token contributes its type and its exact source text, length-prefixed so that distinct token
+     * sequences never collide. In literal-insensitive mode number and string tokens contribute only their
+     * type and shape; their source spans and values are kept as slots.
+     *
+     * @param sql    submitted text
+     * @param key    normalized key text
+     * @param shapes  slot shape: {@code s} for strings, {@code d} for numbers the dialect reads as
+     *                {@link Double}, {@code i} for other numbers
+     * @param starts  source start of each slot token
+     * @param ends    source end of each slot token
+     * @param values  literal value each slot token produces
+     * @param numbers parser whose {@link Parser#parseNumber(String)} turns number tokens into values
+     */
+    private record Normalized(String sql, String key, char[] shapes, int[] starts, int[] ends, Object[] values, Parser<?> numbers) {
+
+        /**
+         * Normalizes the text.
+         *
+         * @param numbers literal parser of the dialect to replace literals by slots, or {@code null} to keep
+         *                literal text in the key
+         */
+        static Normalized of(String sql, IdentifierQuoting quoting, Parser<?> numbers) {
+            TokenBuffer tokens;
+            try {
+                tokens = Lexer.lex(sql, quoting);
+            } catch (ParserException e) {
+                return null;
+            }
+            var sb = new StringBuilder(sql.length() + tokens.size() * 3);
+            var slots = 0;
+            var shapes = new char[0];
+            var starts = new int[0];
+            var ends = new int[0];
+            var values = new Object[0];
+            for (int i = 0; i < tokens.size() - 1; i++) {
+                var type = tokens.type(i);
+                var start = tokens.start(i);
+                var end = tokens.end(i);
+                sb.append((char) type.ordinal());
+                if (numbers != null && (type == TokenType.NUMBER || type == TokenType.STRING)) {
+                    if (slots == starts.length) {
+                        var capacity = slots * 2 + 4;
+                        shapes = Arrays.copyOf(shapes, capacity);
+                        starts = Arrays.copyOf(starts, capacity);
+                        ends = Arrays.copyOf(ends, capacity);
+                        values = Arrays.copyOf(values, capacity);
+                    }
+                    var lexeme = tokens.token(i).lexeme();
+                    var value = type == TokenType.STRING ? lexeme : numbers.parseNumber(lexeme);
+                    shapes[slots] = type == TokenType.STRING ? 's' : value instanceof Double ? 'd' : 'i';
+                    starts[slots] = start;
+                    ends[slots] = end;
+                    values[slots] = value;
+                    sb.append(shapes[slots]);
+                    slots++;
+                }
+                else {
+                    sb.append(end - start).append(':').append(sql, start, end);
+                }
+            }
+            return new Normalized(sql, sb.toString(),
+                Arrays.copyOf(shapes, slots), Arrays.copyOf(starts, slots), Arrays.copyOf(ends, slots), Arrays.copyOf(values, slots), numbers);
+        }
+
+        int slots() {
+            return starts.length;
+        }
+
+        String slotText(int slot) {
+            return sql.substring(starts[slot], ends[slot]);
+        }
+
+        String[] slotTexts() {
+            var texts = new String[slots()];
+            for (int slot = 0; slot < texts.length; slot++) {
+                texts[slot] = slotText(slot);
+            }
+            return texts;
+        }
+
+        /**
+         * Replaces every slot with a distinct literal of the same shape, so the literals of the probe
+         * model identify the slot they came from.
+         */
+        String probe() {
+            var sb = new StringBuilder(sql.length() + slots() * 16);
+            var last = 0;
+            for (int slot = 0; slot < slots(); slot++) {
+                sb.append(sql, last, starts[slot]).append(probeText(slot));
+                last = ends[slot];
+            }
+            return sb.append(sql, last, sql.length()).toString();
+        }
+
+        /**
+         * Finds the slot whose probe literal produced the value.
+         *
+         * @return slot index, or {@code -1} when the value does not come from a probe literal
+         */
+        int probeSlot(Object value) {
+            for (int slot = 0; slot < slots(); slot++) {
+                var text = probeText(slot);
+                var probe = shapes[slot] == 's' ? text.substring(1, text.length() - 1) : numbers.parseNumber(text);
+                if (probe.equals(value)) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        private String probeText(int slot) {
+            return switch (shapes[slot]) {
+                case 's' -> "'sqm_probe_" + slot + "'";
+                case 'd' -> (PROBE_BASE + slot) + ".5";
+                default -> String.valueOf(PROBE_BASE + slot);
+            };
+        }
+    }
+
+    private record Key(SqlDialectId dialect, Class<?> type, String text) {
+    }
+
+    /**
+     * Cached model with the mapping from its plain literals (in encounter order) to slots.
+     *
+     * @param result    successful parse result of the first text
+     * @param weight    entry weight
+     * @param bindings  slot index of each plain literal, or {@code -1} when the literal keeps its value
+     * @param originals value of each plain literal in the cached model
+     * @param fixed     exact source text required for each slot, or {@code null} when the slot is re-bound
+     */
+    private record Entry(ParseResult<? extends Node> result, int weight, int[] bindings, List<Object> originals, String[] fixed) {
+
+        static Entry of(ParseResult<? extends Node> result, Normalized text, Function<String, ? extends ParseResult<? extends Node>> parser) {
+            var weight = text.key().length();
+            var fixed = text.slotTexts();
+            if (fixed.length == 0) {
+                return exact(result, weight, fixed);
+            }
+
+            var probe = parser.apply(text.probe());
+            if (probe.isError()) {
+                return exact(result, weight, fixed);
+            }
+            var probeValues = literals(probe.value());
+            var values = literals(result.value());
+            if (probeValues.size() != values.size()) {
+                return exact(result, weight, fixed);
+            }
+
+            var bindings = new int[values.size()];
+            var bound = new boolean[fixed.length];
+            var pinned = new boolean[fixed.length];
+            for (int i = 0; i < bindings.length; i++) {
+                var slot = text.probeSlot(probeValues.get(i));
+                bindings[i] = -1;
+                if (slot < 0) {
+                    // a literal that does not come from a slot (NULL, TRUE, FALSE) keeps its value, unless the
+                    // probe changed it in a way that cannot be traced back to a slot
+                    if (!Objects.equals(values.get(i), probeValues.get(i))) {
+                        return exact(result, weight, fixed);
+                    }
+                }
+                else if (bound[slot] || !Objects.equals(values.get(i), text.values()[slot])) {
+                    pinned[slot] = true;
+                }
+                else {
+                    bindings[i] = slot;
+                    bound[slot] = true;
+                }
+            }
+            for (int slot = 0; slot < fixed.length; slot++) {
+                if (bound[slot] && !pinned[slot]) {
+                    fixed[slot] = null;
+                }
+            }
+            return new Entry(result, weight, bindings, values, fixed);
+        }
+
+        private static Entry exact(ParseResult<? extends Node> result, int weight, String[] fixed) {
+            return new Entry(result, weight, new int[0], List.of(), fixed);
+        }
+
+        private static List<Object> literals(Node node) {
+            var collector = new RebindLiteralsTransformer(List.of());
+            node.accept(collector);
+            return collector.originals();
+        }
+
+        boolean matches(Normalized text) {
+            for (int slot = 0; slot < fixed.length; slot++) {
+                if (fixed[slot] != null && !fixed[slot].equals(text.slotText(slot))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        ParseResult<? extends Node> bind(Normalized text) {
+            if (bindings.length == 0) {
+                return result;
+            }
+            var values = new ArrayList<>(bindings.length);
+            for (int i = 0; i < bindings.length; i++) {
+                values.add(bindings[i] < 0 ? originals.get(i) : text.values()[bindings[i]]);
+            }
+            var node = LiteralTransforms.rebind(result.value(), values);
+            return node == result.value() ? result : ParseResult.ok(node);
+        }
+    }
+
+    /**
+     * Snapshot of cache counters.
+     *
+     * @param hits      number of lookups served from the cache
+     * @param misses    number of lookups that required a parse
+     * @param evictions number of entries evicted by the size or weight limits
+     * @param size      current number of entries
+     * @param weight    current total weight of entries
+     */
+    public record Stats(long hits, long misses, long evictions, long size, long weight) {
+        /**
+         * Gets the ratio of hits to lookups.
+         *
+         * @return hit rate between {@code 0} and {@code 1}, or {@code 0} when nothing was looked up
+         */
+        public double hitRate() {
+            var lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+
+    /**
+     * Builder for {@link ParseCache}.
+     */
+    public static final class Builder {
+        private long maximumSize = 10_000;
+        private long maximumWeight = Long.MAX_VALUE;
+        private boolean literalInsensitive;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of cached entries.
+         *
+         * @param maximumSize maximum number of entries
+         * @return this builder
+         */
+        public Builder maximumSize(long maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("maximumSize must be positive");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum total weight of cached entries, measured in normalized text characters.
+         *
+         * @param maximumWeight maximum total weight
+         * @return this builder
+         */
+        public Builder maximumWeight(long maximumWeight) {
+            if (maximumWeight < 1) {
+                throw new IllegalArgumentException("maximumWeight must be positive");
+            }
+            this.maximumWeight = maximumWeight;
+            return this;
+        }
+
+        /**
+         * Enables sharing one entry between texts that differ only in number and string literal values.
+         *
+         * @param literalInsensitive {@code true} to key entries by statement shape instead of literal text
+         * @return this builder
+         */
+        public Builder literalInsensitive(boolean literalInsensitive) {
+            this.literalInsensitive = literalInsensitive;
+            return this;
+        }
+
+        /**
+         * Builds the cache.
+         *
+         * @return parse cache
+         */
+        public ParseCache build() {
+            return new ParseCache(this);
+        }
+    }
+}
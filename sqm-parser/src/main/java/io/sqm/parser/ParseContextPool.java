@@ -0,0 +1,116 @@
+package io.sqm.parser;
+
+import io.sqm.core.Node;
+import io.sqm.parser.spi.ParseContext;
+import io.sqm.parser.spi.ParseResult;
+import io.sqm.parser.spi.Parser;
+import io.sqm.parser.spi.Specs;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Thread-safe pool of reusable {@link ParseContext} instances sharing one immutable {@link Specs}.
+ * <p>
+ * Request-oriented callers (middleware, transpilers, services) can parse through the pool instead of
+ * creating a new context per request. A context is borrowed for the duration of a single parse and
+ * returned afterward; when all pooled contexts are busy a temporary one is created. The pool does not
+ * rely on thread-local state, so it behaves the same on platform and virtual threads.
+ */
+public final class ParseContextPool {
+    private final Specs specs;
+    private final AtomicReferenceArray<DefaultParseContext> slots;
+
+    private ParseContextPool(Specs specs, int capacity) {
+        this.specs = Objects.requireNonNull(specs, "specs");
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Creates a pool sized for the number of available processors.
+     *
+     * @param specs immutable dialect specs shared by the pooled contexts
+     * @return parse context pool
+     */
+    public static ParseContextPool of(Specs specs) {
+        return new ParseContextPool(specs, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Creates a pool retaining at most {@code capacity} idle contexts.
+     *
+     * @param specs    immutable dialect specs shared by the pooled contexts
+     * @param capacity maximum number of idle contexts kept by the pool
+     * @return parse context pool
+     */
+    public static ParseContextPool of(Specs specs, int capacity) {
+        return new ParseContextPool(specs, capacity);
+    }
+
+    /**
+     * Gets the specs shared by the pooled contexts.
+     *
+     * @return dialect specs
+     */
+    public Specs specs() {
+        return specs;
+    }
+
+    /**
+     * Parses the text using a pooled context.
+     *
+     * @param type the expected result type
+     * @param spec the textual representation to parse
+     * @param <T>  node type
+     * @return a {@link ParseResult} containing either the parsed node or an error
+     */
+    public <T extends Node> ParseResult<? extends T> parse(Class<T> type, String spec) {
+        var ctx = acquire();
+        try {
+            return ctx.parse(type, spec);
+        } finally {
+            release(ctx);
+        }
+    }
+
+    /**
+     * Parses the text with the given parser using a pooled context.
+     *
+     * @param parser resolved parser implementation
+     * @param spec   the textual representation to parse
+     * @param <T>    node type
+     * @return a {@link ParseResult} containing either the parsed node or an error
+     */
+    public <T extends Node> ParseResult<? extends T> parse(Parser<T> parser, String spec) {
+        var ctx = acquire();
+        try {
+            return ctx.parse(parser, spec);
+        } finally {
+            release(ctx);
+        }
+    }
+
+    private DefaultParseContext acquire() {
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.getPlain(i) != null) {
+                var ctx = slots.getAndSet(i, null);
+                if (ctx != null) {
+                    return ctx;
+                }
+            }
+        }
+        return new DefaultParseContext(specs);
+    }
+
+    private void release(DefaultParseContext ctx) {
+        ctx.reset();
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.getPlain(i) == null && slots.compareAndSet(i, null, ctx)) {
+                return;
+            }
+        }
+    }
+}
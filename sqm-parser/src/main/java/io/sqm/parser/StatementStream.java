@@ -0,0 +1,151 @@
+package io.sqm.parser;
+
+import io.sqm.core.Statement;
+import io.sqm.core.StatementSequence;
+import io.sqm.parser.core.StatementSplitter;
+import io.sqm.parser.spi.ParseContext;
+import io.sqm.parser.spi.ParseResult;
+import io.sqm.parser.spi.Parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streaming parser for large SQL scripts.
+ * <p>
+ * Unlike {@code ctx.parse(StatementSequence.class, sql)}, which lexes the whole script and returns a
+ * fully materialized {@link StatementSequence}, this iterator reads the script incrementally and
+ * yields one parsed {@link Statement} at a time. The input is split into segments at {@code ;}
+ * separators by {@link StatementSplitter}; each segment is lexed and parsed on demand, so memory is
+ * bounded by the largest statement instead of the script size.
+ * <p>
+ * A segment that fails to parse produces a single error result whose problem positions, lines and
+ * columns refer to the whole script; iteration then continues with the next segment. Statements
+ * that are not separated by {@code ;} are parsed from the same segment, as in
+ * {@link StatementSequenceParser}.
+ * <p>
+ * Works with any {@link io.sqm.parser.spi.Specs} implementation: the segment splitter honors the
+ * dialect {@link io.sqm.parser.spi.IdentifierQuoting}, and statements are parsed with the provided
+ * context. Instances are not thread-safe.
+ */
+public final class StatementStream implements Iterator<ParseResult<? extends Statement>>, Closeable {
+    private static final Parser<StatementSequence> SEQUENCE_PARSER = new StatementSequenceParser();
+
+    private final ParseContext ctx;
+    private final StatementSplitter splitter;
+    private final Closeable source;
+    private final Deque<ParseResult<? extends Statement>> pending = new ArrayDeque<>();
+
+    private StatementStream(ParseContext ctx, StatementSplitter splitter, Closeable source) {
+        this.ctx = ctx;
+        this.splitter = splitter;
+        this.source = source;
+    }
+
+    /**
+     * Creates a statement stream reading SQL text from the reader.
+     *
+     * @param ctx    parse context of the target dialect
+     * @param reader SQL script source; closed by {@link #close()}
+     * @return statement stream
+     */
+    public static StatementStream of(ParseContext ctx, Reader reader) {
+        Objects.requireNonNull(ctx, "ctx");
+        return new StatementStream(ctx, StatementSplitter.of(reader, ctx.identifierQuoting()), reader);
+    }
+
+    /**
+     * Creates a statement stream decoding SQL text from the byte channel.
+     *
+     * @param ctx     parse context of the target dialect
+     * @param channel SQL script source; closed by {@link #close()}
+     * @param charset character set of the script
+     * @return statement stream
+     */
+    public static StatementStream of(ParseContext ctx, ReadableByteChannel channel, Charset charset) {
+        Objects.requireNonNull(channel, "channel");
+        Objects.requireNonNull(charset, "charset");
+        return of(ctx, Channels.newReader(channel, charset));
+    }
+
+    /**
+     * Checks whether another statement result is available.
+     *
+     * @return {@code true} if {@link #next()} will return a result
+     * @throws UncheckedIOException if reading the script fails
+     */
+    @Override
+    public boolean hasNext() {
+        while (pending.isEmpty() && splitter.hasNext()) {
+            parseSegment(splitter.next());
+        }
+        return !pending.isEmpty();
+    }
+
+    /**
+     * Returns the result of parsing the next statement.
+     *
+     * @return a parse result with either a statement or the problems of the failed segment
+     * @throws UncheckedIOException if reading the script fails
+     */
+    @Override
+    public ParseResult<? extends Statement> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return pending.removeFirst();
+    }
+
+    /**
+     * Returns the remaining statement results as a sequential stream.
+     * Closing the returned stream closes this statement stream.
+     *
+     * @return stream of parse results
+     */
+    public Stream<ParseResult<? extends Statement>> stream() {
+        var spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Closes the underlying script source.
+     *
+     * @throws IOException if closing the source fails
+     */
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+
+    private void parseSegment(StatementSplitter.Segment segment) {
+        var result = ctx.parse(SEQUENCE_PARSER, segment.sql());
+        if (result.isError()) {
+            var problems = result.problems().stream().map(segment::relocate).toList();
+            pending.add(new ParseResult<>(null, problems));
+            return;
+        }
+        for (var statement : result.value().statements()) {
+            pending.add(ParseResult.ok(statement));
+        }
+    }
+}
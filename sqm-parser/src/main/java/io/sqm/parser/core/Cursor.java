@@ -2,7 +2,6 @@ package io.sqm.parser.core;
 
 import io.sqm.parser.spi.IdentifierQuoting;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
@@ -11,14 +10,34 @@ import java.util.function.Function;
 /**
  * Cursor for token list that maintains current position.
  * All parsers share the same cursor instance to advance naturally.
+ * <p>
+ * A cursor is a view over a {@link TokenBuffer} shared with the cursor it was sliced
+ * from: {@link #advance(int)} and {@link #removeBrackets()} only narrow the
+ * {@code [from, to)} window and never copy tokens. Every cursor ends with an
+ * {@link TokenType#EOF} token, which is either the trailing EOF of the shared
+ * buffer or a synthetic one created on first access. Type-only checks such as
+ * {@link #match(TokenType)} do not materialize tokens from the buffer.
  */
 public final class Cursor {
-    private final List<Token> tokens;
+    private final TokenBuffer tokens;
+    /**
+     * Absolute index of the first token visible through this cursor.
+     */
+    private final int from;
+    /**
+     * Absolute index (exclusive) of the last non-EOF token visible through this cursor.
+     */
+    private final int to;
     /**
      * Source offset applied to token positions when this cursor was built from
      * a relative token list.
      */
     private final int basePos;
+    /**
+     * Structural index shared by all cursors sliced from the same token array.
+     */
+    private final TokenIndex index;
+    private Token eof;
     private int pos;
 
     /**
@@ -37,13 +56,34 @@ public final class Cursor {
      * @param basePos source offset applied to token positions in this cursor
      */
     public Cursor(List<Token> tokens, int basePos) {
-        var copy = new ArrayList<>(tokens);
-        if (copy.isEmpty() || copy.getLast().type() != TokenType.EOF) {
-            int pos = copy.isEmpty() ? 0 : copy.getLast().pos();
-            copy.add(new Token(TokenType.EOF, "", pos));
+        this(TokenBuffer.of(tokens), basePos);
+    }
+
+    /**
+     * Creates Cursor over a token buffer produced by the {@link Lexer}.
+     *
+     * @param tokens  a token buffer
+     * @param basePos source offset applied to token positions in this cursor
+     */
+    public Cursor(TokenBuffer tokens, int basePos) {
+        this(tokens, 0, tokens.size(), basePos, TokenIndex.of(tokens));
+    }
+
+    /**
+     * Creates a view over {@code tokens[from, to)}. If the last token in the range is
+     * {@link TokenType#EOF} it becomes the cursor terminator, otherwise a synthetic EOF
+     * is created lazily.
+     */
+    private Cursor(TokenBuffer tokens, int from, int to, int basePos, TokenIndex index) {
+        if (to > from && tokens.type(to - 1) == TokenType.EOF) {
+            to--;
+            this.eof = tokens.token(to);
         }
-        this.tokens = copy;
+        this.tokens = tokens;
+        this.from = from;
+        this.to = to;
         this.basePos = basePos;
+        this.index = index;
         this.pos = 0;
     }
 
@@ -55,8 +95,7 @@ public final class Cursor {
      * @return a new instance of {@link Cursor}.
      */
     public static Cursor of(String spec, IdentifierQuoting identifierQuoting) {
-        var ts = Lexer.lexAll(spec, identifierQuoting);
-        return new Cursor(ts);
+        return new Cursor(Lexer.lex(spec, identifierQuoting), 0);
     }
 
     /**
@@ -65,7 +104,7 @@ public final class Cursor {
      * @return a number of tokens.
      */
     public int size() {
-        return tokens.size();
+        return to - from + 1;
     }
 
     /**
@@ -92,8 +131,8 @@ public final class Cursor {
      * @return a token.
      */
     public Token peek() {
-        if (pos >= tokens.size()) throw new NoSuchElementException("No more tokens");
-        return tokens.get(pos);
+        if (pos >= size()) throw new NoSuchElementException("No more tokens");
+        return tokenAt(pos);
     }
 
     /**
@@ -103,8 +142,8 @@ public final class Cursor {
      * @return a token.
      */
     public Token peek(int lookahead) {
-        if (pos + lookahead >= tokens.size()) throw new NoSuchElementException("No more tokens");
-        return tokens.get(pos + lookahead);
+        if (pos + lookahead >= size()) throw new NoSuchElementException("No more tokens");
+        return tokenAt(pos + lookahead);
     }
 
     /***
@@ -112,21 +151,31 @@ public final class Cursor {
      * @return current Token
      */
     public Token advance() {
-        if (pos >= tokens.size()) throw new NoSuchElementException("No more tokens");
-        return tokens.get(pos++);
+        if (pos >= size()) throw new NoSuchElementException("No more tokens");
+        return tokenAt(pos++);
     }
 
     /**
      * Slices the Cursor into the new Cursor starting from the current position. A new Cursor will have EOF token at its end.
+     * <p>
+     * The returned cursor shares the token array with this cursor, so slicing is O(1)
+     * regardless of the slice length.
      *
      * @param end the end position for the slice.
      * @return A new Cursor containing a sub list of tokens.
      */
     public Cursor advance(int end) {
-        if (end < pos || end > tokens.size()) {
+        if (end < pos || end > size()) {
             throw new IndexOutOfBoundsException("Invalid slice end: " + end);
         }
-        var cur = new Cursor(tokens.subList(pos, end), basePos);
+        Cursor cur;
+        if (end == size()) {
+            cur = new Cursor(tokens, from + pos, to, basePos, index);
+            cur.eof = tokenAt(to - from);
+        }
+        else {
+            cur = new Cursor(tokens, from + pos, from + end, basePos, index);
+        }
         pos = end;
         return cur;
     }
@@ -139,7 +188,7 @@ public final class Cursor {
     public Cursor removeBrackets() {
         if (match(TokenType.LPAREN)) {
             var i = find(Set.of(TokenType.RPAREN), 1);
-            if (i == tokens.size() - 2) { // last token is always EOR
+            if (i == size() - 2) { // last token is always EOF
                 advance(); // skip '(' on current cursor.
                 var cur = advance(i); // extract tokens in between the brackets.
                 advance(); // skip ')' on current cursor.
@@ -183,7 +232,8 @@ public final class Cursor {
      * @return True if the current token type matches the provided one.
      */
     public boolean match(TokenType type) {
-        return peek().type() == type;
+        if (pos >= size()) throw new NoSuchElementException("No more tokens");
+        return typeAt(pos) == type;
     }
 
     /**
@@ -216,10 +266,11 @@ public final class Cursor {
      * @return True if the token type matches the provided one.
      */
     public boolean match(TokenType type, int lookahead) {
-        if (lookahead >= tokens.size()) {
+        if (lookahead >= size()) {
             return false;
         }
-        return peek(lookahead).type() == type;
+        if (pos + lookahead >= size()) throw new NoSuchElementException("No more tokens");
+        return typeAt(pos + lookahead) == type;
     }
 
     /**
@@ -231,7 +282,7 @@ public final class Cursor {
      * @return True if the token type matches the provided one.
      */
     public boolean match(TokenType type, String lexeme, int lookahead) {
-        if (lookahead >= tokens.size()) {
+        if (lookahead >= size()) {
             return false;
         }
         var t = peek(lookahead);
@@ -246,7 +297,7 @@ public final class Cursor {
      * @return True if the token type matches the provided one.
      */
     public boolean match(Function<Token, Boolean> func, int lookahead) {
-        if (lookahead >= tokens.size()) {
+        if (lookahead >= size()) {
             return false;
         }
         return func.apply(peek(lookahead));
@@ -291,11 +342,11 @@ public final class Cursor {
      * @return True if one of the provided token types matches the current + lookahead.
      */
     public boolean matchAny(Set<TokenType> types, int lookahead) {
-        if (lookahead >= tokens.size()) {
+        if (lookahead >= size()) {
             return false;
         }
-        var type = peek(lookahead).type();
-        return types.contains(type);
+        if (pos + lookahead >= size()) throw new NoSuchElementException("No more tokens");
+        return types.contains(typeAt(pos + lookahead));
     }
 
     /**
@@ -443,7 +494,34 @@ public final class Cursor {
      * @return size if not found.
      */
     public int find(Set<TokenType> types, Set<TokenType> startSkip, Set<TokenType> endSkip, Set<TokenType> stopLookup, int lookahead) {
-        return find(t -> types.contains(t.type()), startSkip, endSkip, stopLookup, lookahead);
+        if (!isParenSkip(startSkip, endSkip) || types.contains(TokenType.EOF)) {
+            return find(t -> types.contains(t.type()), startSkip, endSkip, stopLookup, lookahead);
+        }
+        int start = from + pos + lookahead;
+        int limit = stopLimit(stopLookup, start);
+        int found = limit;
+        for (var type : types) {
+            found = index.findAtLevel(type, null, start, found);
+        }
+        return found < limit ? found - from : size();
+    }
+
+    /**
+     * Find the index of the first token of the given type that also satisfies the lookup function at
+     * top-level (parenDepth == 0), scanning from 'current position'.
+     * <p>
+     * Only tokens of {@code type} are tested, which lets the lookup use the token index instead of
+     * scanning the stream.
+     *
+     * @param type       a token type to look for.
+     * @param lookupFunc a custom lookup function applied to tokens of {@code type}.
+     * @param lookahead  a number of token to skip at the beginning.
+     * @return size if not found.
+     */
+    public int find(TokenType type, Function<Token, Boolean> lookupFunc, int lookahead) {
+        int start = from + pos + lookahead;
+        int found = index.findAtLevel(type, lookupFunc, start, to);
+        return found < to ? found - from : size();
     }
 
     /**
@@ -501,10 +579,17 @@ public final class Cursor {
      * @return size if not found.
      */
     public int find(Function<Token, Boolean> lookupFunc, Set<TokenType> startSkip, Set<TokenType> endSkip, Set<TokenType> stopLookup, int lookahead) {
+        if (isParenSkip(startSkip, endSkip)) {
+            int start = from + pos + lookahead;
+            int limit = stopLimit(stopLookup, start);
+            int found = index.findAtLevel(lookupFunc, start, limit);
+            return found < limit ? found - from : size();
+        }
         int depth = 0;
 
-        for (int i = pos + lookahead; i < tokens.size(); i++) {
-            var t = tokens.get(i);
+        int size = size();
+        for (int i = pos + lookahead; i < size; i++) {
+            var t = tokenAt(i);
 
             if (stopLookup.contains(t.type())) {
                 break;
@@ -524,6 +609,42 @@ public final class Cursor {
                 return i;
             }
         }
-        return tokens.size();
+        return size;
+    }
+
+    private static boolean isParenSkip(Set<TokenType> startSkip, Set<TokenType> endSkip) {
+        return startSkip.size() == 1 && startSkip.contains(TokenType.LPAREN)
+            && endSkip.size() == 1 && endSkip.contains(TokenType.RPAREN);
+    }
+
+    /**
+     * Returns the absolute index at which a scan starting at {@code start} stops because of a stop token.
+     * The terminating EOF is always beyond {@link #to}, so it never needs an index lookup.
+     */
+    private int stopLimit(Set<TokenType> stopLookup, int start) {
+        if (stopLookup.size() == 1 && stopLookup.contains(TokenType.EOF)) {
+            return to;
+        }
+        return index.firstOfAny(stopLookup, start, to);
+    }
+
+    /**
+     * Returns the token at the given cursor-relative index, resolving the terminating EOF.
+     */
+    private Token tokenAt(int index) {
+        if (index < to - from) {
+            return tokens.token(from + index);
+        }
+        if (eof == null) {
+            eof = new Token(TokenType.EOF, "", to > from ? tokens.start(to - 1) : 0);
+        }
+        return eof;
+    }
+
+    /**
+     * Returns the token type at the given cursor-relative index without materializing the token.
+     */
+    private TokenType typeAt(int index) {
+        return index < to - from ? tokens.type(from + index) : TokenType.EOF;
     }
 }
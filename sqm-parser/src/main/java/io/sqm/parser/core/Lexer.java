@@ -3,17 +3,29 @@ package io.sqm.parser.core;
 import io.sqm.parser.spi.IdentifierQuoting;
 
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static io.sqm.parser.core.TokenType.*;
 
 /**
  * This class is used to split the string into a list of tokens.
+ * <p>
+ * Scanning only determines token types and source spans; lexemes are decoded from
+ * the span when a {@link Token} is materialized. {@link #lex(String, IdentifierQuoting)}
+ * exposes this directly as a {@link TokenBuffer}, which stores tokens as primitive
+ * arrays and materializes {@link Token} instances lazily.
  */
 public final class Lexer {
     private static final Map<String, TokenType> KEYWORDS = new HashMap<>();
-    private static final Pattern NUM = Pattern.compile("(?:\\d+\\.\\d*|\\d*\\.\\d+|\\d+)(?:[eE][+-]?\\d+)?");
+    /**
+     * Open-addressing keyword table probed with an ASCII case-insensitive hash computed
+     * directly over the source characters.
+     */
+    private static final int KEYWORD_TABLE_SIZE = 512;
+    private static final String[] KEYWORD_NAMES = new String[KEYWORD_TABLE_SIZE];
+    private static final String[] KEYWORD_LOWER_NAMES = new String[KEYWORD_TABLE_SIZE];
+    private static final TokenType[] KEYWORD_TYPES = new TokenType[KEYWORD_TABLE_SIZE];
+    private static final int[] KEYWORD_SLOTS_BY_TYPE = new int[TokenType.values().length];
+    private static final int MAX_KEYWORD_LENGTH;
 
     static {
         KEYWORDS.put("AND", AND);
@@ -145,12 +157,33 @@ public final class Lexer {
         KEYWORDS.put("NOWAIT", NOWAIT);
         KEYWORDS.put("SKIP", SKIP);
         KEYWORDS.put("LOCKED", LOCKED);
+
+        Arrays.fill(KEYWORD_SLOTS_BY_TYPE, -1);
+        int maxLength = 0;
+        for (var entry : KEYWORDS.entrySet()) {
+            var name = entry.getKey();
+            int slot = keywordHash(name, 0, name.length()) & (KEYWORD_TABLE_SIZE - 1);
+            while (KEYWORD_NAMES[slot] != null) {
+                slot = (slot + 1) & (KEYWORD_TABLE_SIZE - 1);
+            }
+            KEYWORD_NAMES[slot] = name;
+            KEYWORD_LOWER_NAMES[slot] = name.toLowerCase(Locale.ROOT).intern();
+            KEYWORD_TYPES[slot] = entry.getValue();
+            KEYWORD_SLOTS_BY_TYPE[entry.getValue().ordinal()] = slot;
+            maxLength = Math.max(maxLength, name.length());
+        }
+        MAX_KEYWORD_LENGTH = maxLength;
     }
 
     private final IdentifierQuoting identifierQuoting;
     private final String s;
     private final int len;
     private int pos = 0;
+    /**
+     * Source span of the most recently scanned token.
+     */
+    private int tokenStart;
+    private int tokenEnd;
 
     /**
      * Creates lexer for the provided SQL text.
@@ -181,6 +214,27 @@ public final class Lexer {
         return out;
     }
 
+    /**
+     * Converts a string into a {@link TokenBuffer}.
+     * <p>
+     * Only token types and source spans are recorded while scanning; no lexeme strings
+     * or {@link Token} instances are created until a token is requested from the buffer.
+     * The buffer always ends with an {@link TokenType#EOF} token.
+     *
+     * @param s                 a string to convert.
+     * @param identifierQuoting dialect-specific identifier quoting rules
+     * @return a token buffer.
+     */
+    public static TokenBuffer lex(String s, IdentifierQuoting identifierQuoting) {
+        Lexer lx = new Lexer(s, identifierQuoting);
+        var buffer = new TokenBuffer(lx, Math.max(16, s.length() / 4));
+        for (TokenType type = lx.scan(); type != EOF; type = lx.scan()) {
+            buffer.add(type, lx.tokenStart, lx.tokenEnd);
+        }
+        buffer.add(EOF, s.length(), s.length());
+        return buffer;
+    }
+
     private static boolean isIdentifierStart(char c) {
         return Character.isLetter(c) || c == '_' || c == '$';
     }
@@ -193,9 +247,44 @@ public final class Lexer {
         return "+-*/<>=~!@#%^&|`?".indexOf(c) >= 0;
     }
 
-    private static TokenType keywordOf(String keyword) {
-        String k = keyword.toUpperCase(Locale.ROOT);
-        return KEYWORDS.get(k);
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int keywordHash(CharSequence text, int start, int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            h = 31 * h + (c >= 'a' && c <= 'z' ? c - ('a' - 'A') : c);
+        }
+        return h ^ (h >>> 9);
+    }
+
+    /**
+     * Looks up a keyword for {@code s[start, end)} without creating intermediate strings.
+     *
+     * @return keyword table slot or {@code -1} if the identifier is not a keyword
+     */
+    private int keywordSlotOf(int start, int end) {
+        int length = end - start;
+        if (length > MAX_KEYWORD_LENGTH) {
+            return -1;
+        }
+        for (int i = start; i < end; i++) {
+            if (s.charAt(i) >= 0x80) {
+                // Non-ASCII letters may still upper-case into a keyword; keep Locale.ROOT semantics.
+                var kw = KEYWORDS.get(s.substring(start, end).toUpperCase(Locale.ROOT));
+                return kw == null ? -1 : KEYWORD_SLOTS_BY_TYPE[kw.ordinal()];
+            }
+        }
+        int slot = keywordHash(s, start, end) & (KEYWORD_TABLE_SIZE - 1);
+        for (String name = KEYWORD_NAMES[slot]; name != null; name = KEYWORD_NAMES[slot]) {
+            if (name.length() == length && s.regionMatches(true, start, name, 0, length)) {
+                return slot;
+            }
+            slot = (slot + 1) & (KEYWORD_TABLE_SIZE - 1);
+        }
+        return -1;
     }
 
     private static boolean isDollarTagStart(char c) {
@@ -212,9 +301,22 @@ public final class Lexer {
      * @return a token.
      */
     public Token next() {
+        var type = scan();
+        return materialize(type, tokenStart, tokenEnd);
+    }
+
+    /**
+     * Scans the next token, recording its source span in {@link #tokenStart} and {@link #tokenEnd}
+     * without decoding the lexeme.
+     *
+     * @return a token type.
+     */
+    private TokenType scan() {
         skipWSandComments();
 
-        if (pos >= len) return new Token(EOF, "", pos);
+        if (pos >= len) {
+            return span(EOF, pos, pos);
+        }
 
         int start = pos;
         char c = s.charAt(pos);
@@ -222,165 +324,241 @@ public final class Lexer {
         // prefixed strings
         if ((c == 'E' || c == 'e') && peekNext() == '\'') {
             pos++; // consume prefix
-            return readStringLiteral(TokenType.ESCAPE_STRING, true);
+            return scanStringLiteral(TokenType.ESCAPE_STRING, true);
         }
         if ((c == 'B' || c == 'b') && peekNext() == '\'') {
             pos++; // consume prefix
-            return readStringLiteral(TokenType.BIT_STRING, false);
+            return scanStringLiteral(TokenType.BIT_STRING, false);
         }
         if ((c == 'X' || c == 'x') && peekNext() == '\'') {
             pos++; // consume prefix
-            return readStringLiteral(TokenType.HEX_STRING, false);
+            return scanStringLiteral(TokenType.HEX_STRING, false);
         }
 
         // strings '...'
-        if (c == '\'') return readString();
+        if (c == '\'') return scanStringLiteral(STRING, false);
 
         // parameters
         if (c == '?') {
             char n = peekNext();
             if (n == '|' || n == '&') {
                 pos += 2;
-                return new Token(OPERATOR, "?" + n, start);
+                return span(OPERATOR, start, pos);
             }
             pos++;
-            return new Token(QMARK, "?", start);
+            return span(QMARK, start, pos);
         }
 
         // : OR :: tokens
         if (c == ':') {
             if (peekNext() == ':') {
                 pos += 2;
-                return new Token(DOUBLE_COLON, "::", start);
+                return span(DOUBLE_COLON, start, pos);
             }
             pos++;
-            return new Token(COLON, ":", start);
+            return span(COLON, start, pos);
         }
 
         // punctuation/operators
         switch (c) {
             case '/':
                 if (peekNext() == '*') {
-                    var hint = readCommentHint();
+                    var hint = scanCommentHint();
                     if (hint != null) {
                         return hint;
                     }
                 }
                 break;
             case '$':
-                var dollarString = readDollarString();
+                var dollarString = scanDollarString();
                 if (dollarString != null) {
                     return dollarString;
                 }
                 pos++;
-                return new Token(DOLLAR, "$", start);
+                return span(DOLLAR, start, pos);
             case '.':
                 pos++;
-                return new Token(DOT, ".", start);
+                return span(DOT, start, pos);
             case ',':
                 pos++;
-                return new Token(COMMA, ",", start);
+                return span(COMMA, start, pos);
             case ';':
                 pos++;
-                return new Token(SEMICOLON, ";", start);
+                return span(SEMICOLON, start, pos);
             case '(':
                 pos++;
-                return new Token(LPAREN, "(", start);
+                return span(LPAREN, start, pos);
             case ')':
                 pos++;
-                return new Token(RPAREN, ")", start);
+                return span(RPAREN, start, pos);
             case '"':
                 if (identifierQuoting.supports('"')) {
-                    return readQuotedIdentifier();
+                    return scanQuotedIdentifier('"', "double-quoted");
                 }
                 pos++;
-                return new Token(QUOTE, "\"", start);
+                return span(QUOTE, start, pos);
             case '[':
                 if (identifierQuoting.supports('[')) {
-                    return readBracketIdentifier();
+                    return scanQuotedIdentifier(']', "bracket-quoted");
                 }
                 pos++;
-                return new Token(LBRACKET, "[", start);
+                return span(LBRACKET, start, pos);
             case ']':
                 pos++;
-                return new Token(RBRACKET, "]", start);
+                return span(RBRACKET, start, pos);
             case '`':
                 if (identifierQuoting.supports('`')) {
-                    return readBacktickIdentifier();
+                    return scanQuotedIdentifier('`', "backtick-quoted");
                 }
                 pos++;
-                return new Token(BACKTICK, "`", start);
+                return span(BACKTICK, start, pos);
         }
 
         // generic operator (custom operators, non-ANSI symbols, etc.)
         if (isOperatorChar(c)) {
             int j = pos;
             while (j < len && isOperatorChar(s.charAt(j))) j++;
-            String op = s.substring(pos, j);
             pos = j;
-            return new Token(OPERATOR, op, start);
+            return span(OPERATOR, start, pos);
         }
 
-        // number?
-        if (Character.isDigit(c)) {
-            Matcher m = NUM.matcher(s).region(pos, len);
-            if (m.lookingAt()) {
-                String num = m.group();
-                pos += num.length();
-                return new Token(NUMBER, num, start);
+        // number: (?:\d+\.\d*|\d*\.\d+|\d+)(?:[eE][+-]?\d+)?
+        if (isAsciiDigit(c)) {
+            int j = pos + 1;
+            while (j < len && isAsciiDigit(s.charAt(j))) j++;
+            if (j < len && s.charAt(j) == '.') {
+                j++;
+                while (j < len && isAsciiDigit(s.charAt(j))) j++;
             }
+            if (j < len && (s.charAt(j) == 'e' || s.charAt(j) == 'E')) {
+                int k = j + 1;
+                if (k < len && (s.charAt(k) == '+' || s.charAt(k) == '-')) k++;
+                if (k < len && isAsciiDigit(s.charAt(k))) {
+                    while (k < len && isAsciiDigit(s.charAt(k))) k++;
+                    j = k;
+                }
+            }
+            pos = j;
+            return span(NUMBER, start, pos);
         }
 
         // identifier/keyword (bare, no quotes; add "quoted" support if needed)
         if (isIdentifierStart(c)) {
             int j = pos + 1;
             while (j < len && isIdentifierPart(s.charAt(j))) j++;
-            String identifier = s.substring(pos, j);
             pos = j;
-            TokenType kw = keywordOf(identifier);
-            return new Token(kw != null ? kw : IDENT, identifier, start);
+            int slot = keywordSlotOf(start, j);
+            return span(slot >= 0 ? KEYWORD_TYPES[slot] : IDENT, start, pos);
         }
 
         throw new ParserException("Unexpected character '" + c + "'", start);
     }
 
-    private Token readString() {
-        return readStringLiteral(STRING, false);
+    private TokenType span(TokenType type, int start, int end) {
+        tokenStart = start;
+        tokenEnd = end;
+        return type;
     }
 
-    private Token readStringLiteral(TokenType type, boolean preserveEscapes) {
+    /**
+     * Creates a {@link Token} for a scanned span, decoding quoted content where needed.
+     *
+     * @param type  token type
+     * @param start source span start
+     * @param end   source span end (exclusive)
+     * @return a token
+     */
+    Token materialize(TokenType type, int start, int end) {
+        return switch (type) {
+            case EOF -> new Token(EOF, "", start);
+            case STRING, BIT_STRING, HEX_STRING -> new Token(type, decodeQuoted(start, end, '\'', false), start);
+            case ESCAPE_STRING -> new Token(type, decodeQuoted(start, end, '\'', true), start);
+            case COMMENT_HINT -> new Token(type, s.substring(start + 3, end - 2).trim(), start);
+            case DOT -> new Token(type, ".", start);
+            case COMMA -> new Token(type, ",", start);
+            case SEMICOLON -> new Token(type, ";", start);
+            case LPAREN -> new Token(type, "(", start);
+            case RPAREN -> new Token(type, ")", start);
+            case QMARK -> new Token(type, "?", start);
+            case COLON -> new Token(type, ":", start);
+            case DOUBLE_COLON -> new Token(type, "::", start);
+            case DOLLAR -> new Token(type, "$", start);
+            case IDENT -> {
+                char c = s.charAt(start);
+                if (end - start >= 2 && (c == '"' || c == '[' || c == '`') && identifierQuoting.supports(c)) {
+                    yield new Token(type, decodeQuoted(start, end, c == '[' ? ']' : c, false), start, c);
+                }
+                yield new Token(type, s.substring(start, end), start);
+            }
+            default -> new Token(type, lexemeOf(type, start, end), start);
+        };
+    }
+
+    /**
+     * Returns the source text of a span, reusing the keyword table strings when the
+     * source spells a keyword in canonical upper or lower case.
+     */
+    private String lexemeOf(TokenType type, int start, int end) {
+        int slot = KEYWORD_SLOTS_BY_TYPE[type.ordinal()];
+        if (slot >= 0) {
+            int length = end - start;
+            if (s.regionMatches(start, KEYWORD_NAMES[slot], 0, length)) {
+                return KEYWORD_NAMES[slot];
+            }
+            if (s.regionMatches(start, KEYWORD_LOWER_NAMES[slot], 0, length)) {
+                return KEYWORD_LOWER_NAMES[slot];
+            }
+        }
+        return s.substring(start, end);
+    }
+
+    private TokenType scanStringLiteral(TokenType type, boolean preserveEscapes) {
         int start = pos;
         pos++; // consume opening quote
-        StringBuilder sb = new StringBuilder();
         while (pos < len) {
             char c = s.charAt(pos++);
             if (preserveEscapes && c == '\\') {
                 if (pos >= len) {
                     throw new ParserException("Unterminated string literal", start);
                 }
-                char next = s.charAt(pos++);
-                sb.append('\\').append(next);
+                pos++;
                 continue;
             }
             if (c == '\'') {
                 if (pos < len && s.charAt(pos) == '\'') {
-                    if (preserveEscapes) {
-                        sb.append("''");
-                    }
-                    else {
-                        sb.append('\'');
-                    }
                     pos++;
                     continue;
                 }
-                return new Token(type, sb.toString(), start);
+                return span(type, start, pos);
             }
-            sb.append(c);
         }
         throw new ParserException("Unterminated string literal", start);
     }
 
-    private Token readDollarString() {
+    /**
+     * Decodes the content between the delimiters of a scanned quoted span. Doubled closing
+     * delimiters collapse into one, except in escape strings where {@code ''} and backslash
+     * escapes are preserved verbatim.
+     */
+    private String decodeQuoted(int start, int end, char close, boolean preserveEscapes) {
+        int contentStart = start + 1;
+        int contentEnd = end - 1;
+        int i = s.indexOf(close, contentStart);
+        if (preserveEscapes || i < 0 || i >= contentEnd) {
+            return s.substring(contentStart, contentEnd);
+        }
+        var sb = new StringBuilder(contentEnd - contentStart);
+        for (i = contentStart; i < contentEnd; i++) {
+            char c = s.charAt(i);
+            sb.append(c);
+            if (c == close) {
+                i++; // skip the doubled delimiter
+            }
+        }
+        return sb.toString();
+    }
+
+    private TokenType scanDollarString() {
         int start = pos;
         int tagStart = pos + 1;
         if (tagStart >= len) {
@@ -410,27 +588,24 @@ public final class Lexer {
         if (end < 0) {
             throw new ParserException("Unterminated dollar-quoted string literal", start);
         }
-        String raw = s.substring(start, end + delim.length());
         pos = end + delim.length();
-        return new Token(DOLLAR_STRING, raw, start);
+        return span(DOLLAR_STRING, start, pos);
     }
 
-    private Token readCommentHint() {
+    private TokenType scanCommentHint() {
         int start = pos;
         if (!(pos + 2 < len && s.charAt(pos) == '/' && s.charAt(pos + 1) == '*' && s.charAt(pos + 2) == '+')) {
             return null;
         }
-        int contentStart = pos + 3;
-        int i = contentStart;
+        int i = pos + 3;
         while (i + 1 < len && !(s.charAt(i) == '*' && s.charAt(i + 1) == '/')) {
             i++;
         }
         if (i + 1 >= len) {
             throw new ParserException("Unterminated optimizer hint comment", start);
         }
-        String hint = s.substring(contentStart, i).trim();
         pos = i + 2;
-        return new Token(COMMENT_HINT, hint, start);
+        return span(COMMENT_HINT, start, pos);
     }
 
     private void skipWSandComments() {
@@ -466,66 +641,20 @@ public final class Lexer {
         return (pos + 1 < len) ? s.charAt(pos + 1) : '\0';
     }
 
-    private Token readQuotedIdentifier() {
-        final int start = pos; // pos is at the opening '"'
-        pos++; // consume opening "
-        StringBuilder sb = new StringBuilder();
-        while (pos < len) {
-            char ch = s.charAt(pos++);
-            if (ch == '"') {
-                // doubled "" -> literal "
-                if (pos < len && s.charAt(pos) == '"') {
-                    sb.append('"');
-                    pos++; // consume the second "
-                    continue;
-                }
-                // closing quote
-                return new Token(TokenType.IDENT, sb.toString(), start, '"');
-            }
-            sb.append(ch);
-        }
-        throw new IllegalArgumentException("Unterminated double-quoted identifier starting at " + start);
-    }
-
-    private Token readBracketIdentifier() {
-        final int start = pos; // pos is at '['
-        pos++; // consume '['
-        StringBuilder sb = new StringBuilder();
-        while (pos < len) {
-            char ch = s.charAt(pos++);
-            if (ch == ']') {
-                // doubled ]] -> literal ]
-                if (pos < len && s.charAt(pos) == ']') {
-                    sb.append(']');
-                    pos++; // consume the second ]
-                    continue;
-                }
-                // closing ]
-                return new Token(TokenType.IDENT, sb.toString(), start, '[');
-            }
-            sb.append(ch);
-        }
-        throw new IllegalArgumentException("Unterminated bracket-quoted identifier starting at " + start);
-    }
-
-    private Token readBacktickIdentifier() {
-        final int start = pos; // pos is at '`'
-        pos++; // consume '`'
-        StringBuilder sb = new StringBuilder();
+    private TokenType scanQuotedIdentifier(char close, String kind) {
+        final int start = pos; // pos is at the opening delimiter
+        pos++; // consume opening delimiter
         while (pos < len) {
             char ch = s.charAt(pos++);
-            if (ch == '`') {
-                // doubled `` -> literal `
-                if (pos < len && s.charAt(pos) == '`') {
-                    sb.append('`');
-                    pos++; // consume the second `
+            if (ch == close) {
+                // doubled closing delimiter -> literal delimiter
+                if (pos < len && s.charAt(pos) == close) {
+                    pos++; // consume the second delimiter
                     continue;
                 }
-                // closing `
-                return new Token(TokenType.IDENT, sb.toString(), start, '`');
+                return span(IDENT, start, pos);
             }
-            sb.append(ch);
         }
-        throw new IllegalArgumentException("Unterminated backtick-quoted identifier starting at " + start);
+        throw new IllegalArgumentException("Unterminated " + kind + " identifier starting at " + start);
     }
 }
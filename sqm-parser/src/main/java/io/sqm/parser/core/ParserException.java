@@ -1,9 +1,13 @@
 package io.sqm.parser.core;
 
-import io.sqm.parser.spi.ParseLocations;
-
 /**
  * Represents a parsing exception.
+ * <p>
+ * Parser exceptions are control flow for rejected input: they are caught by
+ * {@link io.sqm.parser.spi.ParseContext} and turned into {@link io.sqm.parser.spi.ParseResult} errors.
+ * They therefore do not capture a stack trace. Unless given explicitly, the line and column are
+ * attached by the {@link io.sqm.parser.spi.ParseContext} from its source locations, and only when
+ * the error is reported.
  */
 public class ParserException extends RuntimeException {
 
@@ -24,7 +28,7 @@ public class ParserException extends RuntimeException {
      * @param pos source character offset where error occurred
      */
     public ParserException(String message, int pos) {
-        this(message, pos, ParseLocations.locate(pos).line(), ParseLocations.locate(pos).column());
+        this(message, pos, null, null);
     }
 
     /**
@@ -36,6 +40,7 @@ public class ParserException extends RuntimeException {
      * @param column one-based source column where error occurred
      */
     public ParserException(String message, int pos, Integer line, Integer column) {
+        super(message, null, false, false);
         this.message = message;
         this.pos = pos;
         this.line = line;
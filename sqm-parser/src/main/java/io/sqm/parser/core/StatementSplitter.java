@@ -0,0 +1,424 @@
+package io.sqm.parser.core;
+
+import io.sqm.parser.spi.IdentifierQuoting;
+import io.sqm.parser.spi.ParseProblem;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Splits SQL script text into statement segments at {@code ;} separators.
+ * <p>
+ * The splitter performs a cheap lexical pre-pass that recognizes exactly the constructs the
+ * {@link Lexer} treats as opaque: string literals (including {@code E'...'}, {@code B'...'} and
+ * {@code X'...'}), dollar-quoted strings, line and block comments, and quoted identifiers
+ * supported by the dialect {@link IdentifierQuoting}. Semicolons inside those constructs never
+ * split a statement. Like the lexer, it starts comments only at token boundaries: {@code --} and
+ * {@code /*} inside an operator run such as {@code +--} are part of the operator. Segments that
+ * contain only whitespace and comments are skipped.
+ * <p>
+ * When created over a {@link Reader}, input is read in chunks and consumed text is discarded as
+ * segments are produced, so memory stays proportional to the largest statement rather than the
+ * whole script. Unterminated literals or comments extend the segment to the end of input; the
+ * parser then reports the lexical error for that segment.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public final class StatementSplitter implements Iterator<StatementSplitter.Segment> {
+    private static final int CHUNK_SIZE = 8192;
+
+    private final IdentifierQuoting quoting;
+    private final Reader reader;
+    private final char[] chunk;
+    private final CharSequence text;
+    private final StringBuilder buffer;
+    private boolean eof;
+
+    // absolute source offset of text.charAt(0)
+    private int base;
+    // scan position relative to text
+    private int pos;
+    // location of the next segment start
+    private int line = 1;
+    private int lineStart;
+    private boolean pendingCr;
+    private Segment next;
+
+    private StatementSplitter(IdentifierQuoting quoting, Reader reader, String sql) {
+        this.quoting = Objects.requireNonNull(quoting, "quoting");
+        this.reader = reader;
+        if (reader == null) {
+            this.chunk = null;
+            this.buffer = null;
+            this.text = Objects.requireNonNull(sql, "sql");
+            this.eof = true;
+        }
+        else {
+            this.chunk = new char[CHUNK_SIZE];
+            this.buffer = new StringBuilder(CHUNK_SIZE);
+            this.text = buffer;
+        }
+    }
+
+    /**
+     * Creates a splitter over in-memory SQL text.
+     *
+     * @param sql     SQL script text
+     * @param quoting dialect identifier quoting rules
+     * @return statement splitter
+     */
+    public static StatementSplitter of(String sql, IdentifierQuoting quoting) {
+        return new StatementSplitter(quoting, null, sql);
+    }
+
+    /**
+     * Creates a splitter that reads SQL script text incrementally from the reader.
+     * <p>
+     * The reader is not closed by the splitter.
+     *
+     * @param reader  source of SQL script text
+     * @param quoting dialect identifier quoting rules
+     * @return statement splitter
+     */
+    public static StatementSplitter of(Reader reader, IdentifierQuoting quoting) {
+        return new StatementSplitter(quoting, Objects.requireNonNull(reader, "reader"), null);
+    }
+
+    /**
+     * Checks whether another non-empty statement segment is available.
+     *
+     * @return {@code true} if {@link #next()} will return a segment
+     * @throws UncheckedIOException if reading from the underlying reader fails
+     */
+    @Override
+    public boolean hasNext() {
+        while (next == null && available(pos)) {
+            next = scanSegment();
+        }
+        return next != null;
+    }
+
+    /**
+     * Returns the next non-empty statement segment.
+     *
+     * @return statement segment
+     * @throws UncheckedIOException if reading from the underlying reader fails
+     */
+    @Override
+    public Segment next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        var segment = next;
+        next = null;
+        return segment;
+    }
+
+    /**
+     * Scans one segment up to the next separator or end of input.
+     *
+     * @return the segment or {@code null} if it contains no tokens
+     */
+    private Segment scanSegment() {
+        int start = pos;
+        boolean content = false;
+        while (available(pos)) {
+            char c = text.charAt(pos);
+            if (c == ';') {
+                break;
+            }
+            if (Character.isWhitespace(c)) {
+                pos++;
+                continue;
+            }
+            if (c == '-' && at(pos + 1, '-')) {
+                skipLineComment();
+                continue;
+            }
+            if (c == '/' && at(pos + 1, '*')) {
+                // optimizer hints are tokens, plain block comments are not
+                content |= at(pos + 2, '+');
+                skipBlockComment();
+                continue;
+            }
+            content = true;
+            skipToken(c);
+        }
+        int end = pos;
+        Segment segment = null;
+        if (content) {
+            segment = new Segment(text.subSequence(start, end).toString(), base + start, line, base + start - lineStart + 1);
+        }
+        if (available(pos)) {
+            pos++; // consume ';'
+        }
+        advanceLocation(start, pos);
+        compact();
+        return segment;
+    }
+
+    /**
+     * Skips a single token starting at {@code pos}, mirroring the token boundaries of the {@link Lexer}
+     * so that string prefixes and dollar quotes are recognized only at token starts.
+     */
+    private void skipToken(char c) {
+        if ((c == 'E' || c == 'e' || c == 'B' || c == 'b' || c == 'X' || c == 'x') && at(pos + 1, '\'')) {
+            pos++;
+            skipQuoted('\'', c == 'E' || c == 'e');
+            return;
+        }
+        if (c == '\'') {
+            skipQuoted('\'', false);
+            return;
+        }
+        if (c == '$') {
+            skipDollar();
+            return;
+        }
+        if (c == '"' && quoting.supports('"')) {
+            skipQuoted('"', false);
+            return;
+        }
+        if (c == '[' && quoting.supports('[')) {
+            skipQuoted(']', false);
+            return;
+        }
+        if (c == '`') {
+            if (quoting.supports('`')) {
+                skipQuoted('`', false);
+            }
+            else {
+                pos++;
+            }
+            return;
+        }
+        if (c == '?') {
+            pos += at(pos + 1, '|') || at(pos + 1, '&') ? 2 : 1;
+            return;
+        }
+        if (isOperatorChar(c)) {
+            pos++;
+            while (available(pos) && isOperatorChar(text.charAt(pos))) {
+                pos++;
+            }
+            return;
+        }
+        if (c >= '0' && c <= '9') {
+            skipNumber();
+            return;
+        }
+        if (Character.isLetter(c) || c == '_') {
+            pos++;
+            while (available(pos) && isIdentifierPart(text.charAt(pos))) {
+                pos++;
+            }
+            return;
+        }
+        pos++;
+    }
+
+    private void skipQuoted(char close, boolean backslashEscapes) {
+        pos++; // opening delimiter
+        while (available(pos)) {
+            char c = text.charAt(pos++);
+            if (backslashEscapes && c == '\\') {
+                if (available(pos)) {
+                    pos++;
+                }
+                continue;
+            }
+            if (c == close) {
+                if (at(pos, close)) {
+                    pos++;
+                    continue;
+                }
+                return;
+            }
+        }
+    }
+
+    private void skipDollar() {
+        int tagStart = pos + 1;
+        int tagEnd = tagStart;
+        if (!available(tagStart)) {
+            pos++;
+            return;
+        }
+        char first = text.charAt(tagStart);
+        if (first != '$') {
+            if (Character.isDigit(first) || !(Character.isLetter(first) || first == '_')) {
+                pos++;
+                return;
+            }
+            while (available(tagEnd) && (Character.isLetterOrDigit(text.charAt(tagEnd)) || text.charAt(tagEnd) == '_')) {
+                tagEnd++;
+            }
+            if (!at(tagEnd, '$')) {
+                pos++;
+                return;
+            }
+        }
+        var delimiter = "$" + text.subSequence(tagStart, tagEnd) + "$";
+        pos = tagEnd + 1;
+        while (available(pos)) {
+            if (text.charAt(pos) == '$' && matches(pos, delimiter)) {
+                pos += delimiter.length();
+                return;
+            }
+            pos++;
+        }
+    }
+
+    private void skipNumber() {
+        while (available(pos) && isAsciiDigit(text.charAt(pos))) pos++;
+        if (at(pos, '.')) {
+            pos++;
+            while (available(pos) && isAsciiDigit(text.charAt(pos))) pos++;
+        }
+        if (at(pos, 'e') || at(pos, 'E')) {
+            int k = pos + 1;
+            if (at(k, '+') || at(k, '-')) k++;
+            if (available(k) && isAsciiDigit(text.charAt(k))) {
+                while (available(k) && isAsciiDigit(text.charAt(k))) k++;
+                pos = k;
+            }
+        }
+    }
+
+    private void skipLineComment() {
+        pos += 2;
+        while (available(pos) && text.charAt(pos) != '\n') {
+            pos++;
+        }
+    }
+
+    private void skipBlockComment() {
+        pos += 2;
+        while (available(pos)) {
+            if (text.charAt(pos) == '*' && at(pos + 1, '/')) {
+                pos += 2;
+                return;
+            }
+            pos++;
+        }
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    private static boolean isOperatorChar(char c) {
+        return "+-*/<>=~!@#%^&|`?".indexOf(c) >= 0;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private boolean at(int i, char expected) {
+        return available(i) && text.charAt(i) == expected;
+    }
+
+    private boolean matches(int i, String expected) {
+        for (int k = 0; k < expected.length(); k++) {
+            if (!at(i + k, expected.charAt(k))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Makes sure the character at the relative index is loaded, reading more input if needed.
+     *
+     * @param i index relative to the current text window
+     * @return {@code true} if the character exists
+     */
+    private boolean available(int i) {
+        while (i >= text.length()) {
+            if (eof) {
+                return false;
+            }
+            try {
+                int n = reader.read(chunk);
+                if (n < 0) {
+                    eof = true;
+                }
+                else {
+                    buffer.append(chunk, 0, n);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Advances the line tracking over the consumed range using the same line break rules as
+     * {@link io.sqm.parser.spi.ParseLocations}.
+     */
+    private void advanceLocation(int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (c == '\r') {
+                line++;
+                lineStart = base + i + 1;
+                pendingCr = true;
+                continue;
+            }
+            if (c == '\n') {
+                if (!pendingCr) {
+                    line++;
+                }
+                lineStart = base + i + 1;
+            }
+            pendingCr = false;
+        }
+    }
+
+    /**
+     * Discards consumed text when reading from a reader.
+     */
+    private void compact() {
+        if (buffer != null && pos > 0) {
+            buffer.delete(0, pos);
+            base += pos;
+            pos = 0;
+        }
+    }
+
+    /**
+     * A statement segment of the source script.
+     *
+     * @param sql    statement text without the terminating {@code ;}, including leading whitespace and comments
+     * @param offset absolute source offset of the first character of {@code sql}
+     * @param line   one-based source line of the first character of {@code sql}
+     * @param column one-based source column of the first character of {@code sql}
+     */
+    public record Segment(String sql, int offset, int line, int column) {
+
+        /**
+         * Translates a problem reported while parsing {@link #sql()} into script coordinates.
+         *
+         * @param problem a problem with positions relative to this segment
+         * @return a problem with absolute position, line and column
+         */
+        public ParseProblem relocate(ParseProblem problem) {
+            if (problem.pos() < 0) {
+                return problem;
+            }
+            Integer absoluteLine = null;
+            Integer absoluteColumn = null;
+            if (problem.line() != null && problem.column() != null) {
+                absoluteLine = line + problem.line() - 1;
+                absoluteColumn = problem.line() == 1 ? column + problem.column() - 1 : problem.column();
+            }
+            return new ParseProblem(problem.message(), offset + problem.pos(), absoluteLine, absoluteColumn);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package io.sqm.parser.core;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Struct-of-arrays token storage produced by {@link Lexer#lex(String, io.sqm.parser.spi.IdentifierQuoting)}.
+ * <p>
+ * Token types and source spans are kept in primitive arrays. {@link Token} instances,
+ * including their lexemes, are materialized on first access and cached, so tokens that
+ * are only inspected by type (bracket matching, lookahead searches) never allocate.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public final class TokenBuffer {
+    private static final TokenType[] TYPES = TokenType.values();
+
+    private final Lexer lexer;
+    private short[] types;
+    private int[] starts;
+    private int[] ends;
+    private Token[] tokens;
+    private int size;
+
+    TokenBuffer(Lexer lexer, int capacity) {
+        this.lexer = lexer;
+        this.types = new short[capacity];
+        this.starts = new int[capacity];
+        this.ends = new int[capacity];
+        this.tokens = new Token[capacity];
+    }
+
+    /**
+     * Creates a buffer over already materialized tokens.
+     *
+     * @param tokens tokens to wrap
+     * @return a token buffer
+     */
+    public static TokenBuffer of(List<Token> tokens) {
+        var buffer = new TokenBuffer(null, Math.max(1, tokens.size()));
+        for (var token : tokens) {
+            buffer.tokens[buffer.size] = token;
+            buffer.add(token.type(), token.pos(), token.pos() + (token.lexeme() == null ? 0 : token.lexeme().length()));
+        }
+        return buffer;
+    }
+
+    void add(TokenType type, int start, int end) {
+        if (size == types.length) {
+            int capacity = size + (size >> 1) + 1;
+            types = Arrays.copyOf(types, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            tokens = Arrays.copyOf(tokens, capacity);
+        }
+        types[size] = (short) type.ordinal();
+        starts[size] = start;
+        ends[size] = end;
+        size++;
+    }
+
+    /**
+     * Gets a number of tokens, including the terminating {@link TokenType#EOF} when lexed from text.
+     *
+     * @return a number of tokens.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets a token type without materializing the token.
+     *
+     * @param i token index
+     * @return token type
+     */
+    public TokenType type(int i) {
+        return TYPES[types[i]];
+    }
+
+    /**
+     * Gets the token type ordinal without materializing the token.
+     *
+     * @param i token index
+     * @return token type ordinal
+     */
+    int typeOrdinal(int i) {
+        return types[i];
+    }
+
+    /**
+     * Gets the source offset where the token starts.
+     *
+     * @param i token index
+     * @return source start offset
+     */
+    public int start(int i) {
+        return starts[i];
+    }
+
+    /**
+     * Gets the source offset right after the token ends.
+     *
+     * @param i token index
+     * @return source end offset (exclusive)
+     */
+    public int end(int i) {
+        return ends[i];
+    }
+
+    /**
+     * Gets the token at the given index, materializing it on first access.
+     *
+     * @param i token index
+     * @return token
+     */
+    public Token token(int i) {
+        if (i >= size) {
+            throw new IndexOutOfBoundsException("Token index " + i + " out of bounds for size " + size);
+        }
+        var token = tokens[i];
+        if (token == null) {
+            token = lexer.materialize(type(i), starts[i], ends[i]);
+            tokens[i] = token;
+        }
+        return token;
+    }
+
+    /**
+     * Gets the lexeme of the token at the given index.
+     *
+     * @param i token index
+     * @return lexeme
+     */
+    public String lexeme(int i) {
+        return token(i).lexeme();
+    }
+}
@@ -0,0 +1,246 @@
+package io.sqm.parser.core;
+
+import java.util.function.Function;
+
+/**
+ * Precomputed structural index over a lexed {@link TokenBuffer}.
+ * <p>
+ * The index is built once per token buffer in linear time and answers the
+ * bracket-aware lookups performed by {@link Cursor#find} without re-scanning
+ * the token stream or materializing tokens:
+ * <ul>
+ *     <li>matching parenthesis position for every {@code (} and {@code )};</li>
+ *     <li>parenthesis depth and enclosing group of every token;</li>
+ *     <li>per {@link TokenType} occurrence tables ordered by enclosing group, so the
+ *     next occurrence of a type within the same group is a binary search;</li>
+ *     <li>per {@link TokenType} occurrence tables ordered by position, used for
+ *     stop-token lookups that ignore parenthesis depth.</li>
+ * </ul>
+ * Positions are absolute indexes into the token buffer the index was built from.
+ */
+final class TokenIndex {
+    private static final int TYPES = TokenType.values().length;
+
+    private final TokenBuffer tokens;
+    private final int[] depth;
+    private final int[] match;
+    private final int[] group;
+    private final int[] typeStart;
+    private final int[] byGroup;
+    private final int[] byPos;
+
+    private TokenIndex(TokenBuffer tokens) {
+        int n = tokens.size();
+        this.tokens = tokens;
+        this.depth = new int[n];
+        this.match = new int[n];
+        this.group = new int[n];
+
+        // depth, matching parenthesis and enclosing group (index of the opening '(' or -1 for top level)
+        var stack = new int[Math.max(1, n)];
+        int top = 0;
+        for (int i = 0; i < n; i++) {
+            match[i] = -1;
+            var type = tokens.type(i);
+            if (type == TokenType.RPAREN && top > 0) {
+                int open = stack[--top];
+                match[open] = i;
+                match[i] = open;
+            }
+            depth[i] = top;
+            group[i] = top == 0 ? -1 : stack[top - 1];
+            if (type == TokenType.LPAREN) {
+                stack[top++] = i;
+            }
+        }
+
+        // stable counting sort by type; both occurrence tables share the per-type offsets
+        this.typeStart = new int[TYPES + 1];
+        for (int i = 0; i < n; i++) {
+            typeStart[tokens.typeOrdinal(i) + 1]++;
+        }
+        for (int t = 0; t < TYPES; t++) {
+            typeStart[t + 1] += typeStart[t];
+        }
+        this.byPos = new int[n];
+        var fill = typeStart.clone();
+        for (int i = 0; i < n; i++) {
+            byPos[fill[tokens.typeOrdinal(i)]++] = i;
+        }
+
+        // stable counting sort by enclosing group, then stable counting sort by type
+        var groupStart = new int[n + 2];
+        for (int i = 0; i < n; i++) {
+            groupStart[group[i] + 2]++;
+        }
+        for (int g = 0; g <= n; g++) {
+            groupStart[g + 1] += groupStart[g];
+        }
+        var groupOrder = new int[n];
+        for (int i = 0; i < n; i++) {
+            groupOrder[groupStart[group[i] + 1]++] = i;
+        }
+        this.byGroup = new int[n];
+        fill = typeStart.clone();
+        for (int i : groupOrder) {
+            byGroup[fill[tokens.typeOrdinal(i)]++] = i;
+        }
+    }
+
+    /**
+     * Builds an index over the provided token array.
+     *
+     * @param tokens tokens to index; the buffer must not be modified afterward
+     * @return token index
+     */
+    static TokenIndex of(TokenBuffer tokens) {
+        return new TokenIndex(tokens);
+    }
+
+    /**
+     * Returns the number of unmatched {@code (} preceding the token. Matching
+     * parentheses share the depth of the group they belong to.
+     *
+     * @param i absolute token index
+     * @return parenthesis depth
+     */
+    int depth(int i) {
+        return depth[i];
+    }
+
+    /**
+     * Returns the index of the matching parenthesis for {@code (} or {@code )}.
+     *
+     * @param i absolute token index
+     * @return matching parenthesis index or {@code -1} if unmatched or not a parenthesis
+     */
+    int match(int i) {
+        return match[i];
+    }
+
+    /**
+     * Returns the first token at or after {@code from} and before {@code limit} whose type is
+     * one of {@code types}, regardless of parenthesis depth.
+     *
+     * @param types token types to look for
+     * @param from  absolute start index (inclusive)
+     * @param limit absolute end index (exclusive)
+     * @return absolute index of the token or {@code limit} if none found
+     */
+    int firstOfAny(Iterable<TokenType> types, int from, int limit) {
+        int best = limit;
+        for (var type : types) {
+            int t = type.ordinal();
+            int i = lowerBound(byPos, typeStart[t], typeStart[t + 1], from);
+            if (i < typeStart[t + 1] && byPos[i] < best) {
+                best = byPos[i];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Finds the first token at or after {@code from} and before {@code limit} that a linear
+     * {@link Cursor#find} scan would report at relative depth zero: tokens in the same group as
+     * {@code from}, then the closing parenthesis of that group, then tokens of the enclosing group
+     * and so on. Opening parentheses are never reported and closing parentheses are reported only
+     * when they close a group opened before {@code from}.
+     *
+     * @param type   token type to look for
+     * @param filter additional token filter, or {@code null} to accept every token of {@code type}
+     * @param from   absolute start index (inclusive)
+     * @param limit  absolute end index (exclusive)
+     * @return absolute index of the token or {@code limit} if none found
+     */
+    int findAtLevel(TokenType type, Function<Token, Boolean> filter, int from, int limit) {
+        if (type == TokenType.LPAREN || from >= limit) {
+            return limit;
+        }
+        int t = type.ordinal();
+        int lo = typeStart[t];
+        int hi = typeStart[t + 1];
+        int g = group[from];
+        int start = from;
+        while (true) {
+            int i = lowerBound(lo, hi, g, start);
+            for (; i < hi; i++) {
+                int p = byGroup[i];
+                if (group[p] != g || p >= limit) {
+                    break;
+                }
+                // closing parentheses of groups opened at or after 'from' are skipped by the scan
+                if (type == TokenType.RPAREN && match[p] >= from) {
+                    continue;
+                }
+                if (filter == null || filter.apply(tokens.token(p))) {
+                    return p;
+                }
+            }
+            if (g < 0) {
+                return limit;
+            }
+            int close = match[g];
+            if (close < 0 || close >= limit) {
+                return limit;
+            }
+            if (type == TokenType.RPAREN && (filter == null || filter.apply(tokens.token(close)))) {
+                return close;
+            }
+            g = group[g];
+            start = close + 1;
+        }
+    }
+
+    /**
+     * Walks the tokens a linear {@link Cursor#find} scan would report at relative depth zero,
+     * jumping over nested parenthesized groups, and returns the first one accepted by the filter.
+     *
+     * @param filter token filter
+     * @param from   absolute start index (inclusive)
+     * @param limit  absolute end index (exclusive)
+     * @return absolute index of the token or {@code limit} if none found
+     */
+    int findAtLevel(Function<Token, Boolean> filter, int from, int limit) {
+        for (int i = from; i < limit; i++) {
+            if (tokens.type(i) == TokenType.LPAREN) {
+                if (match[i] < 0) {
+                    return limit;
+                }
+                i = match[i];
+                continue;
+            }
+            if (filter.apply(tokens.token(i))) {
+                return i;
+            }
+        }
+        return limit;
+    }
+
+    private int lowerBound(int lo, int hi, int g, int pos) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            int p = byGroup[mid];
+            int pg = group[p];
+            if (pg < g || (pg == g && p < pos)) {
+                lo = mid + 1;
+            }
+            else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int lowerBound(int[] a, int lo, int hi, int value) {
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] < value) {
+                lo = mid + 1;
+            }
+            else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+}
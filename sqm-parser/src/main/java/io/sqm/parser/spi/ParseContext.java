@@ -92,6 +92,35 @@ public interface ParseContext {
      */
     Deque<Class<?>> callstack();
 
+    /**
+     * Returns the source locations of the text currently being parsed by this context.
+     * <p>
+     * The default reads the thread-scoped locations that the default {@link #locations(ParseLocations)}
+     * and the deprecated {@link ParseLocations#open(String)} install. Implementations should keep the
+     * locations per context instead.
+     *
+     * @return source locations, or {@link ParseLocations#none()} outside of a text parse
+     */
+    default ParseLocations locations() {
+        return ParseLocations.scoped();
+    }
+
+    /**
+     * Replaces the source locations of the text being parsed by this context.
+     * <p>
+     * Called by {@link #parse(Class, String)} and {@link #parse(Parser, String)} when a new text
+     * parse starts; the returned value is restored when it ends.
+     *
+     * <p>
+     * The default installs the locations thread-scoped, see {@link #locations()}.
+     *
+     * @param locations source locations of the new text
+     * @return the previous source locations
+     */
+    default ParseLocations locations(ParseLocations locations) {
+        return ParseLocations.scope(locations);
+    }
+
     /**
      * Parses a textual specification into a node of the given type.
      *
@@ -105,18 +134,21 @@ public interface ParseContext {
         if (spec.isBlank()) {
             return error("The spec cannot be blank.", -1);
         }
-        try (var ignored = ParseLocations.open(spec)) {
+        var previous = locations(ParseLocations.of(spec));
+        try {
             Parser<T> parser;
             Cursor cur;
             try {
                 parser = parsers().require(type);
                 cur = Cursor.of(spec, identifierQuoting());
             } catch (ParserException e) {
-                return error(e);
+                return locate(error(e));
             } catch (Exception e) {
                 return error(e.getMessage(), -1);
             }
-            return parse(parser, cur);
+            return locate(parse(parser, cur));
+        } finally {
+            locations(previous);
         }
     }
 
@@ -134,17 +166,36 @@ public interface ParseContext {
         if (spec.isBlank()) {
             return error("The spec cannot be blank.", -1);
         }
-        try (var ignored = ParseLocations.open(spec)) {
+        var previous = locations(ParseLocations.of(spec));
+        try {
             Cursor cur;
             try {
                 cur = Cursor.of(spec, identifierQuoting());
             } catch (ParserException e) {
-                return error(e);
+                return locate(error(e));
             } catch (Exception e) {
                 return error(e.getMessage(), -1);
             }
-            return parse(parser, cur);
+            return locate(parse(parser, cur));
+        } finally {
+            locations(previous);
+        }
+    }
+
+    /**
+     * Attaches line and column from {@link #locations()} to the problems of a failed result.
+     * Successful results are returned as is.
+     *
+     * @param result a parse result
+     * @param <T>    node type
+     * @return the result with located problems
+     */
+    private <T> ParseResult<T> locate(ParseResult<T> result) {
+        if (result.ok()) {
+            return result;
         }
+        var locations = locations();
+        return new ParseResult<>(result.value(), result.problems().stream().map(p -> p.locate(locations)).toList());
     }
 
     /**
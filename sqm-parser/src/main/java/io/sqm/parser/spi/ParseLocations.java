@@ -1,117 +1,173 @@
 package io.sqm.parser.spi;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 
 /**
- * Parser-local source location support used to attach line and column to parse diagnostics.
+ * Resolves source offsets of a parsed SQL text into line and column pairs used by parse diagnostics.
+ * <p>
+ * Creating an instance does not inspect the text. The line-start table is computed on the first
+ * {@link #locate(int)} call, so successful parses that never report a problem pay nothing.
+ * Instances are carried by the {@link ParseContext} for the text it is currently parsing.
  */
 public final class ParseLocations {
-    private static final ThreadLocal<ParseLocationResolver> CURRENT = new ThreadLocal<>();
+    private static final ParseLocations NONE = new ParseLocations(null);
+    private static final ThreadLocal<ParseLocations> SCOPED = new ThreadLocal<>();
 
-    private ParseLocations() {
+    private final String spec;
+    private int[] lineStarts;
+    private int lineCount;
+
+    private ParseLocations(String spec) {
+        this.spec = spec;
     }
 
     /**
-     * Opens a parser-local source location scope for the provided SQL text.
+     * Creates a resolver for the provided SQL text.
      *
      * @param spec SQL text being parsed
-     * @return scope that restores the previous resolver when closed
+     * @return a lazy location resolver
      */
-    public static Scope open(String spec) {
-        var previous = CURRENT.get();
-        CURRENT.set(new ParseLocationResolver(spec));
-        return new Scope(previous);
+    public static ParseLocations of(String spec) {
+        return spec == null ? NONE : new ParseLocations(spec);
     }
 
     /**
-     * Resolves a source offset into a one-based line and column using the current parse scope.
+     * Returns a resolver that has no source text and resolves every offset to unknown.
      *
-     * @param sourceOffset zero-based source character offset
-     * @return resolved line and column, or {@code null} values when unavailable
+     * @return an empty location resolver
      */
-    public static LineColumn locate(int sourceOffset) {
-        var resolver = CURRENT.get();
-        return resolver == null ? new LineColumn(null, null) : resolver.locate(sourceOffset);
+    public static ParseLocations none() {
+        return NONE;
     }
 
     /**
-     * One-based source line and column pair.
+     * Opens a thread-scoped source location scope for the provided SQL text.
+     * <p>
+     * The scope is seen by {@link ParseContext} implementations that do not override
+     * {@link ParseContext#locations()}.
      *
-     * @param line   one-based source line
-     * @param column one-based source column
+     * @param spec SQL text being parsed
+     * @return scope that restores the previous locations when closed
+     * @deprecated locations are carried by the parse context; use {@link ParseContext#locations(ParseLocations)}.
      */
-    public record LineColumn(Integer line, Integer column) {
+    @Deprecated
+    public static Scope open(String spec) {
+        return new Scope(scope(of(spec)));
     }
 
     /**
-     * Auto-closeable scope that restores the previous parser-local location resolver.
+     * Returns the locations of the current thread-scoped scope opened by {@link #open(String)}.
+     *
+     * @return the current locations, or {@link #none()} outside of a scope
+     * @deprecated locations are carried by the parse context; use {@link ParseContext#locations()}.
      */
-    public static final class Scope implements AutoCloseable {
-        private final ParseLocationResolver previous;
+    @Deprecated
+    public static ParseLocations current() {
+        return scoped();
+    }
 
-        private Scope(ParseLocationResolver previous) {
-            this.previous = previous;
+    /**
+     * Returns the thread-scoped locations backing the default {@link ParseContext#locations()}.
+     */
+    static ParseLocations scoped() {
+        var current = SCOPED.get();
+        return current == null ? NONE : current;
+    }
+
+    /**
+     * Replaces the thread-scoped locations backing the default {@link ParseContext#locations(ParseLocations)}.
+     */
+    static ParseLocations scope(ParseLocations locations) {
+        var previous = scoped();
+        if (locations == null || locations == NONE) {
+            SCOPED.remove();
         }
+        else {
+            SCOPED.set(locations);
+        }
+        return previous;
+    }
 
-        @Override
-        public void close() {
-            if (previous == null) {
-                CURRENT.remove();
-            }
-            else {
-                CURRENT.set(previous);
-            }
+    /**
+     * Resolves a source offset into a one-based line and column.
+     *
+     * @param sourceOffset zero-based source character offset
+     * @return resolved line and column, or {@code null} values when unavailable
+     */
+    public LineColumn locate(int sourceOffset) {
+        if (spec == null || sourceOffset < 0) {
+            return new LineColumn(null, null);
+        }
+        if (lineStarts == null) {
+            computeLineStarts();
         }
+        var lineIndex = findLineIndex(sourceOffset);
+        return new LineColumn(lineIndex + 1, sourceOffset - lineStarts[lineIndex] + 1);
     }
 
-    private static final class ParseLocationResolver {
-        private final int[] lineStarts;
-
-        private ParseLocationResolver(String spec) {
-            var starts = new ArrayList<Integer>();
-            starts.add(0);
-            for (var index = 0; index < spec.length(); index++) {
-                var current = spec.charAt(index);
-                if (current == '\r') {
-                    if (index + 1 < spec.length() && spec.charAt(index + 1) == '\n') {
-                        index++;
-                    }
-                    starts.add(index + 1);
-                    continue;
+    private void computeLineStarts() {
+        var starts = new int[16];
+        var count = 1;
+        for (var index = 0; index < spec.length(); index++) {
+            var current = spec.charAt(index);
+            if (current == '\r' || current == '\n') {
+                if (current == '\r' && index + 1 < spec.length() && spec.charAt(index + 1) == '\n') {
+                    index++;
                 }
-                if (current == '\n') {
-                    starts.add(index + 1);
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
                 }
+                starts[count++] = index + 1;
             }
-            this.lineStarts = starts.stream().mapToInt(Integer::intValue).toArray();
         }
+        this.lineCount = count;
+        this.lineStarts = starts;
+    }
 
-        private LineColumn locate(int sourceOffset) {
-            if (sourceOffset < 0) {
-                return new LineColumn(null, null);
+    private int findLineIndex(int sourceOffset) {
+        var low = 0;
+        var high = lineCount - 1;
+        while (low <= high) {
+            var mid = (low + high) >>> 1;
+            var start = lineStarts[mid];
+            if (start == sourceOffset) {
+                return mid;
+            }
+            if (start < sourceOffset) {
+                low = mid + 1;
+            }
+            else {
+                high = mid - 1;
             }
-            var lineIndex = findLineIndex(sourceOffset);
-            var lineStart = lineStarts[lineIndex];
-            return new LineColumn(lineIndex + 1, sourceOffset - lineStart + 1);
         }
+        return Math.max(0, high);
+    }
 
-        private int findLineIndex(int sourceOffset) {
-            var low = 0;
-            var high = lineStarts.length - 1;
-            while (low <= high) {
-                var mid = (low + high) >>> 1;
-                var start = lineStarts[mid];
-                if (start == sourceOffset) {
-                    return mid;
-                }
-                if (start < sourceOffset) {
-                    low = mid + 1;
-                }
-                else {
-                    high = mid - 1;
-                }
-            }
-            return Math.max(0, high);
+    /**
+     * One-based source line and column pair.
+     *
+     * @param line   one-based source line
+     * @param column one-based source column
+     */
+    public record LineColumn(Integer line, Integer column) {
+    }
+
+    /**
+     * Auto-closeable scope that restores the previous thread-scoped locations.
+     *
+     * @deprecated see {@link #open(String)}.
+     */
+    @Deprecated
+    public static final class Scope implements AutoCloseable {
+        private final ParseLocations previous;
+
+        private Scope(ParseLocations previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            scope(previous);
         }
     }
 }
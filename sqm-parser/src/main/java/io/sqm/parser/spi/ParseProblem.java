@@ -10,12 +10,28 @@ package io.sqm.parser.spi;
  */
 public record ParseProblem(String message, int pos, Integer line, Integer column) {
     /**
-     * Creates a parsing problem with line and column resolved from the current parse context when available.
+     * Creates a parsing problem without line and column. The {@link ParseContext} attaches them
+     * when the problem leaves a top-level parse.
      *
      * @param message an error message
      * @param pos a source character offset where the error happened
      */
     public ParseProblem(String message, int pos) {
-        this(message, pos, ParseLocations.locate(pos).line(), ParseLocations.locate(pos).column());
+        this(message, pos, null, null);
+    }
+
+    /**
+     * Returns this problem with line and column resolved from the provided source locations,
+     * unless they are already known or the position is unavailable.
+     *
+     * @param locations source locations of the parsed text
+     * @return a problem with line and column attached when resolvable
+     */
+    public ParseProblem locate(ParseLocations locations) {
+        if (line != null || pos < 0) {
+            return this;
+        }
+        var location = locations.locate(pos);
+        return location.line() == null ? this : new ParseProblem(message, pos, location.line(), location.column());
     }
 }
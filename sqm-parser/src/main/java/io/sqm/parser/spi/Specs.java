@@ -4,6 +4,9 @@ import io.sqm.core.dialect.DialectCapabilities;
 
 /**
  * Dialect-specific parser specification bundle.
+ * <p>
+ * Implementations should be immutable, so that one instance can be shared by every
+ * {@link ParseContext} of a dialect, including contexts used concurrently on different threads.
  */
 public interface Specs {
     /**
@@ -0,0 +1,122 @@
+package io.sqm.parser;
+
+import io.sqm.core.InsertStatement;
+import io.sqm.core.Query;
+import io.sqm.core.Statement;
+import io.sqm.core.StatementSequence;
+import io.sqm.parser.core.Cursor;
+import io.sqm.parser.core.TokenType;
+import io.sqm.parser.spi.ParseContext;
+import io.sqm.parser.spi.ParseResult;
+import io.sqm.parser.spi.Parser;
+import io.sqm.parser.spi.Specs;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static io.sqm.dsl.Dsl.insert;
+import static io.sqm.dsl.Dsl.lit;
+import static io.sqm.dsl.Dsl.row;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelStatementParserTest {
+
+    private static Specs specs() {
+        var repo = new DefaultParsersRepository()
+            .register(StatementSequence.class, new StatementSequenceParser())
+            .register(Statement.class, new StatementParser())
+            .register(Query.class, new QueryStubParser())
+            .register(InsertStatement.class, new InsertStubParser());
+        return TestSupport.specs(repo);
+    }
+
+    private static String script(int statements) {
+        var sb = new StringBuilder();
+        for (int i = 0; i < statements; i++) {
+            sb.append(i % 3 == 0 ? "INSERT" : "SELECT '" + i + ";'").append(";\n");
+        }
+        return sb.toString();
+    }
+
+    @Test
+    void producesSameSequenceAsSequentialParse() {
+        var sql = script(500);
+        var pool = new ForkJoinPool(4);
+        try {
+            var parallel = ParallelStatementParser.of(specs(), pool).parse(sql);
+            var sequential = ParseContext.of(specs()).parse(StatementSequence.class, sql);
+
+            assertTrue(parallel.ok(), parallel.errorMessage());
+            assertEquals(sequential.value(), parallel.value());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void borrowsContextsFromSharedPool() {
+        var contexts = ParseContextPool.of(specs(), 2);
+        var pool = new ForkJoinPool(2);
+        try {
+            var parser = ParallelStatementParser.of(contexts, pool);
+
+            assertTrue(parser.parse(script(200)).ok());
+            assertTrue(parser.parse(script(200)).ok());
+            assertTrue(contexts.parse(StatementSequence.class, script(3)).ok());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void reportsFirstFailingStatementWithScriptPosition() {
+        var sql = "SELECT;\nINSERT;\n  CREATE;\nDROP;";
+
+        var result = ParallelStatementParser.of(specs()).parse(sql);
+
+        assertTrue(result.isError());
+        var problem = result.problems().getFirst();
+        assertEquals("Expected SELECT", problem.message());
+        assertEquals(sql.indexOf("CREATE"), problem.pos());
+        assertEquals(3, problem.line());
+        assertEquals(3, problem.column());
+    }
+
+    @Test
+    void handlesEmptyAndSingleStatementScripts() {
+        var parser = ParallelStatementParser.of(specs());
+
+        assertTrue(parser.parse(";;").value().statements().isEmpty());
+        assertEquals(1, parser.parse("SELECT").value().statements().size());
+        assertEquals("The spec cannot be blank.", parser.parse(" ").errorMessage());
+    }
+
+    private static final class QueryStubParser implements Parser<Query> {
+        @Override
+        public ParseResult<? extends Query> parse(Cursor cur, ParseContext ctx) {
+            cur.expect("Expected SELECT", TokenType.SELECT);
+            if (cur.match(TokenType.STRING)) {
+                cur.advance();
+            }
+            return ParseResult.ok(Query.select().build());
+        }
+
+        @Override
+        public Class<Query> targetType() {
+            return Query.class;
+        }
+    }
+
+    private static final class InsertStubParser implements Parser<InsertStatement> {
+        @Override
+        public ParseResult<? extends InsertStatement> parse(Cursor cur, ParseContext ctx) {
+            cur.expect("Expected INSERT", TokenType.INSERT);
+            return ParseResult.ok(insert("users").values(row(lit(1))).build());
+        }
+
+        @Override
+        public Class<InsertStatement> targetType() {
+            return InsertStatement.class;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package io.sqm.parser;
+
+import io.sqm.core.Expression;
+import io.sqm.core.dialect.SqlDialectId;
+import io.sqm.parser.core.Cursor;
+import io.sqm.parser.spi.ParseContext;
+import io.sqm.parser.spi.ParseResult;
+import io.sqm.parser.spi.Parser;
+import io.sqm.parser.spi.ParsersRepository;
+import org.junit.jupiter.api.Test;
+
+import static io.sqm.dsl.Dsl.col;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParseCacheTest {
+
+    private static ParsersRepository repository() {
+        return new DefaultParsersRepository().register(Expression.class, new IdentifierExpressionParser());
+    }
+
+    private static ParseContext context() {
+        return TestSupport.context(repository());
+    }
+
+    @Test
+    void sharesResultsAcrossWhitespaceAndCommentVariants() {
+        var cache = ParseCache.builder().build();
+        var ctx = context();
+
+        var first = cache.parse(SqlDialectId.ANSI, ctx, Expression.class, "a");
+        var second = cache.parse(SqlDialectId.ANSI, ctx, Expression.class, "  /* c */ a -- trailing\n");
+
+        assertTrue(first.ok());
+        assertSame(first.value(), second.value());
+        assertEquals(new ParseCache.Stats(1, 1, 0, 1, 4), cache.stats());
+        assertEquals(0.5, cache.stats().hitRate());
+    }
+
+    @Test
+    void keepsDistinctTokensDialectsAndTypesApart() {
+        var cache = ParseCache.builder().build();
+        var ctx = context();
+
+        var a = cache.parse(SqlDialectId.ANSI, ctx, Expression.class, "a");
+        var quoted = cache.parse(SqlDialectId.ANSI, ctx, Expression.class, "\"a\"");
+        var otherDialect = cache.parse(SqlDialectId.POSTGRESQL, ctx, Expression.class, "a");
+
+        assertNotSame(a.value(), quoted.value());
+        assertNotSame(a.value(), otherDialect.value());
+        assertEquals(0, cache.stats().hits());
+        assertEquals(3, cache.stats().size());
+    }
+
+    @Test
+    void doesNotCacheFailures() {
+        var cache = ParseCache.builder().build();
+        var ctx = context();
+
+        var first = cache.parse(SqlDialectId.ANSI, ctx, Expression.class, "a b");
+        var second = cache.parse(SqlDialectId.ANSI, ctx, Expression.class, "a\n b");
+        var unlexable = cache.parse(SqlDialectId.ANSI, ctx, Expression.class, "'open");
+
+        assertTrue(first.isError());
+        assertEquals(1, first.problems().getFirst().line());
+        assertEquals(2, second.problems().getFirst().line());
+        assertTrue(unlexable.isError());
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntriesBySizeAndWeight() {
+        var bySize = ParseCache.builder().maximumSize(2).build();
+        var ctx = context();
+        var a = bySize.parse(SqlDialectId.ANSI, ctx, Expression.class, "a");
+        bySize.parse(SqlDialectId.ANSI, ctx, Expression.class, "b");
+        bySize.parse(SqlDialectId.ANSI, ctx, Expression.class, "a");
+        bySize.parse(SqlDialectId.ANSI, ctx, Expression.class, "c");
+
+        assertSame(a.value(), bySize.parse(SqlDialectId.ANSI, ctx, Expression.class, "a").value());
+        bySize.parse(SqlDialectId.ANSI, ctx, Expression.class, "b");
+        assertEquals(new ParseCache.Stats(2, 4, 2, 2, bySize.stats().weight()), bySize.stats());
+
+        var byWeight = ParseCache.builder().maximumWeight(10).build();
+        byWeight.parse(SqlDialectId.ANSI, ctx, Expression.class, "short");
+        byWeight.parse(SqlDialectId.ANSI, ctx, Expression.class, "much_longer_name");
+
+        assertEquals(0, byWeight.stats().size());
+        assertEquals(2, byWeight.stats().evictions());
+    }
+
+    @Test
+    void parsesThroughPool() {
+        var cache = ParseCache.builder().build();
+        var pool = ParseContextPool.of(TestSupport.specs(repository()), 1);
+
+        var first = cache.parse(SqlDialectId.ANSI, pool, Expression.class, "a");
+        var second = cache.parse(SqlDialectId.ANSI, pool, Expression.class, " a ");
+
+        assertSame(first.value(), second.value());
+    }
+
+    private static final class IdentifierExpressionParser implements Parser<Expression> {
+        @Override
+        public ParseResult<? extends Expression> parse(Cursor cur, ParseContext ctx) {
+            return ParseResult.ok(col(cur.advance().lexeme()));
+        }
+
+        @Override
+        public Class<Expression> targetType() {
+            return Expression.class;
+        }
+    }
+}
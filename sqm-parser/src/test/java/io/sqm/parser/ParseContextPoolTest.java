@@ -0,0 +1,70 @@
+package io.sqm.parser;
+
+import io.sqm.core.Expression;
+import io.sqm.parser.core.Cursor;
+import io.sqm.parser.spi.ParseContext;
+import io.sqm.parser.spi.ParseResult;
+import io.sqm.parser.spi.Parser;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+import static io.sqm.dsl.Dsl.col;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParseContextPoolTest {
+
+    private static ParseContextPool pool(int capacity) {
+        var repo = new DefaultParsersRepository().register(Expression.class, new IdentifierExpressionParser());
+        return ParseContextPool.of(TestSupport.specs(repo), capacity);
+    }
+
+    @Test
+    void parsesWithPooledContexts() {
+        var pool = pool(2);
+
+        var ok = pool.parse(Expression.class, "a");
+        var error = pool.parse(Expression.class, "a\n b");
+
+        assertTrue(ok.ok());
+        assertTrue(error.isError());
+        assertEquals(2, error.problems().getFirst().line());
+        assertTrue(pool.parse(Expression.class, "c").ok());
+    }
+
+    @Test
+    void parsesConcurrently() throws Exception {
+        var pool = pool(2);
+        var tasks = new ArrayList<Callable<Boolean>>();
+        for (int i = 0; i < 200; i++) {
+            var sql = i % 2 == 0 ? "x" + i : "x" + i + " y";
+            var expectOk = i % 2 == 0;
+            tasks.add(() -> pool.parse(Expression.class, sql).ok() == expectOk);
+        }
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (var future : executor.invokeAll(tasks)) {
+                assertTrue(future.get());
+            }
+        }
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> pool(0));
+    }
+
+    private static final class IdentifierExpressionParser implements Parser<Expression> {
+        @Override
+        public ParseResult<? extends Expression> parse(Cursor cur, ParseContext ctx) {
+            return ParseResult.ok(col(cur.advance().lexeme()));
+        }
+
+        @Override
+        public Class<Expression> targetType() {
+            return Expression.class;
+        }
+    }
+}
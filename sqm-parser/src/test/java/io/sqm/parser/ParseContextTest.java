@@ -49,6 +49,31 @@ class ParseContextTest {
         assertEquals("Expected EOF but found: ; at 1", result.errorMessage());
     }
 
+    @Test
+    void parseAttachesLineAndColumnToProblems() {
+        var repo = new DefaultParsersRepository();
+        repo.register(Expression.class, new SingleTokenExpressionParser());
+        var ctx = TestSupport.context(repo);
+
+        var result = ctx.parse(Expression.class, "a\n  b");
+
+        assertTrue(result.isError());
+        assertEquals(2, result.problems().getFirst().line());
+        assertEquals(3, result.problems().getFirst().column());
+        assertSame(ParseLocations.none(), ctx.locations());
+    }
+
+    @Test
+    void parseAttachesLineAndColumnToLexerProblems() {
+        var ctx = TestSupport.context(new DefaultParsersRepository().register(Expression.class, new SingleTokenExpressionParser()));
+
+        var result = ctx.parse(Expression.class, "a\n'unterminated");
+
+        assertTrue(result.isError());
+        assertEquals(2, result.problems().getFirst().line());
+        assertEquals(1, result.problems().getFirst().column());
+    }
+
     @Test
     void parseIfMatchReturnsMatchedErrorForNonMatchableParser() {
         var repo = new DefaultParsersRepository();
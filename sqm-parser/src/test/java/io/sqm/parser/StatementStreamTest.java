@@ -0,0 +1,121 @@
+package io.sqm.parser;
+
+import io.sqm.core.InsertStatement;
+import io.sqm.core.Query;
+import io.sqm.core.Statement;
+import io.sqm.parser.core.Cursor;
+import io.sqm.parser.core.TokenType;
+import io.sqm.parser.spi.ParseContext;
+import io.sqm.parser.spi.ParseResult;
+import io.sqm.parser.spi.Parser;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static io.sqm.dsl.Dsl.insert;
+import static io.sqm.dsl.Dsl.lit;
+import static io.sqm.dsl.Dsl.row;
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementStreamTest {
+
+    private static ParseContext context() {
+        var repo = new DefaultParsersRepository()
+            .register(Statement.class, new StatementParser())
+            .register(Query.class, new QueryStubParser())
+            .register(InsertStatement.class, new InsertStubParser());
+        return TestSupport.context(repo);
+    }
+
+    private static List<ParseResult<? extends Statement>> drain(StatementStream stream) {
+        var results = new ArrayList<ParseResult<? extends Statement>>();
+        stream.forEachRemaining(results::add);
+        return results;
+    }
+
+    @Test
+    void yieldsStatementsInOrder() {
+        var stream = StatementStream.of(context(), new StringReader(";; SELECT; INSERT;; SELECT '1;2';"));
+
+        var results = drain(stream);
+
+        assertEquals(3, results.size());
+        assertTrue(results.stream().allMatch(r -> r.ok()));
+        assertInstanceOf(Query.class, results.get(0).value());
+        assertInstanceOf(InsertStatement.class, results.get(1).value());
+        assertInstanceOf(Query.class, results.get(2).value());
+        assertThrows(NoSuchElementException.class, stream::next);
+    }
+
+    @Test
+    void parsesStatementsWithoutSeparatorFromSameSegment() {
+        var results = drain(StatementStream.of(context(), new StringReader("SELECT INSERT; SELECT")));
+
+        assertEquals(3, results.size());
+        assertInstanceOf(InsertStatement.class, results.get(1).value());
+    }
+
+    @Test
+    void reportsErrorsWithScriptPositionsAndContinues() {
+        var sql = "SELECT;\n  INSERT;\n  CREATE; SELECT";
+
+        var results = drain(StatementStream.of(context(), new StringReader(sql)));
+
+        assertEquals(4, results.size());
+        var error = results.get(2);
+        assertTrue(error.isError());
+        var problem = error.problems().getFirst();
+        assertEquals("Expected SELECT", problem.message());
+        assertEquals(sql.indexOf("CREATE"), problem.pos());
+        assertEquals(3, problem.line());
+        assertEquals(3, problem.column());
+        assertTrue(results.get(3).ok());
+    }
+
+    @Test
+    void readsFromByteChannel() throws IOException {
+        var bytes = "SELECT 'ä;ö'; INSERT".getBytes(StandardCharsets.UTF_8);
+        var channel = Channels.newChannel(new ByteArrayInputStream(bytes));
+
+        try (var stream = StatementStream.of(context(), channel, StandardCharsets.UTF_8)) {
+            assertEquals(2, stream.stream().filter(r -> r.ok()).count());
+        }
+        assertFalse(channel.isOpen());
+    }
+
+    private static final class QueryStubParser implements Parser<Query> {
+        @Override
+        public ParseResult<? extends Query> parse(Cursor cur, ParseContext ctx) {
+            cur.expect("Expected SELECT", TokenType.SELECT);
+            if (cur.match(TokenType.STRING)) {
+                cur.advance();
+            }
+            return ParseResult.ok(Query.select().build());
+        }
+
+        @Override
+        public Class<Query> targetType() {
+            return Query.class;
+        }
+    }
+
+    private static final class InsertStubParser implements Parser<InsertStatement> {
+        @Override
+        public ParseResult<? extends InsertStatement> parse(Cursor cur, ParseContext ctx) {
+            cur.expect("Expected INSERT", TokenType.INSERT);
+            return ParseResult.ok(insert("users").values(row(lit(1))).build());
+        }
+
+        @Override
+        public Class<InsertStatement> targetType() {
+            return InsertStatement.class;
+        }
+    }
+}
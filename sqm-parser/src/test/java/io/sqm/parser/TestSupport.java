@@ -17,7 +17,11 @@ final class TestSupport {
     }
 
     static ParseContext context(ParsersRepository parsers) {
-        return ParseContext.of(new TestSpecs(parsers));
+        return ParseContext.of(specs(parsers));
+    }
+
+    static Specs specs(ParsersRepository parsers) {
+        return new TestSpecs(parsers);
     }
 
     private static final class TestSpecs implements Specs {
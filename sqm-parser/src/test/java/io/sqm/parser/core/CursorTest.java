@@ -268,6 +268,60 @@ class CursorTest {
         assertThrows(IndexOutOfBoundsException.class, () -> cur.advance(-1));
     }
 
+    @Test
+    void advanceWithEnd_subCursorOfSubCursorKeepsBounds() {
+        Cursor cur = Cursor.of("SELECT a , b , c FROM t", identifierQuoting);
+        cur.advance(); // SELECT
+        Cursor items = cur.advance(6); // a , b , c
+        assertEquals(TokenType.FROM, cur.peek().type());
+
+        items.advance(); // a
+        items.advance(); // ,
+        Cursor tail = items.advance(items.size() - 1); // b , c
+
+        assertEquals(4, tail.size());
+        assertEquals("b", tail.advance().lexeme());
+        assertEquals(TokenType.COMMA, tail.advance().type());
+        assertEquals("c", tail.advance().lexeme());
+        assertTrue(tail.isEof());
+        assertTrue(items.isEof());
+    }
+
+    @Test
+    void advanceWithEnd_toEndReusesTerminatingEof() {
+        Cursor cur = Cursor.of("SELECT x", identifierQuoting);
+        cur.advance();
+        Cursor sub = cur.advance(cur.size());
+
+        assertEquals(2, sub.size());
+        assertEquals("x", sub.advance().lexeme());
+        assertTrue(sub.isEof());
+        assertEquals(8, sub.peek().pos());
+    }
+
+    @Test
+    void advanceWithEnd_emptySliceHasOnlyEof() {
+        Cursor cur = Cursor.of("SELECT x", identifierQuoting);
+        Cursor sub = cur.advance(0);
+
+        assertEquals(1, sub.size());
+        assertTrue(sub.isEof());
+        assertEquals(TokenType.SELECT, cur.peek().type());
+    }
+
+    @Test
+    void removeBrackets_nestedBracketsAreUnwrappedOneLevelAtATime() {
+        Cursor cur = Cursor.of("((a))", identifierQuoting);
+        Cursor inner = cur.removeBrackets();
+
+        assertEquals(4, inner.size()); // (, a, ), EOF
+        Cursor innermost = inner.removeBrackets();
+        assertEquals(TokenType.IDENT, innermost.peek().type());
+        assertEquals(2, innermost.size());
+        assertTrue(inner.isEof());
+        assertTrue(cur.isEof());
+    }
+
     @Test
     void removeBrackets_removesMatchingParentheses() {
         Cursor cur = Cursor.of("(SELECT * FROM t)", identifierQuoting);
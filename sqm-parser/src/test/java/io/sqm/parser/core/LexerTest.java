@@ -623,6 +623,7 @@ class LexerTest {
             return ch == '"' || ch == '`' || ch == '[';
         }
     }
+
     @Test
     void lexer_emitsOptimizerHintCommentToken() {
         List<Token> tokens = Lexer.lexAll("SELECT /*+ BKA(users) */ id FROM users", quoting);
@@ -638,10 +639,53 @@ class LexerTest {
         assertEquals(TokenType.IDENT, tokens.get(1).type());
         assertEquals("id", tokens.get(1).lexeme());
     }
-}
 
+    @Test
+    void lex_producesSameTokensAsLexAll() {
+        var sql = "SELECT e.\"Full \"\"Name\"\"\", [a]]b], `c``d`, 'it''s', E'a\\'b''c', B'101', X'ff', $tag$x;y$tag$, "
+            + "1.5e-3, 2., .5, 7e, ?| $1 :name ::int /*+ HINT(x) */ -- note\n FROM t WHERE a <> b;";
+        var expected = Lexer.lexAll(sql, quoting);
+        var buffer = Lexer.lex(sql, quoting);
 
+        assertEquals(expected.size(), buffer.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).type(), buffer.type(i));
+            assertEquals(expected.get(i), buffer.token(i));
+        }
+    }
 
+    @Test
+    void lex_materializesTokensLazilyAndCachesThem() {
+        var buffer = Lexer.lex("select Id from t", quoting);
 
+        assertEquals(TokenType.SELECT, buffer.type(0));
+        assertEquals(7, buffer.start(1));
+        assertEquals(9, buffer.end(1));
+        assertSame(buffer.token(1), buffer.token(1));
+        assertEquals("Id", buffer.lexeme(1));
+        assertEquals(TokenType.EOF, buffer.type(buffer.size() - 1));
+    }
 
+    @Test
+    void lexer_reusesKeywordLexemesForCanonicalSpelling() {
+        List<Token> tokens = Lexer.lexAll("SELECT select Select", quoting);
 
+        assertSame("SELECT", tokens.get(0).lexeme());
+        assertSame("select", tokens.get(1).lexeme());
+        assertEquals("Select", tokens.get(2).lexeme());
+        assertEquals(TokenType.SELECT, tokens.get(2).type());
+    }
+
+    @Test
+    void lexer_scansNumbersWithoutRegex() {
+        List<Token> tokens = Lexer.lexAll("12.e5 3e+ 4E-2x", quoting);
+
+        assertEquals("12.e5", tokens.get(0).lexeme());
+        assertEquals("3", tokens.get(1).lexeme());
+        assertEquals(TokenType.IDENT, tokens.get(2).type());
+        assertEquals("e", tokens.get(2).lexeme());
+        assertEquals(TokenType.OPERATOR, tokens.get(3).type());
+        assertEquals("4E-2", tokens.get(4).lexeme());
+        assertEquals("x", tokens.get(5).lexeme());
+    }
+}
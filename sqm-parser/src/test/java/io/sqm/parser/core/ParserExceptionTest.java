@@ -0,0 +1,32 @@
+package io.sqm.parser.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParserExceptionTest {
+
+    @Test
+    void doesNotCaptureStackTrace() {
+        var exception = new ParserException("Expected FROM", 3);
+
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals("Expected FROM", exception.getMessage());
+    }
+
+    @Test
+    void keepsExplicitLocation() {
+        var exception = new ParserException("Unexpected FROM", 9, 4, 1);
+
+        assertEquals(4, exception.getLine());
+        assertEquals(1, exception.getColumn());
+    }
+
+    @Test
+    void hasNoLocationUnlessGivenExplicitly() {
+        var exception = new ParserException("Unexpected FROM", 9);
+
+        assertNull(exception.getLine());
+        assertNull(exception.getColumn());
+    }
+}
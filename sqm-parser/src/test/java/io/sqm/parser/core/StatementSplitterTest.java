@@ -0,0 +1,159 @@
+package io.sqm.parser.core;
+
+import io.sqm.parser.spi.IdentifierQuoting;
+import io.sqm.parser.spi.ParseProblem;
+import org.junit.jupiter.api.Test;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementSplitterTest {
+
+    private static final IdentifierQuoting ANSI = IdentifierQuoting.of('"');
+
+    private static List<String> split(StatementSplitter splitter) {
+        var segments = new ArrayList<String>();
+        splitter.forEachRemaining(s -> segments.add(s.sql().strip()));
+        return segments;
+    }
+
+    /**
+     * Reader that returns at most one character per read to exercise chunk boundaries.
+     */
+    private static Reader trickle(String sql) {
+        return new StringReader(sql) {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws java.io.IOException {
+                return super.read(cbuf, off, Math.min(1, len));
+            }
+        };
+    }
+
+    @Test
+    void splitsOnSemicolonsAndSkipsEmptySegments() {
+        var segments = split(StatementSplitter.of(";; SELECT 1;; SELECT 2 ; -- done\n;", ANSI));
+
+        assertEquals(List.of("SELECT 1", "SELECT 2"), segments);
+    }
+
+    @Test
+    void ignoresSemicolonsInsideLexicalTokens() {
+        var sql = "SELECT 'a;b', E'x\\';y', \"c;d\" /* ; */ -- ;\n FROM t; SELECT $tag$ ; $$ ; $tag$, $$;$$; SELECT /*+ hint */ 1";
+
+        var segments = split(StatementSplitter.of(sql, ANSI));
+
+        assertEquals(3, segments.size());
+        assertTrue(segments.get(0).endsWith("FROM t"));
+        assertEquals("SELECT $tag$ ; $$ ; $tag$, $$;$$", segments.get(1));
+        assertEquals("SELECT /*+ hint */ 1", segments.get(2));
+    }
+
+    @Test
+    void honorsDialectIdentifierQuoting() {
+        var sql = "SELECT [a;b], `c;d` FROM t";
+
+        assertEquals(List.of("SELECT [a;b], `c;d` FROM t"), split(StatementSplitter.of(sql, IdentifierQuoting.of('[', '`'))));
+        assertEquals(List.of("SELECT [a", "b], `c", "d` FROM t"), split(StatementSplitter.of(sql, ANSI)));
+    }
+
+    @Test
+    void recognizesStringPrefixesAndDollarQuotesOnlyAtTokenStart() {
+        var sql = "SELECT name'x;y', a$b$; SELECT 2";
+
+        var segments = split(StatementSplitter.of(sql, ANSI));
+
+        assertEquals(List.of("SELECT name'x;y', a$b$", "SELECT 2"), segments);
+    }
+
+    @Test
+    void treatsCommentMarkersInsideOperatorRunsAsOperators() {
+        assertEquals(List.of("SELECT a +-- b", "SELECT 2"), split(StatementSplitter.of("SELECT a +-- b; SELECT 2", ANSI)));
+        assertEquals(List.of("SELECT a +/* b", "*/ 1"), split(StatementSplitter.of("SELECT a +/* b; */ 1", ANSI)));
+        assertEquals(List.of("SELECT ? -- b; SELECT 2"), split(StatementSplitter.of("SELECT ? -- b; SELECT 2", ANSI)));
+        assertEquals(List.of("SELECT ?--b; SELECT 2"), split(StatementSplitter.of("SELECT ?--b; SELECT 2", ANSI)));
+        // ?| is a complete token, so the comment starts right after it
+        assertEquals(List.of("SELECT a ?|-- b; SELECT 2"), split(StatementSplitter.of("SELECT a ?|-- b; SELECT 2", ANSI)));
+    }
+
+    @Test
+    void separatesStatementsWhereLexerEmitsSemicolons() {
+        var samples = List.of(
+            "SELECT a +-- b; SELECT 2",
+            "SELECT a */* b; */ 1; SELECT 3",
+            "SELECT a-- c;\n; SELECT b",
+            "SELECT x ?-- y; SELECT ?&-- z; SELECT 1",
+            "SELECT a `--` b; SELECT $$;$$ <>-- ; 1",
+            "SELECT 1/*+ h; */; SELECT 2 -/**/; SELECT 3");
+        for (var sql : samples) {
+            var tokens = Lexer.lex(sql, ANSI);
+            var lexed = new ArrayList<Integer>();
+            for (int i = 0; i < tokens.size(); i++) {
+                if (tokens.type(i) == TokenType.SEMICOLON) {
+                    lexed.add(tokens.start(i));
+                }
+            }
+            var split = new ArrayList<Integer>();
+            var splitter = StatementSplitter.of(sql, ANSI);
+            while (splitter.hasNext()) {
+                var segment = splitter.next();
+                var end = segment.offset() + segment.sql().length();
+                if (end < sql.length()) {
+                    split.add(end);
+                }
+            }
+
+            assertTrue(lexed.containsAll(split), sql);
+        }
+    }
+
+    @Test
+    void unterminatedConstructsExtendToEndOfInput() {
+        assertEquals(List.of("SELECT 'a; SELECT 2"), split(StatementSplitter.of("SELECT 'a; SELECT 2", ANSI)));
+        assertEquals(List.of("SELECT 1 /* ; SELECT 2"), split(StatementSplitter.of("SELECT 1 /* ; SELECT 2", ANSI)));
+    }
+
+    @Test
+    void readerInputProducesSameSegmentsAcrossChunkBoundaries() {
+        var sql = "SELECT 'it''s;' ; SELECT $q$;$q$;\r\n-- c;\nSELECT \"x\"\"y;\" ; SELECT 1.5e+3";
+
+        assertEquals(split(StatementSplitter.of(sql, ANSI)), split(StatementSplitter.of(trickle(sql), ANSI)));
+    }
+
+    @Test
+    void tracksAbsoluteSegmentLocation() {
+        var sql = "SELECT 1;\r\n  SELECT 2;\n\nSELECT\n 3";
+        for (var splitter : List.of(StatementSplitter.of(sql, ANSI), StatementSplitter.of(trickle(sql), ANSI))) {
+            var first = splitter.next();
+            var second = splitter.next();
+            var third = splitter.next();
+
+            assertEquals(0, first.offset());
+            assertEquals(1, first.line());
+            assertEquals(1, first.column());
+            assertEquals(9, second.offset());
+            assertEquals(1, second.line());
+            assertEquals(10, second.column());
+            assertEquals(sql.lastIndexOf(';') + 1, third.offset());
+            assertEquals(2, third.line());
+            assertEquals(12, third.column());
+            assertFalse(splitter.hasNext());
+        }
+    }
+
+    @Test
+    void relocatesProblemsIntoScriptCoordinates() {
+        var segment = new StatementSplitter.Segment("\n  SELECT x", 20, 3, 7);
+
+        var sameLine = segment.relocate(new ParseProblem("a", 0, 1, 1));
+        var nextLine = segment.relocate(new ParseProblem("b", 3, 2, 3));
+        var unknown = segment.relocate(new ParseProblem("c", -1, null, null));
+
+        assertEquals(new ParseProblem("a", 20, 3, 7), sameLine);
+        assertEquals(new ParseProblem("b", 23, 4, 3), nextLine);
+        assertEquals(-1, unknown.pos());
+    }
+}
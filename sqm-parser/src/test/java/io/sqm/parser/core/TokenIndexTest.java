@@ -0,0 +1,107 @@
+package io.sqm.parser.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenIndexTest {
+
+    private static final TokenType[] ALPHABET = {
+        TokenType.IDENT, TokenType.AND, TokenType.OR, TokenType.COMMA,
+        TokenType.LPAREN, TokenType.LPAREN, TokenType.RPAREN, TokenType.RPAREN, TokenType.OPERATOR
+    };
+
+    /**
+     * Reference implementation of the linear scan performed by {@link Cursor#find} before indexing.
+     */
+    private static int linearFind(List<Token> tokens, int start, Function<Token, Boolean> lookup, Set<TokenType> stop) {
+        int depth = 0;
+        for (int i = start; i < tokens.size(); i++) {
+            var t = tokens.get(i);
+            if (stop.contains(t.type())) {
+                break;
+            }
+            if (t.type() == TokenType.LPAREN) {
+                depth++;
+                continue;
+            }
+            if (depth > 0 && t.type() == TokenType.RPAREN) {
+                depth = Math.max(0, depth - 1);
+                continue;
+            }
+            if (depth == 0 && lookup.apply(t)) {
+                return i;
+            }
+        }
+        return tokens.size();
+    }
+
+    private static List<Token> randomTokens(Random random, int size) {
+        var tokens = new ArrayList<Token>();
+        for (int i = 0; i < size; i++) {
+            var type = ALPHABET[random.nextInt(ALPHABET.length)];
+            var lexeme = type == TokenType.OPERATOR ? (random.nextBoolean() ? "+" : "-") : type.name();
+            tokens.add(new Token(type, lexeme, i * 2));
+        }
+        tokens.add(new Token(TokenType.EOF, "", size * 2));
+        return tokens;
+    }
+
+    @Test
+    void find_matchesLinearScanOnRandomStreams() {
+        var random = new Random(42);
+        var stops = List.of(Set.of(TokenType.EOF), Set.of(TokenType.RPAREN), Set.of(TokenType.COMMA, TokenType.EOF));
+        for (int round = 0; round < 300; round++) {
+            var tokens = randomTokens(random, 1 + random.nextInt(40));
+            var cur = new Cursor(tokens);
+            for (int start = 0; start < tokens.size(); start++) {
+                for (var type : List.of(TokenType.AND, TokenType.OR, TokenType.RPAREN, TokenType.LPAREN, TokenType.COMMA)) {
+                    for (var stop : stops) {
+                        int expected = linearFind(tokens, start, t -> t.type() == type, stop);
+                        assertEquals(expected, cur.find(Set.of(type), stop, start), () -> tokens + " type=" + type);
+                    }
+                }
+                int expectedAny = linearFind(tokens, start, t -> t.type() == TokenType.AND || t.type() == TokenType.OR, Set.of(TokenType.EOF));
+                assertEquals(expectedAny, cur.find(start, TokenType.AND, TokenType.OR), tokens::toString);
+
+                Function<Token, Boolean> isMinus = t -> t.type() == TokenType.OPERATOR && t.lexeme().equals("-");
+                int expectedMinus = linearFind(tokens, start, isMinus, Set.of(TokenType.EOF));
+                assertEquals(expectedMinus, cur.find(TokenType.OPERATOR, isMinus, start), tokens::toString);
+                assertEquals(expectedMinus, cur.find(isMinus, start), tokens::toString);
+            }
+        }
+    }
+
+    @Test
+    void find_respectsSliceBounds() {
+        var cur = Cursor.of("a AND (b OR c) OR d", ch -> false);
+        cur.advance(); // a
+        cur.advance(); // AND
+        var group = cur.advance(cur.find(TokenType.OR)); // ( b OR c )
+
+        assertEquals(group.size(), group.find(TokenType.OR));
+        var inner = group.removeBrackets();
+        assertEquals(1, inner.find(TokenType.OR));
+        assertEquals(inner.size(), inner.find(2, TokenType.OR));
+    }
+
+    @Test
+    void index_tracksDepthAndMatchingParentheses() {
+        var index = TokenIndex.of(Lexer.lex("f((a), b)", ch -> false));
+
+        assertEquals(7, index.match(1));
+        assertEquals(1, index.match(7));
+        assertEquals(4, index.match(2));
+        assertEquals(0, index.depth(0));
+        assertEquals(1, index.depth(2));
+        assertEquals(2, index.depth(3));
+        assertEquals(1, index.depth(4));
+        assertEquals(-1, index.match(0));
+    }
+}
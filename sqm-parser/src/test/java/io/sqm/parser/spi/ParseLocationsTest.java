@@ -0,0 +1,52 @@
+package io.sqm.parser.spi;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParseLocationsTest {
+
+    @Test
+    void locatesOffsetsAcrossLineBreakStyles() {
+        var locations = ParseLocations.of("a\nbc\r\nd\re");
+
+        assertEquals(new ParseLocations.LineColumn(1, 1), locations.locate(0));
+        assertEquals(new ParseLocations.LineColumn(1, 2), locations.locate(1));
+        assertEquals(new ParseLocations.LineColumn(2, 1), locations.locate(2));
+        assertEquals(new ParseLocations.LineColumn(2, 3), locations.locate(4));
+        assertEquals(new ParseLocations.LineColumn(3, 1), locations.locate(6));
+        assertEquals(new ParseLocations.LineColumn(4, 1), locations.locate(8));
+        assertEquals(new ParseLocations.LineColumn(4, 2), locations.locate(9));
+    }
+
+    @Test
+    void locatesManyLines() {
+        var sql = "x\n".repeat(100);
+        var locations = ParseLocations.of(sql);
+
+        assertEquals(new ParseLocations.LineColumn(51, 2), locations.locate(101));
+        assertEquals(new ParseLocations.LineColumn(101, 1), locations.locate(200));
+    }
+
+    @Test
+    void unknownWithoutSourceOrForNegativeOffset() {
+        assertEquals(new ParseLocations.LineColumn(null, null), ParseLocations.none().locate(3));
+        assertEquals(new ParseLocations.LineColumn(null, null), ParseLocations.of("select").locate(-1));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void deprecatedScopeInstallsAndRestoresLocations() {
+        assertSame(ParseLocations.none(), ParseLocations.current());
+
+        try (var outer = ParseLocations.open("a\nb")) {
+            assertEquals(new ParseLocations.LineColumn(2, 1), ParseLocations.current().locate(2));
+            try (var inner = ParseLocations.open("c")) {
+                assertEquals(new ParseLocations.LineColumn(1, 1), ParseLocations.current().locate(0));
+            }
+            assertEquals(new ParseLocations.LineColumn(2, 1), ParseLocations.current().locate(2));
+        }
+
+        assertSame(ParseLocations.none(), ParseLocations.current());
+    }
+}
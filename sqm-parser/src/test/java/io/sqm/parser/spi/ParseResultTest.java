@@ -91,27 +91,24 @@ class ParseResultTest {
     }
 
     @Test
-    void parseContextAttachesLineAndColumnToProblems() {
-        ParseResult<Statement> result;
-        try (var ignored = ParseLocations.open("select from")) {
-            result = ParseResult.error("Expected FROM", 7);
-        }
+    void problemsAreLocatedAgainstSourceLocations() {
+        var locations = ParseLocations.of("select from");
+        var result = ParseResult.<Statement>error("Expected FROM", 7);
 
-        assertTrue(result.isError());
-        assertEquals(1, result.problems().getFirst().line());
-        assertEquals(8, result.problems().getFirst().column());
+        var problem = result.problems().getFirst().locate(locations);
+
+        assertEquals(1, problem.line());
+        assertEquals(8, problem.column());
     }
 
     @Test
-    void parseContextAttachesLineAndColumnToLexerProblems() {
-        ParseResult<Statement> result;
-        try (var ignored = ParseLocations.open("select 'unterminated")) {
-            result = ParseResult.error(new ParserException("Unterminated string literal", 7));
-        }
+    void lexerProblemsAreLocatedAgainstSourceLocations() {
+        var locations = ParseLocations.of("select\n'unterminated");
+        var result = ParseResult.<Statement>error(new ParserException("Unterminated string literal", 7));
 
-        assertTrue(result.isError());
-        assertEquals(1, result.problems().getFirst().line());
-        assertEquals(8, result.problems().getFirst().column());
+        var problem = result.problems().getFirst().locate(locations);
+
+        assertEquals(2, problem.line());
+        assertEquals(1, problem.column());
     }
 }
-
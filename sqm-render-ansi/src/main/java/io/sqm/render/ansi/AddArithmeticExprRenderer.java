@@ -1,7 +1,6 @@
 package io.sqm.render.ansi;
 
 import io.sqm.core.AddArithmeticExpr;
-import io.sqm.core.AdditiveArithmeticExpr;
 import io.sqm.render.SqlWriter;
 import io.sqm.render.spi.RenderContext;
 import io.sqm.render.spi.Renderer;
@@ -25,9 +24,7 @@ public class AddArithmeticExprRenderer implements Renderer<AddArithmeticExpr> {
      */
     @Override
     public void render(AddArithmeticExpr node, RenderContext ctx, SqlWriter w) {
-        w.append(node.lhs(), node.lhs() instanceof AdditiveArithmeticExpr);
-        w.space().append(ctx.dialect().operators().add()).space();
-        w.append(node.rhs(), node.rhs() instanceof AdditiveArithmeticExpr);
+        OperatorChainRendering.render(node, ctx, w);
     }
 
     /**
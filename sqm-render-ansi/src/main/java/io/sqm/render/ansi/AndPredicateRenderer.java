@@ -1,8 +1,6 @@
 package io.sqm.render.ansi;
 
 import io.sqm.core.AndPredicate;
-import io.sqm.core.CompositePredicate;
-import io.sqm.core.Predicate;
 import io.sqm.render.SqlWriter;
 import io.sqm.render.spi.RenderContext;
 import io.sqm.render.spi.Renderer;
@@ -26,9 +24,7 @@ public class AndPredicateRenderer implements Renderer<AndPredicate> {
      */
     @Override
     public void render(AndPredicate node, RenderContext ctx, SqlWriter w) {
-        w.append(node.lhs(), requireParenthesis(node.lhs()));
-        w.space().append(ctx.dialect().operators().and()).space();
-        w.append(node.rhs(), requireParenthesis(node.rhs()));
+        OperatorChainRendering.render(node, ctx, w);
     }
 
     /**
@@ -40,8 +36,4 @@ public class AndPredicateRenderer implements Renderer<AndPredicate> {
     public Class<AndPredicate> targetType() {
         return AndPredicate.class;
     }
-
-    private boolean requireParenthesis(Predicate predicate) {
-        return !(predicate instanceof AndPredicate) && predicate instanceof CompositePredicate;
-    }
 }
@@ -1,7 +1,5 @@
 package io.sqm.render.ansi;
 
-import io.sqm.core.AdditiveArithmeticExpr;
-import io.sqm.core.Expression;
 import io.sqm.core.ModArithmeticExpr;
 import io.sqm.render.SqlWriter;
 import io.sqm.render.spi.RenderContext;
@@ -26,11 +24,7 @@ public class ModArithmeticExprRenderer implements Renderer<ModArithmeticExpr> {
      */
     @Override
     public void render(ModArithmeticExpr node, RenderContext ctx, SqlWriter w) {
-        w.append("MOD").append("(");
-        w.append(node.lhs(), enclose(node.lhs()));
-        w.append(",").space();
-        w.append(node.rhs(), enclose(node.lhs()));
-        w.append(")");
+        OperatorChainRendering.renderMod(node, ctx, w);
     }
 
     /**
@@ -42,8 +36,4 @@ public class ModArithmeticExprRenderer implements Renderer<ModArithmeticExpr> {
     public Class<ModArithmeticExpr> targetType() {
         return ModArithmeticExpr.class;
     }
-
-    private boolean enclose(Expression expr) {
-        return expr instanceof AdditiveArithmeticExpr && !(expr instanceof ModArithmeticExpr);
-    }
 }
@@ -1,6 +1,5 @@
 package io.sqm.render.ansi;
 
-import io.sqm.core.AdditiveArithmeticExpr;
 import io.sqm.core.MulArithmeticExpr;
 import io.sqm.render.SqlWriter;
 import io.sqm.render.spi.RenderContext;
@@ -25,9 +24,7 @@ public class MulArithmeticExprRenderer implements Renderer<MulArithmeticExpr> {
      */
     @Override
     public void render(MulArithmeticExpr node, RenderContext ctx, SqlWriter w) {
-        w.append(node.lhs(), node.lhs() instanceof AdditiveArithmeticExpr);
-        w.space().append(ctx.dialect().operators().mul()).space();
-        w.append(node.rhs(), node.rhs() instanceof AdditiveArithmeticExpr);
+        OperatorChainRendering.render(node, ctx, w);
     }
 
     /**
@@ -0,0 +1,138 @@
+package io.sqm.render.ansi;
+
+import io.sqm.core.*;
+import io.sqm.core.internal.OperatorChains;
+import io.sqm.render.SqlWriter;
+import io.sqm.render.spi.RenderContext;
+
+import java.util.ArrayList;
+
+/**
+ * Renders {@code AND}, {@code OR} and infix arithmetic operators, writing left-deep chains of them in a loop.
+ * <p>
+ * A chain such as {@code a OR b OR c} is a left-nested tree, so rendering it operator by operator through
+ * {@link SqlWriter#append(Node)} recurses once per term. Here the left spine is collected first and written
+ * iteratively: the opening parentheses of the spine, the leftmost operand, then each operator with its right
+ * operand and closing parenthesis. The output is the same as rendering each operator on its own. A spine node
+ * is only written inline when the dialect renders it with the renderer of this package; otherwise it is
+ * appended normally.
+ * <p>
+ * Modulo is written as the function {@code MOD(lhs, rhs)}, so a chain of it nests function calls instead of
+ * infix operators; {@link #renderMod(ModArithmeticExpr, RenderContext, SqlWriter)} writes it with the same kind
+ * of loop.
+ */
+final class OperatorChainRendering {
+
+    private OperatorChainRendering() {
+    }
+
+    /**
+     * Renders a binary chain operator.
+     *
+     * @param node {@code AND}, {@code OR}, {@code +}, {@code -}, {@code *} or {@code /} node.
+     * @param ctx  a render context.
+     * @param w    a writer.
+     */
+    static void render(Node node, RenderContext ctx, SqlWriter w) {
+        var left = OperatorChains.lhs(node);
+        if (!inline(left, ctx)) {
+            renderOperator(node, left, ctx, w);
+            return;
+        }
+        var spine = new ArrayList<Node>();
+        var parent = node;
+        while (inline(left, ctx)) {
+            if (enclose(parent, left)) {
+                w.append("(");
+            }
+            spine.add(left);
+            parent = left;
+            left = OperatorChains.lhs(left);
+        }
+        w.append(left, enclose(parent, left));
+        for (int i = spine.size() - 1; i >= 0; i--) {
+            var inner = spine.get(i);
+            writeRhs(inner, ctx, w);
+            if (enclose(i == 0 ? node : spine.get(i - 1), inner)) {
+                w.append(")");
+            }
+        }
+        writeRhs(node, ctx, w);
+    }
+
+    /**
+     * Renders a modulo node as nested {@code MOD(lhs, rhs)} calls, writing a left-deep chain of them in a loop.
+     *
+     * @param node modulo node.
+     * @param ctx  a render context.
+     * @param w    a writer.
+     */
+    static void renderMod(ModArithmeticExpr node, RenderContext ctx, SqlWriter w) {
+        var spine = new ArrayList<ModArithmeticExpr>();
+        spine.add(node);
+        while (spine.getLast().lhs() instanceof ModArithmeticExpr inner
+            && ctx.dialect().renderers().requireFor(inner).getClass() == ModArithmeticExprRenderer.class) {
+            spine.add(inner);
+        }
+        for (int i = 0; i < spine.size(); i++) {
+            w.append("MOD").append("(");
+        }
+        var bottom = spine.getLast();
+        w.append(bottom.lhs(), encloseModOperand(bottom.lhs()));
+        for (int i = spine.size() - 1; i >= 0; i--) {
+            var mod = spine.get(i);
+            w.append(",").space();
+            w.append(mod.rhs(), encloseModOperand(mod.lhs()));
+            w.append(")");
+        }
+    }
+
+    private static boolean encloseModOperand(Expression expr) {
+        return expr instanceof AdditiveArithmeticExpr && !(expr instanceof ModArithmeticExpr);
+    }
+
+    private static void renderOperator(Node node, Node lhs, RenderContext ctx, SqlWriter w) {
+        w.append(lhs, enclose(node, lhs));
+        writeRhs(node, ctx, w);
+    }
+
+    private static void writeRhs(Node node, RenderContext ctx, SqlWriter w) {
+        var rhs = OperatorChains.rhs(node);
+        w.space().append(operator(node, ctx)).space();
+        w.append(rhs, enclose(node, rhs));
+    }
+
+    private static boolean inline(Node operand, RenderContext ctx) {
+        var expected = switch (operand) {
+            case AndPredicate ignored -> AndPredicateRenderer.class;
+            case OrPredicate ignored -> OrPredicateRenderer.class;
+            case AddArithmeticExpr ignored -> AddArithmeticExprRenderer.class;
+            case SubArithmeticExpr ignored -> SubArithmeticExprRenderer.class;
+            case MulArithmeticExpr ignored -> MulArithmeticExprRenderer.class;
+            case DivArithmeticExpr ignored -> DivArithmeticExprRenderer.class;
+            default -> null;
+        };
+        return expected != null && ctx.dialect().renderers().requireFor(operand).getClass() == expected;
+    }
+
+    private static boolean enclose(Node parent, Node operand) {
+        return switch (parent) {
+            case AndPredicate ignored -> !(operand instanceof AndPredicate) && operand instanceof CompositePredicate;
+            case OrPredicate ignored -> !(operand instanceof OrPredicate) && operand instanceof CompositePredicate;
+            default -> operand instanceof AdditiveArithmeticExpr;
+        };
+    }
+
+    private static String operator(Node node, RenderContext ctx) {
+        var operators = ctx.dialect().operators();
+        return switch (node) {
+            case AndPredicate ignored -> operators.and();
+            case OrPredicate ignored -> operators.or();
+            case AddArithmeticExpr ignored -> operators.add();
+            case SubArithmeticExpr ignored -> operators.sub();
+            case MulArithmeticExpr ignored -> operators.mul();
+            case DivArithmeticExpr ignored -> operators.div();
+            default -> throw new IllegalArgumentException("Unsupported chain operator: " + node);
+        };
+    }
+}
@@ -1,8 +1,6 @@
 package io.sqm.render.ansi;
 
-import io.sqm.core.CompositePredicate;
 import io.sqm.core.OrPredicate;
-import io.sqm.core.Predicate;
 import io.sqm.render.SqlWriter;
 import io.sqm.render.spi.RenderContext;
 import io.sqm.render.spi.Renderer;
@@ -26,9 +24,7 @@ public class OrPredicateRenderer implements Renderer<OrPredicate> {
      */
     @Override
     public void render(OrPredicate node, RenderContext ctx, SqlWriter w) {
-        w.append(node.lhs(), requireParenthesis(node.lhs()));
-        w.space().append(ctx.dialect().operators().or()).space();
-        w.append(node.rhs(), requireParenthesis(node.rhs()));
+        OperatorChainRendering.render(node, ctx, w);
     }
 
     /**
@@ -40,8 +36,4 @@ public class OrPredicateRenderer implements Renderer<OrPredicate> {
     public Class<OrPredicate> targetType() {
         return OrPredicate.class;
     }
-
-    private boolean requireParenthesis(Predicate predicate) {
-        return !(predicate instanceof OrPredicate) && predicate instanceof CompositePredicate;
-    }
 }
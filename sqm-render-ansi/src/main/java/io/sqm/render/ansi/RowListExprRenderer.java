@@ -24,7 +24,8 @@ public class RowListExprRenderer implements Renderer<RowListExpr> {
      */
     @Override
     public void render(RowListExpr node, RenderContext ctx, SqlWriter w) {
-        w.comma(node.rows(), true);
+        // same text as w.comma(node.rows(), true), but lets parallel writers render long VALUES lists in chunks
+        w.appendAll(node.rows(), s -> s.append(",").append(" "), (s, row) -> s.append(row, true));
     }
 
     /**
@@ -2,12 +2,18 @@ package io.sqm.render.ansi;
 
 import io.sqm.core.NamedParamExpr;
 import io.sqm.core.Node;
+import io.sqm.core.Predicate;
+import io.sqm.render.defaults.DefaultSqlWriter;
 import io.sqm.render.ansi.spi.AnsiDialect;
 import io.sqm.render.spi.ParameterizationMode;
 import io.sqm.render.spi.PreparedNode;
+import io.sqm.render.spi.RenderContext;
 import io.sqm.render.spi.RenderOptions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+import java.util.List;
+
 import static io.sqm.dsl.Dsl.*;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -17,11 +23,11 @@ import static org.junit.jupiter.api.Assertions.*;
 class BeforeRenderBindModeTest {
 
     // -------------------------------------------------------------------------
-    // All values come from literals (via ParameterizeLiteralsTransformer)
+    // All values come from literals, bound by the writer while rendering
     // -------------------------------------------------------------------------
 
     @Test
-    void bindMode_collectsValuesFromLiteralsInParameterOrder() {
+    void bindMode_defersLiteralsToWriter() {
         // given: a query whose only parameters come from literals
         Node root = queryWithTwoLiteralPredicates(); // e.g. WHERE a = 10 AND b = 'x'
 
@@ -34,16 +40,62 @@ class BeforeRenderBindModeTest {
         // when
         PreparedNode prepared = dialect.beforeRender(root, options);
 
-        // then
-        var params = prepared.params();
+        // then: the tree is not rewritten, the writer binds the literals
+        assertSame(root, prepared.node());
+        assertTrue(prepared.bindLiterals());
+        assertTrue(prepared.params().isEmpty());
+    }
 
-        // Expect two positional values coming from literals, in the order
-        // defined by AnonymousParamsTransformer.paramsByIndex().
-        assertEquals(2, params.size(), "Expected two positional parameters");
+    @Test
+    void bindMode_collectsValuesFromLiteralsInParameterOrder() {
+        Node root = queryWithTwoLiteralPredicates();
 
-        // Adjust these expected values to match your literal values
-        assertEquals(10, params.get(0));
-        assertEquals("x", params.get(1));
+        var text = RenderContext.of(new AnsiDialect()).render(root, RenderOptions.of(ParameterizationMode.Bind));
+
+        assertEquals("SELECT * FROM t WHERE a = ? AND b = ?", text.sql().replace("\n", " "));
+        assertEquals(List.of(10, "x"), text.params());
+    }
+
+    @Test
+    void bindMode_keepsNullLiteralValues() {
+        Node root = select(star()).from(tbl("t")).where(col("a").eq(lit(null))).build();
+
+        var text = RenderContext.of(new AnsiDialect()).render(root, RenderOptions.of(ParameterizationMode.Bind));
+
+        assertEquals(Collections.singletonList(null), text.params());
+    }
+
+    @Test
+    void bindMode_parameterizesUpFrontForWritersThatDoNotBind() {
+        Node root = queryWithTwoLiteralPredicates();
+        var ctx = RenderContext.of(new AnsiDialect());
+        var w = new DefaultSqlWriter(ctx) {
+            @Override
+            public boolean supportsLiteralBinding() {
+                return false;
+            }
+        };
+
+        var prepared = ctx.dialect().beforeRender(root, RenderOptions.of(ParameterizationMode.Bind)).bindTo(w);
+        w.append(prepared.node());
+
+        assertFalse(prepared.bindLiterals());
+        assertEquals(ctx.render(root, RenderOptions.of(ParameterizationMode.Bind)), w.toText(prepared.params()));
+    }
+
+    @Test
+    void bindMode_rendersDeepChainsInOnePass() {
+        Predicate where = col("a").eq(lit(0));
+        for (int i = 1; i < 10_000; i++) {
+            where = where.or(col("a").eq(lit(i)));
+        }
+        Node root = select(star()).from(tbl("t")).where(where).build();
+
+        var text = RenderContext.of(new AnsiDialect()).render(root, RenderOptions.of(ParameterizationMode.Bind));
+
+        assertEquals(10_000, text.params().size());
+        assertEquals(9_999, text.params().getLast());
+        assertTrue(text.sql().endsWith("a = ? OR a = ?"));
     }
 
     // -------------------------------------------------------------------------
@@ -59,10 +111,10 @@ class BeforeRenderBindModeTest {
 
         var dialect = new AnsiDialect();
 
-        // when / then
+        // when / then: the writer rejects the parameter while rendering
         IllegalStateException ex = assertThrows(
             IllegalStateException.class,
-            () -> dialect.beforeRender(root, options)
+            () -> RenderContext.of(dialect).render(root, options)
         );
 
         assertTrue(
@@ -0,0 +1,67 @@
+package io.sqm.render.ansi;
+
+import io.sqm.core.Node;
+import io.sqm.render.ansi.spi.AnsiDialect;
+import io.sqm.render.defaults.DefaultSqlWriter;
+import io.sqm.render.spi.ParameterizationMode;
+import io.sqm.render.spi.RenderContext;
+import io.sqm.render.spi.RenderLayout;
+import io.sqm.render.spi.RenderOptions;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.List;
+
+import static io.sqm.dsl.Dsl.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactLayoutRenderTest {
+
+    private final RenderContext ctx = RenderContext.of(new AnsiDialect());
+    private final RenderOptions compact = RenderOptions.of(ParameterizationMode.Inline, RenderLayout.Compact);
+
+    private static Node query() {
+        var sub = select(col("o", "customer_id")).from(tbl("orders").as("o")).where(col("o", "total").gt(lit(10))).build();
+        return select(col("c", "id"), col("c", "name"))
+            .from(tbl("customers").as("c"))
+            .join(inner(tbl("addresses").as("a")).on(col("a", "customer_id").eq(col("c", "id"))))
+            .where(exists(sub).and(col("c", "name").eq(lit("x")).or(col("c", "id").eq(lit(1)))))
+            .orderBy(col("c", "name").asc())
+            .build();
+    }
+
+    @Test
+    void renders_single_line_sql() {
+        var pretty = ctx.render(query()).sql();
+        var sql = ctx.render(query(), compact).sql();
+
+        assertTrue(pretty.contains("\n"));
+        assertFalse(sql.contains("\n"));
+        assertFalse(sql.contains("  "));
+        assertEquals(pretty.replaceAll("\\s+", " "), sql);
+    }
+
+    @Test
+    void matches_default_writer_in_single_line_mode() {
+        var reference = new DefaultSqlWriter(ctx);
+        reference.singleLine();
+        reference.append(query());
+
+        assertEquals(reference.toText(List.of()).sql(), ctx.render(query(), compact).sql());
+    }
+
+    @Test
+    void streams_compact_layout() {
+        var out = new StringWriter();
+        ctx.render(query(), compact, out);
+
+        assertEquals(ctx.render(query(), compact).sql(), out.toString());
+    }
+
+    @Test
+    void defaults_to_pretty_layout() {
+        assertEquals(RenderLayout.Pretty, RenderOptions.of(ParameterizationMode.Bind).layout());
+        assertEquals(RenderLayout.Compact, RenderOptions.of(ParameterizationMode.Bind).withLayout(RenderLayout.Compact).layout());
+        assertThrows(NullPointerException.class, () -> RenderOptions.of(ParameterizationMode.Bind, null));
+    }
+}
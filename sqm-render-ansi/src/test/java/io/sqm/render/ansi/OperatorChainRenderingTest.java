@@ -0,0 +1,85 @@
+package io.sqm.render.ansi;
+
+import io.sqm.core.Expression;
+import io.sqm.core.Predicate;
+import io.sqm.render.ansi.spi.AnsiDialect;
+import io.sqm.render.spi.RenderContext;
+import org.junit.jupiter.api.Test;
+
+import static io.sqm.dsl.Dsl.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OperatorChainRenderingTest {
+
+    private static final int DEPTH = 100_000;
+
+    private final RenderContext ctx = RenderContext.of(new AnsiDialect());
+
+    @Test
+    void renders_mixed_arithmetic_chain_with_operator_parentheses() {
+        var expr = col("a").add(col("b")).sub(col("c")).mul(col("d")).div(col("e"));
+
+        assertEquals("((a + b) - c) * d / e", ctx.render(expr).sql());
+    }
+
+    @Test
+    void renders_mixed_predicate_chain_with_composite_parentheses() {
+        var p = col("a").eq(1).and(col("b").eq(2)).or(col("c").eq(3)).and(col("d").eq(4)).and(col("e").eq(5));
+
+        assertEquals("((a = 1 AND b = 2) OR c = 3) AND d = 4 AND e = 5", ctx.render(p).sql());
+    }
+
+    @Test
+    void renders_right_nested_operands_through_their_renderers() {
+        var expr = col("a").sub(col("b").add(col("c"))).mul(col("d").mul(col("e")));
+
+        assertEquals("(a - (b + c)) * d * e", ctx.render(expr).sql());
+    }
+
+    @Test
+    void renders_deep_or_chain_without_stack_overflow() {
+        Predicate p = col("c").eq(lit(0));
+        for (int i = 1; i < DEPTH; i++) {
+            p = p.or(col("c").eq(lit(i)));
+        }
+
+        var sql = ctx.render(select(col("c")).from(tbl("t")).where(p).build()).sql();
+
+        assertTrue(sql.contains("c = 0 OR c = 1 OR c = 2"));
+        assertTrue(sql.endsWith("c = " + (DEPTH - 1)));
+    }
+
+    @Test
+    void renders_deep_additive_chain_without_stack_overflow() {
+        Expression expr = col("x");
+        for (int i = 0; i < DEPTH; i++) {
+            expr = expr.add(lit(1));
+        }
+
+        var sql = ctx.render(expr).sql();
+
+        assertTrue(sql.startsWith("(".repeat(DEPTH - 1) + "x + 1) + 1"));
+        assertTrue(sql.endsWith(") + 1"));
+    }
+
+    @Test
+    void renders_mod_chain_as_nested_calls() {
+        var expr = col("a").mod(col("b")).mod(col("c").add(col("d")));
+
+        assertEquals("MOD(MOD(a, b), c + d)", ctx.render(expr).sql());
+    }
+
+    @Test
+    void renders_deep_mod_chain_without_stack_overflow() {
+        Expression expr = col("x");
+        for (int i = 0; i < DEPTH; i++) {
+            expr = expr.mod(lit(7));
+        }
+
+        var sql = ctx.render(expr).sql();
+
+        assertTrue(sql.startsWith("MOD(".repeat(DEPTH) + "x, 7), 7)"));
+        assertTrue(sql.endsWith(", 7)"));
+    }
+}
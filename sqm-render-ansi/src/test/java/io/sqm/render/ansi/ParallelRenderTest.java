@@ -0,0 +1,142 @@
+package io.sqm.render.ansi;
+
+import io.sqm.core.InsertStatement;
+import io.sqm.core.OrdinalParamExpr;
+import io.sqm.core.RowExpr;
+import io.sqm.core.Statement;
+import io.sqm.core.StatementSequence;
+import io.sqm.render.ParallelRenderer;
+import io.sqm.render.SqlWriter;
+import io.sqm.render.ansi.spi.AnsiDialect;
+import io.sqm.render.spi.ParameterizationMode;
+import io.sqm.render.spi.RenderContext;
+import io.sqm.render.spi.RenderLayout;
+import io.sqm.render.spi.RenderOptions;
+import io.sqm.render.spi.Renderer;
+import io.sqm.render.spi.RenderersRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static io.sqm.dsl.Dsl.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelRenderTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    private final RenderContext ctx = RenderContext.of(new AnsiDialect());
+    private final ParallelRenderer renderer = ParallelRenderer.of(POOL, 16);
+    private final List<RenderOptions> allOptions = List.of(
+        RenderOptions.of(ParameterizationMode.Inline),
+        RenderOptions.of(ParameterizationMode.Inline, RenderLayout.Compact),
+        RenderOptions.of(ParameterizationMode.Bind),
+        RenderOptions.of(ParameterizationMode.Bind, RenderLayout.Compact));
+
+    @AfterAll
+    static void shutdown() {
+        POOL.shutdown();
+    }
+
+    private static InsertStatement bulkInsert(int rows) {
+        var values = new ArrayList<RowExpr>();
+        for (int i = 0; i < rows; i++) {
+            values.add(row(lit(i), lit("name " + i), lit(i % 3 == 0 ? null : i * 1.5)));
+        }
+        return insert("users")
+            .columns(id("id"), id("name"), id("score"))
+            .values(rows(values.toArray(RowExpr[]::new)))
+            .build();
+    }
+
+    private static StatementSequence script(int statements) {
+        var list = new ArrayList<Statement>();
+        for (int i = 0; i < statements; i++) {
+            list.add(i % 2 == 0
+                ? select(col("id"), col("name")).from(tbl("users")).where(col("id").eq(lit(i))).build()
+                : bulkInsert(3));
+        }
+        return StatementSequence.of(list);
+    }
+
+    @Test
+    void renders_multi_row_values_like_sequential_renderer() {
+        var statement = bulkInsert(1_000);
+
+        for (var options : allOptions) {
+            assertEquals(ctx.render(statement, options), renderer.render(ctx, statement, options));
+        }
+    }
+
+    @Test
+    void renders_statement_sequences_like_sequential_renderer() {
+        var sequence = script(301);
+
+        for (var options : allOptions) {
+            assertEquals(ctx.render(sequence, options), renderer.render(ctx, sequence, options));
+        }
+    }
+
+    @Test
+    void numbers_bind_parameters_across_chunks() {
+        var dollar = RenderContext.of(new AnsiDialect() {
+            private final RenderersRepository renderers = Renderers.ansiCopy().register(new Renderer<OrdinalParamExpr>() {
+                @Override
+                public void render(OrdinalParamExpr node, RenderContext ctx, SqlWriter w) {
+                    w.append("$" + node.index());
+                }
+
+                @Override
+                public Class<OrdinalParamExpr> targetType() {
+                    return OrdinalParamExpr.class;
+                }
+            });
+
+            @Override
+            public RenderersRepository renderers() {
+                return renderers;
+            }
+        });
+        var statement = bulkInsert(100);
+        var options = RenderOptions.of(ParameterizationMode.Bind, RenderLayout.Compact);
+
+        var text = renderer.render(dollar, statement, options);
+
+        assertEquals(dollar.render(statement, options), text);
+        assertTrue(text.sql().endsWith("($298, $299, $300)"));
+        assertEquals(300, text.params().size());
+    }
+
+    @Test
+    void falls_back_to_sequential_rendering_when_chunks_do_not_join() {
+        // renders only the first value of each row, so chunks bind fewer parameters than their rows have literals
+        var firstOnly = RenderContext.of(new AnsiDialect() {
+            private final RenderersRepository renderers = Renderers.ansiCopy().register(new RowExprRenderer() {
+                @Override
+                public void render(RowExpr node, RenderContext ctx, SqlWriter w) {
+                    w.append(node.items().getFirst());
+                }
+            });
+
+            @Override
+            public RenderersRepository renderers() {
+                return renderers;
+            }
+        });
+        var statement = bulkInsert(100);
+        var options = RenderOptions.of(ParameterizationMode.Bind);
+
+        var text = renderer.render(firstOnly, statement, options);
+
+        assertEquals(firstOnly.render(statement, options), text);
+        assertEquals(100, text.params().size());
+    }
+
+    @Test
+    void rejects_invalid_chunk_size() {
+        assertThrows(IllegalArgumentException.class, () -> ParallelRenderer.of(POOL, 0));
+    }
+}
@@ -0,0 +1,118 @@
+package io.sqm.render.ansi;
+
+import io.sqm.core.Node;
+import io.sqm.core.Query;
+import io.sqm.render.RenderCache;
+import io.sqm.render.ansi.spi.AnsiDialect;
+import io.sqm.render.spi.ParameterizationMode;
+import io.sqm.render.spi.RenderContext;
+import io.sqm.render.spi.RenderLayout;
+import io.sqm.render.spi.RenderOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static io.sqm.dsl.Dsl.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderCacheTest {
+
+    private final RenderContext ctx = RenderContext.of(new AnsiDialect());
+    private final RenderOptions inline = RenderOptions.of(ParameterizationMode.Inline);
+    private final RenderOptions bind = RenderOptions.of(ParameterizationMode.Bind);
+
+    private static Query query(Object name, int age) {
+        return select(col("u", "id"), col("u", "name").as("n"))
+            .from(tbl("users").as("u"))
+            .where(col("u", "name").eq(lit(name)).and(col("u", "age").gt(lit(age))).and(col("u", "created").lt(date("2024-01-0" + (age % 9 + 1)))))
+            .build();
+    }
+
+    @Test
+    void splices_literals_of_same_shaped_statements() {
+        var cache = RenderCache.builder().build();
+
+        for (var options : List.of(inline, inline.withLayout(RenderLayout.Compact))) {
+            assertEquals(ctx.render(query("alice", 30), options).sql(), cache.render(ctx, query("alice", 30), options).sql());
+            var text = cache.render(ctx, query("o'brien", 42), options);
+            assertEquals(ctx.render(query("o'brien", 42), options), text);
+        }
+
+        var stats = cache.stats();
+        assertEquals(2, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(2, stats.size());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    @Test
+    void collects_bind_parameters_from_literals() {
+        var cache = RenderCache.builder().build();
+        cache.render(ctx, query("alice", 30), bind);
+
+        var text = cache.render(ctx, query("bob", 7), bind);
+
+        assertEquals(ctx.render(query("bob", 7), bind), text);
+        assertEquals(List.of("bob", 7, "2024-01-08"), text.params());
+        assertEquals(1, cache.stats().hits());
+    }
+
+    @Test
+    void keeps_literal_kinds_apart() {
+        var cache = RenderCache.builder().build();
+
+        assertEquals("SELECT 1", cache.render(ctx, select(lit(1)).build()).sql());
+        assertEquals("SELECT '1'", cache.render(ctx, select(lit("1")).build()).sql());
+        assertEquals("SELECT NULL", cache.render(ctx, select(lit(null)).build()).sql());
+        assertEquals("SELECT 2", cache.render(ctx, select(lit(2)).build()).sql());
+
+        assertEquals(1, cache.stats().hits());
+        assertEquals(3, cache.stats().size());
+    }
+
+    @Test
+    void renders_normally_when_literals_are_shared() {
+        var cache = RenderCache.builder().build();
+        var shared = lit(5);
+        Node first = select(shared).from(tbl("t")).where(col("a").eq(shared)).build();
+        Node second = select(lit(6)).from(tbl("t")).where(col("a").eq(lit(7))).build();
+
+        assertEquals(ctx.render(first).sql(), cache.render(ctx, first).sql());
+        assertEquals(ctx.render(second).sql(), cache.render(ctx, second).sql());
+        assertEquals(0, cache.stats().hits());
+        assertEquals(2, cache.stats().misses());
+        assertEquals(1, cache.stats().size());
+        assertEquals(0, cache.stats().weight());
+    }
+
+    @Test
+    void separates_dialect_instances_and_evicts_least_recently_used() {
+        var cache = RenderCache.builder().maximumSize(2).build();
+        var other = RenderContext.of(new AnsiDialect());
+
+        cache.render(ctx, query("a", 1));
+        cache.render(other, query("a", 1));
+        cache.render(ctx, select(lit(1)).build());
+
+        var stats = cache.stats();
+        assertEquals(0, stats.hits());
+        assertEquals(2, stats.size());
+        assertEquals(1, stats.evictions());
+
+        cache.clear();
+        assertEquals(0, cache.stats().size());
+        assertThrows(IllegalArgumentException.class, () -> RenderCache.builder().maximumWeight(0));
+    }
+
+    @Test
+    void bind_parameters_are_independent_lists() {
+        var cache = RenderCache.builder().build();
+        cache.render(ctx, query("a", 1), bind);
+        var first = cache.render(ctx, query("b", 2), bind).params();
+        var second = cache.render(ctx, query("c", 3), bind).params();
+
+        assertEquals(Arrays.asList("b", 2, "2024-01-03"), first);
+        assertEquals(Arrays.asList("c", 3, "2024-01-04"), second);
+    }
+}
@@ -0,0 +1,61 @@
+package io.sqm.render.ansi;
+
+import io.sqm.core.Query;
+import io.sqm.render.ansi.spi.AnsiDialect;
+import io.sqm.render.spi.ParameterizationMode;
+import io.sqm.render.spi.RenderContext;
+import io.sqm.render.spi.RenderOptions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static io.sqm.dsl.Dsl.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StreamingRenderTest {
+
+    private final RenderContext ctx = RenderContext.of(new AnsiDialect());
+
+    private static Query query() {
+        return select(col("u", "id"), col("u", "name"))
+            .from(tbl("users").as("u"))
+            .where(col("u", "name").eq(lit("Zoë")).and(col("u", "age").gt(lit(18))))
+            .orderBy(col("u", "id").asc())
+            .build();
+    }
+
+    @Test
+    void streams_same_sql_to_every_target() {
+        var inline = RenderOptions.of(ParameterizationMode.Inline);
+        var expected = ctx.render(query(), inline).sql();
+
+        var text = new StringBuilder();
+        ctx.render(query(), inline, text);
+        assertEquals(expected, text.toString());
+
+        var bytes = new ByteArrayOutputStream();
+        ctx.render(query(), inline, bytes);
+        assertEquals(expected, bytes.toString(StandardCharsets.UTF_8));
+
+        var channelBytes = new ByteArrayOutputStream();
+        ctx.render(query(), inline, Channels.newChannel(channelBytes), ByteBuffer.allocateDirect(16));
+        assertEquals(expected, channelBytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void returns_bind_parameters_of_streamed_sql() {
+        var bind = RenderOptions.of(ParameterizationMode.Bind);
+        var expected = ctx.render(query(), bind);
+
+        var text = new StringBuilder();
+        var params = ctx.render(query(), bind, text);
+
+        assertEquals(expected.sql(), text.toString());
+        assertEquals(expected.params(), params);
+        assertEquals(List.of("Zoë", 18), params);
+    }
+}
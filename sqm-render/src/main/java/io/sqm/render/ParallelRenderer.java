@@ -0,0 +1,108 @@
+package io.sqm.render;
+
+import io.sqm.core.Node;
+import io.sqm.render.defaults.CompactSqlWriter;
+import io.sqm.render.defaults.DefaultSqlWriter;
+import io.sqm.render.spi.ParameterizationMode;
+import io.sqm.render.spi.RenderContext;
+import io.sqm.render.spi.RenderLayout;
+import io.sqm.render.spi.RenderOptions;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Renders large statements and scripts using several threads.
+ * <p>
+ * Long statement sequences and multi-row {@code VALUES} lists are split into chunks that are rendered
+ * concurrently on a {@link ForkJoinPool} into per-chunk buffers and then concatenated in order. Lists with
+ * at most one chunk of parts are rendered as usual.
+ * <p>
+ * The result matches {@link RenderContext#render(Node, RenderOptions)} exactly, including the order and
+ * numbering of bind parameters. A list whose chunks cannot be shown to join seamlessly (for example because
+ * a renderer leaves a part at the start of a line, or writes fewer parameters than the part has literals) is
+ * rendered again sequentially. Renderers must be stateless, which is true for the built-in dialects.
+ *
+ * <pre>{@code
+ * var renderer = ParallelRenderer.of();
+ * var text = renderer.render(ctx, bulkInsert, RenderOptions.of(ParameterizationMode.Inline));
+ * }</pre>
+ */
+public final class ParallelRenderer {
+    /**
+     * Default number of statements or rows rendered by one task.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1_024;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    private ParallelRenderer(ForkJoinPool pool, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.pool = Objects.requireNonNull(pool, "pool");
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Creates a parallel renderer that runs on the common {@link ForkJoinPool}.
+     *
+     * @return parallel renderer
+     */
+    public static ParallelRenderer of() {
+        return new ParallelRenderer(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a parallel renderer that runs on the provided pool.
+     *
+     * @param pool pool used to render chunks
+     * @return parallel renderer
+     */
+    public static ParallelRenderer of(ForkJoinPool pool) {
+        return new ParallelRenderer(pool, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a parallel renderer that runs on the provided pool with a custom chunk size.
+     *
+     * @param pool      pool used to render chunks
+     * @param chunkSize number of statements or rows rendered by one task
+     * @return parallel renderer
+     */
+    public static ParallelRenderer of(ForkJoinPool pool, int chunkSize) {
+        return new ParallelRenderer(pool, chunkSize);
+    }
+
+    /**
+     * Renders the node with inline literals.
+     *
+     * @param ctx  render context
+     * @param node node to render
+     * @return rendered SQL text
+     */
+    public SqlText render(RenderContext ctx, Node node) {
+        return render(ctx, node, RenderOptions.of(ParameterizationMode.Inline));
+    }
+
+    /**
+     * Renders the node, rendering long statement sequences and row lists in parallel.
+     *
+     * @param ctx     render context
+     * @param node    node to render
+     * @param options render options
+     * @return rendered SQL text with the bind parameters, if any
+     */
+    public SqlText render(RenderContext ctx, Node node, RenderOptions options) {
+        Objects.requireNonNull(ctx, "ctx");
+        Objects.requireNonNull(node, "node");
+        Objects.requireNonNull(options, "options");
+
+        var w = options.layout() == RenderLayout.Compact ? new CompactSqlWriter(ctx) : new DefaultSqlWriter(ctx);
+        w.parallel(pool, chunkSize);
+        var preparedNode = ctx.dialect().beforeRender(node, options).bindTo(w);
+        w.append(preparedNode.node());
+        return w.toText(preparedNode.bindLiterals() ? w.params() : preparedNode.params());
+    }
+}
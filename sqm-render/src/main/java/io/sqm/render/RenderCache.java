@@ -0,0 +1,377 @@
+package io.sqm.render;
+
+import io.sqm.core.LiteralExpr;
+import io.sqm.core.Node;
+import io.sqm.core.internal.BoundedCache;
+import io.sqm.core.transform.StructuralHasher;
+import io.sqm.render.defaults.CompactSqlWriter;
+import io.sqm.render.defaults.DefaultSqlWriter;
+import io.sqm.render.spi.ParameterizationMode;
+import io.sqm.render.spi.RenderContext;
+import io.sqm.render.spi.RenderLayout;
+import io.sqm.render.spi.RenderOptions;
+import io.sqm.render.spi.SqlDialect;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, thread-safe cache of rendered SQL templates.
+ * <p>
+ * Statements that differ only in literal values render to the same SQL apart from the literals themselves.
+ * The cache keys entries by the structural fingerprint of the statement with literals parameterized
+ * ({@link StructuralHasher#hash(Node, java.util.function.Consumer)}), the dialect instance, the
+ * {@link RenderOptions} and the kind of every literal (its node type, the type of its value, and the value
+ * itself for {@code null} and booleans, which renderers may special-case). The first statement of a shape
+ * is rendered normally and its SQL is stored as constant fragments separated by literal slots. Later
+ * statements of the same shape only format their literals into the slots and, in
+ * {@link ParameterizationMode#Bind} mode, collect the literal values as parameters, without walking the
+ * renderers over the whole tree.
+ * <p>
+ * A template is only used when it reproduces the first rendering exactly: every literal must be rendered
+ * through its own renderer, and the dialect must neither drop nor rebuild literals in
+ * {@link SqlDialect#beforeRender(Node, RenderOptions)}. Shapes that fail this check are remembered and
+ * always rendered normally. Dialects are compared by identity, so the same dialect instance should be
+ * used for rendering to hit the cache.
+ * <p>
+ * Lookups, hits included, take no locks, so statements rendered from many threads do not wait for each
+ * other. The cache evicts approximately least recently used entries once either the entry limit or the
+ * weight limit is exceeded. The weight of an entry is the length of its SQL template in characters; the
+ * marker remembered for a shape that cannot be templated stores no SQL and weighs nothing, so it only counts
+ * towards the entry limit.
+ *
+ * <pre>{@code
+ * var cache = RenderCache.builder().maximumSize(5_000).build();
+ * var text = cache.render(ctx, statement, RenderOptions.of(ParameterizationMode.Bind));
+ * }</pre>
+ */
+public final class RenderCache {
+
+    private final BoundedCache<Key, Template> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private RenderCache(Builder builder) {
+        this.entries = new BoundedCache<>(builder.maximumSize, builder.maximumWeight, Template::weight);
+    }
+
+    /**
+     * Creates a new cache builder.
+     *
+     * @return builder with unbounded weight and a limit of 10,000 entries
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Renders the node with inline literals, reusing a cached template when a statement of the same shape
+     * was rendered before with the same dialect.
+     *
+     * @param ctx  render context used on a cache miss
+     * @param node node to render
+     * @return rendered SQL text
+     */
+    public SqlText render(RenderContext ctx, Node node) {
+        return render(ctx, node, RenderOptions.of(ParameterizationMode.Inline));
+    }
+
+    /**
+     * Renders the node, reusing a cached template when a statement of the same shape was rendered before
+     * with the same dialect and options.
+     *
+     * @param ctx     render context used on a cache miss
+     * @param node    node to render
+     * @param options render options
+     * @return rendered SQL text with the bind parameters, if any
+     */
+    public SqlText render(RenderContext ctx, Node node, RenderOptions options) {
+        Objects.requireNonNull(ctx, "ctx");
+        Objects.requireNonNull(node, "node");
+        Objects.requireNonNull(options, "options");
+
+        var literals = new ArrayList<LiteralExpr>();
+        var fingerprint = StructuralHasher.hash(node, literals::add);
+        var key = new Key(ctx.dialect(), options, fingerprint, kinds(literals));
+        var template = entries.get(key);
+        if (template != null && template.cacheable()) {
+            hits.increment();
+            return template.splice(ctx, literals);
+        }
+        misses.increment();
+        if (template != null) {
+            return ctx.render(node, options);
+        }
+
+        var recorder = new Recorder(ctx, options);
+        var prepared = ctx.dialect().beforeRender(node, options).bindTo(recorder);
+        recorder.append(prepared.node());
+        var result = recorder.toText(prepared.bindLiterals() ? recorder.params() : prepared.params());
+        entries.put(key, Template.of(ctx, result, literals, recorder));
+        return result;
+    }
+
+    /**
+     * Gets a snapshot of the cache counters.
+     *
+     * @return cache statistics
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), entries.evictions(), entries.size(), entries.weight());
+    }
+
+    /**
+     * Removes all entries. Counters are kept.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    private static List<LiteralKind> kinds(List<LiteralExpr> literals) {
+        var kinds = new ArrayList<LiteralKind>(literals.size());
+        for (var literal : literals) {
+            var value = literal.value();
+            kinds.add(new LiteralKind(literal.getClass(), value == null || value instanceof Boolean ? value : value.getClass()));
+        }
+        return kinds;
+    }
+
+    private record Key(SqlDialect dialect, RenderOptions options, String fingerprint, List<LiteralKind> literals) {
+    }
+
+    /**
+     * Literal properties that are part of the statement shape.
+     *
+     * @param type  literal node class
+     * @param value {@code null}, a {@link Boolean} value, or the class of any other value
+     */
+    private record LiteralKind(Class<?> type, Object value) {
+    }
+
+    /**
+     * Writer used on a cache miss: renders like the writer {@link RenderContext#render(Node, RenderOptions)}
+     * would use and records where each literal was written, or which literals were bound as parameters.
+     */
+    private static final class Recorder extends DefaultSqlWriter {
+        private final List<LiteralExpr> literals = new ArrayList<>();
+        private final List<Integer> bounds = new ArrayList<>();
+        private final List<LiteralExpr> boundLiterals = new ArrayList<>();
+        private boolean binding;
+        private int length;
+
+        private Recorder(RenderContext ctx, RenderOptions options) {
+            super(ctx);
+            if (options.layout() == RenderLayout.Compact) {
+                singleLine();
+            }
+        }
+
+        @Override
+        public <T extends Node> SqlWriter append(T node) {
+            if (node instanceof LiteralExpr literal) {
+                int start = length;
+                super.append(node);
+                record(literal, start);
+                return this;
+            }
+            return super.append(node);
+        }
+
+        @Override
+        public <T extends Node> SqlWriter append(Class<T> type, T node) {
+            if (node instanceof LiteralExpr literal) {
+                int start = length;
+                super.append(type, node);
+                record(literal, start);
+                return this;
+            }
+            return super.append(type, node);
+        }
+
+        @Override
+        public void beginLiteralBinding() {
+            super.beginLiteralBinding();
+            binding = true;
+        }
+
+        @Override
+        protected void write(String s) {
+            super.write(s);
+            length += s.length();
+        }
+
+        private void record(LiteralExpr literal, int start) {
+            if (binding) {
+                // the placeholder written for a bound literal is constant text of the template
+                boundLiterals.add(literal);
+                return;
+            }
+            literals.add(literal);
+            bounds.add(start);
+            bounds.add(length);
+        }
+    }
+
+    /**
+     * Rendered SQL split into constant fragments around literal slots.
+     *
+     * @param fragments constant SQL text; one more than there are slots
+     * @param slots     for each slot, the position of the literal written there in fingerprint order
+     * @param params    for each bind parameter, the position of the literal it comes from in fingerprint order
+     * @param weight    entry weight
+     */
+    private record Template(String[] fragments, int[] slots, int[] params, int weight) {
+
+        /**
+         * Marker for a shape that cannot be templated; it stores no SQL and weighs nothing.
+         */
+        private static final Template UNCACHEABLE = new Template(null, null, null, 0);
+
+        static Template of(RenderContext ctx, SqlText result, List<LiteralExpr> literals, Recorder recorder) {
+            var weight = result.sql().length();
+            var positions = new IdentityHashMap<LiteralExpr, Integer>();
+            for (int i = 0; i < literals.size(); i++) {
+                if (positions.put(literals.get(i), i) != null) {
+                    return UNCACHEABLE;
+                }
+            }
+
+            var used = new boolean[literals.size()];
+            var slots = positions(recorder.literals, positions, used);
+            var params = positions(recorder.boundLiterals, positions, used);
+            if (slots == null || params == null || params.length != result.params().size()) {
+                return UNCACHEABLE;
+            }
+            for (var isUsed : used) {
+                if (!isUsed) {
+                    return UNCACHEABLE;
+                }
+            }
+
+            var sql = result.sql();
+            var fragments = new String[slots.length + 1];
+            int last = 0;
+            for (int i = 0; i < slots.length; i++) {
+                fragments[i] = sql.substring(last, recorder.bounds.get(2 * i));
+                last = recorder.bounds.get(2 * i + 1);
+            }
+            fragments[slots.length] = sql.substring(last);
+
+            var template = new Template(fragments, slots, params, weight);
+            var check = template.splice(ctx, literals);
+            if (!check.sql().equals(sql) || !check.params().equals(result.params())) {
+                return UNCACHEABLE;
+            }
+            return template;
+        }
+
+
+        private static int[] positions(List<LiteralExpr> found, IdentityHashMap<LiteralExpr, Integer> positions, boolean[] used) {
+            var result = new int[found.size()];
+            for (int i = 0; i < result.length; i++) {
+                var position = positions.get(found.get(i));
+                if (position == null || used[position]) {
+                    return null;
+                }
+                used[position] = true;
+                result[i] = position;
+            }
+            return result;
+        }
+
+        boolean cacheable() {
+            return fragments != null;
+        }
+
+        SqlText splice(RenderContext ctx, List<LiteralExpr> literals) {
+            var w = new CompactSqlWriter(ctx);
+            for (int i = 0; i < slots.length; i++) {
+                w.append(fragments[i]);
+                w.append(literals.get(slots[i]));
+            }
+            w.append(fragments[slots.length]);
+            List<Object> values = List.of();
+            if (params.length > 0) {
+                var array = new Object[params.length];
+                for (int i = 0; i < params.length; i++) {
+                    array[i] = literals.get(params[i]).value();
+                }
+                values = Arrays.asList(array);
+            }
+            return w.toText(values);
+        }
+    }
+
+    /**
+     * Snapshot of cache counters.
+     *
+     * @param hits      number of renders served from a template
+     * @param misses    number of renders that walked the renderers
+     * @param evictions number of entries evicted by the size or weight limits
+     * @param size      current number of entries
+     * @param weight    current total weight of entries
+     */
+    public record Stats(long hits, long misses, long evictions, long size, long weight) {
+        /**
+         * Gets the ratio of hits to lookups.
+         *
+         * @return hit rate between {@code 0} and {@code 1}, or {@code 0} when nothing was looked up
+         */
+        public double hitRate() {
+            var lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+
+    /**
+     * Builder for {@link RenderCache}.
+     */
+    public static final class Builder {
+        private long maximumSize = 10_000;
+        private long maximumWeight = Long.MAX_VALUE;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of cached entries.
+         *
+         * @param maximumSize maximum number of entries
+         * @return this builder
+         */
+        public Builder maximumSize(long maximumSize) {
+            if (maximumSize < 1) {
+                throw new IllegalArgumentException("maximumSize must be positive");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets the maximum total weight of cached entries, measured in template characters.
+         *
+         * @param maximumWeight maximum total weight
+         * @return this builder
+         */
+        public Builder maximumWeight(long maximumWeight) {
+            if (maximumWeight < 1) {
+                throw new IllegalArgumentException("maximumWeight must be positive");
+            }
+            this.maximumWeight = maximumWeight;
+            return this;
+        }
+
+        /**
+         * Builds the cache.
+         *
+         * @return render cache
+         */
+        public RenderCache build() {
+            return new RenderCache(this);
+        }
+    }
+}
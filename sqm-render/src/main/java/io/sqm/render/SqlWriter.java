@@ -6,6 +6,9 @@ import io.sqm.render.spi.IdentifierQuoter;
 import io.sqm.render.spi.Renderer;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * An interface for SQL query writing.
@@ -111,6 +114,30 @@ public interface SqlWriter {
         return this;
     }
 
+    /**
+     * Appends the parts in order, rendering each part with {@code part} and calling {@code separator} between
+     * two consecutive parts.
+     * <p>
+     * Writers set up for parallel rendering (see {@link #parallel(ForkJoinPool, int)}) may render chunks of
+     * a long list concurrently into separate buffers; the output is the same as rendering the parts one
+     * after another, which is what the default does.
+     *
+     * @param parts     nodes to append.
+     * @param separator writes the text between two parts.
+     * @param part      renders one part.
+     * @param <T>       the node type.
+     * @return this.
+     */
+    default <T extends Node> SqlWriter appendAll(List<T> parts, Consumer<SqlWriter> separator, BiConsumer<SqlWriter, ? super T> part) {
+        for (int i = 0; i < parts.size(); i++) {
+            if (i > 0) {
+                separator.accept(this);
+            }
+            part.accept(this, parts.get(i));
+        }
+        return this;
+    }
+
     /**
      * Appends a list of identifiers separated by comma.
      *
@@ -179,11 +206,68 @@ public interface SqlWriter {
      */
     SqlWriter outdent();
 
+    /**
+     * Indicates whether the writer can bind literals, see {@link #beginLiteralBinding()}.
+     * <p>
+     * The default returns {@code false}; callers then parameterize the tree before rendering it,
+     * see {@link io.sqm.render.spi.PreparedNode#bindTo(SqlWriter)}.
+     *
+     * @return {@code true} if {@link #beginLiteralBinding()} is supported.
+     */
+    default boolean supportsLiteralBinding() {
+        return false;
+    }
+
+    /**
+     * Switches the writer into binding mode: every literal expression appended from now on is rendered as the
+     * dialect's ordinal parameter and its value is collected, so a tree is parameterized in the same pass that
+     * renders it. The collected values are available from {@link #params()}.
+     *
+     * @throws UnsupportedOperationException if {@link #supportsLiteralBinding()} is {@code false}.
+     */
+    default void beginLiteralBinding() {
+        throw new UnsupportedOperationException("This writer does not bind literals.");
+    }
+
+    /**
+     * Gets the values of the literals bound so far, in parameter order.
+     *
+     * @return bound values; empty if literals are not bound.
+     * @see #beginLiteralBinding()
+     */
+    default List<Object> params() {
+        return List.of();
+    }
+
+    /**
+     * Allows the writer to render lists passed to {@link #appendAll(List, Consumer, BiConsumer)} that have more
+     * than {@code chunkSize} parts in chunks of {@code chunkSize} parts on the pool.
+     * <p>
+     * This is a hint: the output is the same either way. The default ignores it and renders every list
+     * sequentially.
+     *
+     * @param pool      pool used to render the chunks.
+     * @param chunkSize number of parts rendered by one task.
+     */
+    default void parallel(ForkJoinPool pool, int chunkSize) {
+    }
+
+    /**
+     * Indicates whether this writer keeps the written SQL so that {@link #toText(List)} can return it.
+     * Writers that pass the text on to an output as it is written do not.
+     *
+     * @return {@code true} by default.
+     */
+    default boolean retainsText() {
+        return true;
+    }
+
     /**
      * Gets a written SQL string together with the list of params if there are any.
      *
      * @param params a list of params to add to the result.
      * @return an {@link SqlText}.
+     * @throws UnsupportedOperationException if the writer does not {@linkplain #retainsText() retain the text}.
      */
     SqlText toText(List<Object> params);
 }
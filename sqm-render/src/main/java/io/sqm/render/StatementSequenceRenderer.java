@@ -17,6 +17,7 @@ public class StatementSequenceRenderer implements Renderer<StatementSequence> {
 
     /**
      * Renders each statement in source order and terminates every rendered statement with a semicolon.
+     * Writers that render in parallel may render long sequences in chunks.
      *
      * @param node statement sequence to render
      * @param ctx rendering context
@@ -25,13 +26,7 @@ public class StatementSequenceRenderer implements Renderer<StatementSequence> {
     @Override
     public void render(StatementSequence node, RenderContext ctx, SqlWriter w) {
         var statements = node.statements();
-        for (int i = 0; i < statements.size(); i++) {
-            if (i > 0) {
-                w.append(";");
-                w.newline();
-            }
-            w.append(statements.get(i));
-        }
+        w.appendAll(statements, s -> s.append(";").newline(), SqlWriter::append);
         if (statements.size() > 1) {
             w.append(";");
         }
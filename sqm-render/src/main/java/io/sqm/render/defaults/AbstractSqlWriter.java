@@ -0,0 +1,190 @@
+package io.sqm.render.defaults;
+
+import io.sqm.core.LiteralExpr;
+import io.sqm.core.Node;
+import io.sqm.core.OrdinalParamExpr;
+import io.sqm.core.ParamExpr;
+import io.sqm.render.SqlWriter;
+import io.sqm.render.spi.RenderContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Base class of the writers in this package. It renders appended nodes with the renderers of the dialect,
+ * binds literals as ordinal parameters when asked to, and renders long part lists in parallel when set up
+ * for it. Subclasses only decide how text, spaces, line breaks and indentation are written.
+ */
+public abstract class AbstractSqlWriter implements SqlWriter {
+
+    private final RenderContext ctx;
+    private List<Object> params;
+    private int paramBase;
+    private ForkJoinPool pool;
+    private int chunkSize;
+
+    /**
+     * Creates a writer rendering nodes with the renderers of the context's dialect.
+     *
+     * @param ctx render context.
+     */
+    protected AbstractSqlWriter(RenderContext ctx) {
+        this.ctx = ctx;
+    }
+
+    /**
+     * Gets the render context nodes are rendered with.
+     *
+     * @return render context.
+     */
+    protected final RenderContext ctx() {
+        return ctx;
+    }
+
+    /**
+     * Renders the node with the renderer registered for its type. While literals are bound, a literal is
+     * written as the next ordinal parameter instead.
+     *
+     * @param node a node to append.
+     * @param <T>  the type of the node.
+     * @return this.
+     * @throws IllegalStateException if literals are bound and the node is a parameter of the tree.
+     */
+    @Override
+    public <T extends Node> SqlWriter append(T node) {
+        if (params != null && bound(node)) {
+            return this;
+        }
+        ctx.dialect().renderers().requireFor(node).render(node, ctx, this);
+        return this;
+    }
+
+    /**
+     * Renders the node with the renderer registered for the given type. While literals are bound, a literal
+     * is written as the next ordinal parameter instead.
+     *
+     * @param type explicit renderer type key.
+     * @param node node instance to render.
+     * @param <T>  node type.
+     * @return this.
+     * @throws IllegalStateException if literals are bound and the node is a parameter of the tree.
+     */
+    @Override
+    public <T extends Node> SqlWriter append(Class<T> type, T node) {
+        if (params != null && bound(node)) {
+            return this;
+        }
+        ctx.dialect().renderers().require(type).render(node, ctx, this);
+        return this;
+    }
+
+    /**
+     * Writers derived from this class bind literals.
+     *
+     * @return {@code true}.
+     */
+    @Override
+    public boolean supportsLiteralBinding() {
+        return true;
+    }
+
+    /**
+     * Binds every literal appended from now on.
+     */
+    @Override
+    public void beginLiteralBinding() {
+        if (params == null) {
+            params = new ArrayList<>();
+        }
+    }
+
+    @Override
+    public List<Object> params() {
+        return params == null ? List.of() : Collections.unmodifiableList(params);
+    }
+
+    @Override
+    public void parallel(ForkJoinPool pool, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.pool = Objects.requireNonNull(pool, "pool");
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public <T extends Node> SqlWriter appendAll(List<T> parts, Consumer<SqlWriter> separator, BiConsumer<SqlWriter, ? super T> part) {
+        var forks = pool == null || parts.size() <= chunkSize ? null : forks();
+        if (forks == null
+            || !ParallelSequence.render(pool, chunkSize, params == null ? -1 : paramCount(), forks, parts, separator, part)) {
+            SqlWriter.super.appendAll(parts, separator, part);
+        }
+        return this;
+    }
+
+    /**
+     * Gets the fork operations used to render part lists in parallel.
+     *
+     * @return fork operations, or {@code null} if the writer renders part lists sequentially.
+     */
+    ParallelSequence.Forks<? extends AbstractSqlWriter> forks() {
+        return null;
+    }
+
+    /**
+     * Makes a fork bind literals if this writer does, numbering its parameters after the given count.
+     *
+     * @param fork   new fork.
+     * @param params number of parameters bound before the fork.
+     */
+    final void forkParams(AbstractSqlWriter fork, int params) {
+        if (this.params != null) {
+            fork.params = new ArrayList<>();
+            fork.paramBase = params;
+        }
+    }
+
+    /**
+     * Tells whether a rendered fork bound exactly the parameters preceding the given count.
+     *
+     * @param fork   rendered fork.
+     * @param params number of parameters the next fork starts with.
+     * @return {@code true} if the parameter numbering continues.
+     */
+    static boolean paramsContinue(AbstractSqlWriter fork, int params) {
+        return fork.params == null || fork.paramCount() == params;
+    }
+
+    /**
+     * Takes over the parameters bound by a rendered fork.
+     *
+     * @param fork rendered fork.
+     */
+    final void joinParams(AbstractSqlWriter fork) {
+        if (params != null) {
+            params.addAll(fork.params);
+        }
+    }
+
+    private boolean bound(Node node) {
+        if (node instanceof LiteralExpr literal) {
+            params.add(literal.value());
+            var param = OrdinalParamExpr.of(paramCount());
+            ctx.dialect().renderers().requireFor(param).render(param, ctx, this);
+            return true;
+        }
+        if (node instanceof ParamExpr) {
+            throw new IllegalStateException("BIND parameterization mode is not supported for query that already has parameters.");
+        }
+        return false;
+    }
+
+    private int paramCount() {
+        return paramBase + params.size();
+    }
+}
@@ -0,0 +1,110 @@
+package io.sqm.render.defaults;
+
+import io.sqm.render.RenderResult;
+import io.sqm.render.SqlText;
+import io.sqm.render.SqlWriter;
+import io.sqm.render.spi.RenderContext;
+
+import java.util.List;
+
+/**
+ * A {@link SqlWriter} producing single-line SQL without indentation, used for the
+ * {@link io.sqm.render.spi.RenderLayout#Compact} layout.
+ * <p>
+ * The output is the same as {@link DefaultSqlWriter} produces in single-line mode: line breaks become single
+ * spaces and indentation requests are ignored. Because there is no line or indentation state, fragments are
+ * appended to the buffer as they are, and {@link #space()} relies on a flag tracking whether the output ends
+ * in whitespace instead of reading the buffer back.
+ */
+public class CompactSqlWriter extends AbstractSqlWriter {
+
+    private final StringBuilder sb = new StringBuilder(256);
+    private boolean blank = true;
+
+    /**
+     * Creates a compact SQL writer.
+     *
+     * @param ctx render context.
+     */
+    public CompactSqlWriter(RenderContext ctx) {
+        super(ctx);
+    }
+
+    @Override
+    public SqlWriter append(String s) {
+        if (s == null || s.isEmpty()) {
+            return this;
+        }
+        sb.append(s);
+        blank = Character.isWhitespace(s.charAt(s.length() - 1));
+        return this;
+    }
+
+    @Override
+    public void singleLine() {
+    }
+
+    @Override
+    public void multiLine() {
+    }
+
+    @Override
+    public SqlWriter space() {
+        if (!blank) {
+            sb.append(' ');
+            blank = true;
+        }
+        return this;
+    }
+
+    @Override
+    public SqlWriter newline() {
+        return space();
+    }
+
+    @Override
+    public SqlWriter indent() {
+        return this;
+    }
+
+    @Override
+    public SqlWriter outdent() {
+        return this;
+    }
+
+    @Override
+    public SqlText toText(List<Object> params) {
+        return new RenderResult(sb.toString(), params);
+    }
+
+    @Override
+    ParallelSequence.Forks<CompactSqlWriter> forks() {
+        return new Forks();
+    }
+
+    /**
+     * Forks render into separate compact writers. A fork that follows a part starts after non-blank text and
+     * is accepted only if the previous fork ended the same way.
+     */
+    private final class Forks implements ParallelSequence.Forks<CompactSqlWriter> {
+        @Override
+        public CompactSqlWriter fork(boolean first, int params) {
+            var w = new CompactSqlWriter(ctx());
+            w.blank = first && blank;
+            forkParams(w, params);
+            return w;
+        }
+
+        @Override
+        public boolean continues(CompactSqlWriter fork, int params) {
+            return !fork.blank && paramsContinue(fork, params);
+        }
+
+        @Override
+        public void join(CompactSqlWriter fork) {
+            sb.append(fork.sb);
+            blank = fork.blank;
+            joinParams(fork);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package io.sqm.render.defaults;
+
+import io.sqm.render.SqlWriter;
+import io.sqm.render.spi.RenderContext;
+
+/**
+ * Base class of the writers that lay SQL out over indented lines. It decides where spaces, line breaks and
+ * indentation go and passes the formatted text to {@link #write(String)}; subclasses only decide where that
+ * text ends up, for example in memory ({@link DefaultSqlWriter}) or in an output ({@link StreamingSqlWriter}).
+ */
+public abstract class IndentingSqlWriter extends AbstractSqlWriter {
+
+    private final int indentSize;
+    private int singleLine = 0;
+    private int indentLevel = 0;
+    private boolean atLineStart = true;
+    private boolean blank;
+
+    /**
+     * Creates a SQL writer with custom indentation size.
+     *
+     * @param ctx        render context.
+     * @param indentSize spaces per indentation level.
+     */
+    protected IndentingSqlWriter(RenderContext ctx, int indentSize) {
+        super(ctx);
+        this.indentSize = Math.max(0, indentSize);
+    }
+
+    @Override
+    public SqlWriter append(String s) {
+        if (s == null || s.isEmpty()) {
+            return this;
+        }
+        writeWithIndentIfNeeded(s);
+        return this;
+    }
+
+    @Override
+    public void singleLine() {
+        singleLine++;
+    }
+
+    @Override
+    public void multiLine() {
+        if (singleLine > 0) singleLine--;
+    }
+
+    @Override
+    public SqlWriter space() {
+        // no leading spaces at the start of a line
+        if (atLineStart) return this;
+
+        if (!blank) {
+            put(" ");
+        }
+        return this;
+    }
+
+    @Override
+    public SqlWriter newline() {
+        if (singleLine == 0) {
+            put("\n");
+            atLineStart = true;
+        }
+        else {
+            space();
+        }
+        return this;
+    }
+
+    @Override
+    public SqlWriter indent() {
+        if (singleLine == 0) {
+            indentLevel++;
+        }
+        return this;
+    }
+
+    @Override
+    public SqlWriter outdent() {
+        if (indentLevel > 0) indentLevel--;
+        return this;
+    }
+
+    /**
+     * Writes already formatted text to the output of this writer.
+     *
+     * @param s non-empty text to write.
+     */
+    protected abstract void write(String s);
+
+    // --- helpers ---
+
+    private void put(String s) {
+        write(s);
+        blank = Character.isWhitespace(s.charAt(s.length() - 1));
+    }
+
+    /**
+     * Puts the writer in the state it is in right after a token in the middle of a line: not at the start
+     * of a line and not after whitespace.
+     */
+    private void midLine() {
+        atLineStart = false;
+        blank = false;
+    }
+
+    private boolean isMidLine() {
+        return !atLineStart && !blank;
+    }
+
+    private void writeWithIndentIfNeeded(String s) {
+        if (atLineStart) {
+            if (indentLevel > 0 && indentSize > 0) {
+                int spaces = indentLevel * indentSize;
+                var indent = " ".repeat(Math.max(0, spaces));
+                put(indent);
+                s = s.replace("\n", "\n" + indent);
+            }
+            atLineStart = false;
+        }
+        put(s);
+    }
+
+    @Override
+    ParallelSequence.Forks<DefaultSqlWriter> forks() {
+        return new Forks();
+    }
+
+    /**
+     * Forks render into in-memory writers. A fork that follows a part starts {@linkplain #midLine() mid-line},
+     * with the line and indentation state of this writer, and is accepted only if the previous fork ended
+     * in that state.
+     */
+    private final class Forks implements ParallelSequence.Forks<DefaultSqlWriter> {
+        @Override
+        public DefaultSqlWriter fork(boolean first, int params) {
+            var fork = new DefaultSqlWriter(ctx(), indentSize);
+            IndentingSqlWriter w = fork;
+            w.singleLine = singleLine;
+            w.indentLevel = indentLevel;
+            if (first) {
+                w.atLineStart = atLineStart;
+                w.blank = blank;
+            }
+            else {
+                w.midLine();
+            }
+            forkParams(fork, params);
+            return fork;
+        }
+
+        @Override
+        public boolean continues(DefaultSqlWriter fork, int params) {
+            IndentingSqlWriter w = fork;
+            return w.singleLine == singleLine
+                && w.indentLevel == indentLevel
+                && w.isMidLine()
+                && paramsContinue(fork, params);
+        }
+
+        @Override
+        public void join(DefaultSqlWriter fork) {
+            var text = fork.text();
+            if (!text.isEmpty()) {
+                write(text);
+            }
+            IndentingSqlWriter w = fork;
+            singleLine = w.singleLine;
+            indentLevel = w.indentLevel;
+            atLineStart = w.atLineStart;
+            blank = w.blank;
+            joinParams(fork);
+        }
+    }
+}
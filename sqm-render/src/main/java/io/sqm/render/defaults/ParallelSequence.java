@@ -0,0 +1,155 @@
+package io.sqm.render.defaults;
+
+import io.sqm.core.LiteralExpr;
+import io.sqm.core.Node;
+import io.sqm.core.walk.RecursiveNodeVisitor;
+import io.sqm.render.SqlWriter;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Renders long part lists of the writers in this package in chunks on a {@link ForkJoinPool}.
+ * <p>
+ * Every chunk is rendered into its own detached writer (a fork). The first fork starts in the exact state
+ * of the writer; the others start in the state a writer is in right after a part: not at the start of a
+ * line, after non-whitespace text, with the same indentation, and with as many bound parameters as the
+ * literals of the preceding chunks. As soon as a chunk is rendered, it is checked to have ended in the state
+ * its successor starts in; the first chunk that did not makes the other chunks stop rendering. Only when
+ * every chunk passes are the chunks appended in order; otherwise nothing is appended and the caller renders
+ * the parts sequentially, so the output never differs from sequential rendering.
+ */
+final class ParallelSequence {
+
+    private ParallelSequence() {
+    }
+
+    /**
+     * Renders the parts in chunks and appends them to the writer.
+     *
+     * @param pool      pool used to render the chunks
+     * @param chunkSize number of parts per chunk
+     * @param params    number of parameters bound by the writer so far, or {@code -1} if it does not bind literals
+     * @param forks     writer-specific fork operations
+     * @param parts     parts to render
+     * @param separator writes the text between two parts
+     * @param part      renders one part
+     * @param <T>       part type
+     * @param <W>       writer type
+     * @return {@code true} if the parts were appended, {@code false} if they must be rendered sequentially,
+     * which includes pools that run a single thread
+     */
+    static <T extends Node, W extends SqlWriter> boolean render(
+        ForkJoinPool pool,
+        int chunkSize,
+        int params,
+        Forks<W> forks,
+        List<T> parts,
+        Consumer<SqlWriter> separator,
+        BiConsumer<SqlWriter, ? super T> part
+    ) {
+        if (pool.getParallelism() < 2) {
+            return false;
+        }
+        int size = parts.size();
+        int chunks = (size + chunkSize - 1) / chunkSize;
+        var bases = new int[chunks];
+        if (params >= 0) {
+            var literals = pool.submit(() -> IntStream.range(0, chunks)
+                    .parallel()
+                    .map(c -> literals(parts, c * chunkSize, Math.min(size, (c + 1) * chunkSize)))
+                    .toArray())
+                .join();
+            bases[0] = params;
+            for (int c = 1; c < chunks; c++) {
+                bases[c] = bases[c - 1] + literals[c - 1];
+            }
+        }
+
+        var mismatch = new AtomicBoolean();
+        List<W> rendered = pool.submit(() -> IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(c -> {
+                    var w = forks.fork(c == 0, bases[c]);
+                    for (int i = c * chunkSize, end = Math.min(size, (c + 1) * chunkSize); i < end && !mismatch.get(); i++) {
+                        if (i > 0) {
+                            separator.accept(w);
+                        }
+                        part.accept(w, parts.get(i));
+                    }
+                    if (c + 1 < chunks && !forks.continues(w, bases[c + 1])) {
+                        mismatch.set(true);
+                    }
+                    return w;
+                })
+                .toList())
+            .join();
+
+        if (mismatch.get()) {
+            return false;
+        }
+        rendered.forEach(forks::join);
+        return true;
+    }
+
+    private static int literals(List<? extends Node> parts, int from, int to) {
+        var counter = new LiteralCounter();
+        for (int i = from; i < to; i++) {
+            parts.get(i).accept(counter);
+        }
+        return counter.count;
+    }
+
+    /**
+     * Fork operations of a writer.
+     *
+     * @param <W> writer type of the forks
+     */
+    interface Forks<W extends SqlWriter> {
+        /**
+         * Creates a detached writer.
+         *
+         * @param first  {@code true} to start in the exact state of the writer, {@code false} to start in the
+         *               state after a part
+         * @param params number of parameters bound before the fork; ignored if literals are not bound
+         * @return a new writer
+         */
+        W fork(boolean first, int params);
+
+        /**
+         * Tells whether a rendered fork ended in the state a non-first fork with the given number of bound
+         * parameters starts in.
+         *
+         * @param fork   rendered fork
+         * @param params number of parameters the next fork starts with
+         * @return {@code true} if the next fork can follow this one
+         */
+        boolean continues(W fork, int params);
+
+        /**
+         * Appends the text and parameters of a rendered fork to the writer and takes over its state.
+         *
+         * @param fork rendered fork
+         */
+        void join(W fork);
+    }
+
+    private static final class LiteralCounter extends RecursiveNodeVisitor<Void> {
+        private int count;
+
+        @Override
+        protected Void defaultResult() {
+            return null;
+        }
+
+        @Override
+        public Void visitLiteralExpr(LiteralExpr l) {
+            count++;
+            return null;
+        }
+    }
+}
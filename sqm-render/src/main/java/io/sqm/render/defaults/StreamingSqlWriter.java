@@ -0,0 +1,138 @@
+package io.sqm.render.defaults;
+
+import io.sqm.render.SqlText;
+import io.sqm.render.SqlWriter;
+import io.sqm.render.spi.RenderContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link SqlWriter} that streams the rendered SQL to an output instead of keeping it in memory.
+ * <p>
+ * The text is formatted exactly like {@link DefaultSqlWriter} formats it, but every piece is passed on to the
+ * target as soon as it is written: an {@link Appendable} such as a {@link java.io.Writer}, or a byte target
+ * ({@link OutputStream} or {@link WritableByteChannel}) that receives UTF-8 through a fixed-size, reusable
+ * {@link ByteBuffer}. Memory use therefore does not grow with the size of the statement, which matters for
+ * large scripts such as bulk {@code INSERT ... VALUES} statements written to a file or socket.
+ * <p>
+ * Call {@link #flush()} when rendering is done; byte targets keep up to one buffer of output until then.
+ * I/O failures are reported as {@link UncheckedIOException}. Targets are never closed by the writer.
+ * <p>
+ * The writer does not {@linkplain #retainsText() retain the text}: read the SQL from the target, and the bind
+ * parameters from {@link #params()}.
+ *
+ * <pre>{@code
+ * try (var out = Files.newBufferedWriter(path)) {
+ *     var w = StreamingSqlWriter.of(ctx, out);
+ *     w.append(statement);
+ *     w.flush();
+ * }
+ * }</pre>
+ */
+public class StreamingSqlWriter extends IndentingSqlWriter {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final Appendable out;
+    private final Utf8ChannelSink sink;
+
+    private StreamingSqlWriter(RenderContext ctx, Appendable out, Utf8ChannelSink sink) {
+        super(ctx, 2);
+        this.out = out;
+        this.sink = sink;
+    }
+
+    /**
+     * Creates a writer appending the SQL text to the given target.
+     *
+     * @param ctx render context.
+     * @param out character target, for example a {@link java.io.Writer} or a {@link StringBuilder}.
+     * @return streaming writer.
+     */
+    public static StreamingSqlWriter of(RenderContext ctx, Appendable out) {
+        Objects.requireNonNull(out, "out must not be null");
+        return new StreamingSqlWriter(ctx, out, null);
+    }
+
+    /**
+     * Creates a writer encoding the SQL text as UTF-8 into the given stream.
+     *
+     * @param ctx render context.
+     * @param out byte target.
+     * @return streaming writer.
+     */
+    public static StreamingSqlWriter of(RenderContext ctx, OutputStream out) {
+        Objects.requireNonNull(out, "out must not be null");
+        return of(ctx, Channels.newChannel(out), ByteBuffer.allocate(DEFAULT_BUFFER_SIZE));
+    }
+
+    /**
+     * Creates a writer encoding the SQL text as UTF-8 into the given channel.
+     * <p>
+     * The buffer is used as the staging area for encoded bytes and can be reused across writers once
+     * {@link #flush()} has returned; a direct buffer avoids an extra copy for file and socket channels.
+     * The channel must be in blocking mode.
+     *
+     * @param ctx     render context.
+     * @param channel byte target.
+     * @param buffer  staging buffer, at least 4 bytes; its content is discarded.
+     * @return streaming writer.
+     */
+    public static StreamingSqlWriter of(RenderContext ctx, WritableByteChannel channel, ByteBuffer buffer) {
+        Objects.requireNonNull(channel, "channel must not be null");
+        Objects.requireNonNull(buffer, "buffer must not be null");
+        var sink = new Utf8ChannelSink(channel, buffer);
+        return new StreamingSqlWriter(ctx, sink, sink);
+    }
+
+    /**
+     * Writes any buffered output to the target. Byte targets must not receive further text afterwards.
+     */
+    public void flush() {
+        if (sink != null) {
+            try {
+                sink.finish();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Indicates that the SQL text is streamed to the target and not kept by this writer.
+     *
+     * @return {@code false}.
+     */
+    @Override
+    public boolean retainsText() {
+        return false;
+    }
+
+    /**
+     * Not supported: the SQL text was streamed to the target and is not kept by this writer.
+     *
+     * @param params a list of parameters.
+     * @return never returns normally.
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public SqlText toText(List<Object> params) {
+        throw new UnsupportedOperationException("SQL is streamed to the output and not kept in memory");
+    }
+
+    @Override
+    protected void write(String s) {
+        try {
+            out.append(s);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.sqm.render.defaults;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Appendable that encodes characters as UTF-8 into a fixed byte buffer and drains the buffer into a channel
+ * whenever it fills up, so memory use is bounded by the buffer size.
+ */
+final class Utf8ChannelSink implements Appendable {
+
+    private static final int CHUNK = 1024;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer bytes;
+    private final CharBuffer chars = CharBuffer.allocate(CHUNK);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    Utf8ChannelSink(WritableByteChannel channel, ByteBuffer bytes) {
+        if (bytes.capacity() < 4) {
+            throw new IllegalArgumentException("buffer must hold at least one encoded character");
+        }
+        this.channel = channel;
+        this.bytes = bytes.clear();
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) throws IOException {
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) throws IOException {
+        int i = start;
+        while (i < end) {
+            if (!chars.hasRemaining()) {
+                encode(false);
+            }
+            int n = Math.min(end - i, chars.remaining());
+            chars.append(csq, i, i + n);
+            i += n;
+        }
+        return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+        if (!chars.hasRemaining()) {
+            encode(false);
+        }
+        chars.put(c);
+        return this;
+    }
+
+    /**
+     * Encodes all pending characters and writes every buffered byte to the channel. The sink must not be
+     * used afterwards.
+     *
+     * @throws IOException if the channel fails.
+     */
+    void finish() throws IOException {
+        encode(true);
+        while (encoder.flush(bytes).isOverflow()) {
+            drain();
+        }
+        drain();
+    }
+
+    private void encode(boolean endOfInput) throws IOException {
+        chars.flip();
+        CoderResult result;
+        while ((result = encoder.encode(chars, bytes, endOfInput)).isOverflow()) {
+            drain();
+        }
+        if (result.isError()) {
+            result.throwException();
+        }
+        // an unpaired high surrogate at the end of the chunk stays for the next round
+        chars.compact();
+    }
+
+    private void drain() throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        bytes.clear();
+    }
+}
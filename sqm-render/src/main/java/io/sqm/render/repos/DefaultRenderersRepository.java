@@ -1,18 +1,16 @@
 package io.sqm.render.repos;
 
 import io.sqm.core.Node;
+import io.sqm.core.repos.HandlerTable;
 import io.sqm.render.spi.Renderer;
 import io.sqm.render.spi.RenderersRepository;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * A default implementation of {@link RenderersRepository}.
  */
 public final class DefaultRenderersRepository implements RenderersRepository {
 
-    private final Map<Class<?>, Renderer<?>> renderers = new ConcurrentHashMap<>();
+    private final HandlerTable<Renderer<?>> renderers = new HandlerTable<>();
 
     /**
      * Creates an empty renderers repository.
@@ -30,11 +28,7 @@ public final class DefaultRenderersRepository implements RenderersRepository {
     @Override
     @SuppressWarnings("unchecked")
     public <T extends Node> Renderer<T> get(Class<T> type) {
-        var p = renderers.get(type);
-        if (p != null) {
-            return (Renderer<T>) p;
-        }
-        return null;
+        return (Renderer<T>) renderers.get(type);
     }
 
     /**
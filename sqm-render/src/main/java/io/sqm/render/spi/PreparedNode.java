@@ -1,6 +1,9 @@
 package io.sqm.render.spi;
 
 import io.sqm.core.Node;
+import io.sqm.core.transform.LiteralTransforms;
+import io.sqm.core.walk.NodeKindSummary;
+import io.sqm.render.SqlWriter;
 
 import java.util.List;
 
@@ -13,10 +16,25 @@ import java.util.List;
  * query tree (e.g., normalize parameters or expand dialect-specific constructs)
  * and at the same time produce a corresponding parameters' collection.</p>
  *
- * @param node   the transformed query tree ready for rendering
- * @param params the complete set of positional and/or named parameter values
+ * <p>Instead of rewriting literals into parameters up front, a dialect can ask the
+ * writer to bind them while rendering (see {@link #binding(Node)}). The parameter
+ * values are then collected by the writer in placeholder order.</p>
+ *
+ * @param node         the transformed query tree ready for rendering
+ * @param params       the complete set of positional and/or named parameter values
+ * @param bindLiterals whether the writer renders literals as bind parameters and collects their values
  */
-public record PreparedNode(Node node, List<Object> params) {
+public record PreparedNode(Node node, List<Object> params, boolean bindLiterals) {
+
+    /**
+     * Creates a {@code PreparedNode} whose literals are rendered as they are.
+     *
+     * @param node   the transformed query tree ready for rendering
+     * @param params the complete set of positional and/or named parameter values
+     */
+    public PreparedNode(Node node, List<Object> params) {
+        this(node, params, false);
+    }
 
     /**
      * Creates a {@code PreparedNode} with no associated parameters.
@@ -38,5 +56,42 @@ public record PreparedNode(Node node, List<Object> params) {
     public static PreparedNode of(Node node, List<Object> params) {
         return new PreparedNode(node, params);
     }
-}
 
+    /**
+     * Creates a {@code PreparedNode} whose literals are bound by the writer: each literal is rendered
+     * as the dialect's ordinal parameter and its value is collected in {@link io.sqm.render.SqlWriter#params()}.
+     *
+     * @param node the prepared node
+     * @return a prepared node with literals bound during rendering.
+     */
+    public static PreparedNode binding(Node node) {
+        return new PreparedNode(node, List.of(), true);
+    }
+
+    /**
+     * Sets up a writer to render this node.
+     * <p>
+     * If literals are to be bound and the writer supports it, the writer begins binding them. A writer that
+     * cannot bind gets the tree parameterized up front instead: the returned node has its literals replaced
+     * by ordinal parameters and carries their values.
+     *
+     * @param w the writer that renders the node
+     * @return the node to render with {@code w}; when {@link #bindLiterals()} is still {@code true}, the
+     * parameters are those collected by the writer
+     * @throws IllegalStateException if literals are bound up front and the tree already has parameters
+     */
+    public PreparedNode bindTo(SqlWriter w) {
+        if (!bindLiterals) {
+            return this;
+        }
+        if (w.supportsLiteralBinding()) {
+            w.beginLiteralBinding();
+            return this;
+        }
+        if (NodeKindSummary.of(node).paramCount() > 0) {
+            throw new IllegalStateException("BIND parameterization mode is not supported for query that already has parameters.");
+        }
+        var parameterized = LiteralTransforms.parameterize(node);
+        return new PreparedNode(parameterized.node(), parameterized.values());
+    }
+}
@@ -1,11 +1,18 @@
 package io.sqm.render.spi;
 
 import io.sqm.core.Node;
+import io.sqm.render.defaults.CompactSqlWriter;
 import io.sqm.render.defaults.DefaultRenderContext;
 import io.sqm.render.defaults.DefaultSqlWriter;
+import io.sqm.render.defaults.StreamingSqlWriter;
 import io.sqm.render.SqlText;
 import io.sqm.render.SqlWriter;
 
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
 /**
  * Rendering context coordinating dialect and writer interactions.
  */
@@ -59,9 +66,62 @@ public interface RenderContext {
         * @return rendered SQL text.
      */
     default <T extends Node> SqlText render(T node, RenderOptions options) {
-        var preparedNode = dialect().beforeRender(node, options);
-        var w = new DefaultSqlWriter(this);
+        var w = options.layout() == RenderLayout.Compact ? new CompactSqlWriter(this) : new DefaultSqlWriter(this);
+        var preparedNode = dialect().beforeRender(node, options).bindTo(w);
+        w.append(preparedNode.node());
+        return w.toText(preparedNode.bindLiterals() ? w.params() : preparedNode.params());
+    }
+
+    /**
+     * Renders the node directly into a character target without building the SQL string in memory.
+     *
+     * @param <T>     node type.
+     * @param node    a node to render.
+     * @param options render options.
+     * @param out     character target, for example a {@link java.io.Writer}; it is neither flushed nor closed.
+     * @return parameters collected for the rendered SQL, empty for inline rendering.
+     * @throws java.io.UncheckedIOException if writing to the target fails.
+     */
+    default <T extends Node> List<Object> render(T node, RenderOptions options, Appendable out) {
+        return stream(node, options, StreamingSqlWriter.of(this, out));
+    }
+
+    /**
+     * Renders the node directly into a byte stream as UTF-8 without building the SQL string in memory.
+     *
+     * @param <T>     node type.
+     * @param node    a node to render.
+     * @param options render options.
+     * @param out     byte target; all bytes are written to it on return, but it is neither flushed nor closed.
+     * @return parameters collected for the rendered SQL, empty for inline rendering.
+     * @throws java.io.UncheckedIOException if writing to the target fails.
+     */
+    default <T extends Node> List<Object> render(T node, RenderOptions options, OutputStream out) {
+        return stream(node, options, StreamingSqlWriter.of(this, out));
+    }
+
+    /**
+     * Renders the node directly into a byte channel as UTF-8, staging the encoded bytes in a reusable buffer.
+     *
+     * @param <T>     node type.
+     * @param node    a node to render.
+     * @param options render options.
+     * @param channel blocking byte target; it is not closed.
+     * @param buffer  staging buffer, preferably direct; it can be reused once this method returns.
+     * @return parameters collected for the rendered SQL, empty for inline rendering.
+     * @throws java.io.UncheckedIOException if writing to the channel fails.
+     */
+    default <T extends Node> List<Object> render(T node, RenderOptions options, WritableByteChannel channel, ByteBuffer buffer) {
+        return stream(node, options, StreamingSqlWriter.of(this, channel, buffer));
+    }
+
+    private <T extends Node> List<Object> stream(T node, RenderOptions options, StreamingSqlWriter w) {
+        if (options.layout() == RenderLayout.Compact) {
+            w.singleLine();
+        }
+        var preparedNode = dialect().beforeRender(node, options).bindTo(w);
         w.append(preparedNode.node());
-        return w.toText(preparedNode.params());
+        w.flush();
+        return preparedNode.bindLiterals() ? w.params() : preparedNode.params();
     }
 }
@@ -0,0 +1,15 @@
+package io.sqm.render.spi;
+
+/**
+ * A list of supported output layouts.
+ */
+public enum RenderLayout {
+    /**
+     * The SQL is broken into lines and indented for reading.
+     */
+    Pretty,
+    /**
+     * The SQL is written on a single line without indentation, for sending to a database.
+     */
+    Compact
+}
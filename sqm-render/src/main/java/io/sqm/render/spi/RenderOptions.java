@@ -1,27 +1,70 @@
 package io.sqm.render.spi;
 
+import java.util.Objects;
+
 /**
  * Options controlling how a SQL query should be rendered, in particular
- * how parameters are represented in the final SQL string.
+ * how parameters are represented in the final SQL string and how the text is laid out.
  *
  * <p>
  * Typical usage:
  * <pre>{@code
- * var opts = RenderOptions.of(ParameterizationMode.POSITIONAL);
+ * var opts = RenderOptions.of(ParameterizationMode.Bind, RenderLayout.Compact);
  * var sql  = ctx.render(query, opts).sql();
  * }</pre>
  *
  * @param parameterizationMode the strategy for representing parameters during rendering
+ * @param layout               the layout of the rendered text
  */
-public record RenderOptions(ParameterizationMode parameterizationMode) {
+public record RenderOptions(ParameterizationMode parameterizationMode, RenderLayout layout) {
+
+    /**
+     * Creates render options with the given parameterization mode and the {@link RenderLayout#Pretty} layout.
+     *
+     * @param parameterizationMode the strategy for representing parameters during rendering
+     */
+    public RenderOptions(ParameterizationMode parameterizationMode) {
+        this(parameterizationMode, RenderLayout.Pretty);
+    }
+
+    /**
+     * Validates the layout.
+     *
+     * @param parameterizationMode the strategy for representing parameters during rendering
+     * @param layout               the layout of the rendered text
+     */
+    public RenderOptions {
+        Objects.requireNonNull(layout, "layout must not be null");
+    }
+
     /**
      * Creates a {@code RenderOptions} instance for the given parameterization mode.
      *
      * @param parameterizationMode the desired parameterization strategy.
-     * @return a new {@code RenderOptions}.
+     * @return a new {@code RenderOptions} with the {@link RenderLayout#Pretty} layout.
      */
     public static RenderOptions of(ParameterizationMode parameterizationMode) {
         return new RenderOptions(parameterizationMode);
     }
-}
 
+    /**
+     * Creates a {@code RenderOptions} instance for the given parameterization mode and layout.
+     *
+     * @param parameterizationMode the desired parameterization strategy.
+     * @param layout               the desired layout.
+     * @return a new {@code RenderOptions}.
+     */
+    public static RenderOptions of(ParameterizationMode parameterizationMode, RenderLayout layout) {
+        return new RenderOptions(parameterizationMode, layout);
+    }
+
+    /**
+     * Returns a copy of these options with the given layout.
+     *
+     * @param layout the desired layout.
+     * @return new options.
+     */
+    public RenderOptions withLayout(RenderLayout layout) {
+        return new RenderOptions(parameterizationMode, layout);
+    }
+}
@@ -1,9 +1,7 @@
 package io.sqm.render.spi;
 
 import io.sqm.core.Node;
-import io.sqm.core.collect.ParametersCollector;
 import io.sqm.core.dialect.DialectCapabilities;
-import io.sqm.core.transform.LiteralTransforms;
 
 import java.util.List;
 
@@ -17,7 +15,9 @@ public interface SqlDialect {
      * Implementations may normalize params, rewrite constructs that
      * are not supported by the dialect, or apply other dialect-specific
      * transformations. The default implementation returns the node
-     * unchanged.
+     * unchanged. In {@link ParameterizationMode#Bind} mode it lets the writer
+     * bind the literals while rendering, see {@link PreparedNode#binding(Node)};
+     * the writer rejects trees that already have parameters.
      *
      * @param root    the root node to be rendered
      * @param options render options (including parameterization mode)
@@ -25,15 +25,8 @@ public interface SqlDialect {
      */
     default PreparedNode beforeRender(Node root, RenderOptions options) {
         if (options.parameterizationMode() == ParameterizationMode.Bind) {
-            var collector = new ParametersCollector();
-            root.accept(collector);
-
-            if (collector.positional().isEmpty() && collector.named().isEmpty()) {
-                // convert all literals to params.
-                var parameterized = LiteralTransforms.parameterize(root);
-                return PreparedNode.of(parameterized.node(), parameterized.values());
-            }
-            throw new IllegalStateException("BIND parameterization mode is not supported for query that already has parameters.");
+            // literals are turned into params by the writer in the same pass that renders them.
+            return PreparedNode.binding(root);
         }
         return PreparedNode.of(root, List.of());
     }
@@ -0,0 +1,41 @@
+package io.sqm.render.defaults;
+
+import io.sqm.render.RenderTestDialect;
+import io.sqm.render.SqlWriter;
+import io.sqm.render.spi.RenderContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CompactSqlWriterTest {
+
+    private final RenderContext ctx = RenderContext.of(new RenderTestDialect());
+
+    private static void script(SqlWriter w) {
+        w.space().append("SELECT").newline().indent();
+        w.append("a,").newline().append("b");
+        w.outdent().newline().append("FROM").space().space().append("t ");
+        w.space().newline().append("WHERE").space().append("x = 1").append("").append((String) null);
+    }
+
+    @Test
+    void writes_single_line_without_indentation() {
+        var w = new CompactSqlWriter(ctx);
+        script(w);
+
+        assertEquals("SELECT a, b FROM t WHERE x = 1", w.toText(List.of()).sql());
+    }
+
+    @Test
+    void matches_default_writer_in_single_line_mode() {
+        var compact = new CompactSqlWriter(ctx);
+        script(compact);
+        var reference = new DefaultSqlWriter(ctx);
+        reference.singleLine();
+        script(reference);
+
+        assertEquals(reference.toText(List.of()).sql(), compact.toText(List.of()).sql());
+    }
+}
@@ -15,9 +15,14 @@ import io.sqm.render.spi.Renderer;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static io.sqm.dsl.Dsl.id;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DefaultSqlWriterTest {
 
@@ -138,6 +143,45 @@ class DefaultSqlWriterTest {
         assertEquals(List.of(10), text.params());
     }
 
+    @Test
+    void bindsLiteralsAsOrdinalParams() {
+        var dialect = new RenderTestDialect()
+            .register(new LiteralRenderer())
+            .register(new ParamRenderer());
+        var ctx = RenderContext.of(dialect);
+        var writer = new DefaultSqlWriter(ctx);
+
+        writer.append(Dsl.lit(1));
+        writer.beginLiteralBinding();
+        writer.append(Dsl.lit("a")).append(",").append(LiteralExpr.class, Dsl.lit(2));
+
+        assertEquals("1$1,$2", writer.toText(writer.params()).sql());
+        assertEquals(List.of("a", 2), writer.params());
+    }
+
+    @Test
+    void defaultWriterDoesNotBindLiterals() {
+        var writer = new MinimalWriter();
+
+        assertFalse(writer.supportsLiteralBinding());
+        assertThrows(UnsupportedOperationException.class, writer::beginLiteralBinding);
+        assertEquals(List.of(), writer.params());
+        assertDoesNotThrow(() -> writer.parallel(ForkJoinPool.commonPool(), 1));
+    }
+
+    @Test
+    void rejectsTreeParametersWhileBindingLiterals() {
+        var writer = new DefaultSqlWriter(RenderContext.of(new RenderTestDialect().register(new ParamRenderer())));
+
+        writer.append(OrdinalParamExpr.of(1));
+        assertTrue(writer.supportsLiteralBinding());
+        assertEquals(List.of(), writer.params());
+        writer.beginLiteralBinding();
+
+        var ex = assertThrows(IllegalStateException.class, () -> writer.append(OrdinalParamExpr.of(1)));
+        assertTrue(ex.getMessage().contains("BIND parameterization mode is not supported"));
+    }
+
     private static final class MinimalWriter implements SqlWriter {
         private final StringBuilder sb = new StringBuilder();
 
@@ -0,0 +1,74 @@
+package io.sqm.render.defaults;
+
+import io.sqm.core.LiteralExpr;
+import io.sqm.dsl.Dsl;
+import io.sqm.render.RenderTestDialect;
+import io.sqm.render.SqlWriter;
+import io.sqm.render.spi.RenderContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelSequenceTest {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(2);
+
+    private final RenderContext ctx = RenderContext.of(new RenderTestDialect());
+
+    @AfterAll
+    static void shutdown() {
+        POOL.shutdown();
+    }
+
+    private static List<LiteralExpr> parts(int count) {
+        var parts = new ArrayList<LiteralExpr>(count);
+        for (int i = 0; i < count; i++) {
+            parts.add(Dsl.lit(i));
+        }
+        return parts;
+    }
+
+    private static String sequential(SqlWriter w, List<LiteralExpr> parts, Consumer<SqlWriter> separator, BiConsumer<SqlWriter, LiteralExpr> part) {
+        w.append("VALUES").space();
+        w.appendAll(parts, separator, part);
+        return w.toText(List.of()).sql();
+    }
+
+    @Test
+    void joins_chunks_that_end_mid_line() {
+        var parts = parts(100);
+        BiConsumer<SqlWriter, LiteralExpr> part = (w, l) -> w.append("(" + l.value() + ")");
+        Consumer<SqlWriter> separator = w -> w.append(",").space();
+        var parallel = new DefaultSqlWriter(ctx);
+        parallel.parallel(POOL, 8);
+
+        assertEquals(sequential(new DefaultSqlWriter(ctx), parts, separator, part), sequential(parallel, parts, separator, part));
+    }
+
+    @Test
+    void stops_rendering_chunks_after_first_boundary_mismatch() {
+        var parts = parts(1_000);
+        var rendered = new AtomicInteger();
+        // every part ends in whitespace, so no chunk ends mid-line as its successor assumes
+        BiConsumer<SqlWriter, LiteralExpr> part = (w, l) -> {
+            rendered.incrementAndGet();
+            w.append(l.value() + "\n");
+        };
+        Consumer<SqlWriter> separator = w -> w.space().append(",");
+        var expected = sequential(new DefaultSqlWriter(ctx), parts, separator, part);
+        rendered.set(0);
+        var parallel = new DefaultSqlWriter(ctx);
+        parallel.parallel(POOL, 1);
+
+        assertEquals(expected, sequential(parallel, parts, separator, part));
+        assertTrue(rendered.get() < parts.size() + parts.size() / 2, "rendered " + rendered.get() + " parts");
+    }
+}
@@ -0,0 +1,105 @@
+package io.sqm.render.defaults;
+
+import io.sqm.render.RenderTestDialect;
+import io.sqm.render.SqlWriter;
+import io.sqm.render.spi.RenderContext;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingSqlWriterTest {
+
+    private final RenderContext ctx = RenderContext.of(new RenderTestDialect());
+
+    private static void script(SqlWriter w) {
+        w.append("SELECT").newline().indent();
+        w.append("a,").newline().append("'żółw 🐢'");
+        w.outdent().newline().append("FROM").space().space().append("t");
+        w.singleLine();
+        w.newline().append("WHERE").space().append("x = 1");
+        w.multiLine();
+    }
+
+    private String expected() {
+        var w = new DefaultSqlWriter(ctx);
+        script(w);
+        return w.toText(List.of()).sql();
+    }
+
+    @Test
+    void formats_appendable_output_like_default_writer() {
+        var out = new StringWriter();
+        var w = StreamingSqlWriter.of(ctx, out);
+        script(w);
+        w.flush();
+
+        assertEquals("SELECT\n  a,\n  'żółw 🐢'\nFROM t WHERE x = 1", out.toString());
+        assertEquals(expected(), out.toString());
+    }
+
+    @Test
+    void encodes_output_stream_as_utf8() {
+        var out = new ByteArrayOutputStream();
+        var w = StreamingSqlWriter.of(ctx, out);
+        script(w);
+        w.flush();
+
+        assertEquals(expected(), out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void drains_small_reusable_buffer_into_channel() {
+        var text = "'🐢ą'".repeat(2_000);
+        Consumer<SqlWriter> large = w -> {
+            for (int i = 0; i < 3; i++) {
+                w.append(text).space();
+            }
+        };
+        var reference = new DefaultSqlWriter(ctx);
+        large.accept(reference);
+
+        var buffer = ByteBuffer.allocateDirect(7);
+        for (int run = 0; run < 2; run++) {
+            var out = new ByteArrayOutputStream();
+            var w = StreamingSqlWriter.of(ctx, Channels.newChannel(out), buffer);
+            large.accept(w);
+            w.flush();
+            assertEquals(reference.toText(List.of()).sql(), out.toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void only_in_memory_writers_retain_text() {
+        assertFalse(StreamingSqlWriter.of(ctx, new StringWriter()).retainsText());
+        assertTrue(new DefaultSqlWriter(ctx).retainsText());
+        assertTrue(new CompactSqlWriter(ctx).retainsText());
+    }
+
+    @Test
+    void reports_io_failures_unchecked() {
+        var failing = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("closed");
+            }
+        };
+        var w = StreamingSqlWriter.of(ctx, failing);
+        w.append("SELECT 1");
+
+        assertThrows(UncheckedIOException.class, w::flush);
+        assertThrows(UnsupportedOperationException.class, () -> w.toText(List.of()));
+        assertThrows(IllegalArgumentException.class,
+            () -> StreamingSqlWriter.of(ctx, Channels.newChannel(failing), ByteBuffer.allocate(2)));
+    }
+}
@@ -40,11 +40,11 @@ class RenderContextTest {
     }
 
     @Test
-    void beforeRenderThrowsWhenParamsAlreadyPresent() {
-        var dialect = new RenderTestDialect();
+    void renderBindThrowsWhenParamsAlreadyPresent() {
+        var ctx = RenderContext.of(new RenderTestDialect().register(new OrdinalParamRenderer()));
 
         var ex = assertThrows(IllegalStateException.class, () ->
-            dialect.beforeRender(OrdinalParamExpr.of(1), RenderOptions.of(ParameterizationMode.Bind)));
+            ctx.render(OrdinalParamExpr.of(1), RenderOptions.of(ParameterizationMode.Bind)));
 
         assertTrue(ex.getMessage().contains("already has parameters"));
     }
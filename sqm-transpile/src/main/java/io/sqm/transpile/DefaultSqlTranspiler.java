@@ -93,19 +93,24 @@ public final class DefaultSqlTranspiler implements SqlTranspiler {
     }
 
     private static Supplier<Specs> defaultParserFactory(SqlDialectId dialectId) {
+        // built-in specs are immutable, so one instance is shared by all transpile calls
+        Specs specs;
         if (SqlDialectId.ANSI.equals(dialectId)) {
-            return AnsiSpecs::new;
+            specs = new AnsiSpecs();
         }
-        if (SqlDialectId.MYSQL.equals(dialectId)) {
-            return MySqlSpecs::new;
+        else if (SqlDialectId.MYSQL.equals(dialectId)) {
+            specs = new MySqlSpecs();
         }
-        if (SqlDialectId.POSTGRESQL.equals(dialectId)) {
-            return PostgresSpecs::new;
+        else if (SqlDialectId.POSTGRESQL.equals(dialectId)) {
+            specs = new PostgresSpecs();
         }
-        if (SqlDialectId.SQLSERVER.equals(dialectId)) {
-            return SqlServerSpecs::new;
+        else if (SqlDialectId.SQLSERVER.equals(dialectId)) {
+            specs = new SqlServerSpecs();
+        }
+        else {
+            throw new IllegalArgumentException("Unsupported source dialect: " + dialectId.value());
         }
-        throw new IllegalArgumentException("Unsupported source dialect: " + dialectId.value());
+        return () -> specs;
     }
 
     private static Supplier<SqlDialect> defaultRendererFactory(SqlDialectId dialectId) {
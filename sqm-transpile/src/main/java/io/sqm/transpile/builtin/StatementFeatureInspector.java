@@ -1,78 +1,37 @@
 package io.sqm.transpile.builtin;
 
 import io.sqm.core.*;
-import io.sqm.core.walk.RecursiveNodeVisitor;
+import io.sqm.core.dialect.SqlFeature;
+import io.sqm.core.walk.NodeFinder;
+import io.sqm.core.walk.NodeKindSummary;
 
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 /**
  * Inspects statements for feature usage that may need transpilation handling.
+ * <p>
+ * Checks first consult the statement's cached {@link NodeKindSummary} and return without walking when
+ * the relevant node kind is absent; otherwise the walk stops at the first matching node.
  */
 final class StatementFeatureInspector {
     private StatementFeatureInspector() {
     }
 
     static boolean hasResultClause(Statement statement) {
-        var found = new AtomicBoolean(false);
-        statement.accept(new RecursiveNodeVisitor<Void>() {
-            @Override
-            protected Void defaultResult() {
-                return null;
-            }
-
-            @Override
-            public Void visitInsertStatement(InsertStatement statement) {
-                if (statement.result() != null) {
-                    found.set(true);
-                }
-                return super.visitInsertStatement(statement);
-            }
-
-            @Override
-            public Void visitUpdateStatement(UpdateStatement statement) {
-                if (statement.result() != null) {
-                    found.set(true);
-                }
-                return super.visitUpdateStatement(statement);
-            }
-
-            @Override
-            public Void visitDeleteStatement(DeleteStatement statement) {
-                if (statement.result() != null) {
-                    found.set(true);
-                }
-                return super.visitDeleteStatement(statement);
-            }
-
-            @Override
-            public Void visitMergeStatement(MergeStatement statement) {
-                if (statement.result() != null) {
-                    found.set(true);
-                }
-                return super.visitMergeStatement(statement);
-            }
+        return NodeKindSummary.of(statement).contains(ResultClause.class)
+            && NodeFinder.anyMatch(statement, Statement.class, s -> switch (s) {
+            case InsertStatement insert -> insert.result() != null;
+            case UpdateStatement update -> update.result() != null;
+            case DeleteStatement delete -> delete.result() != null;
+            case MergeStatement merge -> merge.result() != null;
+            default -> false;
         });
-        return found.get();
     }
 
     static boolean hasSqlServerOutputClause(Statement statement) {
-        var found = new AtomicBoolean(false);
-        statement.accept(new RecursiveNodeVisitor<Void>() {
-            @Override
-            protected Void defaultResult() {
-                return null;
-            }
-
-            @Override
-            public Void visitResultClause(ResultClause clause) {
-                if (clause.hasIntoTarget() || clause.usesDialectSpecificResultItems()) {
-                    found.set(true);
-                }
-                return super.visitResultClause(clause);
-            }
-        });
-        return found.get();
+        return NodeKindSummary.of(statement).contains(ResultClause.class)
+            && NodeFinder.anyMatch(statement, ResultClause.class, clause -> clause.hasIntoTarget() || clause.usesDialectSpecificResultItems());
     }
 
     static boolean hasMergeStatement(Statement statement) {
@@ -80,139 +39,43 @@ final class StatementFeatureInspector {
     }
 
     static boolean hasDistinctOn(Statement statement) {
-        var found = new AtomicBoolean(false);
-        statement.accept(new RecursiveNodeVisitor<Void>() {
-            @Override
-            protected Void defaultResult() {
-                return null;
-            }
-
-            @Override
-            public Void visitDistinctSpec(DistinctSpec spec) {
-                if (!spec.items().isEmpty()) {
-                    found.set(true);
-                }
-                super.visitDistinctSpec(spec);
-                return null;
-            }
-        });
-        return found.get();
+        return NodeKindSummary.of(statement).uses(SqlFeature.DISTINCT_ON);
     }
 
     static boolean hasLikeMode(Statement statement, LikeMode mode) {
-        var found = new AtomicBoolean(false);
-        statement.accept(new RecursiveNodeVisitor<Void>() {
-            @Override
-            protected Void defaultResult() {
-                return null;
-            }
-
-            @Override
-            public Void visitLikePredicate(LikePredicate predicate) {
-                if (predicate.mode() == mode) {
-                    found.set(true);
-                }
-                return super.visitLikePredicate(predicate);
-            }
-        });
-        return found.get();
+        return NodeKindSummary.of(statement).contains(LikePredicate.class)
+            && NodeFinder.anyMatch(statement, LikePredicate.class, predicate -> predicate.mode() == mode);
     }
 
     static boolean hasAnyBinaryOperator(Statement statement, Set<String> operators) {
-        var found = new AtomicBoolean(false);
-        statement.accept(new RecursiveNodeVisitor<Void>() {
-            @Override
-            protected Void defaultResult() {
-                return null;
-            }
-
-            @Override
-            public Void visitBinaryOperatorExpr(BinaryOperatorExpr expr) {
-                if (operators.contains(expr.operator().symbol())) {
-                    found.set(true);
-                }
-                return super.visitBinaryOperatorExpr(expr);
-            }
-        });
-        return found.get();
+        return NodeKindSummary.of(statement).contains(BinaryOperatorExpr.class)
+            && NodeFinder.anyMatch(statement, BinaryOperatorExpr.class, expr -> operators.contains(expr.operator().symbol()));
     }
 
     static boolean hasAnyFunctionNamePrefix(Statement statement, Set<String> prefixes) {
-        var normalized = prefixes.stream().map(String::toUpperCase).collect(java.util.stream.Collectors.toUnmodifiableSet());
-        var found = new AtomicBoolean(false);
-        statement.accept(new RecursiveNodeVisitor<Void>() {
-            @Override
-            protected Void defaultResult() {
-                return null;
-            }
-
-            @Override
-            public Void visitFunctionExpr(FunctionExpr function) {
-                var name = function.name().values().isEmpty()
-                    ? ""
-                    : function.name().values().getLast().toUpperCase();
-                if (normalized.stream().anyMatch(name::startsWith)) {
-                    found.set(true);
-                }
-                return super.visitFunctionExpr(function);
-            }
+        if (!NodeKindSummary.of(statement).contains(FunctionExpr.class)) {
+            return false;
+        }
+        var normalized = prefixes.stream().map(String::toUpperCase).collect(Collectors.toUnmodifiableSet());
+        return NodeFinder.anyMatch(statement, FunctionExpr.class, function -> {
+            var name = function.name().values().isEmpty()
+                ? ""
+                : function.name().values().getLast().toUpperCase();
+            return normalized.stream().anyMatch(name::startsWith);
         });
-        return found.get();
     }
 
     static boolean hasFunctionTable(Statement statement) {
-        var found = new AtomicBoolean(false);
-        statement.accept(new RecursiveNodeVisitor<Void>() {
-            @Override
-            protected Void defaultResult() {
-                return null;
-            }
-
-            @Override
-            public Void visitFunctionTable(FunctionTable table) {
-                found.set(true);
-                super.visitFunctionTable(table);
-                return null;
-            }
-        });
-        return found.get();
+        return NodeKindSummary.of(statement).contains(FunctionTable.class);
     }
 
     static boolean hasInsertMode(Statement statement, InsertStatement.InsertMode mode) {
-        var found = new AtomicBoolean(false);
-        statement.accept(new RecursiveNodeVisitor<Void>() {
-            @Override
-            protected Void defaultResult() {
-                return null;
-            }
-
-            @Override
-            public Void visitInsertStatement(InsertStatement statement) {
-                if (statement.insertMode() == mode) {
-                    found.set(true);
-                }
-                return super.visitInsertStatement(statement);
-            }
-        });
-        return found.get();
+        return NodeKindSummary.of(statement).contains(InsertStatement.class)
+            && NodeFinder.anyMatch(statement, InsertStatement.class, insert -> insert.insertMode() == mode);
     }
 
     static boolean hasOnConflictAction(Statement statement, InsertStatement.OnConflictAction action) {
-        var found = new AtomicBoolean(false);
-        statement.accept(new RecursiveNodeVisitor<Void>() {
-            @Override
-            protected Void defaultResult() {
-                return null;
-            }
-
-            @Override
-            public Void visitInsertStatement(InsertStatement statement) {
-                if (statement.onConflictAction() == action) {
-                    found.set(true);
-                }
-                return super.visitInsertStatement(statement);
-            }
-        });
-        return found.get();
+        return NodeKindSummary.of(statement).contains(InsertStatement.class)
+            && NodeFinder.anyMatch(statement, InsertStatement.class, insert -> insert.onConflictAction() == action);
     }
 }
@@ -1,10 +1,12 @@
 package io.sqm.validate.mysql.rule;
 
 import io.sqm.core.DeleteStatement;
+import io.sqm.core.Expression;
 import io.sqm.core.ExpressionHintArg;
 import io.sqm.core.HintArg;
 import io.sqm.core.IdentifierHintArg;
 import io.sqm.core.InsertStatement;
+import io.sqm.core.LiteralExpr;
 import io.sqm.core.MergeStatement;
 import io.sqm.core.QualifiedNameHintArg;
 import io.sqm.core.SelectQuery;
@@ -14,6 +16,8 @@ import io.sqm.core.UpdateStatement;
 import io.sqm.core.dialect.DialectCapabilities;
 import io.sqm.core.dialect.SqlDialectVersion;
 import io.sqm.core.dialect.SqlFeature;
+import io.sqm.core.match.CompiledMatch;
+import io.sqm.core.match.Match;
 import io.sqm.validate.api.ValidationProblem;
 import io.sqm.validate.schema.internal.SchemaValidationContext;
 import io.sqm.validate.schema.rule.SchemaValidationRule;
@@ -24,6 +28,10 @@ import java.util.Objects;
  * Validates first-wave MySQL statement hint families structurally.
  */
 public final class MySqlStatementHintValidationRule implements SchemaValidationRule<Statement> {
+    private static final CompiledMatch<Expression, Object> LITERAL_VALUE = Match.<Expression, Object>compile(Expression.class)
+        .when(LiteralExpr.class, LiteralExpr::value)
+        .orElse(null);
+
     private final DialectCapabilities capabilities;
     private final SqlDialectVersion version;
 
@@ -97,7 +105,7 @@ public final class MySqlStatementHintValidationRule implements SchemaValidationR
             return;
         }
 
-        var literal = expressionArg.value().matchExpression().literal(l -> l.value()).orElse(null);
+        var literal = LITERAL_VALUE.apply(expressionArg.value());
         if (!(literal instanceof Number)) {
             context.addProblem(
                 ValidationProblem.Code.DIALECT_CLAUSE_INVALID,
@@ -146,7 +154,7 @@ public final class MySqlStatementHintValidationRule implements SchemaValidationR
             return;
         }
         if (arg instanceof ExpressionHintArg expressionArg) {
-            var literal = expressionArg.value().matchExpression().literal(l -> l.value()).orElse(null);
+            var literal = LITERAL_VALUE.apply(expressionArg.value());
             if (literal instanceof String) {
                 return;
             }
@@ -2,8 +2,6 @@ package io.sqm.validate.schema.internal;
 
 import io.sqm.core.*;
 
-import java.util.Arrays;
-
 /**
  * Provides stable human-readable node kind labels for diagnostics.
  */
@@ -21,11 +19,8 @@ final class NodeKinds {
         if (node == null) {
             return null;
         }
-        var impl = node.getClass();
-        var nodeInterface = Arrays.stream(impl.getInterfaces())
-            .filter(Node.class::isAssignableFrom)
-            .findFirst();
-        return nodeInterface.map(Class::getSimpleName).orElseGet(() -> fallback(node));
+        Class<? extends Node> nodeInterface = node.getTopLevelInterface();
+        return nodeInterface.isInterface() ? nodeInterface.getSimpleName() : fallback(node);
     }
 
     /**